@@ -0,0 +1,119 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.benchmarks;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RelationalExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSResultType;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.RelationalDatabaseConnection;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.specification.LocalH2DatasourceSpecification;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+import org.finos.legend.engine.shared.core.identity.Identity;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Synthetic data shared by the benchmarks: a table of generated rows in an in-memory H2 database, and the relational
+ * execution node returning them as a TDS, so benchmarks run offline without any plan generation.
+ */
+public final class BenchmarkData
+{
+    public static final String TIME_ZONE = "GMT";
+    public static final String TABLE_NAME = "BENCHMARK_ROWS";
+    public static final String SELECT_ALL = "select ID, NAME, AMOUNT, TRADE_DATE, UPDATED, ACTIVE from " + TABLE_NAME;
+
+    private BenchmarkData()
+    {
+    }
+
+    public static Connection newConnection(String databaseName) throws SQLException
+    {
+        // the database outlives its connections, results close the connection they read from
+        return DriverManager.getConnection("jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    public static void createTable(String databaseName, int rowCount) throws SQLException
+    {
+        try (Connection connection = newConnection(databaseName);
+             Statement statement = connection.createStatement())
+        {
+            statement.execute("drop table if exists " + TABLE_NAME);
+            statement.execute("create table " + TABLE_NAME + " (ID INTEGER, NAME VARCHAR(64), AMOUNT DOUBLE, TRADE_DATE DATE, UPDATED TIMESTAMP, ACTIVE BOOLEAN)");
+            try (PreparedStatement insert = connection.prepareStatement("insert into " + TABLE_NAME +
+                    " select X, concat('name_', X), X * 1.25, dateadd('DAY', mod(X, 3650), DATE '2000-01-01'), dateadd('SECOND', X, TIMESTAMP '2020-01-01 00:00:00'), mod(X, 2) = 0 from system_range(1, ?)"))
+            {
+                insert.setInt(1, rowCount);
+                insert.execute();
+            }
+        }
+    }
+
+    public static void dropDatabase(String databaseName) throws SQLException
+    {
+        try (Connection connection = newConnection(databaseName);
+             Statement statement = connection.createStatement())
+        {
+            statement.execute("shutdown");
+        }
+    }
+
+    public static RelationalExecutionNode newRelationalExecutionNode()
+    {
+        RelationalDatabaseConnection databaseConnection = new RelationalDatabaseConnection(new LocalH2DatasourceSpecification(), null, DatabaseType.H2);
+        databaseConnection.type = DatabaseType.H2;
+        databaseConnection.timeZone = TIME_ZONE;
+
+        TDSResultType resultType = new TDSResultType();
+        resultType.tdsColumns = Lists.mutable.with(
+                new TDSColumn("ID", "Integer"),
+                new TDSColumn("NAME", "String"),
+                new TDSColumn("AMOUNT", "Float"),
+                new TDSColumn("TRADE_DATE", "StrictDate"),
+                new TDSColumn("UPDATED", "DateTime"),
+                new TDSColumn("ACTIVE", "Boolean"));
+
+        RelationalExecutionNode node = new RelationalExecutionNode();
+        node.sqlQuery = SELECT_ALL;
+        node.connection = databaseConnection;
+        node.resultType = resultType;
+        node.resultColumns = Lists.mutable.with(
+                new SQLResultColumn("ID", "INTEGER"),
+                new SQLResultColumn("NAME", "VARCHAR(64)"),
+                new SQLResultColumn("AMOUNT", "DOUBLE"),
+                new SQLResultColumn("TRADE_DATE", "DATE"),
+                new SQLResultColumn("UPDATED", "TIMESTAMP"),
+                new SQLResultColumn("ACTIVE", "BOOLEAN"));
+        return node;
+    }
+
+    /**
+     * Runs the query of the node, the result owns the connection and closes it
+     */
+    public static RelationalResult newRelationalResult(RelationalExecutionNode node, Connection connection)
+    {
+        MutableList<ExecutionActivity> activities = Lists.mutable.with(new RelationalExecutionActivity(node.sqlQuery, null));
+        return new RelationalResult(activities, node, node.getSQLResultColumns(), DatabaseType.H2.name(), TIME_ZONE, connection, Identity.getAnonymousIdentity(), null, null);
+    }
+}
@@ -0,0 +1,42 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.benchmarks;
+
+import java.io.OutputStream;
+
+/**
+ * Counts the bytes written without keeping them, so that serialization benchmarks do not measure buffer growth
+ */
+public class DiscardingOutputStream extends OutputStream
+{
+    private long count;
+
+    @Override
+    public void write(int b)
+    {
+        this.count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len)
+    {
+        this.count += len;
+    }
+
+    public long getCount()
+    {
+        return this.count;
+    }
+}
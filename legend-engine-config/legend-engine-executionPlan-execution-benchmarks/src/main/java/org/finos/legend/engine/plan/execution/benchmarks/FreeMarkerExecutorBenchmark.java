@@ -0,0 +1,89 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.benchmarks;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Rendering the SQL of a relational node with {@link FreeMarkerExecutor#process}, with template functions and
+ * parameters in the shape produced by plan generation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FreeMarkerExecutorBenchmark
+{
+    static final String TEMPLATE_FUNCTIONS =
+            "<#function renderCollection collection separator prefix suffix defaultValue>" +
+                    "<#if collection?size == 0><#return defaultValue></#if>" +
+                    "<#return prefix + collection?join(suffix + separator + prefix) + suffix>" +
+                    "</#function>" +
+            "<#function collectionSize collection><#return collection?size></#function>";
+
+    static final String SQL_TEMPLATE =
+            "select \"root\".ID as \"id\", \"root\".NAME as \"name\", \"root\".AMOUNT as \"amount\" " +
+            "from BENCHMARK_ROWS as \"root\" " +
+            "where \"root\".NAME = '${name?replace(\"'\", \"''\")}' " +
+            "and \"root\".AMOUNT > ${minAmount} " +
+            "and \"root\".ID in (${renderCollection(ids, \",\", \"\", \"\", \"null\")}) " +
+            "<#if (collectionSize(ids) > 10)>and \"root\".ACTIVE = true</#if>";
+
+    private ExecutionState executionState;
+
+    @Setup
+    public void setUp()
+    {
+        Map<String, Result> parameters = Maps.mutable.<String, Result>with(
+                "name", new ConstantResult("name_42"),
+                "minAmount", new ConstantResult(10.5d),
+                "ids", new ConstantResult(IntStream.range(0, 100).boxed().collect(Collectors.toList())));
+        this.executionState = new ExecutionState(parameters, Lists.mutable.with(TEMPLATE_FUNCTIONS), Lists.mutable.empty());
+    }
+
+    @Benchmark
+    public String process()
+    {
+        return FreeMarkerExecutor.process(SQL_TEMPLATE, this.executionState);
+    }
+
+    @Benchmark
+    public String processForDatabase()
+    {
+        return FreeMarkerExecutor.process(SQL_TEMPLATE, this.executionState, "H2", BenchmarkData.TIME_ZONE);
+    }
+}
@@ -0,0 +1,138 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.benchmarks;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.plan.execution.nodes.helpers.platform.JavaHelper;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ConstantExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaClass;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaPlatformImplementation;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SequenceExecutionNode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compiling the Java classes of a synthetic plan with {@link JavaHelper#compilePlan}, with support classes shared by
+ * the execute classes of several nodes. Unless cached, the sources differ on each invocation so that the compilation
+ * cache is missed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JavaCompilationBenchmark
+{
+    private static final String SUPPORT_PACKAGE = "_pure.app.benchmark";
+
+    @Param({"10"})
+    public int supportClassCount;
+
+    @Param({"20"})
+    public int nodeCount;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private final AtomicLong planCount = new AtomicLong();
+
+    @Benchmark
+    public EngineJavaCompiler compilePlan() throws JavaCompileException
+    {
+        long version = this.cached ? 0 : this.planCount.incrementAndGet();
+        return JavaHelper.compilePlan(newPlan(this.supportClassCount, this.nodeCount, version), Identity.getAnonymousIdentity());
+    }
+
+    static SingleExecutionPlan newPlan(int supportClassCount, int nodeCount, long version)
+    {
+        JavaPlatformImplementation globalImplementationSupport = new JavaPlatformImplementation();
+        globalImplementationSupport.classes = Lists.mutable.empty();
+        for (int i = 0; i < supportClassCount; i++)
+        {
+            globalImplementationSupport.classes.add(newJavaClass(SUPPORT_PACKAGE, "Support" + i,
+                    "package " + SUPPORT_PACKAGE + ";\n" +
+                    "// version " + version + "\n" +
+                    "public class Support" + i + "\n" +
+                    "{\n" +
+                    "    public static java.util.List<String> names(int count)\n" +
+                    "    {\n" +
+                    "        java.util.List<String> names = new java.util.ArrayList<>(count);\n" +
+                    "        for (int i = 0; i < count; i++)\n" +
+                    "        {\n" +
+                    "            names.add(\"name_\" + i + \"_" + i + "\");\n" +
+                    "        }\n" +
+                    "        return names;\n" +
+                    "    }\n" +
+                    "}\n"));
+        }
+
+        MutableList<ExecutionNode> nodes = Lists.mutable.empty();
+        for (int i = 0; i < nodeCount; i++)
+        {
+            String nodePackage = "_pure.plan.root.n" + i;
+            JavaPlatformImplementation implementation = new JavaPlatformImplementation();
+            implementation.executionClassFullName = nodePackage + ".Execute";
+            implementation.executionMethodName = "execute";
+            implementation.classes = Lists.mutable.with(newJavaClass(nodePackage, "Execute",
+                    "package " + nodePackage + ";\n" +
+                    "// version " + version + "\n" +
+                    "public class Execute\n" +
+                    "{\n" +
+                    "    public static int execute()\n" +
+                    "    {\n" +
+                    "        return " + SUPPORT_PACKAGE + ".Support" + (i % supportClassCount) + ".names(" + i + ").size();\n" +
+                    "    }\n" +
+                    "}\n"));
+            ConstantExecutionNode node = new ConstantExecutionNode();
+            node.implementation = implementation;
+            nodes.add(node);
+        }
+
+        SequenceExecutionNode root = new SequenceExecutionNode();
+        root.executionNodes = nodes;
+
+        SingleExecutionPlan plan = new SingleExecutionPlan();
+        plan.globalImplementationSupport = globalImplementationSupport;
+        plan.rootExecutionNode = root;
+        return plan;
+    }
+
+    private static JavaClass newJavaClass(String _package, String name, String source)
+    {
+        JavaClass javaClass = new JavaClass();
+        javaClass._package = _package;
+        javaClass.name = name;
+        javaClass.source = source;
+        return javaClass;
+    }
+}
@@ -0,0 +1,102 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.benchmarks;
+
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResultRowBatch;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RelationalExecutionNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the rows of a {@link RelationalResult}, one value at a time as most serializers do, and in row batches
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RelationalResultBenchmark
+{
+    private static final String DATABASE = "relationalResultBenchmark";
+
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    private RelationalExecutionNode node;
+
+    @Setup
+    public void setUp() throws SQLException
+    {
+        BenchmarkData.createTable(DATABASE, this.rowCount);
+        this.node = BenchmarkData.newRelationalExecutionNode();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException
+    {
+        BenchmarkData.dropDatabase(DATABASE);
+    }
+
+    @Benchmark
+    public long readRowByRow(Blackhole blackhole) throws SQLException
+    {
+        long rows = 0;
+        try (RelationalResult result = BenchmarkData.newRelationalResult(this.node, BenchmarkData.newConnection(DATABASE)))
+        {
+            while (result.resultSet.next())
+            {
+                for (int i = 1; i <= result.columnCount; i++)
+                {
+                    blackhole.consume(result.getTransformedValue(i));
+                }
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public long readRowBatches(Blackhole blackhole) throws SQLException
+    {
+        long rows = 0;
+        try (RelationalResult result = BenchmarkData.newRelationalResult(this.node, BenchmarkData.newConnection(DATABASE)))
+        {
+            RelationalResultRowBatch batch = result.newRowBatch(1024);
+            int size;
+            while ((size = result.fillRowBatch(batch)) > 0)
+            {
+                blackhole.consume(batch);
+                rows += size;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,109 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.benchmarks;
+
+import org.finos.legend.engine.external.format.arrow.ArrowDataWriter;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializer;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultSerializer;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RelationalExecutionNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming a {@link RelationalResult} to JSON, CSV and Arrow. Each invocation runs the query again, its cost is
+ * measured by {@link RelationalResultBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultSerializationBenchmark
+{
+    private static final String DATABASE = "resultSerializationBenchmark";
+
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    private RelationalExecutionNode node;
+
+    @Setup
+    public void setUp() throws SQLException
+    {
+        BenchmarkData.createTable(DATABASE, this.rowCount);
+        this.node = BenchmarkData.newRelationalExecutionNode();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException
+    {
+        BenchmarkData.dropDatabase(DATABASE);
+    }
+
+    @Benchmark
+    public long serializeToJson() throws SQLException
+    {
+        DiscardingOutputStream outputStream = new DiscardingOutputStream();
+        try (RelationalResult result = newResult())
+        {
+            new RelationalResultToJsonDefaultSerializer(result).stream(outputStream);
+        }
+        return outputStream.getCount();
+    }
+
+    @Benchmark
+    public long serializeToCsv() throws SQLException
+    {
+        DiscardingOutputStream outputStream = new DiscardingOutputStream();
+        try (RelationalResult result = newResult())
+        {
+            new RelationalResultToCSVSerializer(result).stream(outputStream);
+        }
+        return outputStream.getCount();
+    }
+
+    @Benchmark
+    public long serializeToArrow() throws SQLException, IOException
+    {
+        DiscardingOutputStream outputStream = new DiscardingOutputStream();
+        try (RelationalResult result = newResult();
+             ArrowDataWriter writer = new ArrowDataWriter(result))
+        {
+            writer.writeData(outputStream);
+        }
+        return outputStream.getCount();
+    }
+
+    private RelationalResult newResult() throws SQLException
+    {
+        return BenchmarkData.newRelationalResult(this.node, BenchmarkData.newConnection(DATABASE));
+    }
+}
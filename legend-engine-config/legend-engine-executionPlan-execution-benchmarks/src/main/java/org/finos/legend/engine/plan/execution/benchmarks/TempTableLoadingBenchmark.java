@@ -0,0 +1,98 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.benchmarks;
+
+import org.finos.legend.engine.plan.execution.stores.relational.StreamResultToTempTableVisitor;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Commands;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RelationalExecutionNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a {@link RelationalResult} into an H2 temp table with {@link StreamResultToTempTableVisitor}, for the ingestion
+ * methods creating the temp table. {@link IngestionMethod#BATCH_INSERT} expects the table to exist and is left out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TempTableLoadingBenchmark
+{
+    private static final String SOURCE_DATABASE = "tempTableLoadingBenchmarkSource";
+    private static final String TARGET_DATABASE = "tempTableLoadingBenchmarkTarget";
+    private static final String TEMP_TABLE_NAME = "BENCHMARK_TEMP_TABLE";
+
+    @Param({"10000"})
+    public int rowCount;
+
+    @Param({"CLIENT_FILE", "PREPARED_BATCH_INSERT"})
+    public IngestionMethod ingestionMethod;
+
+    private RelationalExecutionNode node;
+    private RelationalExecutionConfiguration configuration;
+    private Path tempPath;
+
+    @Setup
+    public void setUp() throws SQLException, IOException
+    {
+        BenchmarkData.createTable(SOURCE_DATABASE, this.rowCount);
+        this.node = BenchmarkData.newRelationalExecutionNode();
+        this.tempPath = Files.createTempDirectory("legendTempTableBenchmark");
+        this.configuration = RelationalExecutionConfiguration.newInstance()
+                .withTempPath(this.tempPath.toString())
+                .withTempTableIngestionMethod(this.ingestionMethod)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException, IOException
+    {
+        BenchmarkData.dropDatabase(SOURCE_DATABASE);
+        BenchmarkData.dropDatabase(TARGET_DATABASE);
+        Files.deleteIfExists(this.tempPath);
+    }
+
+    @Benchmark
+    public boolean loadTempTable() throws SQLException
+    {
+        try (RelationalResult result = BenchmarkData.newRelationalResult(this.node, BenchmarkData.newConnection(SOURCE_DATABASE));
+             Connection target = BenchmarkData.newConnection(TARGET_DATABASE))
+        {
+            return new H2Commands().accept(new StreamResultToTempTableVisitor(this.configuration, target, result, TEMP_TABLE_NAME, BenchmarkData.TIME_ZONE));
+        }
+    }
+}
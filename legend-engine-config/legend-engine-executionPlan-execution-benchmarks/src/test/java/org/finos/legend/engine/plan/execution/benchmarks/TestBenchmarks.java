@@ -0,0 +1,109 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.benchmarks;
+
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Runs each benchmark once on a small data set, so that benchmarks broken by a change fail the build rather than the
+ * next benchmark run
+ */
+public class TestBenchmarks
+{
+    private static final int ROW_COUNT = 100;
+
+    @Test
+    public void testRelationalResultBenchmark() throws Exception
+    {
+        RelationalResultBenchmark benchmark = new RelationalResultBenchmark();
+        benchmark.rowCount = ROW_COUNT;
+        benchmark.setUp();
+        try
+        {
+            Blackhole blackhole = new Blackhole("Today's password is swordfish. I understand instantiating Blackholes directly is dangerous.");
+            Assert.assertEquals(ROW_COUNT, benchmark.readRowByRow(blackhole));
+            Assert.assertEquals(ROW_COUNT, benchmark.readRowBatches(blackhole));
+        }
+        finally
+        {
+            benchmark.tearDown();
+        }
+    }
+
+    @Test
+    public void testResultSerializationBenchmark() throws Exception
+    {
+        ResultSerializationBenchmark benchmark = new ResultSerializationBenchmark();
+        benchmark.rowCount = ROW_COUNT;
+        benchmark.setUp();
+        try
+        {
+            Assert.assertTrue(benchmark.serializeToJson() > 0);
+            Assert.assertTrue(benchmark.serializeToCsv() > 0);
+            Assert.assertTrue(benchmark.serializeToArrow() > 0);
+        }
+        finally
+        {
+            benchmark.tearDown();
+        }
+    }
+
+    @Test
+    public void testTempTableLoadingBenchmark() throws Exception
+    {
+        for (IngestionMethod ingestionMethod : new IngestionMethod[]{IngestionMethod.CLIENT_FILE, IngestionMethod.PREPARED_BATCH_INSERT})
+        {
+            TempTableLoadingBenchmark benchmark = new TempTableLoadingBenchmark();
+            benchmark.rowCount = ROW_COUNT;
+            benchmark.ingestionMethod = ingestionMethod;
+            benchmark.setUp();
+            try
+            {
+                Assert.assertTrue(ingestionMethod.name(), benchmark.loadTempTable());
+            }
+            finally
+            {
+                benchmark.tearDown();
+            }
+        }
+    }
+
+    @Test
+    public void testFreeMarkerExecutorBenchmark()
+    {
+        FreeMarkerExecutorBenchmark benchmark = new FreeMarkerExecutorBenchmark();
+        benchmark.setUp();
+        String sql = benchmark.process();
+        Assert.assertTrue(sql, sql.contains("\"root\".NAME = 'name_42'"));
+        Assert.assertTrue(sql, sql.contains("\"root\".ID in (0,1,2,"));
+        Assert.assertTrue(sql, sql.endsWith("and \"root\".ACTIVE = true"));
+        String sqlForDatabase = benchmark.processForDatabase();
+        Assert.assertTrue(sqlForDatabase, sqlForDatabase.contains("\"root\".NAME = 'name_42'"));
+    }
+
+    @Test
+    public void testJavaCompilationBenchmark() throws Exception
+    {
+        JavaCompilationBenchmark benchmark = new JavaCompilationBenchmark();
+        benchmark.supportClassCount = 2;
+        benchmark.nodeCount = 3;
+        benchmark.cached = false;
+        Assert.assertNotNull(benchmark.compilePlan());
+        Assert.assertNotNull(benchmark.compilePlan());
+    }
+}
@@ -22,12 +22,10 @@ import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.grammar.to.PureGrammarComposerUtility;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.result.Result;
-import org.finos.legend.engine.plan.execution.result.serialization.TemporaryFile;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreState;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
-import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializerWithTransformersApplied;
 import org.finos.legend.engine.plan.generation.PlanGenerator;
 import org.finos.legend.engine.plan.generation.transformers.LegendPlanTransformers;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
@@ -40,6 +38,7 @@ import org.finos.legend.engine.repl.client.Client;
 import org.finos.legend.engine.repl.core.Command;
 import org.finos.legend.engine.repl.core.Helpers;
 import org.finos.legend.engine.repl.relational.shared.ConnectionHelper;
+import org.finos.legend.engine.repl.relational.shared.ResultCache;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.pure.generated.core_pure_executionPlan_executionPlan_print;
 import org.finos.legend.pure.generated.Root_meta_pure_executionPlan_ExecutionPlan;
@@ -51,7 +50,6 @@ import org.jline.utils.AttributedStringBuilder;
 import org.jline.utils.AttributedStyle;
 
 import java.sql.Connection;
-import java.sql.Statement;
 import java.util.HashMap;
 
 import static org.finos.legend.engine.repl.relational.schema.MetadataReader.getTables;
@@ -112,21 +110,12 @@ public class Cache implements Command
                     {
                         this.client.getTerminal().writer().println("Executed SQL: " + relationalResult.executedSQl);
                     }
-                    String tempDir = ((RelationalStoreState) this.planExecutor.getExecutorsOfType(StoreType.Relational).getOnly().getStoreState()).getRelationalExecutor().getRelationalExecutionConfiguration().tempPath;
-                    try (TemporaryFile tempFile = new TemporaryFile(tempDir))
+                    try (Connection connection = ConnectionHelper.getConnection(databaseConnection, client.getPlanExecutor()))
                     {
-                        RelationalResultToCSVSerializerWithTransformersApplied serializer = new RelationalResultToCSVSerializerWithTransformersApplied(relationalResult, true);
-                        tempFile.writeFile(serializer);
-
-                        try (Connection connection = ConnectionHelper.getConnection(databaseConnection, client.getPlanExecutor()))
-                        {
-                            String tableName = "test" + (getTables(connection).size() + 1);
-                            try (Statement statement = connection.createStatement())
-                            {
-                                statement.executeUpdate(DatabaseManager.fromString(databaseConnection.type.name()).relationalDatabaseSupport().load(tableName, tempFile.getTemporaryPathForFile()));
-                                this.client.getTerminal().writer().println("Cached into table: '" + tableName + "'");
-                            }
-                        }
+                        String tableName = "test" + (getTables(connection).size() + 1);
+                        String tempDir = ((RelationalStoreState) this.planExecutor.getExecutorsOfType(StoreType.Relational).getOnly().getStoreState()).getRelationalExecutor().getRelationalExecutionConfiguration().tempPath;
+                        ResultCache.cache(relationalResult, connection, tableName, DatabaseManager.fromString(databaseConnection.type.name()).relationalDatabaseSupport(), tempDir);
+                        this.client.getTerminal().writer().println("Cached into table: '" + tableName + "'");
                     }
                 }
                 else
@@ -0,0 +1,298 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.repl.relational.httpServer;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.utility.ListIterate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * The result of a lambda executed once and materialized into a table of the grid server local database. Row windows are
+ * read from that table, sorted and filtered on demand. Rows are ordered by the requested sort columns then by their
+ * position in the original result, so that the offsets of a window are stable across requests. That position is kept in
+ * a column of its own rather than read from the DuckDB rowid, which is shadowed by any result column named rowid.
+ */
+public class GridResultSession
+{
+    public static final int MAX_WINDOW_SIZE = 10000;
+
+    static final String ROW_POSITION_COLUMN = "__grid_row_position";
+
+    private final String sessionId;
+    private final String tableName;
+    private final Connection connection;
+    private final List<Column> columns;
+    private final long rowCount;
+    private long lastAccessTime;
+
+    GridResultSession(String sessionId, String tableName, Connection connection) throws SQLException
+    {
+        this.sessionId = sessionId;
+        this.tableName = tableName;
+        this.connection = connection;
+        MutableList<Column> columns = Lists.mutable.empty();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT * FROM " + tableName + " LIMIT 0"))
+        {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++)
+            {
+                if (!ROW_POSITION_COLUMN.equals(metaData.getColumnLabel(i)))
+                {
+                    columns.add(new Column(metaData.getColumnLabel(i), metaData.getColumnTypeName(i)));
+                }
+            }
+        }
+        this.columns = columns.asUnmodifiable();
+        this.rowCount = count("", Lists.mutable.empty());
+    }
+
+    public String getSessionId()
+    {
+        return this.sessionId;
+    }
+
+    public List<Column> getColumns()
+    {
+        return this.columns;
+    }
+
+    public long getRowCount()
+    {
+        return this.rowCount;
+    }
+
+    public Window fetch(WindowRequest request) throws SQLException
+    {
+        int start = Math.max(0, request.start);
+        int size = Math.min(Math.max(0, request.end - start), MAX_WINDOW_SIZE);
+
+        MutableList<Object> parameters = Lists.mutable.empty();
+        String where = request.filters == null || request.filters.isEmpty() ?
+                "" :
+                " WHERE " + ListIterate.collect(request.filters, f -> toSql(f, parameters)).makeString(" AND ");
+        String orderBy = " ORDER BY " + (request.sort == null ? Lists.mutable.<String>empty() : ListIterate.collect(request.sort, this::toSql)).with(quote(ROW_POSITION_COLUMN)).makeString(", ");
+        String select = ListIterate.collect(this.columns, c -> quote(c.name)).makeString(", ");
+
+        List<List<Object>> rows = Lists.mutable.empty();
+        try (PreparedStatement statement = this.connection.prepareStatement("SELECT " + select + " FROM " + this.tableName + where + orderBy + " LIMIT " + size + " OFFSET " + start))
+        {
+            setParameters(statement, parameters);
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                while (resultSet.next())
+                {
+                    List<Object> values = Lists.mutable.empty();
+                    for (int i = 1; i <= this.columns.size(); i++)
+                    {
+                        values.add(toJsonValue(resultSet.getObject(i)));
+                    }
+                    rows.add(values);
+                }
+            }
+        }
+        long filteredRowCount = where.isEmpty() ? this.rowCount : count(where, parameters);
+        return new Window(this.sessionId, start, filteredRowCount, ListIterate.collect(this.columns, c -> c.name), rows);
+    }
+
+    /**
+     * Copies the rows of the source table into a new table, numbered in their original order
+     */
+    static void numberRows(Connection connection, String sourceTableName, String tableName) throws SQLException
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("CREATE TABLE " + tableName + " AS SELECT *, row_number() OVER () AS " + quote(ROW_POSITION_COLUMN) + " FROM " + sourceTableName);
+        }
+    }
+
+    long getLastAccessTime()
+    {
+        return this.lastAccessTime;
+    }
+
+    void setLastAccessTime(long lastAccessTime)
+    {
+        this.lastAccessTime = lastAccessTime;
+    }
+
+    void drop() throws SQLException
+    {
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.execute("DROP TABLE IF EXISTS " + this.tableName);
+        }
+    }
+
+    private long count(String where, List<Object> parameters) throws SQLException
+    {
+        try (PreparedStatement statement = this.connection.prepareStatement("SELECT count(*) FROM " + this.tableName + where))
+        {
+            setParameters(statement, parameters);
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private String toSql(SortColumn sort)
+    {
+        return quote(getColumn(sort.column).name) + ("descending".equals(sort.direction) ? " DESC" : " ASC");
+    }
+
+    private String toSql(Filter filter, List<Object> parameters)
+    {
+        Column column = getColumn(filter.column);
+        String name = quote(column.name);
+        switch (String.valueOf(filter.operation))
+        {
+            case "isEmpty":
+                return name + " IS NULL";
+            case "isNotEmpty":
+                return name + " IS NOT NULL";
+            case "contains":
+                parameters.add(String.valueOf(filter.value));
+                return "contains(CAST(" + name + " AS VARCHAR), ?)";
+            case "startsWith":
+                parameters.add(String.valueOf(filter.value));
+                return "prefix(CAST(" + name + " AS VARCHAR), ?)";
+            case "endsWith":
+                parameters.add(String.valueOf(filter.value));
+                return "suffix(CAST(" + name + " AS VARCHAR), ?)";
+            default:
+                parameters.add(filter.value);
+                return name + " " + toComparisonOperator(String.valueOf(filter.operation)) + " CAST(? AS " + column.type + ")";
+        }
+    }
+
+    private static String toComparisonOperator(String operation)
+    {
+        switch (operation)
+        {
+            case "equal":
+                return "=";
+            case "notEqual":
+                return "<>";
+            case "lessThan":
+                return "<";
+            case "lessThanEqual":
+                return "<=";
+            case "greaterThan":
+                return ">";
+            case "greaterThanEqual":
+                return ">=";
+            default:
+                throw new RuntimeException("Unsupported filter operation: '" + operation + "'");
+        }
+    }
+
+    private Column getColumn(String name)
+    {
+        Column column = ListIterate.detect(this.columns, c -> c.name.equals(name));
+        if (column == null)
+        {
+            throw new RuntimeException("Unknown column '" + name + "', expected one of " + ListIterate.collect(this.columns, c -> c.name));
+        }
+        return column;
+    }
+
+    private static void setParameters(PreparedStatement statement, List<Object> parameters) throws SQLException
+    {
+        for (int i = 0; i < parameters.size(); i++)
+        {
+            statement.setObject(i + 1, parameters.get(i));
+        }
+    }
+
+    private static Object toJsonValue(Object value)
+    {
+        return value == null || value instanceof Number || value instanceof Boolean || value instanceof String ? value : value.toString();
+    }
+
+    private static String quote(String name)
+    {
+        return "\"" + name.replace("\"", "\"\"") + "\"";
+    }
+
+    public static class Column
+    {
+        public String name;
+        public String type;
+
+        public Column()
+        {
+        }
+
+        public Column(String name, String type)
+        {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    public static class SortColumn
+    {
+        public String column;
+        public String direction;
+    }
+
+    public static class Filter
+    {
+        public String column;
+        public String operation;
+        public Object value;
+    }
+
+    public static class WindowRequest
+    {
+        public String sessionId;
+        public int start;
+        public int end;
+        public List<SortColumn> sort;
+        public List<Filter> filters;
+    }
+
+    public static class Window
+    {
+        public String sessionId;
+        public int start;
+        public long rowCount;
+        public List<String> columns;
+        public List<List<Object>> rows;
+
+        public Window()
+        {
+        }
+
+        public Window(String sessionId, int start, long rowCount, List<String> columns, List<List<Object>> rows)
+        {
+            this.sessionId = sessionId;
+            this.start = start;
+            this.rowCount = rowCount;
+            this.columns = columns;
+            this.rows = rows;
+        }
+    }
+}
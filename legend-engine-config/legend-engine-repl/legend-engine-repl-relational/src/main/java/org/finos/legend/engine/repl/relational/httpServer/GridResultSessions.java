@@ -0,0 +1,139 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.repl.relational.httpServer;
+
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.duckdb.DuckDBCommands;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.repl.relational.shared.ResultCache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result sessions of the grid server, materialized into an in-memory DuckDB database. Only the most recently used
+ * sessions are kept: older ones, and those left idle for longer than the session timeout, are dropped along with their
+ * table whenever a session is created or fetched.
+ */
+public class GridResultSessions implements AutoCloseable
+{
+    public static final String MAX_SESSIONS_PROPERTY = "legend.repl.grid.maxResultSessions";
+    public static final String SESSION_TIMEOUT_PROPERTY = "legend.repl.grid.resultSessionTimeoutMs";
+
+    private final int maxSessions;
+    private final long sessionTimeoutMillis;
+    private final Map<String, GridResultSession> sessions = new LinkedHashMap<>(16, 0.75f, true);
+    private long sessionCount = 0;
+    private Connection connection;
+
+    public GridResultSessions()
+    {
+        this(Integer.getInteger(MAX_SESSIONS_PROPERTY, 8), Long.getLong(SESSION_TIMEOUT_PROPERTY, 30 * 60 * 1000L));
+    }
+
+    public GridResultSessions(int maxSessions, long sessionTimeoutMillis)
+    {
+        this.maxSessions = Math.max(1, maxSessions);
+        this.sessionTimeoutMillis = sessionTimeoutMillis;
+    }
+
+    public synchronized GridResultSession create(RelationalResult result, String tempDir) throws Exception
+    {
+        expire();
+        String sessionId = String.valueOf(++this.sessionCount);
+        String tableName = "grid_result_" + sessionId;
+        String sourceTableName = tableName + "_source";
+        Connection connection = getConnection();
+        try
+        {
+            ResultCache.cache(result, connection, sourceTableName, new DuckDBCommands(), tempDir);
+            GridResultSession.numberRows(connection, sourceTableName, tableName);
+        }
+        finally
+        {
+            try (Statement statement = connection.createStatement())
+            {
+                statement.execute("DROP TABLE IF EXISTS " + sourceTableName);
+            }
+        }
+        GridResultSession session = new GridResultSession(sessionId, tableName, connection);
+        session.setLastAccessTime(System.currentTimeMillis());
+        this.sessions.put(sessionId, session);
+
+        Iterator<GridResultSession> eldest = this.sessions.values().iterator();
+        while (this.sessions.size() > this.maxSessions)
+        {
+            GridResultSession evicted = eldest.next();
+            eldest.remove();
+            evicted.drop();
+        }
+        return session;
+    }
+
+    public synchronized GridResultSession.Window fetch(GridResultSession.WindowRequest request) throws SQLException
+    {
+        expire();
+        GridResultSession session = this.sessions.get(request.sessionId);
+        if (session == null)
+        {
+            throw new RuntimeException("Unknown or expired grid result session: '" + request.sessionId + "'");
+        }
+        session.setLastAccessTime(System.currentTimeMillis());
+        return session.fetch(request);
+    }
+
+    /**
+     * Sessions are iterated from the least recently used, so the scan stops at the first one still in use
+     */
+    private void expire() throws SQLException
+    {
+        long now = System.currentTimeMillis();
+        Iterator<GridResultSession> eldest = this.sessions.values().iterator();
+        while (eldest.hasNext())
+        {
+            GridResultSession session = eldest.next();
+            if (now - session.getLastAccessTime() <= this.sessionTimeoutMillis)
+            {
+                return;
+            }
+            eldest.remove();
+            session.drop();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws SQLException
+    {
+        this.sessions.clear();
+        if (this.connection != null)
+        {
+            this.connection.close();
+            this.connection = null;
+        }
+    }
+
+    private Connection getConnection() throws SQLException
+    {
+        if (this.connection == null)
+        {
+            this.connection = DriverManager.getConnection("jdbc:duckdb:");
+        }
+        return this.connection;
+    }
+}
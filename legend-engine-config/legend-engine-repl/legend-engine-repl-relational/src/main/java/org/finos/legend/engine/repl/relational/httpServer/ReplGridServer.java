@@ -42,6 +42,8 @@ import org.finos.legend.engine.language.pure.grammar.to.PureGrammarComposerConte
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreState;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
 import org.finos.legend.engine.plan.generation.PlanGenerator;
 import org.finos.legend.engine.plan.generation.transformers.LegendPlanTransformers;
@@ -68,6 +70,7 @@ public class ReplGridServer
     private static final PlanExecutor planExecutor = PlanExecutor.newPlanExecutorBuilder().withAvailableStoreExecutors().build();
     private PureModelContextData currentPMCD;
     private final Client client;
+    private final GridResultSessions resultSessions = new GridResultSessions();
     private int port;
 
     public ReplGridServer(Client client)
@@ -102,6 +105,26 @@ public class ReplGridServer
         }
     }
 
+    public static class GridResultSessionInfo
+    {
+        public String currentQuery;
+        public String sessionId;
+        public List<GridResultSession.Column> columns;
+        public long rowCount;
+
+        public GridResultSessionInfo()
+        {
+        }
+
+        public GridResultSessionInfo(String currentQuery, GridResultSession session)
+        {
+            this.currentQuery = currentQuery;
+            this.sessionId = session.getSessionId();
+            this.columns = session.getColumns();
+            this.rowCount = session.getRowCount();
+        }
+    }
+
     public void updateGridState(PureModelContextData pmcd)
     {
         this.currentPMCD = pmcd;
@@ -223,6 +246,51 @@ public class ReplGridServer
             }
         });
 
+        server.createContext("/gridResultSession", exchange ->
+        {
+            if ("POST".equals(exchange.getRequestMethod()))
+            {
+                ValueSpecification funcBody = null;
+                Function func = null;
+                try
+                {
+                    InputStreamReader inputStreamReader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8);
+                    BufferedReader bufferReader = new BufferedReader(inputStreamReader);
+                    String requestBody = bufferReader.lines().collect(Collectors.joining());
+                    AppliedFunction body = (AppliedFunction) PureGrammarParser.newInstance().parseValueSpecification(requestBody, "", 0, 0, true);
+                    func = (Function) currentPMCD.getElements().stream().filter(e -> e.getPath().equals("a::b::c::d__Any_MANY_")).collect(Collectors.toList()).get(0);
+                    funcBody = func.body.get(0);
+                    func.body = Lists.mutable.of(body);
+                    String response = createResultSession(client.getLegendInterface(), currentPMCD, func, funcBody, resultSessions);
+                    handleResponse(exchange, 200, response);
+                }
+                catch (Exception e)
+                {
+                    if (func != null)
+                    {
+                        func.body = Lists.mutable.of(funcBody);
+                    }
+                    handleResponse(exchange, 500, e.getMessage());
+                }
+            }
+        });
+
+        server.createContext("/gridResultWindow", exchange ->
+        {
+            if ("POST".equals(exchange.getRequestMethod()))
+            {
+                try
+                {
+                    GridResultSession.WindowRequest request = objectMapper.readValue(exchange.getRequestBody(), GridResultSession.WindowRequest.class);
+                    handleResponse(exchange, 200, objectMapper.writeValueAsString(resultSessions.fetch(request)));
+                }
+                catch (Exception e)
+                {
+                    handleResponse(exchange, 500, e.getMessage());
+                }
+            }
+        });
+
         server.createContext("/typeahead", exchange ->
         {
             if ("POST".equals(exchange.getRequestMethod()))
@@ -336,10 +404,47 @@ public class ReplGridServer
     }
 
     public static String executeLambda(LegendInterface legendInterface, PureModelContextData currentRequestPMCD, Function func, ValueSpecification funcBody) throws IOException
+    {
+        String lambdaString = renderLambda(func);
+        Result res = execute(legendInterface, currentRequestPMCD, func, funcBody);
+        if (res instanceof RelationalResult)
+        {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            ((RelationalResult) res).getSerializer(SerializationFormat.DEFAULT).stream(byteArrayOutputStream);
+            GridServerResult result = new GridServerResult(lambdaString, byteArrayOutputStream.toString());
+            return objectMapper.writeValueAsString(result);
+        }
+        throw new RuntimeException("Expected return type of Lambda execution is RelationalResult, but returned " + res.getClass().getName());
+    }
+
+    /**
+     * Executes the lambda once and materializes its result into a new session of sessions, from which the grid then
+     * reads row windows
+     */
+    public static String createResultSession(LegendInterface legendInterface, PureModelContextData currentRequestPMCD, Function func, ValueSpecification funcBody, GridResultSessions sessions) throws Exception
+    {
+        String lambdaString = renderLambda(func);
+        try (Result res = execute(legendInterface, currentRequestPMCD, func, funcBody))
+        {
+            if (res instanceof RelationalResult)
+            {
+                String tempDir = ((RelationalStoreState) planExecutor.getExecutorsOfType(StoreType.Relational).getOnly().getStoreState()).getRelationalExecutor().getRelationalExecutionConfiguration().tempPath;
+                GridResultSession session = sessions.create((RelationalResult) res, tempDir);
+                return objectMapper.writeValueAsString(new GridResultSessionInfo(lambdaString, session));
+            }
+            throw new RuntimeException("Expected return type of Lambda execution is RelationalResult, but returned " + res.getClass().getName());
+        }
+    }
+
+    private static String renderLambda(Function func)
     {
         Lambda lambda = new Lambda();
         lambda.body = func.body;
-        String lambdaString = lambda.accept(DEPRECATED_PureGrammarComposerCore.Builder.newInstance().withRenderStyle(RenderStyle.PRETTY).build());
+        return lambda.accept(DEPRECATED_PureGrammarComposerCore.Builder.newInstance().withRenderStyle(RenderStyle.PRETTY).build());
+    }
+
+    private static Result execute(LegendInterface legendInterface, PureModelContextData currentRequestPMCD, Function func, ValueSpecification funcBody)
+    {
         PureModel pureModel = legendInterface.compile(currentRequestPMCD);
         RichIterable<? extends Root_meta_pure_extension_Extension> extensions = PureCoreExtensionLoader.extensions().flatCollect(e -> e.extraPureCoreExtensions(pureModel.getExecutionSupport()));
 
@@ -350,14 +455,7 @@ public class ReplGridServer
         // Execute
         Result res = planExecutor.execute(planStr);
         func.body = Lists.mutable.of(funcBody);
-        if (res instanceof RelationalResult)
-        {
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            ((RelationalResult) res).getSerializer(SerializationFormat.DEFAULT).stream(byteArrayOutputStream);
-            GridServerResult result = new GridServerResult(lambdaString, byteArrayOutputStream.toString());
-            return objectMapper.writeValueAsString(result);
-        }
-        throw new RuntimeException("Expected return type of Lambda execution is RelationalResult, but returned " + res.getClass().getName());
+        return res;
     }
 
     private void handleResponse(HttpExchange exchange, int responseCode, String response)
@@ -0,0 +1,87 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.repl.relational.shared;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.external.format.arrow.ArrowResultSetReader;
+import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
+import org.finos.legend.engine.plan.execution.result.serialization.TemporaryFile;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.duckdb.DuckDBArrowLoader;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializerWithTransformersApplied;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Copies a relational result into a new table of a local database
+ */
+public class ResultCache
+{
+    private ResultCache()
+    {
+    }
+
+    /**
+     * Results are streamed as Arrow batches into DuckDB databases when no transformer needs to be applied, and written to
+     * a temporary CSV file loaded with the database commands otherwise.
+     */
+    public static void cache(RelationalResult relationalResult, Connection connection, String tableName, RelationalDatabaseCommands commands, String tempDir) throws Exception
+    {
+        if (DuckDBArrowLoader.canLoad(connection) && canCacheAsArrow(relationalResult))
+        {
+            cacheAsArrow(relationalResult, connection, tableName);
+        }
+        else
+        {
+            cacheAsCsv(relationalResult, connection, tableName, commands, tempDir);
+        }
+    }
+
+    /**
+     * Arrow batches carry the values as read from the database, without the TDS transformers applied: results with enum
+     * mappings go through the CSV serializer
+     */
+    private static boolean canCacheAsArrow(RelationalResult relationalResult)
+    {
+        return relationalResult.getResultBuilder() instanceof TDSBuilder &&
+                ListIterate.allSatisfy(relationalResult.getTdsColumns(), c -> c.enumMapping == null || c.enumMapping.isEmpty());
+    }
+
+    private static void cacheAsArrow(RelationalResult relationalResult, Connection connection, String tableName) throws Exception
+    {
+        try (BufferAllocator allocator = new RootAllocator())
+        {
+            // the loader owns the reader, which is closed before the allocator
+            DuckDBArrowLoader.load(connection, tableName, relationalResult.getColumnListForSerializer(), new ArrowResultSetReader(relationalResult, allocator), allocator);
+        }
+    }
+
+    private static void cacheAsCsv(RelationalResult relationalResult, Connection connection, String tableName, RelationalDatabaseCommands commands, String tempDir) throws Exception
+    {
+        try (TemporaryFile tempFile = new TemporaryFile(tempDir == null ? System.getProperty("java.io.tmpdir") : tempDir))
+        {
+            RelationalResultToCSVSerializerWithTransformersApplied serializer = new RelationalResultToCSVSerializerWithTransformersApplied(relationalResult, true);
+            tempFile.writeFile(serializer);
+            try (Statement statement = connection.createStatement())
+            {
+                statement.executeUpdate(commands.load(tableName, tempFile.getTemporaryPathForFile()));
+            }
+        }
+    }
+}
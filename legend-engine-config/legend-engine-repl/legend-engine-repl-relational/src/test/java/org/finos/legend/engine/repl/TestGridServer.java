@@ -24,6 +24,8 @@ import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.ValueSp
 import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.application.AppliedFunction;
 import org.finos.legend.engine.repl.core.legend.LegendInterface;
 import org.finos.legend.engine.repl.core.legend.LocalLegendInterface;
+import org.finos.legend.engine.repl.relational.httpServer.GridResultSession;
+import org.finos.legend.engine.repl.relational.httpServer.GridResultSessions;
 import org.finos.legend.engine.repl.relational.httpServer.ReplGridServer;
 import org.junit.Assert;
 import org.junit.Test;
@@ -42,6 +44,13 @@ public class TestGridServer
             "       FIRSTNAME VARCHAR(200),\n" +
             "       LASTNAME   VARCHAR(200)\n" +
             "     )\n" +
+            "    Table TEST1\n" +
+            "    (\n" +
+            "       ID INTEGER,\n" +
+            "       NAME VARCHAR(200),\n" +
+            "       PRICE DOUBLE,\n" +
+            "       SETTLED DATE\n" +
+            "     )\n" +
             ")\n" +
             "\n" +
             "###Pure\n" +
@@ -73,7 +82,7 @@ public class TestGridServer
             "  specification: LocalH2\n" +
             "  {\n" +
             "    testDataSetupSqls: [\n" +
-            "      '\\nDrop table if exists TEST0;\\nCreate Table TEST0(FIRSTNAME VARCHAR(200), LASTNAME VARCHAR(200));\\nInsert into TEST0 (FIRSTNAME, LASTNAME) values (\\'John\\', \\'Doe\\');\\nInsert into TEST0 (FIRSTNAME, LASTNAME) values (\\'Tim\\', \\'Smith\\');\\nInsert into TEST0 (FIRSTNAME, LASTNAME) values (\\'Nicole\\', \\'Doe\\');\\n\\n'\n" +
+            "      '\\nDrop table if exists TEST0;\\nCreate Table TEST0(FIRSTNAME VARCHAR(200), LASTNAME VARCHAR(200));\\nInsert into TEST0 (FIRSTNAME, LASTNAME) values (\\'John\\', \\'Doe\\');\\nInsert into TEST0 (FIRSTNAME, LASTNAME) values (\\'Tim\\', \\'Smith\\');\\nInsert into TEST0 (FIRSTNAME, LASTNAME) values (\\'Nicole\\', \\'Doe\\');\\nDrop table if exists TEST1;\\nCreate Table TEST1(ID INTEGER, NAME VARCHAR(200), PRICE DOUBLE, SETTLED DATE);\\nInsert into TEST1 (ID, NAME, PRICE, SETTLED) values (1, \\'O\\'\\'Brien\\', 1.5, \\'2020-01-01\\');\\nInsert into TEST1 (ID, NAME, PRICE, SETTLED) values (2, null, null, null);\\n\\n'\n" +
             "      ];\n" +
             "  };\n" +
             "  auth: DefaultH2;\n" +
@@ -114,6 +123,112 @@ public class TestGridServer
         test(expectedResult, lambda, true);
     }
 
+    @Test
+    public void testResultSession() throws Exception
+    {
+        String lambda = "#>{test::TestDatabase.TEST0}#->from(^meta::pure::mapping::Mapping(), test::test)";
+        try (GridResultSessions sessions = new GridResultSessions())
+        {
+            Function originalFunction = (Function) pureModelContextData.getElements().stream().filter(e -> e.getPath().equals("a::b::c::d__Any_MANY_")).collect(Collectors.toList()).get(0);
+            ValueSpecification originalFunctionBody = originalFunction.body.get(0);
+            originalFunction.body = Lists.mutable.of(PureGrammarParser.newInstance().parseValueSpecification(lambda, null, 0, 0, true));
+            String response = ReplGridServer.createResultSession(legendInterface, pureModelContextData, originalFunction, originalFunctionBody, sessions);
+            ReplGridServer.GridResultSessionInfo session = objectMapper.readValue(response, ReplGridServer.GridResultSessionInfo.class);
+            Assert.assertEquals(3, session.rowCount);
+            Assert.assertEquals("[FIRSTNAME, LASTNAME]", session.columns.stream().map(c -> c.name).collect(Collectors.toList()).toString());
+
+            GridResultSession.WindowRequest request = new GridResultSession.WindowRequest();
+            request.sessionId = session.sessionId;
+            request.start = 1;
+            request.end = 3;
+            Assert.assertEquals("{\"sessionId\":\"1\",\"start\":1,\"rowCount\":3,\"columns\":[\"FIRSTNAME\",\"LASTNAME\"],\"rows\":[[\"Tim\",\"Smith\"],[\"Nicole\",\"Doe\"]]}", objectMapper.writeValueAsString(sessions.fetch(request)));
+
+            GridResultSession.SortColumn sort = new GridResultSession.SortColumn();
+            sort.column = "FIRSTNAME";
+            sort.direction = "descending";
+            GridResultSession.Filter filter = new GridResultSession.Filter();
+            filter.column = "LASTNAME";
+            filter.operation = "equal";
+            filter.value = "Doe";
+            request.start = 0;
+            request.sort = Lists.mutable.of(sort);
+            request.filters = Lists.mutable.of(filter);
+            Assert.assertEquals("{\"sessionId\":\"1\",\"start\":0,\"rowCount\":2,\"columns\":[\"FIRSTNAME\",\"LASTNAME\"],\"rows\":[[\"Nicole\",\"Doe\"],[\"John\",\"Doe\"]]}", objectMapper.writeValueAsString(sessions.fetch(request)));
+        }
+    }
+
+    @Test
+    public void testResultSessionKeepsColumnTypesAndNulls() throws Exception
+    {
+        // TDS results are cached into the session database as Arrow batches, the path of the cache command on DuckDB
+        String lambda = "#>{test::TestDatabase.TEST1}#->from(^meta::pure::mapping::Mapping(), test::test)";
+        try (GridResultSessions sessions = new GridResultSessions())
+        {
+            Function originalFunction = (Function) pureModelContextData.getElements().stream().filter(e -> e.getPath().equals("a::b::c::d__Any_MANY_")).collect(Collectors.toList()).get(0);
+            ValueSpecification originalFunctionBody = originalFunction.body.get(0);
+            originalFunction.body = Lists.mutable.of(PureGrammarParser.newInstance().parseValueSpecification(lambda, null, 0, 0, true));
+            String response = ReplGridServer.createResultSession(legendInterface, pureModelContextData, originalFunction, originalFunctionBody, sessions);
+            ReplGridServer.GridResultSessionInfo session = objectMapper.readValue(response, ReplGridServer.GridResultSessionInfo.class);
+            Assert.assertEquals(2, session.rowCount);
+
+            GridResultSession.SortColumn sort = new GridResultSession.SortColumn();
+            sort.column = "ID";
+            sort.direction = "ascending";
+            GridResultSession.WindowRequest request = new GridResultSession.WindowRequest();
+            request.sessionId = session.sessionId;
+            request.start = 0;
+            request.end = 2;
+            request.sort = Lists.mutable.of(sort);
+            Assert.assertEquals("{\"sessionId\":\"" + session.sessionId + "\",\"start\":0,\"rowCount\":2,\"columns\":[\"ID\",\"NAME\",\"PRICE\",\"SETTLED\"],\"rows\":[[1,\"O'Brien\",1.5,\"2020-01-01\"],[2,null,null,null]]}", objectMapper.writeValueAsString(sessions.fetch(request)));
+        }
+    }
+
+    @Test
+    public void testResultSessionKeepsRowOrderWithRowidColumn() throws Exception
+    {
+        // the DuckDB rowid is shadowed by a result column of that name: rows must still come in their original order
+        String lambda = "#>{test::TestDatabase.TEST0}#->rename(~LASTNAME, ~rowid)->from(^meta::pure::mapping::Mapping(), test::test)";
+        try (GridResultSessions sessions = new GridResultSessions())
+        {
+            ReplGridServer.GridResultSessionInfo session = createResultSession(sessions, lambda);
+            Assert.assertEquals("[FIRSTNAME, rowid]", session.columns.stream().map(c -> c.name).collect(Collectors.toList()).toString());
+
+            GridResultSession.WindowRequest request = new GridResultSession.WindowRequest();
+            request.sessionId = session.sessionId;
+            request.start = 0;
+            request.end = 3;
+            Assert.assertEquals("{\"sessionId\":\"1\",\"start\":0,\"rowCount\":3,\"columns\":[\"FIRSTNAME\",\"rowid\"],\"rows\":[[\"John\",\"Doe\"],[\"Tim\",\"Smith\"],[\"Nicole\",\"Doe\"]]}", objectMapper.writeValueAsString(sessions.fetch(request)));
+        }
+    }
+
+    @Test
+    public void testIdleResultSessionsExpire() throws Exception
+    {
+        String lambda = "#>{test::TestDatabase.TEST0}#->from(^meta::pure::mapping::Mapping(), test::test)";
+        try (GridResultSessions sessions = new GridResultSessions(8, 50))
+        {
+            ReplGridServer.GridResultSessionInfo session = createResultSession(sessions, lambda);
+            GridResultSession.WindowRequest request = new GridResultSession.WindowRequest();
+            request.sessionId = session.sessionId;
+            request.start = 0;
+            request.end = 1;
+            Assert.assertEquals(1, sessions.fetch(request).rows.size());
+
+            Thread.sleep(100);
+            RuntimeException e = Assert.assertThrows(RuntimeException.class, () -> sessions.fetch(request));
+            Assert.assertEquals("Unknown or expired grid result session: '1'", e.getMessage());
+        }
+    }
+
+    private ReplGridServer.GridResultSessionInfo createResultSession(GridResultSessions sessions, String lambda) throws Exception
+    {
+        Function originalFunction = (Function) pureModelContextData.getElements().stream().filter(e -> e.getPath().equals("a::b::c::d__Any_MANY_")).collect(Collectors.toList()).get(0);
+        ValueSpecification originalFunctionBody = originalFunction.body.get(0);
+        originalFunction.body = Lists.mutable.of(PureGrammarParser.newInstance().parseValueSpecification(lambda, null, 0, 0, true));
+        String response = ReplGridServer.createResultSession(legendInterface, pureModelContextData, originalFunction, originalFunctionBody, sessions);
+        return objectMapper.readValue(response, ReplGridServer.GridResultSessionInfo.class);
+    }
+
     private void test(String expectedResult, String function)
     {
         test(expectedResult, function, false);
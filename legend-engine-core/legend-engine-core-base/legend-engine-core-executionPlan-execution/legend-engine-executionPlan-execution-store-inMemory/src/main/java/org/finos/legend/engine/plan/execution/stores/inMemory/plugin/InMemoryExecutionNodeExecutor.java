@@ -28,6 +28,7 @@ import org.finos.legend.engine.plan.dependencies.store.inMemory.graphFetch.IInMe
 import org.finos.legend.engine.plan.dependencies.store.inMemory.graphFetch.IInMemoryRootGraphFetchMergeExecutionNodeSpecifics;
 import org.finos.legend.engine.plan.dependencies.store.inMemory.graphFetch.IStoreStreamReadingExecutionNodeSpecifics;
 import org.finos.legend.engine.plan.dependencies.store.shared.IExecutionNodeContext;
+import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
 import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.DefaultExecutionNodeContext;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.ExecutionNodeJavaPlatformHelper;
@@ -38,6 +39,7 @@ import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.graphFetch.GraphFetchResult;
 import org.finos.legend.engine.plan.execution.result.graphFetch.GraphObjectsBatch;
 import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResult;
+import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.inMemory.result.graphFetch.StoreStreamReadingResult;
 import org.finos.legend.engine.plan.execution.stores.inMemory.utils.InMemoryGraphFetchUtils;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.AggregationAwareExecutionNode;
@@ -73,6 +75,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -140,7 +145,7 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
             {
                 IInMemoryRootGraphFetchExecutionNodeSpecifics nodeSpecifics = ExecutionNodeJavaPlatformHelper.getNodeSpecificsInstance(node, this.executionState, this.identity);
 
-                childResult = node.executionNodes.get(0).accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                childResult = ExecutionNodeExecutor.executeNode(node.executionNodes.get(0), this.identity, this.executionState);
                 Iterator<?> sourceObjectsIterator;
                 if (childResult instanceof StoreStreamReadingResult)
                 {
@@ -249,7 +254,7 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
                         if (!resultObjects.isEmpty() && (!isLeaf))
                         {
                             newState.graphObjectsBatch = inMemoryGraphObjectsBatch;
-                            node.children.forEach(x -> x.accept(new ExecutionNodeExecutor(InMemoryExecutionNodeExecutor.this.identity, newState)));
+                            node.children.forEach(x -> ExecutionNodeExecutor.executeNode(x, InMemoryExecutionNodeExecutor.this.identity, newState));
 
                         }
                         if (!resultObjects.isEmpty() && node.filter != null  && node.filter)
@@ -356,6 +361,27 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
                         });
                     });
                 }
+                else if (canFetchCrossStoreChildrenInParallel(node, parentMap.size()))
+                {
+                    List<Map.Entry<Object, List<Object>>> entries = new ArrayList<>(parentMap.entrySet());
+                    List<List<Object>> fetchedChildren = fetchCrossStoreChildrenInParallel(node, nodeSpecifics, entries);
+                    for (int i = 0; i < entries.size(); i++)
+                    {
+                        for (Object child : fetchedChildren.get(i))
+                        {
+                            IGraphInstance<?> childGraphInstance = nodeSpecifics.wrapChildInGraphInstance(child);
+                            Object childObject = childGraphInstance.getValue();
+                            for (Object parentObject : entries.get(i).getValue())
+                            {
+                                if (nodeSpecifics.attemptAddingChildToParent(parentObject, childObject))
+                                {
+                                    graphObjectsBatch.addObjectMemoryUtilization(childGraphInstance.instanceSize());
+                                    childObjects.add(childObject);
+                                }
+                            }
+                        }
+                    }
+                }
                 else
                 {
                     for (Map.Entry<Object, List<Object>> entry : parentMap.entrySet())
@@ -415,6 +441,117 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
         }
     }
 
+    private boolean canFetchCrossStoreChildrenInParallel(InMemoryCrossStoreGraphFetchExecutionNode node, int parentCount)
+    {
+        return parentCount > 1
+                && this.executionState.getGraphFetchExecutionNodeExecutorPool() != null
+                && this.executionState.getGraphFetchExecutionConfiguration().canExecuteInParallel()
+                && Arrays.stream(StoreType.values())
+                .map(this.executionState::getStoreExecutionState)
+                .anyMatch(storeExecutionState -> (storeExecutionState != null) && storeExecutionState.getStoreState().canFetchCrossStoreChildrenInParallel(node));
+    }
+
+    /**
+     * Issues the child store call of every parent on the parallel graph fetch pool, as long as the pool has free threads,
+     * and runs it on the calling thread otherwise. The pool size is therefore the bound on the calls in flight. Children are
+     * returned in the order of the given parents so that they can be attached to their parents on the calling thread.
+     */
+    private List<List<Object>> fetchCrossStoreChildrenInParallel(InMemoryCrossStoreGraphFetchExecutionNode node, IInMemoryCrossStoreGraphFetchExecutionNodeSpecifics nodeSpecifics, List<Map.Entry<Object, List<Object>>> entries) throws Exception
+    {
+        ParallelGraphFetchExecutionExecutorPool graphFetchExecutionNodeExecutorPool = this.executionState.getGraphFetchExecutionNodeExecutorPool();
+        List<Future<List<Object>>> fetches = new ArrayList<>(entries.size());
+        try
+        {
+            for (Map.Entry<Object, List<Object>> entry : entries)
+            {
+                Map<String, Object> keyValuePairs = nodeSpecifics.getCrossStoreKeysValueForChildren(entry.getKey());
+                ExecutionState childState = copyForCrossStoreChildFetch(this.executionState);
+                if (graphFetchExecutionNodeExecutorPool.acquireThreads(1))
+                {
+                    try
+                    {
+                        fetches.add(graphFetchExecutionNodeExecutorPool.submit(() ->
+                        {
+                            try
+                            {
+                                return fetchCrossStoreChildren(node, keyValuePairs, childState);
+                            }
+                            finally
+                            {
+                                graphFetchExecutionNodeExecutorPool.releaseThreads(1);
+                            }
+                        }));
+                    }
+                    catch (RuntimeException e)
+                    {
+                        graphFetchExecutionNodeExecutorPool.releaseThreads(1);
+                        throw e;
+                    }
+                }
+                else
+                {
+                    fetches.add(CompletableFuture.completedFuture(fetchCrossStoreChildren(node, keyValuePairs, childState)));
+                }
+            }
+
+            List<List<Object>> fetchedChildren = new ArrayList<>(fetches.size());
+            for (Future<List<Object>> fetch : fetches)
+            {
+                fetchedChildren.add(fetch.get());
+            }
+            return fetchedChildren;
+        }
+        catch (ExecutionException e)
+        {
+            awaitQuietly(fetches);
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        catch (Exception e)
+        {
+            awaitQuietly(fetches);
+            throw e;
+        }
+    }
+
+    static ExecutionState copyForCrossStoreChildFetch(ExecutionState executionState)
+    {
+        ExecutionState childState = executionState.copy();
+        childState.setGraphFetchCaches(executionState.graphFetchCaches);   // shared with the calling thread, caches are thread safe
+        return childState;
+    }
+
+    private List<Object> fetchCrossStoreChildren(InMemoryCrossStoreGraphFetchExecutionNode node, Map<String, Object> keyValuePairs, ExecutionState state)
+    {
+        keyValuePairs.forEach((key, value) -> state.addResult(key, new ConstantResult(value)));
+        Result childResult = new InMemoryExecutionNodeExecutor(this.identity, state).visit((InMemoryRootGraphFetchExecutionNode) node);
+        try
+        {
+            return ((GraphFetchResult) childResult).getGraphObjectsBatchStream()
+                    .flatMap(batch -> batch.getObjectsForNodeIndex(node.nodeIndex).stream())
+                    .collect(Collectors.toList());
+        }
+        finally
+        {
+            childResult.close();
+        }
+    }
+
+    // tasks are not cancelled, as a task cancelled before it starts would never give its thread back to the pool
+    private static void awaitQuietly(List<? extends Future<?>> fetches)
+    {
+        for (Future<?> fetch : fetches)
+        {
+            try
+            {
+                fetch.get();
+            }
+            catch (Exception ignored)
+            {
+                // the first failure is the one reported
+            }
+        }
+    }
+
     @Override
     public Result visit(InMemoryPropertyGraphFetchExecutionNode node)
     {
@@ -435,7 +572,7 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
 
         if (!childObjects.isEmpty() && (!isLeaf))
         {
-            node.children.forEach(x -> x.accept(new ExecutionNodeExecutor(this.identity, executionState)));
+            node.children.forEach(x -> ExecutionNodeExecutor.executeNode(x, this.identity, executionState));
         }
 
         return new ConstantResult(childObjects);
@@ -543,7 +680,7 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
     {
         IInMemoryRootGraphFetchMergeExecutionNodeSpecifics nodeSpecifics = ExecutionNodeJavaPlatformHelper.getNodeSpecificsInstance(node, this.executionState, this.identity);
 
-        List<GraphFetchResult> results = node.executionNodes.stream().map(n -> (GraphFetchResult) n.accept(new ExecutionNodeExecutor(this.identity, this.executionState))).collect(Collectors.toList());
+        List<GraphFetchResult> results = node.executionNodes.stream().map(n -> (GraphFetchResult) ExecutionNodeExecutor.executeNode(n, this.identity, this.executionState)).collect(Collectors.toList());
 
         List<Object> subObjects = results.stream().map(g -> g.getGraphObjectsBatchStream().findFirst().get().getObjectsForNodeIndex(0).get(0)).collect(Collectors.toList());
 
@@ -0,0 +1,57 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.inMemory.plugin;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
+import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCache;
+import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class TestInMemoryExecutionNodeExecutor
+{
+    @Test
+    public void testCrossStoreChildFetchStateKeepsGraphFetchCaches()
+    {
+        List<GraphFetchCache> caches = Lists.mutable.with(new GraphFetchCache()
+        {
+            @Override
+            public ExecutionCache<GraphFetchCacheKey, ?> getExecutionCache()
+            {
+                return null;
+            }
+
+            @Override
+            public boolean isValidForPlan(SingleExecutionPlan plan)
+            {
+                return true;
+            }
+        });
+        ExecutionState state = new ExecutionState(Maps.mutable.empty(), Lists.mutable.empty(), Lists.mutable.empty());
+        state.setGraphFetchCaches(caches);
+
+        ExecutionState childState = InMemoryExecutionNodeExecutor.copyForCrossStoreChildFetch(state);
+
+        Assert.assertNotSame(state, childState);
+        Assert.assertSame(caches, childState.graphFetchCaches);
+        Assert.assertNull(state.copy().graphFetchCaches);
+    }
+}
@@ -29,6 +29,7 @@ import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.JavaHelper;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.ExecutionProfileActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutor;
@@ -69,6 +70,10 @@ public class PlanExecutor
 
     private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
     private static final boolean DEFAULT_IS_JAVA_COMPILATION_ALLOWED = true;
+    /**
+     * Default for {@link Builder#profileExecution(boolean)}
+     */
+    public static final String EXECUTION_PROFILING_PROPERTY = "legend.engine.plan.executionProfiling";
 
     private final boolean isJavaCompilationAllowed;
     private final ImmutableList<StoreExecutor> extraExecutors;
@@ -78,9 +83,10 @@ public class PlanExecutor
     private GraphFetchExecutionConfiguration graphFetchExecutionConfiguration;
     private BiFunction<Identity, ExecutionState, ExecutionNodeExecutor> executionNodeExecutorBuilder;
     private final boolean logSQLWithParamValues;
+    private final boolean profileExecution;
 
 
-    private PlanExecutor(boolean isJavaCompilationAllowed, ImmutableList<StoreExecutor> extraExecutors, GraphFetchExecutionConfiguration graphFetchExecutionConfiguration, boolean logSQLWithParamValues)
+    private PlanExecutor(boolean isJavaCompilationAllowed, ImmutableList<StoreExecutor> extraExecutors, GraphFetchExecutionConfiguration graphFetchExecutionConfiguration, boolean logSQLWithParamValues, boolean profileExecution)
     {
         EngineUrlStreamHandlerFactory.initialize();
         this.isJavaCompilationAllowed = isJavaCompilationAllowed;
@@ -88,6 +94,7 @@ public class PlanExecutor
         this.planExecutorInfo = PlanExecutorInfo.fromStoreExecutors(this.extraExecutors);
         this.graphFetchExecutionConfiguration = graphFetchExecutionConfiguration;
         this.logSQLWithParamValues = logSQLWithParamValues;
+        this.profileExecution = profileExecution;
     }
 
     public PlanExecutorInfo getPlanExecutorInfo()
@@ -253,7 +260,7 @@ public class PlanExecutor
             singleExecutionPlan.getExecutionStateParams(org.eclipse.collections.api.factory.Maps.mutable.empty()).forEach(state::addParameterValue);
 
             // execute
-            return singleExecutionPlan.rootExecutionNode.accept(new ExecutionNodeExecutor(identity, state));
+            return ExecutionNodeExecutor.executeNode(singleExecutionPlan.rootExecutionNode, identity, state);
         }
     }
 
@@ -290,7 +297,7 @@ public class PlanExecutor
                 singleExecutionPlan.getExecutionStateParams(org.eclipse.collections.api.factory.Maps.mutable.empty()).forEach(state::addParameterValue);
                 // execute
                 ExecutionNodeExecutor executionNodeExecutor = this.buildExecutionNodeExecutor(executeArgs.identity, state);
-                return singleExecutionPlan.rootExecutionNode.accept(executionNodeExecutor);
+                return ExecutionNodeExecutor.executeNode(singleExecutionPlan.rootExecutionNode, executionNodeExecutor, state);
             }
         }
         finally
@@ -350,7 +357,12 @@ public class PlanExecutor
         }
         try
         {
+            long start = System.nanoTime();
             EngineJavaCompiler engineJavaCompiler = JavaHelper.compilePlan(plan, identity);
+            if (state.getExecutionProfile() != null)
+            {
+                state.getExecutionProfile().addJavaCompilationTime(System.nanoTime() - start);
+            }
             if (engineJavaCompiler != null)
             {
                 state.setJavaCompiler(engineJavaCompiler);
@@ -395,6 +407,11 @@ public class PlanExecutor
             executionState.setGraphFetchExecutionNodeExecutorPool(this.graphFetchExecutionNodeExecutorPool);
         }
 
+        if (this.profileExecution)
+        {
+            executionState.setExecutionProfile(new ExecutionProfileActivity());
+        }
+
         return executionState;
     }
 
@@ -433,6 +450,7 @@ public class PlanExecutor
         private final MutableList<StoreExecutor> storeExecutors = Lists.mutable.empty();
         private GraphFetchExecutionConfiguration graphFetchExecutionConfiguration = new GraphFetchExecutionConfiguration();
         private boolean logSQLWithParamValues = true;
+        private boolean profileExecution = Boolean.getBoolean(EXECUTION_PROFILING_PROPERTY);
 
         private Builder()
         {
@@ -476,9 +494,18 @@ public class PlanExecutor
             return this;
         }
 
+        /**
+         * Adds an {@link ExecutionProfileActivity} with the time spent in each execution node to the activities of the results
+         */
+        public Builder profileExecution(boolean value)
+        {
+            this.profileExecution = value;
+            return this;
+        }
+
         public PlanExecutor build()
         {
-            return new PlanExecutor(this.isJavaCompilationAllowed, this.storeExecutors.toImmutable(), this.graphFetchExecutionConfiguration, this.logSQLWithParamValues);
+            return new PlanExecutor(this.isJavaCompilationAllowed, this.storeExecutors.toImmutable(), this.graphFetchExecutionConfiguration, this.logSQLWithParamValues, this.profileExecution);
         }
     }
 
@@ -34,9 +34,9 @@ import org.finos.legend.engine.shared.core.url.StreamProviderHolder;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 
 /**
@@ -47,17 +47,28 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
 {
     private final int poolSize;
     private final String poolDescription;
+    private final ConcurrentExecutorType executorType;
     private final ExecutorService executor;
     private final ExecutorService delegatedExecutor;
     private final Semaphore availableThreads;
 
     public ConcurrentExecutionNodeExecutorPool(int poolSize, String poolDescription)
+    {
+        this(poolSize, poolDescription, ConcurrentExecutorType.fromSystemProperty(), 0);
+    }
+
+    /**
+     * @param ioConcurrencyLimit number of child nodes allowed to run at once when the executor is not a fixed pool,
+     *                           0 to use the value of {@link ConcurrentExecutorType#IO_CONCURRENCY_LIMIT_PROPERTY}
+     */
+    public ConcurrentExecutionNodeExecutorPool(int poolSize, String poolDescription, ConcurrentExecutorType executorType, int ioConcurrencyLimit)
     {
         this.poolSize = poolSize;
         this.poolDescription = poolDescription;
-        this.delegatedExecutor = Executors.newFixedThreadPool(poolSize);
+        this.executorType = executorType;
+        this.delegatedExecutor = executorType.newExecutor(poolSize);
         this.executor = new TracedExecutorService(this.delegatedExecutor, GlobalTracer.get());
-        this.availableThreads = new Semaphore(poolSize);
+        this.availableThreads = new Semaphore(executorType.ioConcurrencyLimit(poolSize, ioConcurrencyLimit));
     }
 
     @Override
@@ -87,7 +98,7 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         {
             try (Scope scope = GlobalTracer.get().buildSpan("Sequential Execution Triggered").startActive(true))
             {
-                return ListIterate.collect(nodes, node -> node.accept(new ExecutionNodeExecutor(identity, executionState)));
+                return ListIterate.collect(nodes, node -> ExecutionNodeExecutor.executeNode(node, identity, executionState));
             }
         }
     }
@@ -96,16 +107,16 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
     {
         List<CompletableFuture<Pair<Result, ExecutionState>>> elements = FastList.newList();
         StreamProvider streamProvider = StreamProviderHolder.streamProviderThreadLocal.get();
-        nodes.forEach(node -> elements.add(CompletableFuture.supplyAsync(() ->
+        nodes.forEach(node -> elements.add(CompletableFuture.supplyAsync(() -> runBlocking(() ->
                 {
                     try (Scope scope = GlobalTracer.get().buildSpan(String.format("Execution for child - %d", nodes.indexOf(node))).startActive(true))
                     {
                         StreamProviderHolder.streamProviderThreadLocal.set(streamProvider);
                         ExecutionState executionStateForThread = executionState.copy();
-                        Result result = node.accept(new ExecutionNodeExecutor(identity, executionStateForThread));
+                        Result result = ExecutionNodeExecutor.executeNode(node, identity, executionStateForThread);
                         return Tuples.pair(result, executionStateForThread);
                     }
-                }, executor
+                }), executor
         )));
 
         CompletableFuture<Void> allElements = CompletableFuture.allOf(elements.toArray(new CompletableFuture[0]));
@@ -128,11 +139,28 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         return results;
     }
 
+    private static <T> T runBlocking(Callable<T> task)
+    {
+        try
+        {
+            return ConcurrentExecutorType.runBlocking(task);
+        }
+        catch (RuntimeException e)
+        {
+            throw e;
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public String toString()
     {
         return "[" +
                 "poolSize : " + poolSize +
+                ", executorType : " + executorType +
                 ", poolDescription : " + poolDescription +
                 ", executor : " + delegatedExecutor.toString() +
                 ", availableThreads : " + availableThreads.toString() +
@@ -146,6 +174,8 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         jsonGenerator.writeString(this.poolDescription);
         jsonGenerator.writeFieldName("poolSize");
         jsonGenerator.writeNumber(this.poolSize);
+        jsonGenerator.writeFieldName("executorType");
+        jsonGenerator.writeString(this.executorType.name());
         jsonGenerator.writeFieldName("executor");
         jsonGenerator.writeString(this.delegatedExecutor.toString());
         jsonGenerator.writeFieldName("availableThreads");
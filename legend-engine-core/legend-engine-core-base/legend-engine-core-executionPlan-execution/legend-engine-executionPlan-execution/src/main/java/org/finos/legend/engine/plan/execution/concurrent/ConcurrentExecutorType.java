@@ -0,0 +1,184 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Kind of executor backing the concurrent execution pools.
+ * <p>
+ * Work in these pools mostly blocks on JDBC or HTTP calls. With {@link #FIXED} the number of tasks in flight is
+ * bounded by the number of platform threads of the pool. With {@link #WORK_STEALING} and {@link #VIRTUAL} the pool
+ * size only sizes the scheduler and the number of tasks in flight is bounded by a separate I/O concurrency limit.
+ * Tasks submitted to these pools must go through {@link #runBlocking(Callable)}, so that a work-stealing pool adds
+ * threads while its tasks block instead of starving the others.
+ */
+public enum ConcurrentExecutorType
+{
+    /**
+     * Fixed pool of platform threads, one per pool slot
+     */
+    FIXED,
+    /**
+     * Work-stealing pool whose parallelism is the pool size, tasks blocking through {@link #runBlocking(Callable)} are
+     * compensated with spare threads
+     */
+    WORK_STEALING,
+    /**
+     * One virtual thread per task, falling back to {@link #WORK_STEALING} on JDKs without virtual threads
+     */
+    VIRTUAL;
+
+    public static final String EXECUTOR_TYPE_PROPERTY = "legend.engine.plan.concurrentExecutorType";
+    public static final String IO_CONCURRENCY_LIMIT_PROPERTY = "legend.engine.plan.ioConcurrencyLimit";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentExecutorType.class);
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutorFactory();
+
+    public static ConcurrentExecutorType fromSystemProperty()
+    {
+        String type = System.getProperty(EXECUTOR_TYPE_PROPERTY);
+        return type == null || type.trim().isEmpty() ? FIXED : valueOf(type.trim().toUpperCase());
+    }
+
+    /**
+     * Number of tasks a pool of the given size lets run at once: the pool size for a fixed pool, the value of
+     * {@link #IO_CONCURRENCY_LIMIT_PROPERTY} otherwise, when set to a positive value
+     */
+    public int ioConcurrencyLimit(int poolSize, long configuredLimit)
+    {
+        if (this == FIXED)
+        {
+            return poolSize;
+        }
+        long limit = configuredLimit > 0 ? configuredLimit : Long.getLong(IO_CONCURRENCY_LIMIT_PROPERTY, poolSize);
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, limit));
+    }
+
+    public static boolean virtualThreadsAvailable()
+    {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    public ExecutorService newExecutor(int poolSize)
+    {
+        switch (this)
+        {
+            case FIXED:
+            {
+                return Executors.newFixedThreadPool(poolSize);
+            }
+            case WORK_STEALING:
+            {
+                return Executors.newWorkStealingPool(poolSize);
+            }
+            case VIRTUAL:
+            {
+                if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null)
+                {
+                    LOGGER.warn("Virtual threads are not available on this JVM, falling back to a work-stealing pool");
+                    return Executors.newWorkStealingPool(poolSize);
+                }
+                try
+                {
+                    return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+                }
+                catch (Exception e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+            default:
+            {
+                throw new UnsupportedOperationException("Unsupported executor type: " + this);
+            }
+        }
+    }
+
+    /**
+     * Runs a task that may block on I/O. On a fork join pool thread, the task is run as a
+     * {@link ForkJoinPool.ManagedBlocker} so that the pool keeps its parallelism while the task is blocked; elsewhere,
+     * including on virtual threads, it is simply called.
+     */
+    public static <T> T runBlocking(Callable<T> task) throws Exception
+    {
+        if (!(Thread.currentThread() instanceof ForkJoinWorkerThread))
+        {
+            return task.call();
+        }
+        BlockingTask<T> blockingTask = new BlockingTask<>(task);
+        ForkJoinPool.managedBlock(blockingTask);
+        if (blockingTask.failure != null)
+        {
+            throw blockingTask.failure;
+        }
+        return blockingTask.result;
+    }
+
+    private static final class BlockingTask<T> implements ForkJoinPool.ManagedBlocker
+    {
+        private final Callable<T> task;
+        private T result;
+        private Exception failure;
+        private boolean done;
+
+        private BlockingTask(Callable<T> task)
+        {
+            this.task = task;
+        }
+
+        @Override
+        public boolean block()
+        {
+            try
+            {
+                this.result = this.task.call();
+            }
+            catch (Exception e)
+            {
+                this.failure = e;
+            }
+            this.done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable()
+        {
+            return this.done;
+        }
+    }
+
+    private static Method findVirtualThreadPerTaskExecutorFactory()
+    {
+        // resolved reflectively as the engine is built for Java 8
+        try
+        {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        }
+        catch (NoSuchMethodException e)
+        {
+            return null;
+        }
+    }
+}
@@ -19,12 +19,10 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.opentracing.contrib.concurrent.TracedExecutorService;
 import io.opentracing.util.GlobalTracer;
 import org.finos.legend.engine.plan.execution.graphFetch.ParallelGraphFetchExecutionConfig;
-import org.finos.legend.engine.plan.execution.result.graphFetch.DelayedGraphFetchResult;
 
 import java.io.IOException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 
@@ -45,10 +43,12 @@ public final class ParallelGraphFetchExecutionExecutorPool implements AutoClosea
         this.parallelGraphFetchExecutionConfig = poolConfig;
 
         int poolSize = (int) poolConfig.parallelExecutionPoolSize;
-        this.delegatedExecutor = Executors.newFixedThreadPool(poolSize);
+        ConcurrentExecutorType executorType = poolConfig.getExecutorType();
+        this.delegatedExecutor = executorType.newExecutor(poolSize);
         this.executor = new TracedExecutorService(this.delegatedExecutor, GlobalTracer.get());
 
-        this.availableThreads = new Semaphore(poolSize);
+        // with virtual threads or work stealing, parallel graph fetch is bounded by outstanding I/O rather than by pool threads
+        this.availableThreads = new Semaphore(executorType.ioConcurrencyLimit(poolSize, poolConfig.ioConcurrencyLimit));
     }
 
     @Override
@@ -57,9 +57,9 @@ public final class ParallelGraphFetchExecutionExecutorPool implements AutoClosea
         this.executor.shutdown();
     }
 
-    public Future<DelayedGraphFetchResult> submit(Callable<DelayedGraphFetchResult> task)
+    public <T> Future<T> submit(Callable<T> task)
     {
-        return this.executor.submit(task);
+        return this.executor.submit(() -> ConcurrentExecutorType.runBlocking(task));
     }
 
     public void releaseThreads(int threadsToRelease)
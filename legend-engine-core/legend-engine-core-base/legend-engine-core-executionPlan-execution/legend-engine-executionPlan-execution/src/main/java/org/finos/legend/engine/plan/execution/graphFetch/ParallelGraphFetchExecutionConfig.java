@@ -15,8 +15,7 @@
 package org.finos.legend.engine.plan.execution.graphFetch;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-
-
+import org.finos.legend.engine.plan.execution.concurrent.ConcurrentExecutorType;
 
 public class ParallelGraphFetchExecutionConfig
 {
@@ -25,8 +24,28 @@ public class ParallelGraphFetchExecutionConfig
     @JsonProperty
     public final long parallelExecutionPoolSize;
 
+    /**
+     * Executor backing the pool, defaults to the value of {@link ConcurrentExecutorType#EXECUTOR_TYPE_PROPERTY}
+     */
+    @JsonProperty
+    public final ConcurrentExecutorType executorType;
+
+    /**
+     * Number of graph fetch tasks allowed to run at once when the executor is not a fixed pool, 0 to use the value of
+     * {@link ConcurrentExecutorType#IO_CONCURRENCY_LIMIT_PROPERTY}
+     */
+    @JsonProperty
+    public final long ioConcurrencyLimit;
+
     public ParallelGraphFetchExecutionConfig()
     {
         this.parallelExecutionPoolSize = DEFAULT_PARALLEL_EXECUTION_POOL_SIZE;
+        this.executorType = null;
+        this.ioConcurrencyLimit = 0;
+    }
+
+    public ConcurrentExecutorType getExecutorType()
+    {
+        return this.executorType == null ? ConcurrentExecutorType.fromSystemProperty() : this.executorType;
     }
 }
@@ -45,6 +45,7 @@ import org.finos.legend.engine.plan.execution.nodes.state.GraphExecutionState;
 import org.finos.legend.engine.plan.execution.planHelper.PrimitiveValueSpecificationToObjectVisitor;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.ErrorResult;
+import org.finos.legend.engine.plan.execution.result.ExecutionProfileActivity;
 import org.finos.legend.engine.plan.execution.result.MultiResult;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultVisitor;
@@ -116,6 +117,20 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
         this.identity = identity;
     }
 
+    /**
+     * Executes the node with a new executor, recording it in the execution profile when profiling is enabled
+     */
+    public static Result executeNode(ExecutionNode executionNode, Identity identity, ExecutionState executionState)
+    {
+        return executeNode(executionNode, new ExecutionNodeExecutor(identity, executionState), executionState);
+    }
+
+    public static Result executeNode(ExecutionNode executionNode, ExecutionNodeVisitor<Result> executionNodeExecutor, ExecutionState executionState)
+    {
+        ExecutionProfileActivity executionProfile = executionState.getExecutionProfile();
+        return (executionProfile == null) ? executionNode.accept(executionNodeExecutor) : executionProfile.profile(executionNode, () -> executionNode.accept(executionNodeExecutor));
+    }
+
     @Override
     public Result visit(ExecutionNode executionNode)
     {
@@ -128,7 +143,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
             }
             else
             {
-                streamingObjectResults = ListIterate.collect(executionNode.executionNodes, node -> (StreamingObjectResult<?>) node.accept(new ExecutionNodeExecutor(this.identity, this.executionState)));
+                streamingObjectResults = ListIterate.collect(executionNode.executionNodes, node -> (StreamingObjectResult<?>) executeNode(node, this.identity, this.executionState));
             }
 
             Result childResult = new Result("success")
@@ -150,7 +165,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
         }
         else if (executionNode instanceof PlatformMergeExecutionNode)
         {
-            return executionNode.executionNodes.get(0).accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            return executeNode(executionNode.executionNodes.get(0), this.identity, this.executionState);
         }
         else if (executionNode instanceof VariableResolutionExecutionNode)
         {
@@ -184,7 +199,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
     @Override
     public Result visit(ErrorExecutionNode errorExecutionNode)
     {
-        Result payload = (errorExecutionNode.executionNodes() == null || errorExecutionNode.executionNodes().isEmpty()) ? null : errorExecutionNode.executionNodes().getFirst().accept(new ExecutionNodeExecutor(this.identity, this.executionState)).realizeInMemory();
+        Result payload = (errorExecutionNode.executionNodes() == null || errorExecutionNode.executionNodes().isEmpty()) ? null : executeNode(errorExecutionNode.executionNodes().getFirst(), this.identity, this.executionState).realizeInMemory();
         return new ErrorResult(1, errorExecutionNode.message, payload);
     }
 
@@ -195,7 +210,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
         Result last = null;
         for (ExecutionNode n : multiResultSequenceExecutionNode.executionNodes())
         {
-            last = n.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            last = executeNode(n, this.identity, this.executionState);
             if (n instanceof AllocationExecutionNode)
             {
                 subResults.put(((AllocationExecutionNode) n).varName, last);
@@ -223,7 +238,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
     public Result visit(AllocationExecutionNode allocationExecutionNode)
     {
         String varName = allocationExecutionNode.varName;
-        Result result = allocationExecutionNode.executionNodes().getFirst().accept(new ExecutionNodeExecutor(this.identity, new ExecutionState(this.executionState).varName(varName).setRealizeInMemory(allocationExecutionNode.realizeInMemory)));
+        Result result = executeNode(allocationExecutionNode.executionNodes().getFirst(), this.identity, new ExecutionState(this.executionState).varName(varName).setRealizeInMemory(allocationExecutionNode.realizeInMemory));
 
         if (this.executionState.realizeAllocationResults)
         {
@@ -249,7 +264,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
             try
             {
                 org.finos.legend.engine.plan.dependencies.store.platform.IPlatformPureExpressionExecutionNodeSerializeSpecifics nodeSpecifics = (org.finos.legend.engine.plan.dependencies.store.platform.IPlatformPureExpressionExecutionNodeSerializeSpecifics) clazz.newInstance();
-                Result childResult = pureExpressionPlatformExecutionNode.executionNodes().getFirst().accept(new ExecutionNodeExecutor(identity, executionState));
+                Result childResult = executeNode(pureExpressionPlatformExecutionNode.executionNodes().getFirst(), identity, executionState);
                 IExecutionNodeContext context = new DefaultExecutionNodeContext(this.executionState, childResult);
 
                 AppliedFunction f = (AppliedFunction) pureExpressionPlatformExecutionNode.pure;
@@ -264,7 +279,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
         }
         if (Arrays.asList(clazz.getInterfaces()).contains(IPlatformPureExpressionExecutionNodeGraphFetchUnionSpecifics.class))
         {
-            List<StreamingObjectResult<?>> streamingObjectResults = ListIterate.collect(pureExpressionPlatformExecutionNode.executionNodes, node -> (StreamingObjectResult) node.accept(new ExecutionNodeExecutor(this.identity, this.executionState)));
+            List<StreamingObjectResult<?>> streamingObjectResults = ListIterate.collect(pureExpressionPlatformExecutionNode.executionNodes, node -> (StreamingObjectResult) executeNode(node, this.identity, this.executionState));
 
             Result childResult = new Result("success")
             {
@@ -286,7 +301,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
 
         if (Arrays.asList(clazz.getInterfaces()).contains(IPlatformPureExpressionExecutionNodeGraphFetchMergeSpecifics.class))
         {
-            StreamingObjectResult<?> streamResult = (StreamingObjectResult) pureExpressionPlatformExecutionNode.executionNodes.get(0).accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            StreamingObjectResult<?> streamResult = (StreamingObjectResult) executeNode(pureExpressionPlatformExecutionNode.executionNodes.get(0), this.identity, this.executionState);
 
             return streamResult;
         }
@@ -319,11 +334,11 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
 
         if (isConditionSatisfied)
         {
-            return freeMarkerConditionalExecutionNode.trueBlock.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            return executeNode(freeMarkerConditionalExecutionNode.trueBlock, this.identity, this.executionState);
         }
         else if (freeMarkerConditionalExecutionNode.falseBlock != null)
         {
-            return freeMarkerConditionalExecutionNode.falseBlock.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            return executeNode(freeMarkerConditionalExecutionNode.falseBlock, this.identity, this.executionState);
         }
         else
         {
@@ -347,7 +362,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
             Result rootResult;
             try (Scope ignored2 = GlobalTracer.get().buildSpan("Graph Query: Execute Root").startActive(true))
             {
-                rootResult = graphFetchExecutionNode.rootExecutionNode.accept(new ExecutionNodeExecutor(identity, executionState));
+                rootResult = executeNode(graphFetchExecutionNode.rootExecutionNode, identity, executionState);
             }
 
             if (graphFetchExecutionNode.implementation != null)
@@ -400,7 +415,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
                                     try (Scope scope = GlobalTracer.get().buildSpan("Graph Query: Execute Batch " + currentBatch).startActive(true))
                                     {
                                         GraphExecutionState graphExecutionState = new GraphExecutionState(executionState, batchSize, rootResult, maxMemoryBytesForGraph);
-                                        ConstantResult constantResult = (ConstantResult) rootLocalNode.accept(new ExecutionNodeExecutor(ExecutionNodeExecutor.this.identity, graphExecutionState));
+                                        ConstantResult constantResult = (ConstantResult) executeNode(rootLocalNode, ExecutionNodeExecutor.this.identity, graphExecutionState);
                                         List<?> objects = (List<?>) constantResult.getValue();
                                         boolean nonEmptyObjectList = !objects.isEmpty();
 
@@ -457,7 +472,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
     {
         List<?> parentObjects = graphExecutionState.getObjectsForNodeIndex(globalGraphFetchExecutionNode.parentIndex);
         graphExecutionState.setObjectsToGraphFetch(parentObjects);
-        globalGraphFetchExecutionNode.localGraphFetchExecutionNode.accept(new ExecutionNodeExecutor(identity, graphExecutionState));
+        executeNode(globalGraphFetchExecutionNode.localGraphFetchExecutionNode, identity, graphExecutionState);
 
         if (globalGraphFetchExecutionNode.children != null && (globalGraphFetchExecutionNode.children.size() > 0) && !parentObjects.isEmpty())
         {
@@ -489,7 +504,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
             final AtomicLong rowCount = new AtomicLong(0L);
             final AtomicLong objectCount = new AtomicLong(0L);
             final DoubleSummaryStatistics memoryStatistics = new DoubleSummaryStatistics();
-            GraphFetchResult graphFetchResult = (GraphFetchResult) globalGraphFetchExecutionNode.localGraphFetchExecutionNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            GraphFetchResult graphFetchResult = (GraphFetchResult) executeNode(globalGraphFetchExecutionNode.localGraphFetchExecutionNode, this.identity, this.executionState);
 
             Stream<?> objectStream = graphFetchResult.getGraphObjectsBatchStream().map(batch ->
             {
@@ -565,7 +580,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
                 {
                     graphObjectsBatch.setXStorePropertyCachesForNodeIndex(globalGraphFetchExecutionNode.localGraphFetchExecutionNode.nodeIndex, findGraphFetchCacheByTargetCrossKeys(globalGraphFetchExecutionNode));
                 }
-                globalGraphFetchExecutionNode.localGraphFetchExecutionNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                executeNode(globalGraphFetchExecutionNode.localGraphFetchExecutionNode, this.identity, this.executionState);
 
                 this.executeGlobalGraphChildren(globalGraphFetchExecutionNode, this.executionState);
             }
@@ -614,7 +629,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
             Result temp =  this.executionState.extraSequenceNodeExecutors.stream().map(executor -> executor.value(node, this.identity, this.executionState)).filter(Objects::nonNull).findFirst().orElse(null);
             if (temp == null)
             {
-                last = node.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                last = executeNode(node, this.identity, this.executionState);
             }
         }
         return last;
@@ -652,7 +667,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
 
         if (parentObjects != null && !parentObjects.isEmpty())
         {
-            node.localGraphFetchExecutionNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            executeNode(node.localGraphFetchExecutionNode, this.identity, this.executionState);
             this.executeGlobalGraphChildren(node, this.executionState);
         }
 
@@ -700,7 +715,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
                 {
                     if (nextChild.dependencyIndices == null || processedIndices.containsAll(nextChild.dependencyIndices))
                     {
-                        nextChild.accept(new ExecutionNodeExecutor(this.identity, state));
+                        executeNode(nextChild, this.identity, state);
                         this.updateProcessedIndicesRecursively(nextChild, processedIndices);
                         childrenToProcess.remove(nextChild);
                         anyChildProcessed = true;
@@ -29,7 +29,6 @@ import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
 import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.result.freemarker.PlanDateParameterDateFormatFactory;
 
-import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
@@ -42,10 +41,17 @@ public class FreeMarkerExecutor
     public static Pattern pattern = Pattern.compile("(\\$)[\\{](?:[^\\{\\}]+|[\\{][^\\{\\}]*[\\}])*[\\}]");
     private static ObjectWrapper objectWrapper = FreeMarkerExecutor.freemarkerConfig.getObjectWrapper();
     public static String overridePropertyForTemplateModel = "overrideTemplateModel";
+    private static final FreeMarkerTemplateCache templateCache;
 
     static
     {
         freemarkerConfig.setNumberFormat("computer");
+        templateCache = new FreeMarkerTemplateCache(freemarkerConfig, customDateFormats);
+    }
+
+    public static FreeMarkerTemplateCache getTemplateCache()
+    {
+        return templateCache;
     }
 
     public static String process(String input, ExecutionState executionState)
@@ -84,7 +90,7 @@ public class FreeMarkerExecutor
         String templateFunctions = String.join("", executionState.getTemplateFunctions());
         variableMap.put("instanceOf", new FreemarkerInstanceOfMethod());
 
-        return StringUtils.isBlank(templateFunctions) ? process(input, variableMap, templateFunctions) : processRecursively(input, variableMap, templateFunctions);
+        return StringUtils.isBlank(templateFunctions) ? process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions, true) : processRecursively(input, variableMap, templateFunctions);
     }
     
     private static boolean isPlaceHolder(Object object)
@@ -126,7 +132,7 @@ public class FreeMarkerExecutor
 
     public static String processRecursively(String input, Map<String, ?> variableMap, String templateFunctions)
     {
-        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions);   
+        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions, true);
     }
 
     private static String recur(String input, Map<String,?> variableMap, String templateFunctions)
@@ -141,17 +147,16 @@ public class FreeMarkerExecutor
 
     private static String process(String input, Map<String, ?> variableMap, String templateFunctions)
     {
-        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions);
+        // nested placeholders come from parameter values, their templates are not worth caching
+        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions, false);
     }
 
-    private static String process(String input, TemplateHashModelOverride variableMap, String templateFunctions)
+    private static String process(String input, TemplateHashModelOverride variableMap, String templateFunctions, boolean cacheable)
     {
         StringWriter stringWriter = new StringWriter();
         try
         {
-            Template template = new Template("template", new StringReader(templateFunctions + input.replace("\\\"", "\"")), freemarkerConfig);
-            template.setCustomDateFormats(customDateFormats);
-            template.setDateFormat("@alloyDate");
+            Template template = templateCache.getTemplate(input, templateFunctions, cacheable);
             template.process(variableMap, stringWriter);
             return stringWriter.toString();
         }
@@ -0,0 +1,215 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import freemarker.cache.TemplateLoader;
+import freemarker.core.TemplateDateFormatFactory;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsed FreeMarker templates, keyed by the template text and the template functions of the plan.
+ * <p>
+ * The SQL and template functions of an execution node never change between executions, so a node is parsed once.
+ * Template functions are not pasted in front of each template but included from a template of their own, which the
+ * FreeMarker configuration parses once per distinct set of functions, including for the templates rendered from
+ * parameter values that are not cached here. Those included templates are named after the hash of their content, so
+ * that they are bounded like the parsed templates and can be registered again under the same name once evicted.
+ */
+public class FreeMarkerTemplateCache
+{
+    /**
+     * Maximum number of parsed templates kept, 0 disables the cache
+     */
+    public static final String CACHE_SIZE_PROPERTY = "legend.engine.plan.freemarkerTemplateCacheSize";
+    private static final int DEFAULT_CACHE_SIZE = 500;
+    private static final String TEMPLATE_FUNCTIONS_NAME_PREFIX = "legendTemplateFunctions_";
+
+    private final Configuration configuration;
+    private final Map<String, TemplateDateFormatFactory> customDateFormats;
+    private final Cache<TemplateKey, Template> templates;
+    private final Cache<String, String> templateFunctionsNames;
+    private final Cache<String, String> templateFunctionsByName;
+
+    FreeMarkerTemplateCache(Configuration configuration, Map<String, TemplateDateFormatFactory> customDateFormats)
+    {
+        this(configuration, customDateFormats, Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE));
+    }
+
+    FreeMarkerTemplateCache(Configuration configuration, Map<String, TemplateDateFormatFactory> customDateFormats, int size)
+    {
+        if (size < 0)
+        {
+            throw new IllegalArgumentException("FreeMarker template cache size must not be negative, got: " + size);
+        }
+        this.configuration = configuration;
+        this.customDateFormats = customDateFormats;
+        this.templates = CacheBuilder.newBuilder().recordStats().maximumSize(size).expireAfterAccess(30, TimeUnit.MINUTES).build();
+        // template functions are needed to render templates even when these are not cached
+        this.templateFunctionsNames = CacheBuilder.newBuilder().maximumSize(Math.max(size, DEFAULT_CACHE_SIZE)).expireAfterAccess(30, TimeUnit.MINUTES).build();
+        this.templateFunctionsByName = CacheBuilder.newBuilder().maximumSize(Math.max(size, DEFAULT_CACHE_SIZE)).expireAfterAccess(30, TimeUnit.MINUTES).build();
+        this.configuration.setTemplateLoader(new TemplateFunctionsLoader());
+        this.configuration.setLocalizedLookup(false);
+    }
+
+    /**
+     * Returns the parsed template, from the cache when cacheable. Templates built from runtime values should not be
+     * cached as they are unlikely to be rendered again.
+     */
+    Template getTemplate(String input, String templateFunctions, boolean cacheable) throws IOException
+    {
+        if (!cacheable)
+        {
+            return newTemplate(input, templateFunctions);
+        }
+        TemplateKey key = new TemplateKey(input, templateFunctions);
+        Template template = this.templates.getIfPresent(key);
+        if (template == null)
+        {
+            template = newTemplate(input, templateFunctions);
+            this.templates.put(key, template);
+        }
+        else if (templateFunctions != null && !templateFunctions.isEmpty())
+        {
+            // the included template functions are only loaded when rendering, make sure they have not been evicted
+            getTemplateFunctionsName(templateFunctions);
+        }
+        return template;
+    }
+
+    public void invalidateAll()
+    {
+        this.templates.invalidateAll();
+    }
+
+    public long size()
+    {
+        return this.templates.size();
+    }
+
+    public CacheStats stats()
+    {
+        return this.templates.stats();
+    }
+
+    long templateFunctionsSize()
+    {
+        return this.templateFunctionsByName.size();
+    }
+
+    private Template newTemplate(String input, String templateFunctions) throws IOException
+    {
+        String source = input.replace("\\\"", "\"");
+        if (templateFunctions != null && !templateFunctions.isEmpty())
+        {
+            source = "<#include \"" + getTemplateFunctionsName(templateFunctions) + "\">" + source;
+        }
+        Template template = new Template("template", new StringReader(source), this.configuration);
+        template.setCustomDateFormats(this.customDateFormats);
+        template.setDateFormat("@alloyDate");
+        return template;
+    }
+
+    private String getTemplateFunctionsName(String templateFunctions)
+    {
+        String name;
+        try
+        {
+            name = this.templateFunctionsNames.get(templateFunctions, () -> TEMPLATE_FUNCTIONS_NAME_PREFIX + Hashing.sha256().hashString(templateFunctions, StandardCharsets.UTF_8));
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+        if (this.templateFunctionsByName.getIfPresent(name) == null)
+        {
+            this.templateFunctionsByName.put(name, templateFunctions);
+        }
+        return name;
+    }
+
+    private class TemplateFunctionsLoader implements TemplateLoader
+    {
+        @Override
+        public Object findTemplateSource(String name)
+        {
+            return templateFunctionsByName.getIfPresent(name);
+        }
+
+        @Override
+        public long getLastModified(Object templateSource)
+        {
+            // template functions are named after their content, hence never change
+            return 0;
+        }
+
+        @Override
+        public Reader getReader(Object templateSource, String encoding)
+        {
+            return new StringReader((String) templateSource);
+        }
+
+        @Override
+        public void closeTemplateSource(Object templateSource)
+        {
+        }
+    }
+
+    private static class TemplateKey
+    {
+        private final String input;
+        private final String templateFunctions;
+
+        private TemplateKey(String input, String templateFunctions)
+        {
+            this.input = input;
+            this.templateFunctions = templateFunctions;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof TemplateKey))
+            {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) other;
+            return this.input.equals(that.input) && Objects.equals(this.templateFunctions, that.templateFunctions);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * this.input.hashCode() + Objects.hashCode(this.templateFunctions);
+        }
+    }
+}
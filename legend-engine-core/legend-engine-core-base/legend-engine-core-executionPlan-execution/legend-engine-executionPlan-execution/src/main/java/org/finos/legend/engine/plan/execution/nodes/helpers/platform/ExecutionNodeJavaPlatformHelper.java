@@ -51,7 +51,7 @@ public class ExecutionNodeJavaPlatformHelper
 
     public static Result executeJavaImplementation(ExecutionNode node, ExecutionNodeContextFactory contextFactory, Identity identity, ExecutionState executionState)
     {
-        Result childResult = node.executionNodes().isEmpty() ? null : node.executionNodes().getFirst().accept(new ExecutionNodeExecutor(identity, executionState));
+        Result childResult = node.executionNodes().isEmpty() ? null : ExecutionNodeExecutor.executeNode(node.executionNodes().getFirst(), identity, executionState);
         ExecutionNodeContext context = contextFactory.create(executionState, childResult);
         Subject subject = identity.getSubjectFromIdentity();
         return subject == null
@@ -0,0 +1,332 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.platform;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaClass;
+import org.finos.legend.engine.shared.core.deployment.DeploymentStateAndVersions;
+import org.finos.legend.engine.shared.core.deployment.DeploymentVersionInfo;
+import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content addressed cache of the classes compiled for execution plans.
+ * <p>
+ * Entries are keyed by a hash of the name and source (or supplied bytecode) of every class of a plan, so identical
+ * plans share one compiled class loader whatever the plan instance they come from. An optional directory keeps the
+ * bytecode across restarts; a class loader is rebuilt from it without running the Java compiler. Persisted bytecode is
+ * kept in a sub directory per engine version, class path and JDK, so it is never reused by a different deployment.
+ * <p>
+ * Both tiers are off unless configured. Plans served from the cache share their class loader, and so the static state
+ * of their generated classes, with every other execution of an identical plan: only enable it when generated classes
+ * keep no state across executions.
+ */
+public class JavaCompilationCache
+{
+    /**
+     * Maximum number of compiled plans kept in memory, 0 (the default) disables the in memory tier
+     */
+    public static final String CACHE_SIZE_PROPERTY = "legend.engine.plan.javaCompilationCacheSize";
+    /**
+     * Directory where compiled bytecode is persisted, the disk tier is disabled when not set
+     */
+    public static final String CACHE_DIRECTORY_PROPERTY = "legend.engine.plan.javaCompilationCacheDirectory";
+    private static final int DEFAULT_CACHE_SIZE = 0;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JavaCompilationCache.class);
+    private static final String FILE_EXTENSION = ".classes";
+    private static final String SUPPORT_CLASS = "S";
+    private static final String EXECUTE_CLASS = "E";
+
+    private final Cache<String, CompiledClasses> memoryCache;
+    private final Path directory;
+
+    public JavaCompilationCache(int size, Path directory)
+    {
+        this(size, directory, EnvironmentHolder.ENVIRONMENT);
+    }
+
+    JavaCompilationCache(int size, Path directory, String environment)
+    {
+        if (size < 0)
+        {
+            throw new IllegalArgumentException("Java compilation cache size must not be negative, got: " + size);
+        }
+        this.memoryCache = CacheBuilder.newBuilder().recordStats().maximumSize(size).expireAfterAccess(30, TimeUnit.MINUTES).build();
+        this.directory = (directory == null) ? null : directory.resolve(environment);
+    }
+
+    static JavaCompilationCache fromSystemProperties()
+    {
+        String directory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+        return new JavaCompilationCache(Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE), (directory == null || directory.isEmpty()) ? null : Paths.get(directory));
+    }
+
+    public static String computeKey(Iterable<JavaClass> executeClasses, Iterable<JavaClass> supportClasses)
+    {
+        // sorted so that the key does not depend on the traversal order of the plan
+        SortedMap<String, String> contents = new TreeMap<>();
+        executeClasses.forEach(c -> contents.put(JavaHelper.getJavaClassFullName(c), EXECUTE_CLASS + getContent(c)));
+        supportClasses.forEach(c ->
+        {
+            // inner classes added to the plan by a previous compilation are derived from their top class
+            if (!JavaHelper.isGeneratedJavaClass(c))
+            {
+                contents.put(JavaHelper.getJavaClassFullName(c), SUPPORT_CLASS + getContent(c));
+            }
+        });
+
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            contents.forEach((name, content) ->
+            {
+                update(digest, name);
+                update(digest, content);
+            });
+            return toHex(digest.digest());
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Identifies what the persisted bytecode was compiled with and against: the engine version, the JDK running the
+     * compiler and the content of the class path, approximated by the size and modification time of its entries.
+     */
+    static String computeEnvironment()
+    {
+        try
+        {
+            DeploymentVersionInfo version = DeploymentStateAndVersions.sdlc;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, (version == null) ? "unknown" : version.buildVersion + "@" + version.commitId);
+            update(digest, System.getProperty("java.vendor") + " " + System.getProperty("java.version") + " " + System.getProperty("java.vm.version"));
+            String classPath = System.getProperty("java.class.path", "");
+            for (String entry : classPath.split(File.pathSeparator))
+            {
+                File file = new File(entry);
+                update(digest, entry + " " + file.length() + " " + file.lastModified());
+            }
+            return toHex(digest.digest()).substring(0, 16);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value)
+    {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes)
+    {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes)
+        {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Looks the classes up in memory, then on disk. A class loader is built with the given factory when the bytecode is
+     * found on disk only.
+     */
+    public CompiledClasses get(String key, Function0<EngineJavaCompiler> compilerFactory)
+    {
+        CompiledClasses compiledClasses = this.memoryCache.getIfPresent(key);
+        if (compiledClasses == null && this.directory != null)
+        {
+            compiledClasses = readFromDisk(key, compilerFactory);
+            if (compiledClasses != null)
+            {
+                this.memoryCache.put(key, compiledClasses);
+            }
+        }
+        return compiledClasses;
+    }
+
+    public void put(String key, EngineJavaCompiler compiler, Map<String, String> supportByteCode, Map<String, String> executeByteCode)
+    {
+        CompiledClasses compiledClasses = new CompiledClasses(compiler, supportByteCode, executeByteCode);
+        this.memoryCache.put(key, compiledClasses);
+        if (this.directory != null)
+        {
+            writeToDisk(key, compiledClasses);
+        }
+    }
+
+    public void invalidateAll()
+    {
+        this.memoryCache.invalidateAll();
+    }
+
+    public long size()
+    {
+        return this.memoryCache.size();
+    }
+
+    public CacheStats stats()
+    {
+        return this.memoryCache.stats();
+    }
+
+    private CompiledClasses readFromDisk(String key, Function0<EngineJavaCompiler> compilerFactory)
+    {
+        Path file = this.directory.resolve(key + FILE_EXTENSION);
+        if (!Files.exists(file))
+        {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8))
+        {
+            MutableMap<String, String> supportByteCode = Maps.mutable.empty();
+            MutableMap<String, String> executeByteCode = Maps.mutable.empty();
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                // <kind> <class name> <base64 bytecode>, none of which can contain a space
+                String[] parts = line.split(" ", 3);
+                if (parts.length != 3)
+                {
+                    throw new IOException("Malformed line in " + file);
+                }
+                (EXECUTE_CLASS.equals(parts[0]) ? executeByteCode : supportByteCode).put(parts[1], parts[2]);
+            }
+            EngineJavaCompiler compiler = compilerFactory.value();
+            compiler.load(supportByteCode);
+            return new CompiledClasses(compiler, supportByteCode, executeByteCode);
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Ignoring unreadable compiled classes {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, CompiledClasses compiledClasses)
+    {
+        try
+        {
+            Files.createDirectories(this.directory);
+            Path tempFile = Files.createTempFile(this.directory, key, ".tmp");
+            try
+            {
+                try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8))
+                {
+                    writeByteCode(writer, SUPPORT_CLASS, compiledClasses.supportByteCode);
+                    writeByteCode(writer, EXECUTE_CLASS, compiledClasses.executeByteCode);
+                }
+                // readers never see a partially written file
+                Files.move(tempFile, this.directory.resolve(key + FILE_EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            finally
+            {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Unable to persist compiled classes {} in {}", key, this.directory, e);
+        }
+    }
+
+    private static void writeByteCode(BufferedWriter writer, String kind, Map<String, String> byteCode) throws IOException
+    {
+        for (Map.Entry<String, String> entry : byteCode.entrySet())
+        {
+            writer.write(kind);
+            writer.write(' ');
+            writer.write(entry.getKey());
+            writer.write(' ');
+            writer.write(entry.getValue());
+            writer.newLine();
+        }
+    }
+
+    private static String getContent(JavaClass javaClass)
+    {
+        return javaClass.source != null ? javaClass.source : String.valueOf(javaClass.byteCode);
+    }
+
+    private static class EnvironmentHolder
+    {
+        private static final String ENVIRONMENT = computeEnvironment();
+    }
+
+    public static class CompiledClasses
+    {
+        private final EngineJavaCompiler compiler;
+        private final Map<String, String> supportByteCode;
+        private final Map<String, String> executeByteCode;
+
+        private CompiledClasses(EngineJavaCompiler compiler, Map<String, String> supportByteCode, Map<String, String> executeByteCode)
+        {
+            this.compiler = compiler;
+            this.supportByteCode = Collections.unmodifiableMap(supportByteCode);
+            this.executeByteCode = Collections.unmodifiableMap(executeByteCode);
+        }
+
+        public EngineJavaCompiler getCompiler()
+        {
+            return this.compiler;
+        }
+
+        /**
+         * Bytecode of the classes loaded by {@link #getCompiler()}, inner classes included
+         */
+        public Map<String, String> getSupportByteCode()
+        {
+            return this.supportByteCode;
+        }
+
+        /**
+         * Bytecode of the execution classes, which are compiled on their own against the support classes
+         */
+        public Map<String, String> getExecuteByteCode()
+        {
+            return this.executeByteCode;
+        }
+    }
+}
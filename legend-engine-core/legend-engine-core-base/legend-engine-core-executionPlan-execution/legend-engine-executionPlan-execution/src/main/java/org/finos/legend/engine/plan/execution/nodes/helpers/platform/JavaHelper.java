@@ -30,6 +30,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaPl
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.finos.legend.engine.shared.javaCompiler.ClassPathFilters;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
 import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
@@ -42,11 +43,27 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class JavaHelper
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(JavaHelper.class);
     private static final String DEFAULT_EXECUTION_METHOD_NAME = "execute";
+    private static final String GENERATED_SOURCE = "<<GENERATED>>";
+    private static final JavaCompilationCache COMPILATION_CACHE = JavaCompilationCache.fromSystemProperties();
+    /**
+     * Number of threads compiling the execution classes of a plan, shared by all plans. Defaults to 1, which compiles
+     * them on the calling thread. Support classes refer to one another and are always compiled in a single pass before
+     * the execution classes, so only plans with many execution nodes benefit from it.
+     */
+    public static final String COMPILATION_PARALLELISM_PROPERTY = "legend.engine.plan.javaCompilationParallelism";
+    private static final int COMPILATION_PARALLELISM = Math.max(1, Integer.getInteger(COMPILATION_PARALLELISM_PROPERTY, 1));
+    private static volatile ExecutorService compilationExecutor;
 
     private JavaHelper()
     {
@@ -54,15 +71,34 @@ public class JavaHelper
 
     public static EngineJavaCompiler compilePlan(SingleExecutionPlan singleExecutionPlan, Identity identity) throws JavaCompileException
     {
+        PlanJavaClasses planJavaClasses;
+        try
+        {
+            planJavaClasses = collectPlanJavaClasses(singleExecutionPlan);
+            // nothing is compiled on a cache hit, hence nothing is logged nor measured as a compilation
+            EngineJavaCompiler cachedCompiler = (planJavaClasses == null) ? null : getCachedCompiler(planJavaClasses);
+            if (cachedCompiler != null)
+            {
+                return cachedCompiler;
+            }
+        }
+        catch (Exception e)
+        {
+            // left to the slow compilation below
+            LOGGER.warn("Unable to look the compiled plan classes up in the Java compilation cache", e);
+            planJavaClasses = null;
+        }
+
         try
         {
             long start = System.currentTimeMillis();
+            long startNanos = System.nanoTime();
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.JAVA_COMPILATION_START, "Compile Plan").toString());
 
             EngineJavaCompiler compiler;
             try
             {
-                compiler = compilePlanFast(singleExecutionPlan);
+                compiler = compilePlanFast((planJavaClasses == null) ? collectPlanJavaClasses(singleExecutionPlan) : planJavaClasses);
             }
             catch (Exception ignored)
             {
@@ -70,6 +106,7 @@ public class JavaHelper
                 compiler = compilePlanSlow(singleExecutionPlan);
             }
 
+            MetricsHandler.observeExecutionNodeDuration(SingleExecutionPlan.class.getSimpleName(), MetricsHandler.ExecutionNodePhase.JAVA_COMPILATION, System.nanoTime() - startNanos);
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.JAVA_COMPILATION_STOP, (double) System.currentTimeMillis() - start).toString());
 
             return compiler;
@@ -91,7 +128,7 @@ public class JavaHelper
         return new EngineJavaCompiler(JavaVersion.JAVA_8, ClassPathFilters.any(ListIterate.collect(ExecutionPlanJavaCompilerExtensionLoader.extensions(), ExecutionPlanJavaCompilerExtension::getExtraClassPathFilter, Lists.mutable.of(new ExecutionPlanDependenciesFilter()))));
     }
 
-    private static EngineJavaCompiler compilePlanFast(SingleExecutionPlan singleExecutionPlan) throws JavaCompileException, IOException, CompileException
+    private static PlanJavaClasses collectPlanJavaClasses(SingleExecutionPlan singleExecutionPlan)
     {
         MutableMap<JavaPlatformImplementation, MutableList<JavaClass>> javaClassesMap = Maps.mutable.empty();
         if (singleExecutionPlan.globalImplementationSupport != null)
@@ -109,19 +146,141 @@ public class JavaHelper
             return null;
         }
 
-        EngineJavaCompiler javaCompiler = createNewJavaCompiler();
-        MutableMap<JavaClass, JavaPlatformImplementation> reverseClassMap = Maps.mutable.empty();
-        MutableList<JavaClass> executeClasses = Lists.mutable.empty();
-        MutableList<JavaClass> nonExecuteClasses = Lists.mutable.empty();
+        PlanJavaClasses planJavaClasses = new PlanJavaClasses();
         javaClassesMap.forEachKeyValue((jimpl, jclasses) -> jclasses.forEach(jclass ->
         {
-            reverseClassMap.put(jclass, jimpl);
-            (javaClassHasFullName(jclass, jimpl.executionClassFullName) ? executeClasses : nonExecuteClasses).add(jclass);
+            planJavaClasses.reverseClassMap.put(jclass, jimpl);
+            (javaClassHasFullName(jclass, jimpl.executionClassFullName) ? planJavaClasses.executeClasses : planJavaClasses.nonExecuteClasses).add(jclass);
         }));
+        planJavaClasses.classMap = planJavaClasses.nonExecuteClasses.groupByUniqueKey(JavaHelper::getJavaClassFullName);
+        planJavaClasses.cacheKey = JavaCompilationCache.computeKey(planJavaClasses.executeClasses, planJavaClasses.nonExecuteClasses);
+        return planJavaClasses;
+    }
+
+    private static EngineJavaCompiler getCachedCompiler(PlanJavaClasses planJavaClasses)
+    {
+        JavaCompilationCache.CompiledClasses cachedClasses = COMPILATION_CACHE.get(planJavaClasses.cacheKey, JavaHelper::createNewJavaCompiler);
+        if (cachedClasses == null)
+        {
+            return null;
+        }
+        // the plan still needs the bytecode, nodes load their classes from it
+        assignByteCode(cachedClasses.getSupportByteCode(), planJavaClasses.classMap, planJavaClasses.reverseClassMap);
+        planJavaClasses.executeClasses.forEach(executeClass -> executeClass.byteCode = cachedClasses.getExecuteByteCode().get(getJavaClassFullName(executeClass)));
+        return cachedClasses.getCompiler();
+    }
+
+    private static EngineJavaCompiler compilePlanFast(PlanJavaClasses planJavaClasses) throws JavaCompileException, IOException, CompileException
+    {
+        if (planJavaClasses == null)
+        {
+            return null;
+        }
+        EngineJavaCompiler javaCompiler = createNewJavaCompiler();
+        MutableMap<String, String> classToBytecodeMap = compileJavaClasses(planJavaClasses.nonExecuteClasses, javaCompiler);
+        assignByteCode(classToBytecodeMap, planJavaClasses.classMap, planJavaClasses.reverseClassMap);
+
+        MutableList<JavaClass> executeClasses = planJavaClasses.executeClasses;
+        compileExecuteClasses(executeClasses.reject(executeClass -> executeClass.byteCode != null), javaCompiler.getClassLoader(), COMPILATION_PARALLELISM);
+
+        COMPILATION_CACHE.put(planJavaClasses.cacheKey, javaCompiler, classToBytecodeMap, executeClasses.toMap(JavaHelper::getJavaClassFullName, executeClass -> executeClass.byteCode));
+        return javaCompiler;
+    }
+
+    /**
+     * Execute classes only depend on the support classes, not on one another, so they are split in groups compiled
+     * concurrently. Each group shares the index of the classes it resolves from the support class loader.
+     */
+    static void compileExecuteClasses(MutableList<JavaClass> executeClasses, ClassLoader globalClassLoader, int parallelism) throws IOException, CompileException
+    {
+        int groupCount = Math.min(parallelism, executeClasses.size());
+        if (groupCount <= 1)
+        {
+            compileExecuteClassGroup(executeClasses, globalClassLoader);
+            return;
+        }
+
+        MutableList<MutableList<JavaClass>> groups = Lists.mutable.empty();
+        for (int i = 0; i < groupCount; i++)
+        {
+            groups.add(Lists.mutable.empty());
+        }
+        executeClasses.forEachWithIndex((executeClass, i) -> groups.get(i % groupCount).add(executeClass));
+
+        MutableList<Future<Void>> futures = groups.collect(group -> getCompilationExecutor().submit((Callable<Void>) () ->
+        {
+            compileExecuteClassGroup(group, globalClassLoader);
+            return null;
+        }));
+        // Wait for every group, and report the failure of the first one so errors do not depend on scheduling
+        Exception failure = null;
+        for (Future<Void> future : futures)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (ExecutionException e)
+            {
+                if (failure == null)
+                {
+                    failure = (e.getCause() instanceof Exception) ? (Exception) e.getCause() : e;
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+        if (failure instanceof IOException)
+        {
+            throw (IOException) failure;
+        }
+        if (failure instanceof CompileException)
+        {
+            throw (CompileException) failure;
+        }
+        if (failure instanceof RuntimeException)
+        {
+            throw (RuntimeException) failure;
+        }
+        if (failure != null)
+        {
+            throw new RuntimeException(failure);
+        }
+    }
 
-        MutableMap<String, JavaClass> classMap = nonExecuteClasses.groupByUniqueKey(JavaHelper::getJavaClassFullName);
-        MutableMap<String, String> classToBytecodeMap = compileJavaClasses(nonExecuteClasses, javaCompiler);
-        classToBytecodeMap.forEachKeyValue((name, bytecode) ->
+    private static void compileExecuteClassGroup(MutableList<JavaClass> executeClasses, ClassLoader globalClassLoader) throws IOException, CompileException
+    {
+        Map<String, byte[]> classes = SingleFileCompiler.compileFiles(executeClasses.collect(JavaHelper::buildStringJavaSource), globalClassLoader);
+        executeClasses.forEach(executeClass -> executeClass.byteCode = Base64.getEncoder().encodeToString(classes.get(getJavaClassFullName(executeClass))));
+    }
+
+    private static ExecutorService getCompilationExecutor()
+    {
+        if (compilationExecutor == null)
+        {
+            synchronized (JavaHelper.class)
+            {
+                if (compilationExecutor == null)
+                {
+                    AtomicInteger threadCount = new AtomicInteger();
+                    compilationExecutor = Executors.newFixedThreadPool(COMPILATION_PARALLELISM, runnable ->
+                    {
+                        Thread thread = new Thread(runnable, "plan-java-compilation-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return compilationExecutor;
+    }
+
+    private static void assignByteCode(Map<String, String> classToBytecodeMap, MutableMap<String, JavaClass> classMap, MutableMap<JavaClass, JavaPlatformImplementation> reverseClassMap)
+    {
+        classToBytecodeMap.forEach((name, bytecode) ->
         {
             JavaClass _class = classMap.get(name);
             if (_class == null)
@@ -147,19 +306,6 @@ public class JavaHelper
             }
             _class.byteCode = bytecode;
         });
-
-        ClassLoader globalClassLoader = javaCompiler.getClassLoader();
-
-        for (JavaClass executeClass : executeClasses)
-        {
-            if (executeClass.byteCode == null)
-            {
-                Map<String, byte[]> classes = SingleFileCompiler.compileFile(buildStringJavaSource(executeClass), globalClassLoader);
-                executeClass.byteCode = Base64.getEncoder().encodeToString(classes.get(getJavaClassFullName(executeClass)));
-            }
-        }
-
-        return javaCompiler;
     }
 
     private static void collectJavaClasses(ExecutionNode executionNode, Map<JavaPlatformImplementation, ? super MutableList<JavaClass>> javaClassesMap)
@@ -312,10 +458,15 @@ public class JavaHelper
     private static JavaClass createGeneratedJavaClass(String name)
     {
         JavaClass _class = newJavaClass(name);
-        _class.source = "<<GENERATED>>";
+        _class.source = GENERATED_SOURCE;
         return _class;
     }
 
+    static boolean isGeneratedJavaClass(JavaClass javaClass)
+    {
+        return GENERATED_SOURCE.equals(javaClass.source);
+    }
+
 
     public static String getExecutionClassFullName(JavaPlatformImplementation javaPlatformImpl)
     {
@@ -400,4 +551,13 @@ public class JavaHelper
             }
         }
     }
+
+    private static class PlanJavaClasses
+    {
+        private final MutableMap<JavaClass, JavaPlatformImplementation> reverseClassMap = Maps.mutable.empty();
+        private final MutableList<JavaClass> executeClasses = Lists.mutable.empty();
+        private final MutableList<JavaClass> nonExecuteClasses = Lists.mutable.empty();
+        private MutableMap<String, JavaClass> classMap;
+        private String cacheKey;
+    }
 }
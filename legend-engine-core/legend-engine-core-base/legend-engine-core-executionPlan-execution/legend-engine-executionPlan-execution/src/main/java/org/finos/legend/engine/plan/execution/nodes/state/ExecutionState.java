@@ -28,6 +28,7 @@ import org.finos.legend.engine.plan.execution.extension.ExecutionExtension;
 import org.finos.legend.engine.plan.execution.extension.ExecutionExtensionLoader;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
+import org.finos.legend.engine.plan.execution.result.ExecutionProfileActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.graphFetch.AdaptiveGraphBatchStats;
 import org.finos.legend.engine.plan.execution.result.graphFetch.GraphObjectsBatch;
@@ -69,6 +70,7 @@ public class ExecutionState
 
     private ConcurrentExecutionNodeExecutorPool concurrentExecutionNodeExecutorPool;
     private ParallelGraphFetchExecutionExecutorPool graphFetchExecutionNodeExecutorPool;
+    private ExecutionProfileActivity executionProfile;
 
     private final Map<String, Result> res;
     private final List<? extends String> templateFunctions;
@@ -101,6 +103,7 @@ public class ExecutionState
         this.graphFetchCaches = state.graphFetchCaches;
         this.concurrentExecutionNodeExecutorPool = state.concurrentExecutionNodeExecutorPool;
         this.graphFetchExecutionNodeExecutorPool = state.graphFetchExecutionNodeExecutorPool;
+        this.executionProfile = state.executionProfile;
         state.states.forEach((storeType, storeExecutionState) -> this.states.put(storeType, storeExecutionState.copy()));
         List<ExecutionExtension> extensions = ExecutionExtensionLoader.extensions();
         this.extraNodeExecutors = ListIterate.flatCollect(extensions, ExecutionExtension::getExtraNodeExecutors);
@@ -182,6 +185,7 @@ public class ExecutionState
         copy.authId = this.authId;
         copy.concurrentExecutionNodeExecutorPool = this.concurrentExecutionNodeExecutorPool;
         copy.graphFetchExecutionNodeExecutorPool = this.graphFetchExecutionNodeExecutorPool;
+        copy.executionProfile = this.executionProfile;
         copy.inAllocation = this.inAllocation;
         copy.inLake = this.inLake;
         copy.realizeAllocationResults = this.realizeAllocationResults;
@@ -277,6 +281,24 @@ public class ExecutionState
         this.graphFetchExecutionNodeExecutorPool = graphFetchExecutionNodeExecutorPool;
     }
 
+    public ExecutionProfileActivity getExecutionProfile()
+    {
+        return this.executionProfile;
+    }
+
+    /**
+     * Enables profiling of the execution, the profile being added to the activities of the results
+     */
+    public ExecutionState setExecutionProfile(ExecutionProfileActivity executionProfile)
+    {
+        this.executionProfile = executionProfile;
+        if (executionProfile != null && !this.activities.contains(executionProfile))
+        {
+            this.activities.add(executionProfile);
+        }
+        return this;
+    }
+
     @Deprecated
     public long getGraphFetchBatchMemoryLimit()
     {
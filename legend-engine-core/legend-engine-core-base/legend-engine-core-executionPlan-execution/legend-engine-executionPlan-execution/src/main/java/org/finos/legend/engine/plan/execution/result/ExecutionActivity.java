@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "_type")
 @JsonSubTypes({
+        @JsonSubTypes.Type(value = ExecutionProfileActivity.class, name = "executionProfile")
 })
 public class ExecutionActivity
 {
@@ -0,0 +1,236 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.result;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Timing breakdown of the execution of a plan, one entry per execution node, collected when profiling is enabled.
+ * <p>
+ * The wall time of a node is the time taken to produce its result: for streaming results it does not include reading
+ * the stream. Realized rows are the elements of the collections returned by the node as constant results; rows of
+ * streamed results are read after the activities have been serialized and are not counted.
+ * <p>
+ * Serialization time and bytes are only known once the result has been streamed, after the activities have been
+ * written, hence they are not serialized and are only available to callers holding the profile.
+ */
+public class ExecutionProfileActivity extends ExecutionActivity
+{
+    private final List<NodeProfile> nodes = new ArrayList<>();
+    private final AtomicInteger nodeCount = new AtomicInteger();
+    private final AtomicLong javaCompilationTime = new AtomicLong();
+    private final AtomicLong serializationTime = new AtomicLong();
+    private final AtomicLong bytesSerialized = new AtomicLong();
+    // nodes running on each thread, the last one being the parent of the next node started on the thread
+    private final ThreadLocal<Deque<NodeProfile>> runningNodes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public ExecutionProfileActivity()
+    {
+    }
+
+    @JsonCreator
+    public ExecutionProfileActivity(@JsonProperty("nodes") List<NodeProfile> nodes, @JsonProperty("javaCompilationTimeMillis") double javaCompilationTimeMillis)
+    {
+        if (nodes != null)
+        {
+            this.nodes.addAll(nodes);
+            this.nodeCount.set(nodes.size());
+        }
+        this.javaCompilationTime.set(toNanos(javaCompilationTimeMillis));
+    }
+
+    /**
+     * Returns the profile of the node running on the calling thread, null when profiling is not enabled for the execution
+     */
+    public static NodeProfile currentNode(ExecutionState executionState)
+    {
+        ExecutionProfileActivity profile = executionState.getExecutionProfile();
+        return profile == null ? null : profile.runningNodes.get().peek();
+    }
+
+    public Result profile(ExecutionNode executionNode, Supplier<Result> execution)
+    {
+        Deque<NodeProfile> running = this.runningNodes.get();
+        NodeProfile parent = running.peek();
+        NodeProfile nodeProfile = new NodeProfile(this.nodeCount.getAndIncrement(), parent == null ? null : parent.id, executionNode.getClass().getSimpleName());
+        synchronized (this.nodes)
+        {
+            this.nodes.add(nodeProfile);
+        }
+        running.push(nodeProfile);
+        long start = System.nanoTime();
+        try
+        {
+            Result result = execution.get();
+            if (result instanceof ConstantResult && ((ConstantResult) result).getValue() instanceof Collection)
+            {
+                nodeProfile.addRealizedRows(((Collection<?>) ((ConstantResult) result).getValue()).size());
+            }
+            return result;
+        }
+        finally
+        {
+            nodeProfile.wallTime.addAndGet(System.nanoTime() - start);
+            running.pop();
+        }
+    }
+
+    public void addJavaCompilationTime(long nanos)
+    {
+        this.javaCompilationTime.addAndGet(nanos);
+    }
+
+    public void addSerialization(long nanos, long bytes)
+    {
+        this.serializationTime.addAndGet(nanos);
+        this.bytesSerialized.addAndGet(bytes);
+    }
+
+    @JsonProperty
+    public List<NodeProfile> getNodes()
+    {
+        synchronized (this.nodes)
+        {
+            return new ArrayList<>(this.nodes);
+        }
+    }
+
+    @JsonProperty
+    public double getJavaCompilationTimeMillis()
+    {
+        return toMillis(this.javaCompilationTime);
+    }
+
+    @JsonIgnore
+    public double getSerializationTimeMillis()
+    {
+        return toMillis(this.serializationTime);
+    }
+
+    @JsonIgnore
+    public long getBytesSerialized()
+    {
+        return this.bytesSerialized.get();
+    }
+
+    private static double toMillis(AtomicLong nanos)
+    {
+        return nanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static long toNanos(double millis)
+    {
+        return Math.round(millis * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    public static class NodeProfile
+    {
+        private final int id;
+        private final Integer parentId;
+        private final String nodeType;
+        private final AtomicLong wallTime = new AtomicLong();
+        private final AtomicLong realizedRows = new AtomicLong();
+        private final AtomicLong tempTableLoadTime = new AtomicLong();
+        private final AtomicLong connectionAcquireTime = new AtomicLong();
+
+        private NodeProfile(int id, Integer parentId, String nodeType)
+        {
+            this.id = id;
+            this.parentId = parentId;
+            this.nodeType = nodeType;
+        }
+
+        @JsonCreator
+        private NodeProfile(@JsonProperty("id") int id, @JsonProperty("parentId") Integer parentId, @JsonProperty("nodeType") String nodeType, @JsonProperty("wallTimeMillis") double wallTimeMillis, @JsonProperty("realizedRows") long realizedRows, @JsonProperty("tempTableLoadTimeMillis") double tempTableLoadTimeMillis, @JsonProperty("connectionAcquireTimeMillis") double connectionAcquireTimeMillis)
+        {
+            this(id, parentId, nodeType);
+            this.wallTime.set(toNanos(wallTimeMillis));
+            this.realizedRows.set(realizedRows);
+            this.tempTableLoadTime.set(toNanos(tempTableLoadTimeMillis));
+            this.connectionAcquireTime.set(toNanos(connectionAcquireTimeMillis));
+        }
+
+        public void addRealizedRows(long count)
+        {
+            this.realizedRows.addAndGet(count);
+        }
+
+        public void addTempTableLoadTime(long nanos)
+        {
+            this.tempTableLoadTime.addAndGet(nanos);
+        }
+
+        public void addConnectionAcquireTime(long nanos)
+        {
+            this.connectionAcquireTime.addAndGet(nanos);
+        }
+
+        @JsonProperty
+        public int getId()
+        {
+            return this.id;
+        }
+
+        @JsonProperty
+        public Integer getParentId()
+        {
+            return this.parentId;
+        }
+
+        @JsonProperty
+        public String getNodeType()
+        {
+            return this.nodeType;
+        }
+
+        @JsonProperty
+        public double getWallTimeMillis()
+        {
+            return toMillis(this.wallTime);
+        }
+
+        @JsonProperty
+        public long getRealizedRows()
+        {
+            return this.realizedRows.get();
+        }
+
+        @JsonProperty
+        public double getTempTableLoadTimeMillis()
+        {
+            return toMillis(this.tempTableLoadTime);
+        }
+
+        @JsonProperty
+        public double getConnectionAcquireTimeMillis()
+        {
+            return toMillis(this.connectionAcquireTime);
+        }
+    }
+}
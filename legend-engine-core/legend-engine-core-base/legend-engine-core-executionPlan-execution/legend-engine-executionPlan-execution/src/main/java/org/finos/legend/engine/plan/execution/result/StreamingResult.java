@@ -14,9 +14,11 @@
 
 package org.finos.legend.engine.plan.execution.result;
 
+import com.google.common.io.CountingOutputStream;
 import org.finos.legend.engine.plan.execution.result.builder.Builder;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -44,7 +46,22 @@ public abstract class StreamingResult extends Result
 
     public void stream(OutputStream outputStream, Serializer serializer) throws IOException
     {
-        serializer.stream(outputStream);
+        ExecutionProfileActivity executionProfile = (this.activities == null) ? null : (ExecutionProfileActivity) this.activities.stream().filter(ExecutionProfileActivity.class::isInstance).findFirst().orElse(null);
+        CountingOutputStream countingOutputStream = (executionProfile == null) ? null : new CountingOutputStream(outputStream);
+        long start = System.nanoTime();
+        try
+        {
+            serializer.stream((countingOutputStream == null) ? outputStream : countingOutputStream);
+        }
+        finally
+        {
+            long duration = System.nanoTime() - start;
+            MetricsHandler.observeExecutionNodeDuration(this.getClass().getSimpleName(), MetricsHandler.ExecutionNodePhase.SERIALIZATION, duration);
+            if (executionProfile != null)
+            {
+                executionProfile.addSerialization(duration, countingOutputStream.getCount());
+            }
+        }
     }
 
     public String flush(Serializer serializer)
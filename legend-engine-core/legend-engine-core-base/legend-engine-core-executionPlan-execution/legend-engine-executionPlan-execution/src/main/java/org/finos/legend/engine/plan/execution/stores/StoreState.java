@@ -14,9 +14,20 @@
 
 package org.finos.legend.engine.plan.execution.stores;
 
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+
 public interface StoreState
 {
     StoreType getStoreType();
 
     Object getStoreExecutionInfo();
+
+    /**
+     * Whether the child fetches of the given cross store graph fetch node, when they go to this store, may be issued
+     * concurrently on the parallel graph fetch pool. Stores have to opt in.
+     */
+    default boolean canFetchCrossStoreChildrenInParallel(ExecutionNode crossStoreFetchNode)
+    {
+        return false;
+    }
 }
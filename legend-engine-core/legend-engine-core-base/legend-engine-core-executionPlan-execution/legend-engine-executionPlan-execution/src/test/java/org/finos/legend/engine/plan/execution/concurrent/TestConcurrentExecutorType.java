@@ -0,0 +1,130 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.concurrent;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.externalFormat.VariableResolutionExecutionNode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class TestConcurrentExecutorType
+{
+    @Test
+    public void testFixedPoolIsDefault()
+    {
+        Assert.assertEquals(ConcurrentExecutorType.FIXED, ConcurrentExecutorType.fromSystemProperty());
+        ExecutorService executor = ConcurrentExecutorType.FIXED.newExecutor(3);
+        try
+        {
+            Assert.assertTrue(executor instanceof ThreadPoolExecutor);
+            Assert.assertEquals(3, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testIoConcurrencyLimit()
+    {
+        Assert.assertEquals(5, ConcurrentExecutorType.FIXED.ioConcurrencyLimit(5, 1000));
+        Assert.assertEquals(1000, ConcurrentExecutorType.WORK_STEALING.ioConcurrencyLimit(5, 1000));
+        Assert.assertEquals(1000, ConcurrentExecutorType.VIRTUAL.ioConcurrencyLimit(5, 1000));
+        Assert.assertEquals(5, ConcurrentExecutorType.VIRTUAL.ioConcurrencyLimit(5, 0));
+    }
+
+    @Test
+    public void testVirtualExecutorRunsTasks() throws Exception
+    {
+        ExecutorService executor = ConcurrentExecutorType.VIRTUAL.newExecutor(2);
+        try
+        {
+            Assert.assertEquals("done", executor.submit(() -> "done").get());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBlockingTasksDoNotStarveWorkStealingPool() throws Exception
+    {
+        ExecutorService executor = ConcurrentExecutorType.WORK_STEALING.newExecutor(1);
+        try
+        {
+            // each task waits for the other one, which needs a second thread while the first is blocked
+            CountDownLatch latch = new CountDownLatch(2);
+            Callable<Boolean> task = () -> ConcurrentExecutorType.runBlocking(() ->
+            {
+                latch.countDown();
+                return latch.await(10, TimeUnit.SECONDS);
+            });
+            Future<Boolean> first = executor.submit(task);
+            Future<Boolean> second = executor.submit(task);
+            Assert.assertTrue(first.get(20, TimeUnit.SECONDS));
+            Assert.assertTrue(second.get(20, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunBlockingRethrowsFailures()
+    {
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> ConcurrentExecutorType.runBlocking(() ->
+        {
+            throw new IllegalStateException("failed");
+        }));
+        Assert.assertEquals("failed", e.getMessage());
+    }
+
+    @Test
+    public void testChildNodesExecuteBeyondPoolSize()
+    {
+        ExecutionState state = new ExecutionState(Maps.mutable.<String, Result>with("a", new ConstantResult("1"), "b", new ConstantResult("2"), "c", new ConstantResult("3")), Lists.mutable.empty(), Lists.mutable.empty());
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(1, "Pool for executor type testing", ConcurrentExecutorType.WORK_STEALING, 3))
+        {
+            List<? extends Result> results = pool.execute(Lists.mutable.with(variableResolution("a"), variableResolution("b"), variableResolution("c")), Identity.getAnonymousIdentity(), state);
+            Assert.assertEquals(Lists.mutable.with("1", "2", "3"), Lists.mutable.withAll(results).collect(r -> ((ConstantResult) r).getValue()));
+            Assert.assertTrue(pool.toString(), pool.toString().contains("executorType : WORK_STEALING"));
+            Assert.assertTrue(pool.toString(), pool.toString().contains("availableThreads : java.util.concurrent.Semaphore@") && pool.toString().contains("[Permits = 3]"));
+        }
+    }
+
+    private static ExecutionNode variableResolution(String varName)
+    {
+        VariableResolutionExecutionNode node = new VariableResolutionExecutionNode();
+        node.varName = varName;
+        return node;
+    }
+}
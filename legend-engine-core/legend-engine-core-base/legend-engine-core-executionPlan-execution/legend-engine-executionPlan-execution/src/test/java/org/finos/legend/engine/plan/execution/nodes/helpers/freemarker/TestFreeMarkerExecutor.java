@@ -14,6 +14,9 @@
 
 package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
 
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
 import org.eclipse.collections.impl.factory.Lists;
@@ -103,6 +106,45 @@ public class TestFreeMarkerExecutor
         Assert.assertEquals("outsideFoo embeddedFoo", result.trim());
     }
 
+    @Test
+    public void testTemplatesAreParsedOncePerInputAndFunctions()
+    {
+        String template = "<#function twice value><#return value * 2></#function>";
+        Map rootMap = new HashMap();
+        rootMap.put("param", new ConstantResult(21));
+        ExecutionState state = new ExecutionState(rootMap, Arrays.asList(template), Collections.emptyList(), false, 0);
+        String query = "cached template ${twice(param)}";
+
+        FreeMarkerTemplateCache cache = FreeMarkerExecutor.getTemplateCache();
+        long hits = cache.stats().hitCount();
+        Assert.assertEquals("cached template 42", FreeMarkerExecutor.process(query, state).trim());
+        rootMap.put("param", new ConstantResult(5));
+        Assert.assertEquals("cached template 10", FreeMarkerExecutor.process(query, state).trim());
+        Assert.assertEquals(hits + 1, cache.stats().hitCount());
+
+        // same input with other template functions is another template
+        ExecutionState otherState = new ExecutionState(rootMap, Arrays.asList("<#function twice value><#return value + value + 1></#function>"), Collections.emptyList(), false, 0);
+        Assert.assertEquals("cached template 11", FreeMarkerExecutor.process(query, otherState).trim());
+    }
+
+    @Test
+    public void testTemplateFunctionsAreBounded() throws Exception
+    {
+        FreeMarkerTemplateCache cache = new FreeMarkerTemplateCache(new Configuration(), Collections.emptyMap(), 1);
+        Template template = cache.getTemplate("${f()}", "<#function f><#return 0></#function>", true);
+        for (int i = 1; i <= 600; i++)
+        {
+            cache.getTemplate("${f()}", "<#function f><#return " + i + "></#function>", false);
+        }
+        Assert.assertTrue(cache.templateFunctionsSize() <= 500);
+
+        // the functions of a cached template are registered again when it is used after they were evicted
+        Assert.assertSame(template, cache.getTemplate("${f()}", "<#function f><#return 0></#function>", true));
+        StringWriter writer = new StringWriter();
+        template.process(Collections.emptyMap(), writer);
+        Assert.assertEquals("0", writer.toString());
+    }
+
     @Test
     public void testFreemarkerStringWithCombinationsAndSpecialCharacters() throws Exception
     {
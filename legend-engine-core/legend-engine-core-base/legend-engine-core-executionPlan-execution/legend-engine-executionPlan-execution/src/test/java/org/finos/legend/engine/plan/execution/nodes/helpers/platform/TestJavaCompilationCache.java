@@ -0,0 +1,111 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.platform;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaClass;
+import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.StringJavaSource;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Collections;
+
+public class TestJavaCompilationCache
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testKeyDependsOnContentOnly()
+    {
+        JavaClass a = javaClass("org.finos.A", "public class A {}");
+        JavaClass b = javaClass("org.finos.B", "public class B {}");
+        JavaClass execute = javaClass("org.finos.Execute", "public class Execute {}");
+
+        String key = JavaCompilationCache.computeKey(Lists.mutable.with(execute), Lists.mutable.with(a, b));
+        Assert.assertEquals(key, JavaCompilationCache.computeKey(Lists.mutable.with(javaClass("org.finos.Execute", "public class Execute {}")), Lists.mutable.with(b, a)));
+
+        // inner classes generated by a previous compilation of the same plan do not change the key
+        JavaClass generated = javaClass("org.finos.A$1", "<<GENERATED>>");
+        generated.byteCode = "AAAA";
+        Assert.assertEquals(key, JavaCompilationCache.computeKey(Lists.mutable.with(execute), Lists.mutable.with(a, b, generated)));
+
+        Assert.assertNotEquals(key, JavaCompilationCache.computeKey(Lists.mutable.with(execute), Lists.mutable.with(a, javaClass("org.finos.B", "public class B { int i; }"))));
+        Assert.assertNotEquals(key, JavaCompilationCache.computeKey(Lists.mutable.with(a), Lists.mutable.with(execute, b)));
+    }
+
+    @Test
+    public void testMemoryTier()
+    {
+        JavaCompilationCache cache = new JavaCompilationCache(10, null);
+        EngineJavaCompiler compiler = new EngineJavaCompiler();
+        Assert.assertNull(cache.get("key", EngineJavaCompiler::new));
+
+        cache.put("key", compiler, Collections.emptyMap(), Collections.singletonMap("org.finos.Execute", "AAAA"));
+        JavaCompilationCache.CompiledClasses cached = cache.get("key", EngineJavaCompiler::new);
+        Assert.assertSame(compiler, cached.getCompiler());
+        Assert.assertEquals("AAAA", cached.getExecuteByteCode().get("org.finos.Execute"));
+
+        Assert.assertNull(new JavaCompilationCache(0, null).get("key", EngineJavaCompiler::new));
+    }
+
+    @Test
+    public void testDiskTier() throws Exception
+    {
+        Path directory = temporaryFolder.newFolder().toPath();
+        EngineJavaCompiler compiler = new EngineJavaCompiler().compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("org.finos", "Support", "package org.finos; public class Support { public static String value() { return \"cached\"; } public static class Inner {} }")));
+        MutableMap<String, String> supportByteCode = compiler.save();
+        Assert.assertEquals(2, supportByteCode.size());
+
+        new JavaCompilationCache(10, directory).put("key", compiler, supportByteCode, Maps.mutable.with("org.finos.Execute", "AAAA"));
+
+        // a new cache, as after a restart, rebuilds the class loader from the persisted bytecode
+        JavaCompilationCache.CompiledClasses cached = new JavaCompilationCache(10, directory).get("key", EngineJavaCompiler::new);
+        Assert.assertNotNull(cached);
+        Assert.assertNotSame(compiler, cached.getCompiler());
+        Assert.assertEquals(supportByteCode, cached.getSupportByteCode());
+        Assert.assertEquals(Collections.singletonMap("org.finos.Execute", "AAAA"), cached.getExecuteByteCode());
+        Assert.assertEquals("cached", cached.getCompiler().getClassLoader().loadClass("org.finos.Support").getMethod("value").invoke(null));
+
+        Assert.assertNull(new JavaCompilationCache(10, directory).get("otherKey", EngineJavaCompiler::new));
+    }
+
+    @Test
+    public void testDiskTierIsScopedToTheEnvironment() throws Exception
+    {
+        Path directory = temporaryFolder.newFolder().toPath();
+        EngineJavaCompiler compiler = new EngineJavaCompiler().compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("org.finos", "Support", "package org.finos; public class Support {}")));
+        new JavaCompilationCache(10, directory, "engine1").put("key", compiler, compiler.save(), Collections.emptyMap());
+
+        Assert.assertNotNull(new JavaCompilationCache(10, directory, "engine1").get("key", EngineJavaCompiler::new));
+        // bytecode compiled by another engine version, JDK or class path is not reused
+        Assert.assertNull(new JavaCompilationCache(10, directory, "engine2").get("key", EngineJavaCompiler::new));
+
+        Assert.assertEquals(JavaCompilationCache.computeEnvironment(), JavaCompilationCache.computeEnvironment());
+    }
+
+    private static JavaClass javaClass(String fullName, String source)
+    {
+        JavaClass javaClass = JavaHelper.newJavaClass(fullName);
+        javaClass.source = source;
+        return javaClass;
+    }
+}
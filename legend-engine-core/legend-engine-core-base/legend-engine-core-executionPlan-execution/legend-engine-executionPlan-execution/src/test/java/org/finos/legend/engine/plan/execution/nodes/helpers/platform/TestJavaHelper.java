@@ -0,0 +1,102 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.platform;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaClass;
+import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.StringJavaSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Base64;
+
+public class TestJavaHelper
+{
+    @Test
+    public void testExecuteClassesCompiledConcurrentlyMatchSequentialCompilation() throws Exception
+    {
+        EngineJavaCompiler support = support();
+
+        MutableList<JavaClass> sequential = executeClasses(7);
+        JavaHelper.compileExecuteClasses(sequential, support.getClassLoader(), 1);
+        MutableList<JavaClass> concurrent = executeClasses(7);
+        JavaHelper.compileExecuteClasses(concurrent, support.getClassLoader(), 3);
+
+        for (int i = 0; i < 7; i++)
+        {
+            Assert.assertNotNull(concurrent.get(i).name, concurrent.get(i).byteCode);
+            Assert.assertEquals(concurrent.get(i).name, sequential.get(i).byteCode, concurrent.get(i).byteCode);
+        }
+    }
+
+    @Test
+    public void testExecuteClassesCompiledInGroupsBehaveAsASinglePassBuild() throws Exception
+    {
+        EngineJavaCompiler support = support();
+
+        MutableList<JavaClass> singlePass = executeClasses(7);
+        JavaHelper.compileExecuteClasses(singlePass, support.getClassLoader(), 1);
+        MutableList<JavaClass> grouped = executeClasses(7);
+        JavaHelper.compileExecuteClasses(grouped, support.getClassLoader(), 3);
+
+        for (int i = 0; i < 7; i++)
+        {
+            Assert.assertEquals(i * 2, execute(singlePass.get(i), support.getClassLoader()));
+            Assert.assertEquals(execute(singlePass.get(i), support.getClassLoader()), execute(grouped.get(i), support.getClassLoader()));
+        }
+    }
+
+    @Test
+    public void testConcurrentCompilationReportsFailures() throws Exception
+    {
+        EngineJavaCompiler support = support();
+        MutableList<JavaClass> classes = executeClasses(4);
+        classes.get(2).source = "package org.finos; public class Execute2 { public int execute() { return missing(); } }";
+        Assert.assertThrows(Exception.class, () -> JavaHelper.compileExecuteClasses(classes, support.getClassLoader(), 2));
+    }
+
+    private static EngineJavaCompiler support() throws Exception
+    {
+        return new EngineJavaCompiler().compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("org.finos", "Support", "package org.finos; public class Support { public static int value(int i) { return i * 2; } }")));
+    }
+
+    private static Object execute(JavaClass executeClass, ClassLoader supportClassLoader) throws Exception
+    {
+        byte[] byteCode = Base64.getDecoder().decode(executeClass.byteCode);
+        Class<?> loaded = new ClassLoader(supportClassLoader)
+        {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException
+            {
+                return name.equals(executeClass._package + "." + executeClass.name) ? defineClass(name, byteCode, 0, byteCode.length) : super.findClass(name);
+            }
+        }.loadClass(executeClass._package + "." + executeClass.name);
+        return loaded.getMethod("execute").invoke(loaded.getConstructor().newInstance());
+    }
+
+    private static MutableList<JavaClass> executeClasses(int count)
+    {
+        MutableList<JavaClass> classes = Lists.mutable.empty();
+        for (int i = 0; i < count; i++)
+        {
+            JavaClass javaClass = JavaHelper.newJavaClass("org.finos.Execute" + i);
+            javaClass.source = "package org.finos; public class Execute" + i + " { public int execute() { return Support.value(" + i + "); } }";
+            classes.add(javaClass);
+        }
+        return classes;
+    }
+}
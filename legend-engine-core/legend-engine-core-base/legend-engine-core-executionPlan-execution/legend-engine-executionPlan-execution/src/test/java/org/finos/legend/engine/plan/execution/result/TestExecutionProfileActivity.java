@@ -0,0 +1,85 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.result;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.AllocationExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SequenceExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.externalFormat.VariableResolutionExecutionNode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class TestExecutionProfileActivity
+{
+    @Test
+    public void testNodesAreProfiledWithTheirParent() throws Exception
+    {
+        AllocationExecutionNode allocation = new AllocationExecutionNode();
+        allocation.varName = "copy";
+        allocation.executionNodes = Lists.mutable.with(variableResolution("input"));
+        SequenceExecutionNode sequence = new SequenceExecutionNode();
+        sequence.executionNodes = Lists.mutable.with(allocation, variableResolution("copy"));
+
+        ExecutionState state = new ExecutionState(Maps.mutable.<String, Result>with("input", new ConstantResult(Lists.mutable.with(1, 2, 3))), Lists.mutable.empty(), Lists.mutable.empty());
+        ExecutionProfileActivity profile = new ExecutionProfileActivity();
+        state.setExecutionProfile(profile);
+        Assert.assertTrue(state.activities.contains(profile));
+
+        ExecutionNodeExecutor.executeNode(sequence, Identity.getAnonymousIdentity(), state);
+
+        List<ExecutionProfileActivity.NodeProfile> nodes = profile.getNodes();
+        Assert.assertEquals(Lists.mutable.with("SequenceExecutionNode", "AllocationExecutionNode", "VariableResolutionExecutionNode", "VariableResolutionExecutionNode"), Lists.mutable.withAll(nodes).collect(ExecutionProfileActivity.NodeProfile::getNodeType));
+        Assert.assertNull(nodes.get(0).getParentId());
+        Assert.assertEquals(Integer.valueOf(0), nodes.get(1).getParentId());
+        Assert.assertEquals(Integer.valueOf(1), nodes.get(2).getParentId());
+        Assert.assertEquals(Integer.valueOf(0), nodes.get(3).getParentId());
+        Assert.assertEquals(3, nodes.get(2).getRealizedRows());
+        Assert.assertTrue(nodes.get(0).getWallTimeMillis() >= nodes.get(1).getWallTimeMillis());
+
+        String json = ExecutionResultObjectMapperFactory.getNewObjectMapper().writeValueAsString(profile);
+        Assert.assertTrue(json, json.startsWith("{\"_type\":\"executionProfile\""));
+        Assert.assertTrue(json, json.contains("\"nodeType\":\"AllocationExecutionNode\""));
+        // only known once the result has been streamed, after the activities have been written
+        Assert.assertFalse(json, json.contains("serializationTimeMillis"));
+
+        ExecutionProfileActivity deserialized = (ExecutionProfileActivity) ExecutionResultObjectMapperFactory.getNewObjectMapper().readValue(json, ExecutionActivity.class);
+        Assert.assertEquals(json, ExecutionResultObjectMapperFactory.getNewObjectMapper().writeValueAsString(deserialized));
+        Assert.assertEquals(3, deserialized.getNodes().get(2).getRealizedRows());
+    }
+
+    @Test
+    public void testNoProfileByDefault()
+    {
+        ExecutionState state = new ExecutionState(Maps.mutable.<String, Result>with("input", new ConstantResult("value")), Lists.mutable.empty(), Lists.mutable.empty());
+        Assert.assertEquals("value", ((ConstantResult) ExecutionNodeExecutor.executeNode(variableResolution("input"), Identity.getAnonymousIdentity(), state)).getValue());
+        Assert.assertNull(ExecutionProfileActivity.currentNode(state));
+        Assert.assertTrue(state.activities.isEmpty());
+    }
+
+    private static ExecutionNode variableResolution(String varName)
+    {
+        VariableResolutionExecutionNode node = new VariableResolutionExecutionNode();
+        node.varName = varName;
+        return node;
+    }
+}
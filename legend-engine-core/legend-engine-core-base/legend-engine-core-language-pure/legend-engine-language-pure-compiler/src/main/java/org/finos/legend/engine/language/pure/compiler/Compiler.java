@@ -19,6 +19,7 @@ import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperModelBui
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperValueSpecificationBuilder;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.ProcessingContext;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModelContextDataDiff;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModelProcessParameter;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.Lambda;
@@ -44,6 +45,30 @@ public class Compiler
         return new PureModel(model, user, deploymentMode, pureModelProcessParameter, metaData);
     }
 
+    /**
+     * Function body hot swap: compiles newModel reusing previousModel, which must have been compiled from
+     * previousModelData, when the only differences are function bodies with unchanged signatures. Those bodies are
+     * recompiled in place and previousModel is returned, unless it is shared (see {@link PureModel#markShared()}), in
+     * which case a new model is compiled and previousModel is left untouched.
+     * <p>
+     * This is not incremental compilation: dependents of other elements are not tracked, so any other difference
+     * (classes, mappings, stores, signatures...) triggers a full compilation.
+     */
+    public static PureModel hotSwapFunctionBodies(PureModel previousModel, PureModelContextData previousModelData, PureModelContextData newModel, DeploymentMode deploymentMode, String user, String packageOffset)
+    {
+        PureModelContextDataDiff diff = PureModelContextDataDiff.compute(previousModelData, newModel);
+        if (diff.isEmpty())
+        {
+            return previousModel;
+        }
+        if (diff.hasStructuralChange() || previousModel.isShared())
+        {
+            return compile(newModel, deploymentMode, user, packageOffset);
+        }
+        previousModel.hotSwapFunctionBodies(diff.getChangedFunctionBodies());
+        return previousModel;
+    }
+
     public static String getLambdaReturnType(Lambda lambda, PureModel pureModel)
     {
         org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification valueSpecification = HelperValueSpecificationBuilder.buildLambdaWithContext(lambda.body, lambda.parameters, new CompileContext.Builder(pureModel).build(), new ProcessingContext("Processing return type for lambda"))._expressionSequence().getLast();
@@ -19,6 +19,7 @@ import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
@@ -26,6 +27,8 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.compiler.MetadataWrapper;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.extension.CompilerExtensions;
@@ -89,6 +92,7 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpa
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.VersionControlledClassLoaderCodeStorage;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
 import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.compiled.compiler.JavaCompilerState;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledProcessorSupport;
@@ -106,6 +110,10 @@ import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class PureModel implements IPureModel
 {
@@ -122,18 +130,22 @@ public class PureModel implements IPureModel
     // this as part of `CompileContext`
     final CompilerExtensions extensions;
 
-    private final MutableList<Warning> warnings = Lists.mutable.empty();
+    private final MutableList<Warning> warnings;
+    // Warnings of the chunk of elements compiled by the current thread, merged in declaration order once all chunks are compiled
+    private final ThreadLocal<MutableList<Warning>> chunkWarnings = new ThreadLocal<>();
+    private volatile boolean shared;
 
     final Handlers handlers;
 
-    private final MutableSet<String> immutables = Sets.mutable.empty();
+    private final MutableSet<String> immutables;
     private final MutableMap<String, Multiplicity> multiplicitiesIndex = Maps.mutable.empty();
     final MutableMap<String, Section> sectionsIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type> typesIndex = Maps.mutable.empty();
-    final MutableMap<String, GenericType> typesGenericTypeIndex = Maps.mutable.empty();
+    // Indexes below are lazily populated from the metadata while compiling, so they are synchronized when elements are compiled in parallel
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type> typesIndex;
+    final MutableMap<String, GenericType> typesGenericTypeIndex;
     final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition<?>> functionsIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Profile> profilesIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Association> associationsIndex = Maps.mutable.empty();
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Profile> profilesIndex;
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Association> associationsIndex;
     final MutableMap<String, Store> storesIndex = Maps.mutable.empty();
     final MutableMap<String, Mapping> mappingsIndex = Maps.mutable.empty();
     final MutableMap<String, Root_meta_pure_runtime_PackageableConnection> packageableConnectionsIndex = Maps.mutable.empty();
@@ -141,6 +153,11 @@ public class PureModel implements IPureModel
     final MutableMap<String, Root_meta_pure_runtime_PackageableRuntime> packageableRuntimesIndex = Maps.mutable.empty();
     final MutableMap<String, Root_meta_core_runtime_Runtime> runtimesIndex = Maps.mutable.empty();
 
+    /**
+     * Pool shared by all the compilations run in parallel, bounded by the number of processors
+     */
+    private static final ForkJoinPool COMPILATION_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
     public static final PureModel CORE_PURE_MODEL = getCorePureModel();
 
     public PureModel(PureModelContextData pure, String user, DeploymentMode deploymentMode)
@@ -176,6 +193,13 @@ public class PureModel implements IPureModel
         this.extensions = extensions;
         this.deploymentMode = deploymentMode;
         this.pureModelProcessParameter = pureModelProcessParameter;
+        boolean parallel = pureModelProcessParameter.isParallel();
+        this.warnings = parallel ? Lists.mutable.<Warning>empty().asSynchronized() : Lists.mutable.empty();
+        this.immutables = parallel ? SetAdapter.adapt(java.util.concurrent.ConcurrentHashMap.newKeySet()) : Sets.mutable.empty();
+        this.typesIndex = newIndex(parallel);
+        this.typesGenericTypeIndex = newIndex(parallel);
+        this.profilesIndex = newIndex(parallel);
+        this.associationsIndex = newIndex(parallel);
         Span span = GlobalTracer.get().buildSpan("Build Pure Model").start();
         try (Scope ignore = GlobalTracer.get().scopeManager().activate(span))
         {
@@ -351,7 +375,8 @@ public class PureModel implements IPureModel
 
     public void addWarnings(Iterable<Warning> warnings)
     {
-        this.warnings.addAllIterable(warnings);
+        MutableList<Warning> chunkWarnings = this.chunkWarnings.get();
+        (chunkWarnings == null ? this.warnings : chunkWarnings).addAllIterable(warnings);
     }
 
     public MutableList<Warning> getWarnings()
@@ -509,7 +534,71 @@ public class PureModel implements IPureModel
 
     private void loadFunctions(PureModelContextDataIndex pure)
     {
-        pure.functions.forEach(this::processSecondPass);
+        // Function bodies only depend on the signatures built in the first pass, so they can be compiled independently
+        processInParallel(pure.functions, this::processSecondPass);
+    }
+
+    /**
+     * Marks this model as handed out to several callers, by a cache for instance, so that it is never modified in place:
+     * see {@link #hotSwapFunctionBodies(Iterable)}.
+     */
+    public void markShared()
+    {
+        this.shared = true;
+    }
+
+    public boolean isShared()
+    {
+        return this.shared;
+    }
+
+    /**
+     * Recompiles the bodies of the given functions in place, keeping the rest of the graph. The functions must already
+     * be part of this model with unchanged signatures, see {@link PureModelContextDataDiff}, and the model must not be
+     * shared. The warnings of the previous bodies are replaced by those of the new ones. If any body fails to compile,
+     * all functions and warnings are restored before the error is rethrown.
+     */
+    public void hotSwapFunctionBodies(Iterable<Function> functions)
+    {
+        if (this.shared)
+        {
+            throw new IllegalStateException("Shared models cannot be recompiled in place");
+        }
+        MutableList<Function> toRecompile = Lists.mutable.withAll(functions);
+        MutableList<org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition<?>> targets = toRecompile.collect(function -> getConcreteFunctionDefinition(buildPackageString(function._package, HelperModelBuilder.getSignature(function)), function.sourceInformation));
+        MutableList<RichIterable<? extends org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification>> previousBodies = targets.collect(f -> Lists.mutable.<org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification>withAll(f._expressionSequence()));
+        MutableList<RichIterable<? extends org.finos.legend.pure.m3.coreinstance.meta.pure.test.Test>> previousTests = targets.collect(f -> Lists.mutable.<org.finos.legend.pure.m3.coreinstance.meta.pure.test.Test>withAll(f._tests()));
+        MutableList<org.finos.legend.pure.m4.coreinstance.SourceInformation> previousSourceInformation = targets.collect(CoreInstance::getSourceInformation);
+        MutableList<Warning> previousWarnings = this.warnings.select(w -> previousSourceInformation.anySatisfy(f -> contains(f, w.sourceInformation)));
+        this.warnings.removeAll(previousWarnings);
+        try
+        {
+            for (int i = 0; i < toRecompile.size(); i++)
+            {
+                targets.get(i).setSourceInformation(SourceInformationHelper.toM3SourceInformation(toRecompile.get(i).sourceInformation));
+                processSecondPass(toRecompile.get(i));
+            }
+        }
+        catch (Exception e)
+        {
+            for (int i = 0; i < targets.size(); i++)
+            {
+                targets.get(i)._expressionSequence(previousBodies.get(i));
+                targets.get(i)._tests(previousTests.get(i));
+                targets.get(i).setSourceInformation(previousSourceInformation.get(i));
+            }
+            MutableList<org.finos.legend.pure.m4.coreinstance.SourceInformation> newSourceInformation = toRecompile.collect(f -> SourceInformationHelper.toM3SourceInformation(f.sourceInformation));
+            this.warnings.removeIf(w -> newSourceInformation.anySatisfy(f -> contains(f, w.sourceInformation)));
+            this.warnings.addAll(previousWarnings);
+            throw e;
+        }
+    }
+
+    private static boolean contains(org.finos.legend.pure.m4.coreinstance.SourceInformation outer, SourceInformation inner)
+    {
+        return outer != null && inner != null && Objects.equals(outer.getSourceId(), inner.sourceId)
+                && (outer.getStartLine() < inner.startLine || (outer.getStartLine() == inner.startLine && outer.getStartColumn() <= inner.startColumn))
+                && (inner.endLine < outer.getEndLine() || (inner.endLine == outer.getEndLine() && inner.endColumn <= outer.getEndColumn()));
     }
 
     private void loadOtherElementsPreStores(PureModelContextDataIndex pure)
@@ -559,6 +648,88 @@ public class PureModel implements IPureModel
         visitWithErrorHandling(element, new PackageableElementFifthPassBuilder(getContext(element)));
     }
 
+    private <T extends org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement> void processInParallel(MutableList<T> elements, Procedure<? super T> pass)
+    {
+        int parallelism = Math.min(this.pureModelProcessParameter.compilationParallelism, elements.size());
+        if (parallelism <= 1)
+        {
+            elements.forEach(pass);
+            return;
+        }
+
+        // Elements are split in contiguous chunks, one per thread, so that a compilation never uses more threads of the
+        // shared pool than its parallelism, and the first failure and the warnings of the chunks, taken in chunk order,
+        // are those of a serial compilation
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        int chunkSize = (elements.size() + parallelism - 1) / parallelism;
+        MutableList<Callable<Void>> tasks = Lists.mutable.empty();
+        MutableList<MutableList<Warning>> warningsByChunk = Lists.mutable.empty();
+        for (int from = 0; from < elements.size(); from += chunkSize)
+        {
+            MutableList<T> chunk = elements.subList(from, Math.min(from + chunkSize, elements.size()));
+            MutableList<Warning> chunkWarnings = Lists.mutable.empty();
+            warningsByChunk.add(chunkWarnings);
+            tasks.add(() ->
+            {
+                Thread thread = Thread.currentThread();
+                ClassLoader previous = thread.getContextClassLoader();
+                thread.setContextClassLoader(contextClassLoader);
+                this.chunkWarnings.set(chunkWarnings);
+                try
+                {
+                    chunk.forEach(pass);
+                    return null;
+                }
+                finally
+                {
+                    this.chunkWarnings.remove();
+                    thread.setContextClassLoader(previous);
+                }
+            });
+        }
+        List<Future<Void>> futures;
+        try
+        {
+            futures = COMPILATION_POOL.invokeAll(tasks);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        for (int i = 0; i < futures.size(); i++)
+        {
+            this.warnings.addAll(warningsByChunk.get(i));
+            try
+            {
+                futures.get(i).get();
+            }
+            catch (ExecutionException e)
+            {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error)
+                {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException(cause);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static <K, V> MutableMap<K, V> newIndex(boolean concurrent)
+    {
+        return concurrent ? ConcurrentHashMap.newMap() : Maps.mutable.empty();
+    }
+
     private <T> T visitWithErrorHandling(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement element, PackageableElementVisitor<T> visitor)
     {
         try
@@ -0,0 +1,169 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.compiler.toPureGraph;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.Function;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+
+/**
+ * Element level difference between two {@link PureModelContextData}, used to decide whether the function bodies of a
+ * previously compiled {@link PureModel} can be hot swapped when the model changes.
+ * <p>
+ * Elements are matched by path and compared ignoring source information, so that edits moving the rest of a file do
+ * not count as changes. A function whose only change is its body is reported as a body change, which can be recompiled
+ * on its own as long as no other element depends on it: functions calling it are bound to its definition, which is
+ * kept, but other elements referring to it, such as function activators, may have been compiled from its body and
+ * make the change structural. Any other difference (added, removed or otherwise modified elements) is structural and
+ * requires a full compilation.
+ */
+public class PureModelContextDataDiff
+{
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+
+    private final boolean structuralChange;
+    private final ImmutableList<Function> changedFunctionBodies;
+
+    private PureModelContextDataDiff(boolean structuralChange, ImmutableList<Function> changedFunctionBodies)
+    {
+        this.structuralChange = structuralChange;
+        this.changedFunctionBodies = changedFunctionBodies;
+    }
+
+    public static PureModelContextDataDiff compute(PureModelContextData previousData, PureModelContextData newData)
+    {
+        MutableMap<String, PackageableElement> previousElements = indexByPath(previousData);
+        MutableMap<String, PackageableElement> newElements = indexByPath(newData);
+        if ((previousElements == null) || (newElements == null) || !previousElements.keysView().toSet().equals(newElements.keysView().toSet()))
+        {
+            return structural();
+        }
+
+        MutableList<Function> changedFunctionBodies = Lists.mutable.empty();
+        MutableList<JsonNode> otherElements = Lists.mutable.empty();
+        for (PackageableElement newElement : newData.getElements())
+        {
+            PackageableElement previousElement = previousElements.get(newElement.getPath());
+            if (previousElement.getClass() != newElement.getClass())
+            {
+                return structural();
+            }
+            JsonNode previousJson = withoutSourceInformation(objectMapper.valueToTree(previousElement));
+            JsonNode newJson = withoutSourceInformation(objectMapper.valueToTree(newElement));
+            if (!previousJson.equals(newJson))
+            {
+                if (!(newElement instanceof Function) || !withoutBody(previousJson).equals(withoutBody(newJson)))
+                {
+                    return structural();
+                }
+                changedFunctionBodies.add((Function) newElement);
+            }
+            if (!(newElement instanceof Function))
+            {
+                otherElements.add(newJson);
+            }
+        }
+        if (changedFunctionBodies.anySatisfy(function -> otherElements.anySatisfy(element -> refersTo(element, function))))
+        {
+            return structural();
+        }
+        return new PureModelContextDataDiff(false, changedFunctionBodies.toImmutable());
+    }
+
+    public boolean isEmpty()
+    {
+        return !this.structuralChange && this.changedFunctionBodies.isEmpty();
+    }
+
+    public boolean hasStructuralChange()
+    {
+        return this.structuralChange;
+    }
+
+    /**
+     * Functions, taken from the new data, whose body changed; only meaningful when there is no structural change
+     */
+    public ImmutableList<Function> getChangedFunctionBodies()
+    {
+        return this.changedFunctionBodies;
+    }
+
+    private static PureModelContextDataDiff structural()
+    {
+        return new PureModelContextDataDiff(true, Lists.immutable.empty());
+    }
+
+    private static MutableMap<String, PackageableElement> indexByPath(PureModelContextData data)
+    {
+        MutableMap<String, PackageableElement> index = Maps.mutable.empty();
+        for (PackageableElement element : data.getElements())
+        {
+            if (index.put(element.getPath(), element) != null)
+            {
+                // duplicated elements are reported by the compiler
+                return null;
+            }
+        }
+        return index;
+    }
+
+    private static JsonNode withoutBody(JsonNode function)
+    {
+        ObjectNode copy = ((ObjectNode) function).deepCopy();
+        copy.remove("body");
+        return copy;
+    }
+
+    private static JsonNode withoutSourceInformation(JsonNode node)
+    {
+        if (node.isObject())
+        {
+            ((ObjectNode) node).remove("sourceInformation");
+        }
+        node.forEach(PureModelContextDataDiff::withoutSourceInformation);
+        return node;
+    }
+
+    /**
+     * Whether the element refers to the function, by its path with or without signature; conservative, as any string
+     * naming the function counts
+     */
+    private static boolean refersTo(JsonNode element, Function function)
+    {
+        String path = function._package + "::" + HelperModelBuilder.getFunctionNameWithoutSignature(function);
+        if (element.isTextual())
+        {
+            String value = element.textValue();
+            return value.equals(path) || value.startsWith(path + "(") || value.startsWith(path + "_");
+        }
+        for (JsonNode child : element)
+        {
+            if (refersTo(child, function))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
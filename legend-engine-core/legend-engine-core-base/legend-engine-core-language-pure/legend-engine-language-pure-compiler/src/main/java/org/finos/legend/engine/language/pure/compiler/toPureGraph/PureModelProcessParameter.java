@@ -16,15 +16,42 @@ package org.finos.legend.engine.language.pure.compiler.toPureGraph;
 
 public class PureModelProcessParameter
 {
+    /**
+     * System property providing the default number of threads used to compile independent elements of a phase,
+     * a value of 1 (the default) keeps compilation on the calling thread
+     */
+    public static final String COMPILATION_PARALLELISM_PROPERTY = "legend.engine.compiler.parallelism";
+
     String packagePrefix;
+    int compilationParallelism;
 
     PureModelProcessParameter()
     {
-        this.packagePrefix = null;
+        this(null);
     }
 
     public PureModelProcessParameter(String packagePrefix)
     {
+        this(packagePrefix, Integer.getInteger(COMPILATION_PARALLELISM_PROPERTY, 1));
+    }
+
+    public PureModelProcessParameter(String packagePrefix, int compilationParallelism)
+    {
+        if (compilationParallelism < 1)
+        {
+            throw new IllegalArgumentException("Compilation parallelism must be at least 1, got: " + compilationParallelism);
+        }
         this.packagePrefix = packagePrefix;
+        this.compilationParallelism = compilationParallelism;
+    }
+
+    public int getCompilationParallelism()
+    {
+        return this.compilationParallelism;
+    }
+
+    boolean isParallel()
+    {
+        return this.compilationParallelism > 1;
     }
-}
\ No newline at end of file
+}
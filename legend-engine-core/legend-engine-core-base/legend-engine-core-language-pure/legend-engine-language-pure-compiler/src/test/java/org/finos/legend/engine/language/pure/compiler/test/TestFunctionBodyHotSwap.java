@@ -0,0 +1,156 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.compiler.test;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.engine.language.pure.compiler.Compiler;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModelContextDataDiff;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.Warning;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.Function;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.InstanceValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestFunctionBodyHotSwap
+{
+    private static final String CLASS = "Class test::Person\n{\n  name: String[1];\n}\n";
+
+    @Test
+    public void testUnchangedModelIsReused()
+    {
+        PureModelContextData data = parse(CLASS + function("'a'"));
+        PureModel model = Compiler.compile(data, DeploymentMode.TEST, null);
+
+        Assert.assertTrue(PureModelContextDataDiff.compute(data, parse(CLASS + function("'a'"))).isEmpty());
+        Assert.assertSame(model, Compiler.hotSwapFunctionBodies(model, data, parse(CLASS + function("'a'")), DeploymentMode.TEST, null, null));
+    }
+
+    @Test
+    public void testFunctionBodyChangeIsRecompiledInPlace()
+    {
+        PureModelContextData data = parse(CLASS + function("'a'"));
+        PureModel model = Compiler.compile(data, DeploymentMode.TEST, null);
+
+        PureModelContextData newData = parse(CLASS + function("'b'"));
+        PureModelContextDataDiff diff = PureModelContextDataDiff.compute(data, newData);
+        Assert.assertFalse(diff.hasStructuralChange());
+        Assert.assertEquals(1, diff.getChangedFunctionBodies().size());
+
+        Assert.assertSame(model, Compiler.hotSwapFunctionBodies(model, data, newData, DeploymentMode.TEST, null, null));
+        Assert.assertEquals("b", bodyValue(model));
+    }
+
+    @Test
+    public void testSourceInformationShiftIsIgnored()
+    {
+        PureModelContextData data = parse(CLASS + function("'a'"));
+        PureModelContextData newData = parse("\n\n" + CLASS + "\n" + function("'b'"));
+        PureModelContextDataDiff diff = PureModelContextDataDiff.compute(data, newData);
+        Assert.assertFalse(diff.hasStructuralChange());
+        Assert.assertEquals(1, diff.getChangedFunctionBodies().size());
+
+        Assert.assertTrue(PureModelContextDataDiff.compute(data, parse("\n\n" + CLASS + "\n" + function("'a'"))).isEmpty());
+    }
+
+    @Test
+    public void testSharedModelIsNotModified()
+    {
+        PureModelContextData data = parse(CLASS + function("'a'"));
+        PureModel model = Compiler.compile(data, DeploymentMode.TEST, null);
+        model.markShared();
+
+        PureModel newModel = Compiler.hotSwapFunctionBodies(model, data, parse(CLASS + function("'b'")), DeploymentMode.TEST, null, null);
+        Assert.assertNotSame(model, newModel);
+        Assert.assertEquals("a", bodyValue(model));
+        Assert.assertEquals("b", bodyValue(newModel));
+        Assert.assertThrows(IllegalStateException.class, () -> model.hotSwapFunctionBodies(Lists.mutable.empty()));
+    }
+
+    @Test
+    public void testBodyChangeOfFunctionReferredToByAnotherElementIsStructural()
+    {
+        String person = "Class test::Person\n{\n  name: String[1];\n  greeting() {test::f()}: String[1];\n}\n";
+        PureModelContextData data = parse(person + function("'a'"));
+        Assert.assertTrue(PureModelContextDataDiff.compute(data, parse(person + function("'b'"))).hasStructuralChange());
+
+        // calling functions are bound to the definition, which is kept
+        String caller = "function test::g(): String[1]\n{\n  test::f()\n}\n";
+        data = parse(CLASS + function("'a'") + caller);
+        Assert.assertFalse(PureModelContextDataDiff.compute(data, parse(CLASS + function("'b'") + caller)).hasStructuralChange());
+    }
+
+    @Test
+    public void testWarningsOfRecompiledBodiesAreReplaced()
+    {
+        PureModelContextData data = parse(CLASS + function("'a'"));
+        PureModel model = Compiler.compile(data, DeploymentMode.TEST, null);
+        Function function = data.getElementsOfType(Function.class).get(0);
+        model.addWarnings(Lists.mutable.with(new Warning(function.sourceInformation, "previous body")));
+
+        Compiler.hotSwapFunctionBodies(model, data, parse(CLASS + function("'b'")), DeploymentMode.TEST, null, null);
+        Assert.assertTrue(model.getWarnings().noneSatisfy(w -> "previous body".equals(w.message)));
+    }
+
+    @Test
+    public void testStructuralChangeTriggersFullCompilation()
+    {
+        PureModelContextData data = parse(CLASS + function("'a'"));
+        PureModel model = Compiler.compile(data, DeploymentMode.TEST, null);
+
+        PureModelContextData newData = parse("Class test::Person\n{\n  name: String[1];\n  age: Integer[1];\n}\n" + function("'a'"));
+        Assert.assertTrue(PureModelContextDataDiff.compute(data, newData).hasStructuralChange());
+        PureModel newModel = Compiler.hotSwapFunctionBodies(model, data, newData, DeploymentMode.TEST, null, null);
+        Assert.assertNotSame(model, newModel);
+        Assert.assertNotNull(newModel.getClass("test::Person")._properties().detect(p -> "age".equals(p._name())));
+    }
+
+    @Test
+    public void testSignatureChangeTriggersFullCompilation()
+    {
+        PureModelContextData data = parse(CLASS + function("'a'"));
+        PureModelContextData newData = parse(CLASS + "function test::f(): Integer[1]\n{\n  1\n}\n");
+        Assert.assertTrue(PureModelContextDataDiff.compute(data, newData).hasStructuralChange());
+    }
+
+    @Test
+    public void testFailedRecompilationRestoresPreviousBody()
+    {
+        PureModelContextData data = parse(CLASS + function("'a'"));
+        PureModel model = Compiler.compile(data, DeploymentMode.TEST, null);
+
+        Assert.assertThrows(EngineException.class, () -> Compiler.hotSwapFunctionBodies(model, data, parse(CLASS + function("1")), DeploymentMode.TEST, null, null));
+        Assert.assertEquals("a", bodyValue(model));
+    }
+
+    private static String function(String body)
+    {
+        return "function test::f(): String[1]\n{\n  " + body + "\n}\n";
+    }
+
+    private static Object bodyValue(PureModel model)
+    {
+        return ((InstanceValue) model.getConcreteFunctionDefinition("test::f__String_1_", null)._expressionSequence().getFirst())._values().getFirst();
+    }
+
+    private static PureModelContextData parse(String code)
+    {
+        return PureGrammarParser.newInstance().parseModel(code);
+    }
+}
@@ -0,0 +1,150 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.compiler.test;
+
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModelProcessParameter;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.Warning;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.Function;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.runtime.EngineRuntime;
+import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.ClassInstance;
+import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.classInstance.RuntimeInstance;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TestParallelCompilation
+{
+    private static final int FUNCTION_COUNT = 50;
+
+    @Test
+    public void testParallelCompilationMatchesSerialCompilation()
+    {
+        StringBuilder code = new StringBuilder("Class test::Person\n{\n  firstName: String[1];\n  age: Integer[1];\n}\n");
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            code.append("function test::f").append(i).append("(p: test::Person[*]): String[*]\n{\n  $p->filter(x|$x.age > ").append(i).append(")->map(x|$x.firstName + '").append(i).append("');\n}\n");
+        }
+        PureModelContextData data = PureGrammarParser.newInstance().parseModel(code.toString());
+
+        PureModel serial = compile(data, 1);
+        PureModel parallel = compile(data, 4);
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            String path = "test::f" + i + "_Person_MANY__String_MANY_";
+            ConcreteFunctionDefinition<?> serialFunction = serial.getConcreteFunctionDefinition(path, null);
+            ConcreteFunctionDefinition<?> parallelFunction = parallel.getConcreteFunctionDefinition(path, null);
+            Assert.assertEquals(serialFunction._expressionSequence().size(), parallelFunction._expressionSequence().size());
+            Assert.assertEquals(serialFunction._expressionSequence().getFirst()._genericType()._rawType(), parallelFunction._expressionSequence().getFirst()._genericType()._rawType());
+        }
+        Assert.assertEquals(warningMessages(serial), warningMessages(parallel));
+    }
+
+    @Test
+    public void testParallelCompilationReportsWarningsInDeclarationOrder()
+    {
+        StringBuilder code = new StringBuilder();
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            code.append("function test::f").append(i).append("(): meta::core::runtime::Runtime[1]\n{\n  []\n}\n");
+        }
+        PureModelContextData data = PureGrammarParser.newInstance().parseModel(code.toString());
+        // a runtime without mapping is a warning, raised while compiling the body of each function
+        data.getElementsOfType(Function.class).forEach(function ->
+        {
+            RuntimeInstance runtimeInstance = new RuntimeInstance();
+            runtimeInstance.runtime = new EngineRuntime();
+            runtimeInstance.runtime.sourceInformation = function.sourceInformation;
+            function.body = Collections.singletonList(new ClassInstance("runtimeInstance", runtimeInstance, function.sourceInformation));
+        });
+
+        List<String> expected = ListIterate.collect(data.getElementsOfType(Function.class), function -> new Warning(function.sourceInformation, "Runtime must cover at least one mapping").buildPrettyWarningMessage());
+        Assert.assertEquals(FUNCTION_COUNT, expected.size());
+        Assert.assertEquals(expected, warningMessages(compile(data, 1)));
+        Assert.assertEquals(expected, warningMessages(compile(data, 4)));
+    }
+
+    @Test
+    public void testParallelCompilationReportsFirstFailingFunction()
+    {
+        StringBuilder code = new StringBuilder();
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            // every tenth function, starting with f3, returns an Integer where a String is declared
+            String body = (i % 10 == 3) ? "1" : "'" + i + "'";
+            code.append("function test::f").append(i).append("(): String[1]\n{\n  ").append(body).append(";\n}\n");
+        }
+        PureModelContextData data = PureGrammarParser.newInstance().parseModel(code.toString());
+
+        EngineException serialError = Assert.assertThrows(EngineException.class, () -> compile(data, 1));
+        EngineException parallelError = Assert.assertThrows(EngineException.class, () -> compile(data, 4));
+        Assert.assertTrue(parallelError.getMessage(), parallelError.getMessage().contains("test::f3__String_1_"));
+        Assert.assertEquals(serialError.getMessage(), parallelError.getMessage());
+        Assert.assertEquals(serialError.getSourceInformation().getMessage(), parallelError.getSourceInformation().getMessage());
+    }
+
+    @Test
+    public void testConcurrentParallelCompilationsShareThePool() throws Exception
+    {
+        StringBuilder code = new StringBuilder();
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            code.append("function test::f").append(i).append("(): String[1]\n{\n  '").append(i).append("';\n}\n");
+        }
+        PureModelContextData data = PureGrammarParser.newInstance().parseModel(code.toString());
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try
+        {
+            List<Future<PureModel>> models = callers.invokeAll(Collections.nCopies(8, () -> compile(data, 4)));
+            for (Future<PureModel> model : models)
+            {
+                Assert.assertNotNull(model.get().getConcreteFunctionDefinition("test::f" + (FUNCTION_COUNT - 1) + "__String_1_", null));
+            }
+        }
+        finally
+        {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvalidParallelism()
+    {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new PureModelProcessParameter(null, 0));
+    }
+
+    private static List<String> warningMessages(PureModel pureModel)
+    {
+        return pureModel.getWarnings().collect(Warning::buildPrettyWarningMessage);
+    }
+
+    private static PureModel compile(PureModelContextData data, int parallelism)
+    {
+        return new PureModel(data, Identity.getAnonymousIdentity().getName(), DeploymentMode.TEST, new PureModelProcessParameter(null, parallelism), null);
+    }
+}
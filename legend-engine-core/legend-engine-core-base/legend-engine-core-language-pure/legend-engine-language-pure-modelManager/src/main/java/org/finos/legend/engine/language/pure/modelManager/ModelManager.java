@@ -15,11 +15,19 @@
 package org.finos.legend.engine.language.pure.modelManager;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.opentracing.Scope;
 import io.opentracing.Tracer;
 import io.opentracing.util.GlobalTracer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -32,6 +40,7 @@ import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.Protocol;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextText;
 import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.Lambda;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
@@ -39,6 +48,7 @@ import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
 public class ModelManager
 {
@@ -54,6 +64,18 @@ public class ModelManager
     //-------------------------------------------------------------------------------------------------
     public static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
     public final Cache<PureModelContext, PureModel> pureModelCache = CacheBuilder.newBuilder().recordStats().softValues().expireAfterAccess(30, TimeUnit.MINUTES).build();
+
+    /**
+     * Maximum number of models compiled from inline {@link PureModelContextData} or {@link PureModelContextText} kept in
+     * {@link #pureModelContentCache}, 0 disables the cache
+     */
+    public static final String CONTENT_CACHE_SIZE_PROPERTY = "legend.engine.modelManager.contentCacheSize";
+    private static final int DEFAULT_CONTENT_CACHE_SIZE = 16;
+    // map entries are sorted so that the serialized form, and hence the hash, does not depend on map iteration order
+    private static final ObjectMapper contentHashObjectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    public final Cache<String, PureModel> pureModelContentCache;
+    private final int contentCacheSize;
+
     private final DeploymentMode deploymentMode;
     private final MutableList<ModelLoader> modelLoaders;
     private final Tracer tracer;
@@ -65,6 +87,14 @@ public class ModelManager
 
     public ModelManager(DeploymentMode mode, Tracer tracer, ModelLoader... modelLoaders)
     {
+        this(mode, tracer, Integer.getInteger(CONTENT_CACHE_SIZE_PROPERTY, DEFAULT_CONTENT_CACHE_SIZE), modelLoaders);
+    }
+
+    public ModelManager(DeploymentMode mode, Tracer tracer, int contentCacheSize, ModelLoader... modelLoaders)
+    {
+        Assert.assertTrue(contentCacheSize >= 0, () -> "Content cache size must not be negative, got: " + contentCacheSize);
+        this.contentCacheSize = contentCacheSize;
+        this.pureModelContentCache = CacheBuilder.newBuilder().recordStats().maximumSize(contentCacheSize).softValues().expireAfterAccess(30, TimeUnit.MINUTES).build();
         this.tracer = tracer;
         this.modelLoaders = Lists.mutable.of(modelLoaders);
         this.modelLoaders.forEach((Procedure<ModelLoader>) loader -> loader.setModelManager(this));
@@ -74,7 +104,14 @@ public class ModelManager
     // Remove clientVersion
     public PureModel loadModel(PureModelContext context, String clientVersion, Identity identity, String packageOffset)
     {
-        if (!(context instanceof PureModelContextData) && !(context instanceof PureModelContextText))
+        if ((context instanceof PureModelContextData) || (context instanceof PureModelContextText))
+        {
+            if (this.contentCacheSize > 0)
+            {
+                return this.loadModelFromContentCache(context, clientVersion, identity, packageOffset);
+            }
+        }
+        else
         {
             ModelLoader loader = this.modelLoaderForContext(context);
             if (loader.shouldCache(context))
@@ -82,7 +119,7 @@ public class ModelManager
                 PureModelContext cacheKey = loader.cacheKey(context, identity);
                 try
                 {
-                    return this.pureModelCache.get(cacheKey, () -> Compiler.compile(this.loadData(cacheKey, clientVersion, identity), this.deploymentMode, identity.getName(), packageOffset));
+                    return this.pureModelCache.get(cacheKey, () -> this.compileShared(this.loadData(cacheKey, clientVersion, identity), identity, packageOffset));
                 }
                 catch (ExecutionException e)
                 {
@@ -93,6 +130,106 @@ public class ModelManager
         return Compiler.compile(this.loadData(context, clientVersion, identity), this.deploymentMode, identity.getName(), packageOffset);
     }
 
+    private PureModel loadModelFromContentCache(PureModelContext context, String clientVersion, Identity identity, String packageOffset)
+    {
+        String cacheKey;
+        try (Scope scope = tracer.buildSpan("Hash Model Content").startActive(true))
+        {
+            cacheKey = contentHash(context, packageOffset);
+        }
+        boolean[] miss = {false};
+        try
+        {
+            PureModel pureModel = this.pureModelContentCache.get(cacheKey, () ->
+            {
+                miss[0] = true;
+                return this.compileShared(this.loadData(context, clientVersion, identity), identity, packageOffset);
+            });
+            if (miss[0])
+            {
+                MetricsHandler.incrementPureModelCacheMissCount("content");
+            }
+            else
+            {
+                MetricsHandler.incrementPureModelCacheHitCount("content");
+            }
+            return pureModel;
+        }
+        catch (UncheckedExecutionException e)
+        {
+            // surface compilation errors as they would be without the cache
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        catch (ExecutionException e)
+        {
+            throw new EngineException("Engine was not able to cache", e);
+        }
+    }
+
+    /**
+     * Cached models are returned to every caller asking for the same content, hence must never be modified in place
+     */
+    private PureModel compileShared(PureModelContextData data, Identity identity, String packageOffset)
+    {
+        PureModel pureModel = Compiler.compile(data, this.deploymentMode, identity.getName(), packageOffset);
+        pureModel.markShared();
+        return pureModel;
+    }
+
+    /**
+     * Stable hash of the model content: the serializer and the code for {@link PureModelContextText}, the serializer and
+     * elements for {@link PureModelContextData}. The origin of the data is ignored as it does not take part in compilation.
+     */
+    static String contentHash(PureModelContext context, String packageOffset)
+    {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, packageOffset);
+        if (context instanceof PureModelContextText)
+        {
+            PureModelContextText text = (PureModelContextText) context;
+            hasher.putByte((byte) 'T');
+            putProtocol(hasher, text.serializer);
+            putString(hasher, text.code);
+        }
+        else
+        {
+            PureModelContextData data = (PureModelContextData) context;
+            hasher.putByte((byte) 'D');
+            putProtocol(hasher, data.getSerializer());
+            try (OutputStream stream = Funnels.asOutputStream(hasher))
+            {
+                contentHashObjectMapper.writeValue(stream, data.getElements());
+            }
+            catch (IOException e)
+            {
+                throw new EngineException("Engine was not able to hash the model content", e);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putProtocol(Hasher hasher, Protocol protocol)
+    {
+        putString(hasher, protocol == null ? null : protocol.name);
+        putString(hasher, protocol == null ? null : protocol.version);
+    }
+
+    private static void putString(Hasher hasher, String value)
+    {
+        if (value == null)
+        {
+            hasher.putInt(-1);
+        }
+        else
+        {
+            hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+        }
+    }
+
     // Remove clientVersion
     public Pair<PureModelContextData, PureModel> loadModelAndData(PureModelContext context, String clientVersion, Identity identity, String packageOffset)
     {
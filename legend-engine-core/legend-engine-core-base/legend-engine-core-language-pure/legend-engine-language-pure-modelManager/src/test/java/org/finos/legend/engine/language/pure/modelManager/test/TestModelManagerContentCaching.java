@@ -0,0 +1,101 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager.test;
+
+import io.opentracing.util.GlobalTracer;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextText;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestModelManagerContentCaching
+{
+    private static final String MODEL = "Class test::Person\n{\n  name: String[1];\n}\n";
+
+    @Test
+    public void testPureModelContextDataIsCachedByContent()
+    {
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, GlobalTracer.get(), 4);
+        Identity identity = Identity.getAnonymousIdentity();
+
+        PureModel first = manager.loadModel(PureGrammarParser.newInstance().parseModel(MODEL), null, identity, null);
+        PureModel second = manager.loadModel(PureGrammarParser.newInstance().parseModel(MODEL), null, identity, null);
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, manager.pureModelContentCache.size());
+        Assert.assertEquals(1, manager.pureModelContentCache.stats().hitCount());
+        Assert.assertEquals(1, manager.pureModelContentCache.stats().missCount());
+
+        PureModel other = manager.loadModel(PureGrammarParser.newInstance().parseModel(MODEL + "Class test::Firm\n{\n  name: String[1];\n}\n"), null, identity, null);
+        Assert.assertNotSame(first, other);
+        Assert.assertEquals(2, manager.pureModelContentCache.size());
+    }
+
+    @Test
+    public void testPureModelContextTextIsCachedByContent()
+    {
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, GlobalTracer.get(), 4);
+        Identity identity = Identity.getAnonymousIdentity();
+
+        PureModel first = manager.loadModel(text(MODEL), null, identity, null);
+        PureModel second = manager.loadModel(text(MODEL), null, identity, null);
+        Assert.assertSame(first, second);
+        Assert.assertNotSame(first, manager.loadModel(text(MODEL), null, identity, "offset"));
+    }
+
+    @Test
+    public void testCacheIsBounded()
+    {
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, GlobalTracer.get(), 1);
+        Identity identity = Identity.getAnonymousIdentity();
+
+        manager.loadModel(text(MODEL), null, identity, null);
+        manager.loadModel(text(MODEL + "Class test::Firm\n{\n  name: String[1];\n}\n"), null, identity, null);
+        Assert.assertEquals(1, manager.pureModelContentCache.size());
+        Assert.assertEquals(1, manager.pureModelContentCache.stats().evictionCount());
+    }
+
+    @Test
+    public void testCacheCanBeDisabled()
+    {
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, GlobalTracer.get(), 0);
+        Identity identity = Identity.getAnonymousIdentity();
+
+        Assert.assertNotSame(manager.loadModel(text(MODEL), null, identity, null), manager.loadModel(text(MODEL), null, identity, null));
+        Assert.assertEquals(0, manager.pureModelContentCache.size());
+    }
+
+    @Test
+    public void testCompilationErrorIsNotWrapped()
+    {
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, GlobalTracer.get(), 4);
+        PureModelContextData data = PureGrammarParser.newInstance().parseModel("Class test::Person extends test::Unknown\n{\n}\n");
+        EngineException e = Assert.assertThrows(EngineException.class, () -> manager.loadModel(data, null, Identity.getAnonymousIdentity(), null));
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("test::Unknown"));
+        Assert.assertEquals(0, manager.pureModelContentCache.size());
+    }
+
+    private static PureModelContextText text(String code)
+    {
+        PureModelContextText text = new PureModelContextText();
+        text.code = code;
+        return text;
+    }
+}
@@ -101,7 +101,7 @@ public class ExternalFormatExecutionExtension implements ExecutionExtension
             throw new IllegalStateException("No runtime extension for contentType " + node.contentType);
         }
 
-        Result sourceResult = node.executionNodes().getFirst().accept(new ExecutionNodeExecutor(identity, new ExecutionState(executionState)));
+        Result sourceResult = ExecutionNodeExecutor.executeNode(node.executionNodes().getFirst(), identity, new ExecutionState(executionState));
         InputStream stream = ExecutionHelper.inputStreamFromResult(sourceResult);
         StreamingObjectResult<?> streamingObjectResult = extension.executeInternalizeExecutionNode(node, stream, identity, executionState);
         StreamingObjectResult<?> withConstraints = applyConstraints(streamingObjectResult, sourceResult, node.checked, node.enableConstraints);
@@ -120,7 +120,7 @@ public class ExternalFormatExecutionExtension implements ExecutionExtension
             throw new IllegalStateException("No runtime extension for contentType " + node.contentType);
         }
 
-        Result result = node.executionNodes().getAny().accept(new ExecutionNodeExecutor(identity, executionState));
+        Result result = ExecutionNodeExecutor.executeNode(node.executionNodes().getAny(), identity, executionState);
         return extension.executeExternalizeExecutionNode(node, result, identity, executionState);
     }
 
@@ -132,7 +132,7 @@ public class ExternalFormatExecutionExtension implements ExecutionExtension
             throw new IllegalStateException("No runtime extension for contentType " + node.contentType);
         }
 
-        Result result = node.executionNodes().getAny().accept(new ExecutionNodeExecutor(identity, executionState));
+        Result result = ExecutionNodeExecutor.executeNode(node.executionNodes().getAny(), identity, executionState);
         return extension.executeExternalizeTDSExecutionNode(node, result, identity, executionState);
     }
 
@@ -162,7 +162,7 @@ public class ExternalFormatExecutionExtension implements ExecutionExtension
     private Result executeDataQuality(DataQualityExecutionNode node, Identity identity, ExecutionState executionState)
     {
         ExecutionNode inputNode = node.executionNodes().getAny();
-        Result input = inputNode.accept(new ExecutionNodeExecutor(identity, executionState));
+        Result input = ExecutionNodeExecutor.executeNode(inputNode, identity, executionState);
         StreamingObjectResult<?> streamingObjectResult = (StreamingObjectResult<?>) input;
         return applyConstraints(streamingObjectResult, streamingObjectResult.getChildResult(), node.checked, node.enableConstraints);
     }
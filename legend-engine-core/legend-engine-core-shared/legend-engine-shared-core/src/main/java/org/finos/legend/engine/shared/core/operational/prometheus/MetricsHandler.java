@@ -23,8 +23,6 @@ import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Summary;
-import org.eclipse.collections.api.map.MutableMap;
-import org.eclipse.collections.impl.factory.Maps;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.errorManagement.ExceptionCategory;
@@ -36,13 +34,17 @@ import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 public class MetricsHandler
 {
     public static final String METRIC_PREFIX = "alloy_";
     private static final String[] empty = new String[]{};
-    static MutableMap<String, Summary> serviceMetrics = Maps.mutable.empty();
-    static MutableMap<String, Gauge> gauges = Maps.mutable.empty();
+    // concurrent so that observations on registered metrics do not contend, a metric is registered once on first use
+    static Map<String, Summary> serviceMetrics = new ConcurrentHashMap<>();
+    static Map<String, Gauge> gauges = new ConcurrentHashMap<>();
     static final Gauge allExecutions = Gauge.build().name("alloy_executions").help("Execution gauge metric ").register();
 
     // ----------------------------------------- NEW IMPLEMENTATION -----------------------------------------
@@ -63,10 +65,20 @@ public class MetricsHandler
             .labelNames("operation", "context")
             .register(getMetricsRegistry());
 
+    private static final Histogram EXECUTION_NODE_LATENCY = Histogram.build().name("legend_engine_execution_node_latency")
+            .help("Measure time spent by execution nodes in SQL execution, Java compilation and serialization")
+            .buckets(.001, .005, .01, .05, .1, .5, 1, 5, 10, 60)
+            .labelNames("node", "phase")
+            .register(getMetricsRegistry());
+    private static final Map<String, Histogram.Child[]> EXECUTION_NODE_LATENCY_CHILDREN = new ConcurrentHashMap<>();
+
     private static final Counter ALL_EXECUTIONS = Counter.build("legend_engine_executions", "Execution counter metric ").register();
     private static final Counter DATASTORE_SPEC_COUNT = Counter.build("legend_engine_datastore_spec_count", "Count datastore specifications").register(getMetricsRegistry());
     private static final Counter JAVA_COMPILATION_COUNT = Counter.build("legend_engine_java_compilation_count", "Count java compilations").register(getMetricsRegistry());
+    private static final Counter PURE_MODEL_CACHE_REQUESTS = Counter.build("legend_engine_pure_model_cache_requests", "Count PureModel cache lookups").labelNames("cache", "result").register(getMetricsRegistry());
+    private static final Counter SQL_PLAN_CACHE_REQUESTS = Counter.build("legend_engine_sql_plan_cache_requests", "Count SQL execution plan cache lookups").labelNames("result").register(getMetricsRegistry());
     private static final Gauge TEMP_FILE_COUNT = Gauge.build("legend_engine_temp_file_count", "Measure how many temporary files are being currently created").register(getMetricsRegistry());
+    private static final Gauge MONGODB_CLIENT_COUNT = Gauge.build("legend_engine_mongodb_client_count", "Measure how many MongoDB clients are currently open").register(getMetricsRegistry());
     private static final Gauge ACTIVE_CONNECTIONS =  Gauge.build("active_connections", "Active Connections in Pool").labelNames("poolName").register();
     private static final Gauge TOTAL_CONNECTIONS = Gauge.build("total_connections", "total Connections in Pool").labelNames("poolName").register();
     private static final Gauge IDLE_CONNECTIONS = Gauge.build("idle_connections", "Idle Connections in Pool").labelNames("poolName").register();
@@ -105,6 +117,31 @@ public class MetricsHandler
         }
     }
 
+    /**
+     * Phases of the execution of a node timed by {@link #observeExecutionNodeDuration(String, ExecutionNodePhase, long)}
+     */
+    public enum ExecutionNodePhase
+    {
+        SQL_EXECUTION,
+        JAVA_COMPILATION,
+        SERIALIZATION
+    }
+
+    public static void observeExecutionNodeDuration(String node, ExecutionNodePhase phase, long durationNanos)
+    {
+        // children are resolved once per node, label lookups would otherwise allocate on every observation
+        Histogram.Child[] children = EXECUTION_NODE_LATENCY_CHILDREN.computeIfAbsent(returnLabelOrUnknown(node), n ->
+        {
+            Histogram.Child[] nodeChildren = new Histogram.Child[ExecutionNodePhase.values().length];
+            for (ExecutionNodePhase p : ExecutionNodePhase.values())
+            {
+                nodeChildren[p.ordinal()] = EXECUTION_NODE_LATENCY.labels(n, toCamelCase(p));
+            }
+            return nodeChildren;
+        });
+        children[phase.ordinal()].observe(durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
     public static void incrementExecutionCount()
     {
         ALL_EXECUTIONS.inc();
@@ -152,6 +189,26 @@ public class MetricsHandler
         JAVA_COMPILATION_COUNT.inc();
     }
 
+    public static void incrementPureModelCacheHitCount(String cache)
+    {
+        PURE_MODEL_CACHE_REQUESTS.labels(cache, "hit").inc();
+    }
+
+    public static void incrementPureModelCacheMissCount(String cache)
+    {
+        PURE_MODEL_CACHE_REQUESTS.labels(cache, "miss").inc();
+    }
+
+    public static void incrementSqlPlanCacheHitCount()
+    {
+        SQL_PLAN_CACHE_REQUESTS.labels("hit").inc();
+    }
+
+    public static void incrementSqlPlanCacheMissCount()
+    {
+        SQL_PLAN_CACHE_REQUESTS.labels("miss").inc();
+    }
+
     public static void incrementTempFileCount()
     {
         TEMP_FILE_COUNT.inc();
@@ -162,6 +219,16 @@ public class MetricsHandler
         TEMP_FILE_COUNT.dec();
     }
 
+    public static void incrementMongoDBClientCount()
+    {
+        MONGODB_CLIENT_COUNT.inc();
+    }
+
+    public static void decrementMongoDBClientCount()
+    {
+        MONGODB_CLIENT_COUNT.dec();
+    }
+
     private static String returnLabelOrUnknown(String label)
     {
         return label != null ? label : "unknown";
@@ -196,65 +263,48 @@ public class MetricsHandler
     }
 
     @Deprecated
-    public static synchronized void observe(String name, long startTime, long endTime)
+    public static void observe(String name, long startTime, long endTime)
     {
-        if (serviceMetrics.get(name) == null)
+        Summary summary = serviceMetrics.get(name);
+        if (summary == null)
         {
-            Summary g = Summary.build().name(generateMetricName(name, false))
+            summary = serviceMetrics.computeIfAbsent(name, n -> Summary.build().name(generateMetricName(n, false))
                     .quantile(0.5, 0.05).quantile(0.9, 0.01).quantile(0.99, 0.001)
-                    .help(name + " duration metrics")
-                    .register();
-            serviceMetrics.put(name, g);
-            g.observe((endTime - startTime) / 1000F);
-        }
-        else
-        {
-            serviceMetrics.get(name).observe((endTime - startTime) / 1000F);
+                    .help(n + " duration metrics")
+                    .register());
         }
+        summary.observe((endTime - startTime) / 1000F);
     }
 
     @Deprecated
-    public static synchronized void observeCount(String name)
+    public static void observeCount(String name)
     {
         observeCount(name, empty, empty, false);
     }
 
     @Deprecated
-    public static synchronized void decrementCount(String name)
+    public static void decrementCount(String name)
     {
         observeCount(name, empty, empty, true);
     }
 
     @Deprecated
-    public static synchronized void observeCount(String name, String[] labelNames, String[] labelValues, boolean decrement)
+    public static void observeCount(String name, String[] labelNames, String[] labelValues, boolean decrement)
     {
-        Gauge g;
-        if (gauges.get(name) == null)
+        Gauge g = gauges.get(name);
+        if (g == null)
         {
-            g = Gauge.build().name(generateMetricName(name, false))
-                    .help(name + " gauge metric")
-                    .labelNames(labelNames).register();
-            gauges.put(name, g);
-            if (decrement)
-            {
-                g.labels(labelValues).dec();
-            }
-            else
-            {
-                g.labels(labelValues).inc();
-            }
+            g = gauges.computeIfAbsent(name, n -> Gauge.build().name(generateMetricName(n, false))
+                    .help(n + " gauge metric")
+                    .labelNames(labelNames).register());
+        }
+        if (decrement)
+        {
+            g.labels(labelValues).dec();
         }
         else
         {
-            g = gauges.get(name);
-            if (decrement)
-            {
-                g.labels(labelValues).dec();
-            }
-            else
-            {
-                g.labels(labelValues).inc();
-            }
+            g.labels(labelValues).inc();
         }
     }
 
@@ -279,7 +329,7 @@ public class MetricsHandler
     /**
      * Flag to turn exception categorisation on and off.
      */
-    private static boolean categorisationEnabled = true;
+    private static volatile boolean categorisationEnabled = true;
 
     /**
      * Types of exception matching priorities that can be performed on an incoming exceptions.
@@ -298,7 +348,7 @@ public class MetricsHandler
      * @param exception the non-null exception to be analysed that has occurred in execution.
      * @param servicePath the name of the service whose execution invoked the error.
      */
-    public static synchronized void observeError(Enum origin, Exception exception, String servicePath)
+    public static void observeError(Enum origin, Exception exception, String servicePath)
     {
         try (Scope scope = GlobalTracer.get().buildSpan("Error Categorisation").startActive(true))
         {
@@ -324,7 +374,7 @@ public class MetricsHandler
      * @param exception the original exception to be analysed that has occurred in execution.
      * @return a pair of values corresponding to the exceptionLabel and category labels in the Counter.
      */
-    private static synchronized ExceptionLabelValues getCounterLabelValues(Throwable exception)
+    private static ExceptionLabelValues getCounterLabelValues(Throwable exception)
     {
         int categorisationDepthLimit = 5;
         ExceptionLabelValues exceptionLabelValues = new ExceptionLabelValues(getExceptionClass(exception), ExceptionCategory.UNKNOWN_ERROR);
@@ -357,7 +407,7 @@ public class MetricsHandler
      * @param exception is the exception whose class to obtain
      * @return error counter label exceptionClass' value.
      */
-    private static synchronized String getExceptionClass(Throwable exception)
+    private static String getExceptionClass(Throwable exception)
     {
         String prefix = exception instanceof EngineException ? toCamelCase(((EngineException) exception).getErrorType()) : "";
         return prefix + exception.getClass().getSimpleName();
@@ -368,7 +418,7 @@ public class MetricsHandler
      * @param exception is the exception to be checked
      * @return true if the exception has an associated valid category and false otherwise.
      */
-    private static synchronized boolean isEngineExceptionWithValidExceptionCategory(Throwable exception)
+    private static boolean isEngineExceptionWithValidExceptionCategory(Throwable exception)
     {
         if (exception instanceof EngineException)
         {
@@ -383,7 +433,7 @@ public class MetricsHandler
      * @param exception is the exception that occurred in the engine.
      * @return Category belonging to the exception.
      */
-    private static synchronized ExceptionCategory matchExceptionToExceptionDataFile(Throwable exception)
+    private static ExceptionCategory matchExceptionToExceptionDataFile(Throwable exception)
     {
         for (MatchingPriority method : MatchingPriority.values())
         {
@@ -424,7 +474,7 @@ public class MetricsHandler
      * Method to turn exception categorisation on and off
      * @param flag is true to set categorisation on and false otherwise.
      */
-    public static synchronized void setCategorisationEnabled(boolean flag)
+    public static void setCategorisationEnabled(boolean flag)
     {
         categorisationEnabled = flag;
         LOGGER.info("Exception categorisation in error handling has been set to {}", flag);
@@ -530,17 +580,17 @@ public class MetricsHandler
     }
 
     @Deprecated
-    public static synchronized void observeErrorCount(String name)
+    public static void observeErrorCount(String name)
     {
     }
 
     @Deprecated
-    public static synchronized void observeErrorCount(String name, String[] labelNames, String[] labelValues)
+    public static void observeErrorCount(String name, String[] labelNames, String[] labelValues)
     {
     }
 
     @Deprecated
-    public static synchronized void observeError(String name)
+    public static void observeError(String name)
     {
         EXCEPTION_ERROR_COUNTER.labels(name, toCamelCase(ExceptionCategory.UNKNOWN_ERROR), toCamelCase(LoggingEventType.CATCH_ALL), "N/A").inc();
     }
@@ -0,0 +1,75 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.operational.prometheus;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestExecutionNodeMetrics
+{
+    private final CollectorRegistry METRIC_REGISTRY = MetricsHandler.getMetricsRegistry();
+    private final String[] LABEL_NAMES = {"node", "phase"};
+    private final double DELTA = 0.000001d;
+
+    @Test
+    public void testExecutionNodeDurationIsObservedPerPhase()
+    {
+        MetricsHandler.observeExecutionNodeDuration("TestNode", MetricsHandler.ExecutionNodePhase.SQL_EXECUTION, TimeUnit.MILLISECONDS.toNanos(20));
+        MetricsHandler.observeExecutionNodeDuration("TestNode", MetricsHandler.ExecutionNodePhase.SQL_EXECUTION, TimeUnit.MILLISECONDS.toNanos(30));
+        MetricsHandler.observeExecutionNodeDuration("TestNode", MetricsHandler.ExecutionNodePhase.SERIALIZATION, TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(2, METRIC_REGISTRY.getSampleValue("legend_engine_execution_node_latency_count", LABEL_NAMES, new String[]{"TestNode", "SqlExecution"}), DELTA);
+        assertEquals(0.05, METRIC_REGISTRY.getSampleValue("legend_engine_execution_node_latency_sum", LABEL_NAMES, new String[]{"TestNode", "SqlExecution"}), DELTA);
+        assertEquals(2, METRIC_REGISTRY.getSampleValue("legend_engine_execution_node_latency_sum", LABEL_NAMES, new String[]{"TestNode", "Serialization"}), DELTA);
+        assertEquals(0, METRIC_REGISTRY.getSampleValue("legend_engine_execution_node_latency_count", LABEL_NAMES, new String[]{"TestNode", "JavaCompilation"}), DELTA);
+    }
+
+    @Test
+    public void testConcurrentObservations() throws Exception
+    {
+        int threads = 8;
+        int observations = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            for (int i = 0; i < threads; i++)
+            {
+                executor.submit(() ->
+                {
+                    for (int j = 0; j < observations; j++)
+                    {
+                        MetricsHandler.observeCount("test concurrent gauge");
+                        MetricsHandler.observeExecutionNodeDuration("ConcurrentNode", MetricsHandler.ExecutionNodePhase.JAVA_COMPILATION, 1);
+                    }
+                });
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        assertEquals(threads * observations, CollectorRegistry.defaultRegistry.getSampleValue("alloy_test_concurrent_gauge"), DELTA);
+        assertEquals(threads * observations, METRIC_REGISTRY.getSampleValue("legend_engine_execution_node_latency_count", LABEL_NAMES, new String[]{"ConcurrentNode", "JavaCompilation"}), DELTA);
+    }
+}
@@ -26,6 +26,8 @@ import org.eclipse.collections.api.map.MutableMap;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 public class SingleFileCompiler
@@ -36,21 +38,33 @@ public class SingleFileCompiler
     }
 
     public static Map<String, byte[]> compileFile(StringJavaSource source, ClassLoader parentClassLoader) throws IOException, CompileException
+    {
+        return compileFiles(Collections.singletonList(source), parentClassLoader);
+    }
+
+    /**
+     * Compiles each source on its own against the parent class loader. Classes resolved from the parent class loader are
+     * indexed once and shared by all the sources, so this is cheaper than compiling them one by one.
+     */
+    public static Map<String, byte[]> compileFiles(List<StringJavaSource> sources, ClassLoader parentClassLoader) throws IOException, CompileException
     {
         IClassLoader classLoader = new ClassLoaderIClassLoader((parentClassLoader == null) ? Thread.currentThread().getContextClassLoader() : parentClassLoader);
 
-        ClassFile[] classFiles;
-        try (Reader reader = source.openReader(true))
+        MutableMap<String, byte[]> classes = Maps.mutable.empty();
+        for (StringJavaSource source : sources)
         {
-            Parser parser = new Parser(new Scanner(source.getName(), reader));
-            UnitCompiler unitCompiler = new UnitCompiler(parser.parseAbstractCompilationUnit(), classLoader);
-            classFiles = unitCompiler.compileUnit(false, false, false);
-        }
+            ClassFile[] classFiles;
+            try (Reader reader = source.openReader(true))
+            {
+                Parser parser = new Parser(new Scanner(source.getName(), reader));
+                UnitCompiler unitCompiler = new UnitCompiler(parser.parseAbstractCompilationUnit(), classLoader);
+                classFiles = unitCompiler.compileUnit(false, false, false);
+            }
 
-        MutableMap<String, byte[]> classes = Maps.mutable.ofInitialCapacity(classFiles.length);
-        for (ClassFile cf : classFiles)
-        {
-            classes.put(cf.getThisClassName(), cf.toByteArray());
+            for (ClassFile cf : classFiles)
+            {
+                classes.put(cf.getThisClassName(), cf.toByteArray());
+            }
         }
         return classes;
     }
@@ -0,0 +1,109 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.arrow;
+
+import org.apache.arrow.adapter.jdbc.JdbcToArrowConfig;
+import org.apache.arrow.adapter.jdbc.JdbcToArrowConfigBuilder;
+import org.apache.arrow.adapter.jdbc.JdbcToArrowUtils;
+import org.apache.arrow.adapter.jdbc.LegendArrowVectorIterator;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.VectorUnloader;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Exposes the rows of a result set as Arrow record batches, read lazily through {@link LegendArrowVectorIterator}.
+ * Unlike {@link ArrowDataWriter}, nothing is serialized: the batches can be handed to consumers taking an
+ * {@link ArrowReader}, for instance exported through the Arrow C data interface to an embedded database.
+ * <p>
+ * Closing the reader does not close the result set.
+ */
+public class ArrowResultSetReader extends ArrowReader
+{
+    public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
+    private final Schema schema;
+    private final LegendArrowVectorIterator iterator;
+
+    public ArrowResultSetReader(RelationalResult result, BufferAllocator allocator) throws SQLException
+    {
+        this(result.getResultSet(), result.getRelationalDatabaseTimeZone(), allocator, DEFAULT_BATCH_SIZE);
+    }
+
+    public ArrowResultSetReader(ResultSet resultSet, String databaseTimeZone, BufferAllocator allocator, int batchSize) throws SQLException
+    {
+        super(allocator);
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone(databaseTimeZone == null ? "GMT" : databaseTimeZone));
+        // Each batch gets its own root: its buffers are handed over to the reader's root, and may still be referenced by
+        // the consumer when the next batch is read
+        JdbcToArrowConfig config = new JdbcToArrowConfigBuilder(allocator, calendar)
+                .setReuseVectorSchemaRoot(false)
+                .setTargetBatchSize(batchSize)
+                .build();
+        this.schema = JdbcToArrowUtils.jdbcToArrowSchema(resultSet.getMetaData(), config);
+        this.iterator = LegendArrowVectorIterator.create(resultSet, config);
+    }
+
+    @Override
+    public boolean loadNextBatch() throws IOException
+    {
+        prepareLoadNextBatch();
+        if (!this.iterator.hasNext())
+        {
+            return false;
+        }
+        try (VectorSchemaRoot batch = this.iterator.next())
+        {
+            // Only the last batch can be empty, when the row count is a multiple of the batch size
+            if (batch.getRowCount() == 0)
+            {
+                return false;
+            }
+            try (ArrowRecordBatch recordBatch = new VectorUnloader(batch).getRecordBatch())
+            {
+                loadRecordBatch(recordBatch);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public long bytesRead()
+    {
+        return 0;
+    }
+
+    @Override
+    protected void closeReadSource()
+    {
+        this.iterator.close();
+    }
+
+    @Override
+    protected Schema readSchema()
+    {
+        return this.schema;
+    }
+}
@@ -0,0 +1,75 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+public class TestArrowResultSetReader
+{
+    @Test
+    public void testReadBatches() throws Exception
+    {
+        Assert.assertEquals("[4, 4, 2]", readBatchRowCounts(10, 4));
+    }
+
+    @Test
+    public void testReadBatchesWhenRowCountIsMultipleOfBatchSize() throws Exception
+    {
+        Assert.assertEquals("[4, 4]", readBatchRowCounts(8, 4));
+    }
+
+    @Test
+    public void testReadEmptyResultSet() throws Exception
+    {
+        Assert.assertEquals("[]", readBatchRowCounts(0, 4));
+    }
+
+    private static String readBatchRowCounts(int rowCount, int batchSize) throws Exception
+    {
+        try (BufferAllocator allocator = new RootAllocator();
+             Connection connection = DriverManager.getConnection("jdbc:h2:mem:", "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select X as ID, concat('name_', X) as NAME from system_range(1, " + rowCount + ")"))
+        {
+            StringBuilder counts = new StringBuilder("[");
+            long id = 0;
+            try (ArrowResultSetReader reader = new ArrowResultSetReader(resultSet, null, allocator, batchSize))
+            {
+                VectorSchemaRoot root = reader.getVectorSchemaRoot();
+                Assert.assertEquals(2, root.getSchema().getFields().size());
+                while (reader.loadNextBatch())
+                {
+                    for (int i = 0; i < root.getRowCount(); i++)
+                    {
+                        Assert.assertEquals(++id, ((Number) root.getVector(0).getObject(i)).longValue());
+                        Assert.assertEquals("name_" + id, root.getVector(1).getObject(i).toString());
+                    }
+                    counts.append(counts.length() == 1 ? "" : ", ").append(root.getRowCount());
+                }
+            }
+            Assert.assertEquals(rowCount, id);
+            return counts.append("]").toString();
+        }
+    }
+}
@@ -52,7 +52,8 @@ public class ElasticsearchV7ExecutionNodeExecutor implements ExecutionNodeVisito
             Elasticsearch7RequestExecutionNode esNode = (Elasticsearch7RequestExecutionNode) executionNode;
             Elasticsearch7StoreConnection connection = esNode.connection;
 
-            HttpClientContext httpClientContext = ElasticsearchHttpContextUtil.authToHttpContext(this.identity, ((ElasticsearchV7StoreExecutionState)this.executionState.getStoreExecutionState(StoreType.ESv7)).getStoreExecutionConfiguration().getCredentialProviderProvider(), connection.authSpec, this.state.getProviders());
+            ElasticsearchV7StoreExecutorConfiguration configuration = ((ElasticsearchV7StoreExecutionState) this.executionState.getStoreExecutionState(StoreType.ESv7)).getStoreExecutionConfiguration();
+            HttpClientContext httpClientContext = ElasticsearchHttpContextUtil.authToHttpContext(this.identity, configuration.getCredentialProviderProvider(), connection.authSpec, this.state.getProviders());
             RequestBase request = null;
             try
             {
@@ -65,7 +66,7 @@ public class ElasticsearchV7ExecutionNodeExecutor implements ExecutionNodeVisito
                 throw new IllegalStateException("RequestBase failed to initialize due to issues in deep-copy");
             }
 
-            return request.accept(new ExecutionRequestVisitor(this.state.getClient(), httpClientContext, connection.sourceSpec.url, esNode, this.executionState));
+            return request.accept(new ExecutionRequestVisitor(this.state.getClient(), httpClientContext, connection.sourceSpec.url, esNode, this.executionState, configuration, this.state.getPrefetchExecutor()));
         }
 
         throw new IllegalStateException("should not get here");
@@ -20,7 +20,11 @@ import org.finos.legend.engine.plan.execution.stores.StoreType;
 
 public class ElasticsearchV7StoreExecutorConfiguration implements StoreExecutorConfiguration
 {
+    public static final String DEFAULT_POINT_IN_TIME_KEEP_ALIVE = "5m";
+
     private CredentialProviderProvider credentialProviderProvider;
+    private int streamingPageSize;
+    private String pointInTimeKeepAlive;
 
     @Override
     public StoreType getStoreType()
@@ -33,6 +37,25 @@ public class ElasticsearchV7StoreExecutorConfiguration implements StoreExecutorC
         return credentialProviderProvider;
     }
 
+    /**
+     * Number of hits or composite buckets read per request when streaming results from a point in time, 0 when results
+     * are read with a single request
+     */
+    public int getStreamingPageSize()
+    {
+        return streamingPageSize;
+    }
+
+    public boolean isStreamingEnabled()
+    {
+        return streamingPageSize > 0;
+    }
+
+    public String getPointInTimeKeepAlive()
+    {
+        return pointInTimeKeepAlive;
+    }
+
     public static Builder newInstance()
     {
         return new Builder();
@@ -41,6 +64,8 @@ public class ElasticsearchV7StoreExecutorConfiguration implements StoreExecutorC
     public static class Builder
     {
         private CredentialProviderProvider credentialProviderProvider = CredentialProviderProvider.defaultProviderProvider();
+        private int streamingPageSize = 0;
+        private String pointInTimeKeepAlive = DEFAULT_POINT_IN_TIME_KEEP_ALIVE;
 
         public Builder withCredentialProviderProvider(CredentialProviderProvider credentialProviderProvider)
         {
@@ -48,10 +73,24 @@ public class ElasticsearchV7StoreExecutorConfiguration implements StoreExecutorC
             return this;
         }
 
+        public Builder withStreamingPageSize(int streamingPageSize)
+        {
+            this.streamingPageSize = streamingPageSize;
+            return this;
+        }
+
+        public Builder withPointInTimeKeepAlive(String pointInTimeKeepAlive)
+        {
+            this.pointInTimeKeepAlive = pointInTimeKeepAlive;
+            return this;
+        }
+
         public ElasticsearchV7StoreExecutorConfiguration build()
         {
             ElasticsearchV7StoreExecutorConfiguration elasticsearchV7StoreExecutorConfiguration = new ElasticsearchV7StoreExecutorConfiguration();
             elasticsearchV7StoreExecutorConfiguration.credentialProviderProvider = credentialProviderProvider;
+            elasticsearchV7StoreExecutorConfiguration.streamingPageSize = streamingPageSize;
+            elasticsearchV7StoreExecutorConfiguration.pointInTimeKeepAlive = pointInTimeKeepAlive;
             return elasticsearchV7StoreExecutorConfiguration;
         }
     }
@@ -17,6 +17,8 @@ package org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin;
 
 import io.opentracing.contrib.apache.http.client.TracingHttpClientBuilder;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
@@ -34,6 +36,13 @@ public class ElasticsearchV7StoreState implements StoreState
             .setConnectionTimeToLive(5, TimeUnit.MINUTES)
             .build();
 
+    private final ExecutorService prefetchExecutor = Executors.newCachedThreadPool(r ->
+    {
+        Thread thread = new Thread(r, "elasticsearch-page-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Override
     public StoreType getStoreType()
     {
@@ -55,4 +64,12 @@ public class ElasticsearchV7StoreState implements StoreState
     {
         return this.client;
     }
+
+    /**
+     * Requests the next page of streamed results while the current one is consumed
+     */
+    public ExecutorService getPrefetchExecutor()
+    {
+        return this.prefetchExecutor;
+    }
 }
@@ -34,6 +34,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -49,6 +52,7 @@ import org.apache.http.util.EntityUtils;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.block.function.checked.ThrowingFunction2;
 import org.eclipse.collections.impl.lazy.iterator.CollectIterator;
@@ -62,6 +66,7 @@ import org.finos.legend.engine.plan.execution.result.TDSResult;
 import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
 import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.ElasticsearchExecutionLoggingEventType;
 import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.http.ElasticsearchV7RequestToHttpRequestVisitor;
+import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin.ElasticsearchV7StoreExecutorConfiguration;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSResultType;
 import org.finos.legend.engine.protocol.store.elasticsearch.specification.utils.ExternalTaggedUnionMap;
@@ -72,13 +77,20 @@ import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.Agg
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.DocCountAggregateResultPath;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.ElasticsearchObjectMapperProvider;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.LiteralOrExpression;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.closepointintime.ClosePointInTimeRequest;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.closepointintime.ClosePointInTimeRequestBody;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.openpointintime.OpenPointInTimeRequest;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.openpointintime.OpenPointInTimeResponse;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.SearchRequest;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.types.Hit;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.types.PointInTimeReference;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.types.TotalHits;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.types.TotalHitsRelation;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.AbstractRequestBaseVisitor;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.FieldValue;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.RequestBase;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.SortCombinations;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.Time;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.aggregations.AbstractAggregateBaseVisitor;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.aggregations.AbstractMultiBucketBaseVisitor;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.aggregations.Aggregate;
@@ -109,20 +121,31 @@ import org.slf4j.Logger;
 public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(ExecutionRequestVisitor.class);
+    // hits queries without take read with a single request return at most as many hits as a single search can
+    private static final long MAX_RESULT_WINDOW = 10_000L;
 
     private final HttpClient client;
     private final HttpClientContext httpClientContext;
     private final Elasticsearch7RequestExecutionNode node;
     private final ExecutionState executionState;
     private final URI url;
+    private final ElasticsearchV7StoreExecutorConfiguration configuration;
+    private final Executor prefetchExecutor;
 
     public ExecutionRequestVisitor(HttpClient client, HttpClientContext httpClientContext, URI url, Elasticsearch7RequestExecutionNode esNode, ExecutionState executionState)
+    {
+        this(client, httpClientContext, url, esNode, executionState, ElasticsearchV7StoreExecutorConfiguration.newInstance().build(), Runnable::run);
+    }
+
+    public ExecutionRequestVisitor(HttpClient client, HttpClientContext httpClientContext, URI url, Elasticsearch7RequestExecutionNode esNode, ExecutionState executionState, ElasticsearchV7StoreExecutorConfiguration configuration, Executor prefetchExecutor)
     {
         this.client = client;
         this.httpClientContext = httpClientContext;
         this.url = url;
         this.node = esNode;
         this.executionState = executionState;
+        this.configuration = configuration;
+        this.prefetchExecutor = prefetchExecutor;
     }
 
     @Override
@@ -141,11 +164,25 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
 
         List<ExecutionActivity> activities = Lists.mutable.empty();
 
-        ElasticsearchResultSpliterator spliterator = new ElasticsearchResultSpliterator(val, activities);
+        Stream<Stream<Object[]>> pages;
+        if (this.canStreamFromPointInTime(val))
+        {
+            PointInTimeResultSpliterator spliterator = new PointInTimeResultSpliterator(val, activities, span);
+            pages = StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+        }
+        else
+        {
+            if (!this.isAggregation() && val.body.size == null)
+            {
+                // elasticsearch would otherwise return 10 hits
+                val.body.size = LiteralOrExpression.literal(MAX_RESULT_WINDOW);
+            }
+            ElasticsearchResultSpliterator spliterator = new ElasticsearchResultSpliterator(val, activities);
+            pages = StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+        }
 
-        Stream<Object[]> stream = StreamSupport.stream(spliterator, false)
+        Stream<Object[]> stream = pages
                 .flatMap(Function.identity())
-                .onClose(spliterator::close)
                 .onClose(scope::close)
                 .onClose(span::finish);
 
@@ -157,6 +194,34 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         );
     }
 
+    private boolean isAggregation()
+    {
+        return ((TDSMetadata) this.node.metadata).columnResultPaths.stream()
+                .map(x -> x.resultPath)
+                .allMatch(x -> x instanceof AggregateResultPath || x instanceof DocCountAggregateResultPath);
+    }
+
+    /**
+     * Hits queries without offset and single composite aggregations can be read page by page from a point in time, when
+     * streaming is enabled. Other requests are read with a single request.
+     */
+    private boolean canStreamFromPointInTime(SearchRequest searchRequest)
+    {
+        if (!this.configuration.isStreamingEnabled() || searchRequest.body.pit != null)
+        {
+            return false;
+        }
+        if (this.isAggregation())
+        {
+            Map<String, AggregationContainer> aggregations = searchRequest.body.aggregations;
+            return aggregations.size() == 1 && aggregations.values().iterator().next().composite != null;
+        }
+        LiteralOrExpression<?> from = searchRequest.body.from;
+        LiteralOrExpression<?> size = searchRequest.body.size;
+        return (from == null || (from.getLiteral() instanceof Number && ((Number) from.getLiteral()).longValue() == 0L))
+                && (size == null || size.getLiteral() instanceof Number);
+    }
+
     private Iterator<Object[]> processAggregateResponse(SearchRequest searchRequest, JsonParser parser, Span span, Procedure<MultiBucketBase> lastBucket) throws IOException
     {
         Map<String, AggregationContainer> aggregations = searchRequest.body.aggregations;
@@ -462,7 +527,7 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         });
     }
 
-    private Iterator<Object[]> processNotAggregateResponse(JsonParser parser, Span span) throws IOException
+    private Iterator<Object[]> processNotAggregateResponse(JsonParser parser, Span span, Procedure<Hit<ObjectNode>> lastHit) throws IOException
     {
         TypeReference<Hit<ObjectNode>> hitTypeReference = new TypeReference<Hit<ObjectNode>>()
         {
@@ -488,14 +553,22 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
                 .map(x -> ElasticsearchTDSResultHelper.hitTransformer(tdsColumns.get((int) x.index), x.resultPath))
                 .collect(Collectors.toList());
 
-        return new CollectIterator<>(hits, h -> extractors.stream().map(x -> x.apply(h)).toArray());
+        return new CollectIterator<>(hits, h ->
+        {
+            lastHit.accept(h);
+            return extractors.stream().map(x -> x.apply(h)).toArray();
+        });
     }
 
     private static JsonParser toResponseBodyJsonParser(InputStream responseBody, Span span) throws IOException
     {
         // root parser...
         JsonParser parser = ElasticsearchObjectMapperProvider.OBJECT_MAPPER.getFactory().createParser(responseBody);
+        return readResponseHeader(parser, span);
+    }
 
+    private static JsonParser readResponseHeader(JsonParser parser, Span span) throws IOException
+    {
         // extract how long took
         FilteringParserDelegate tookParser = new FilteringParserDelegate(parser, new JsonPointerBasedFilter("/took"), false, false);
         Long took = tookParser.readValueAs(Long.class);
@@ -634,9 +707,7 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
             super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.IMMUTABLE);
             this.searchRequest = searchRequest;
             this.activities = activities;
-            this.isAggregation = ((TDSMetadata) node.metadata).columnResultPaths.stream()
-                    .map(x -> x.resultPath)
-                    .allMatch(x -> x instanceof AggregateResultPath || x instanceof DocCountAggregateResultPath);
+            this.isAggregation = ExecutionRequestVisitor.this.isAggregation();
         }
 
         @Override
@@ -726,7 +797,9 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
                 }
                 else
                 {
-                    processor = ExecutionRequestVisitor.this::processNotAggregateResponse;
+                    processor = (x, y) -> ExecutionRequestVisitor.this.processNotAggregateResponse(x, y, h ->
+                    {
+                    });
                 }
 
                 if (!next && !this.activities.isEmpty())
@@ -789,4 +862,242 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
             }
         }
     }
+
+    /**
+     * Reads the pages of a search from a point in time, so that every page sees the indices as they were when the first
+     * page was requested. Hits are paged with search_after on the sort values of the last hit, the _shard_doc tiebreaker
+     * being added to the requested sort. Composite aggregations are paged after the key of the last bucket.
+     * <p>
+     * Each page is read fully before its rows are emitted, the next page being requested in the background while the
+     * rows of the current one are consumed: at most two pages are held in memory.
+     */
+    private class PointInTimeResultSpliterator extends Spliterators.AbstractSpliterator<Stream<Object[]>> implements AutoCloseable
+    {
+        private final SearchRequest searchRequest;
+        private final List<ExecutionActivity> activities;
+        private final Span parentSpan;
+        private final AggregationContainer composite;
+        private final long pageSize;
+        private long remaining;
+        private String pointInTimeId;
+        private CompletableFuture<Page> nextPage;
+        private boolean done = false;
+        private boolean closed = false;
+
+        private PointInTimeResultSpliterator(SearchRequest searchRequest, List<ExecutionActivity> activities, Span parentSpan)
+        {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            this.searchRequest = searchRequest;
+            this.activities = activities;
+            this.parentSpan = parentSpan;
+            this.composite = ExecutionRequestVisitor.this.isAggregation() ? searchRequest.body.aggregations.values().iterator().next() : null;
+            this.pageSize = ExecutionRequestVisitor.this.configuration.getStreamingPageSize();
+            // hits queries without take are generated without size, any size comes from a take and limits the hits read
+            LiteralOrExpression<?> size = searchRequest.body.size;
+            this.remaining = this.composite != null || size == null ? Long.MAX_VALUE : ((Number) size.getLiteral()).longValue();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Stream<Object[]>> action)
+        {
+            if (this.closed || this.done)
+            {
+                return false;
+            }
+
+            if (this.nextPage == null)
+            {
+                this.start();
+            }
+
+            Page page = join(this.nextPage);
+            this.activities.add(page.activity);
+            this.pointInTimeId = page.pointInTimeId == null ? this.pointInTimeId : page.pointInTimeId;
+
+            if (page.hasNext)
+            {
+                String nextPointInTimeId = this.pointInTimeId;
+                this.nextPage = CompletableFuture.supplyAsync(() -> this.fetch(nextPointInTimeId, page), ExecutionRequestVisitor.this.prefetchExecutor);
+            }
+            else
+            {
+                this.done = true;
+                this.nextPage = null;
+            }
+
+            action.accept(page.rows.stream());
+            return true;
+        }
+
+        private void start()
+        {
+            OpenPointInTimeRequest openPointInTimeRequest = new OpenPointInTimeRequest();
+            openPointInTimeRequest.index = this.searchRequest.index;
+            openPointInTimeRequest.keep_alive = this.keepAlive();
+            HttpUriRequest request = openPointInTimeRequest.accept(new ElasticsearchV7RequestToHttpRequestVisitor(ExecutionRequestVisitor.this.url, ExecutionRequestVisitor.this.executionState));
+            this.pointInTimeId = this.execute(request, request.getRequestLine().toString(), (x, y) -> ElasticsearchObjectMapperProvider.OBJECT_MAPPER.readValue(x, OpenPointInTimeResponse.class).id.getLiteral());
+
+            this.searchRequest.body.pit = new PointInTimeReference();
+            this.searchRequest.body.pit.keep_alive = this.keepAlive();
+
+            if (this.composite != null)
+            {
+                Assert.assertTrue(this.composite.composite.size == null, () -> "Limit/Take on group by not supported yet");
+                this.composite.composite.size = LiteralOrExpression.literal(this.pageSize);
+            }
+            else
+            {
+                SortCombinations tiebreaker = new SortCombinations();
+                tiebreaker.field = LiteralOrExpression.literal("_shard_doc");
+                this.searchRequest.body.sort = Lists.mutable.withAll(this.searchRequest.body.sort).with(tiebreaker);
+            }
+
+            this.nextPage = CompletableFuture.completedFuture(this.fetch(this.pointInTimeId, null));
+        }
+
+        private Page fetch(String pointInTimeId, Page previous)
+        {
+            long size = Math.min(this.pageSize, this.remaining);
+
+            this.searchRequest.body.pit.id = LiteralOrExpression.literal(pointInTimeId);
+            if (this.composite != null)
+            {
+                if (previous != null)
+                {
+                    this.composite.composite.after = ((CompositeBucket) previous.lastBucket).key;
+                }
+            }
+            else
+            {
+                this.searchRequest.body.size = LiteralOrExpression.literal(size);
+                if (previous != null)
+                {
+                    this.searchRequest.body.search_after = previous.lastHit.sort;
+                }
+            }
+
+            HttpUriRequest request = this.searchRequest.accept(new ElasticsearchV7RequestToHttpRequestVisitor(ExecutionRequestVisitor.this.url, ExecutionRequestVisitor.this.executionState));
+            String query = ((HttpEntityEnclosingRequest) request).getEntity().toString();
+
+            Page page = this.execute(request, query, (responseBody, span) ->
+            {
+                JsonParser parser = ElasticsearchObjectMapperProvider.OBJECT_MAPPER.getFactory().createParser(responseBody);
+                // the point in time id leads the response, ahead of the fields read as header
+                FilteringParserDelegate pointInTimeIdParser = new FilteringParserDelegate(parser, new JsonPointerBasedFilter("/pit_id"), false, false);
+                Page result = new Page(new ElasticsearchV7ExecutionActivity(request.getURI(), query), pointInTimeIdParser.readValueAs(String.class));
+                readResponseHeader(parser, span);
+
+                Iterator<Object[]> rows;
+                if (this.composite != null)
+                {
+                    rows = ExecutionRequestVisitor.this.processAggregateResponse(this.searchRequest, parser, span, b ->
+                    {
+                        result.lastBucket = b;
+                        result.count++;
+                    });
+                }
+                else
+                {
+                    rows = ExecutionRequestVisitor.this.processNotAggregateResponse(parser, span, h ->
+                    {
+                        result.lastHit = h;
+                        result.count++;
+                    });
+                }
+                rows.forEachRemaining(result.rows::add);
+                return result;
+            });
+
+            this.remaining -= page.count;
+            page.hasNext = page.count == size && this.remaining > 0;
+            return page;
+        }
+
+        private <T> T execute(HttpUriRequest request, String query, ThrowingFunction2<InputStream, Span, T> reader)
+        {
+            Span span = GlobalTracer.get().buildSpan("Elasticsearch Request Execution").asChildOf(this.parentSpan).start();
+            try (Scope ignore = GlobalTracer.get().activateSpan(span))
+            {
+                span.log(Collections.singletonMap("query", query));
+                long start = System.currentTimeMillis();
+                LOGGER.info("{}", new LogInfo(ElasticsearchExecutionLoggingEventType.EXECUTION_ELASTICSEARCH_START, ExecutionRequestVisitor.this.executionState.authId, query));
+                try (InputStream responseBody = ExecutionRequestVisitor.this.post(request, span, start))
+                {
+                    return reader.safeValue(responseBody, span);
+                }
+            }
+            catch (Exception e)
+            {
+                throw new EngineException("Error while executing query: " + query, e, ExceptionCategory.USER_EXECUTION_ERROR);
+            }
+            finally
+            {
+                span.finish();
+            }
+        }
+
+        private Time keepAlive()
+        {
+            Time keepAlive = new Time();
+            keepAlive.time = LiteralOrExpression.literal(ExecutionRequestVisitor.this.configuration.getPointInTimeKeepAlive());
+            return keepAlive;
+        }
+
+        private Page join(CompletableFuture<Page> page)
+        {
+            try
+            {
+                return page.join();
+            }
+            catch (CompletionException e)
+            {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        public void close()
+        {
+            if (!this.closed)
+            {
+                this.closed = true;
+                if (this.nextPage != null)
+                {
+                    this.nextPage.cancel(false);
+                }
+                if (this.pointInTimeId != null)
+                {
+                    // the point in time would otherwise be kept until its keep alive expires
+                    ClosePointInTimeRequest closePointInTimeRequest = new ClosePointInTimeRequest();
+                    closePointInTimeRequest.body = new ClosePointInTimeRequestBody();
+                    closePointInTimeRequest.body.id = LiteralOrExpression.literal(this.pointInTimeId);
+                    HttpUriRequest request = closePointInTimeRequest.accept(new ElasticsearchV7RequestToHttpRequestVisitor(ExecutionRequestVisitor.this.url));
+                    try
+                    {
+                        this.execute(request, request.getRequestLine().toString(), (x, y) -> null);
+                    }
+                    catch (Exception e)
+                    {
+                        LOGGER.warn("Failed to close point in time, it will expire after {}", ExecutionRequestVisitor.this.configuration.getPointInTimeKeepAlive(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class Page
+    {
+        private final ElasticsearchV7ExecutionActivity activity;
+        private final String pointInTimeId;
+        private final MutableList<Object[]> rows = Lists.mutable.empty();
+        private long count = 0L;
+        private Hit<ObjectNode> lastHit;
+        private MultiBucketBase lastBucket;
+        private boolean hasNext;
+
+        private Page(ElasticsearchV7ExecutionActivity activity, String pointInTimeId)
+        {
+            this.activity = activity;
+            this.pointInTimeId = pointInTimeId;
+        }
+    }
 }
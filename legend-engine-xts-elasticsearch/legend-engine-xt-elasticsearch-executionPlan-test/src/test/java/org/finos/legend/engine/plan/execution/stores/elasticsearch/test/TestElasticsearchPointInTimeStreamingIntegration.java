@@ -0,0 +1,309 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.elasticsearch.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.BasicResponseHandler;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.language.pure.compiler.Compiler;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.result.TDSResult;
+import org.finos.legend.engine.plan.execution.stores.elasticsearch.test.shared.ElasticsearchCommands;
+import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin.ElasticsearchV7StoreExecutorBuilder;
+import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin.ElasticsearchV7StoreExecutorConfiguration;
+import org.finos.legend.engine.plan.generation.PlanGenerator;
+import org.finos.legend.engine.plan.generation.transformers.LegendPlanTransformers;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.pure.code.core.PureCoreExtensionLoader;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.pure.generated.Root_meta_pure_extension_Extension;
+import org.finos.legend.pure.generated.Root_meta_pure_functions_io_http_URL;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testcontainers.DockerClientFactory;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+public class TestElasticsearchPointInTimeStreamingIntegration
+{
+    private static final String TEST_IMAGE_TAG = "7.17.7";
+    private static final int DOCUMENTS = 10_050;
+    private static final int KEYS = 2_500;
+    private static final int PAGE_SIZE = 1_000;
+
+    private static final String GRAMMAR = "###Elasticsearch\n" +
+            "Elasticsearch7Cluster abc::abc::Store\n" +
+            "{\n" +
+            "    indices: [\n" +
+            "        paging: {\n" +
+            "            properties: [\n" +
+            "                prop1: Keyword\n" +
+            "            ];\n" +
+            "        }\n" +
+            "    ];\n" +
+            "}\n" +
+            "\n" +
+            "###Connection\n" +
+            "Elasticsearch7ClusterConnection abc::abc::Connection\n" +
+            "{\n" +
+            "    store: abc::abc::Store;\n" +
+            "    clusterDetails: # URL { http://_%_ELASTIC_HOST_%_ }#;\n" +
+            "    authentication: # UserPassword {\n" +
+            "        username: 'elastic';\n" +
+            "        password: SystemPropertiesSecret\n" +
+            "        {\n" +
+            "            systemPropertyName: 'org.finos.legend.engine.plan.execution.stores.elasticsearch.test.password';\n" +
+            "        };\n" +
+            "    }#;\n" +
+            "}\n" +
+            "\n" +
+            "###Runtime\n" +
+            "Runtime abc::abc::Runtime\n" +
+            "{\n" +
+            "  mappings:\n" +
+            "  [\n" +
+            "  ];\n" +
+            "  connections:\n" +
+            "  [\n" +
+            "    abc::abc::Store:\n" +
+            "    [\n" +
+            "      connection: abc::abc::Connection\n" +
+            "    ]\n" +
+            "  ];\n" +
+            "}\n" +
+            "\n" +
+            "###Mapping\n" +
+            "Mapping abc::abc::EmptyMapping\n" +
+            "(\n" +
+            ")\n" +
+            "\n" +
+            "###Pure\n" +
+            "function abc::abc::allHits(): TabularDataSet[1]\n" +
+            "{\n" +
+            "    indexToTDS(abc::abc::Store, 'paging')->from(abc::abc::EmptyMapping, abc::abc::Runtime);\n" +
+            "}\n" +
+            "\n" +
+            "function abc::abc::take25(): TabularDataSet[1]\n" +
+            "{\n" +
+            "    indexToTDS(abc::abc::Store, 'paging')->from(abc::abc::EmptyMapping, abc::abc::Runtime)->take(25);\n" +
+            "}\n" +
+            "\n" +
+            "function abc::abc::take2500(): TabularDataSet[1]\n" +
+            "{\n" +
+            "    indexToTDS(abc::abc::Store, 'paging')->from(abc::abc::EmptyMapping, abc::abc::Runtime)->take(2500);\n" +
+            "}\n" +
+            "\n" +
+            "function abc::abc::take10000(): TabularDataSet[1]\n" +
+            "{\n" +
+            "    indexToTDS(abc::abc::Store, 'paging')->from(abc::abc::EmptyMapping, abc::abc::Runtime)->take(10000);\n" +
+            "}\n" +
+            "\n" +
+            "function abc::abc::groupByProp1(): TabularDataSet[1]\n" +
+            "{\n" +
+            "    indexToTDS(abc::abc::Store, 'paging')->from(abc::abc::EmptyMapping, abc::abc::Runtime)->groupBy(['prop1'], agg('count', r | $r.getString('prop1'), agg | $agg->count()));\n" +
+            "}\n";
+
+    private static PureModel PURE_MODEL;
+    private static String HOST_ADDRESS;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception
+    {
+        Assume.assumeTrue("Only run with docker", DockerClientFactory.instance().isDockerAvailable());
+        Root_meta_pure_functions_io_http_URL url = ElasticsearchCommands.startServer(TEST_IMAGE_TAG);
+        HOST_ADDRESS = ElasticsearchCommands.CONTAINERS.get(TEST_IMAGE_TAG).getHttpHostAddress();
+        ElasticsearchCommands.request(TEST_IMAGE_TAG, "{\"_pure_protocol_type\": \"createRequest\", \"index\": \"paging\", \"body\": {\"mappings\": {\"properties\": {\"prop1\": {\"keyword\": {\"_pure_protocol_type\": \"keywordProperty\", \"type\": \"keyword\"}}}}}}");
+        indexDocuments();
+
+        PureModelContextData pmcd = PureGrammarParser.newInstance().parseModel(GRAMMAR.replace("_%_ELASTIC_HOST_%_", url._host() + ':' + url._port()));
+        PURE_MODEL = Compiler.compile(pmcd, DeploymentMode.TEST_IGNORE_FUNCTION_MATCH, Identity.getAnonymousIdentity().getName());
+    }
+
+    @AfterClass
+    public static void afterClass()
+    {
+        ElasticsearchCommands.stopServer(TEST_IMAGE_TAG);
+    }
+
+    @Test
+    public void testHitsArePagedPastTheResultWindowWithoutTake()
+    {
+        try (TDSResult result = execute(streaming(), "abc::abc::allHits__TabularDataSet_1_"))
+        {
+            Assert.assertEquals(DOCUMENTS, count(result));
+            // ten full pages and a last one with the remaining 50 hits
+            Assert.assertEquals(11, result.activities.size());
+        }
+        Assert.assertEquals(0, openSearchContexts());
+    }
+
+    @Test
+    public void testHitsAreReadWithASingleSearchUpToTheResultWindowWithoutStreaming()
+    {
+        try (TDSResult result = execute(PlanExecutor.newPlanExecutorBuilder().withAvailableStoreExecutors().build(), "abc::abc::allHits__TabularDataSet_1_"))
+        {
+            Assert.assertEquals(10_000, count(result));
+            Assert.assertEquals(1, result.activities.size());
+        }
+    }
+
+    @Test
+    public void testTakeLimitsTheHitsRead()
+    {
+        try (TDSResult result = execute(streaming(), "abc::abc::take25__TabularDataSet_1_"))
+        {
+            Assert.assertEquals(25, count(result));
+            Assert.assertEquals(1, result.activities.size());
+        }
+        try (TDSResult result = execute(streaming(), "abc::abc::take2500__TabularDataSet_1_"))
+        {
+            Assert.assertEquals(2_500, count(result));
+            // two full pages and a last one sized to the 500 hits left to take
+            Assert.assertEquals(3, result.activities.size());
+        }
+        Assert.assertEquals(0, openSearchContexts());
+    }
+
+    @Test
+    public void testTakeOfTheResultWindowSizeIsNotReadAsAllHits()
+    {
+        try (TDSResult result = execute(streaming(), "abc::abc::take10000__TabularDataSet_1_"))
+        {
+            Assert.assertEquals(10_000, count(result));
+            Assert.assertEquals(10, result.activities.size());
+        }
+    }
+
+    @Test
+    public void testCompositeAggregationIsPagedAfterTheLastBucket()
+    {
+        try (TDSResult result = execute(streaming(), "abc::abc::groupByProp1__TabularDataSet_1_");
+             Stream<Object[]> rows = result.rowsStream())
+        {
+            MutableList<Object[]> buckets = collect(rows);
+            Assert.assertEquals(KEYS, buckets.size());
+            Assert.assertEquals(KEYS, buckets.collect(x -> x[0]).toSet().size());
+            Assert.assertEquals(DOCUMENTS, buckets.sumOfLong(x -> ((Number) x[1]).longValue()));
+            // two full pages of buckets and a last one with the remaining 500
+            Assert.assertEquals(3, result.activities.size());
+        }
+        Assert.assertEquals(0, openSearchContexts());
+    }
+
+    @Test
+    public void testPointInTimeIsClosedWhenTheResultIsClosedEarly()
+    {
+        TDSResult result = execute(streaming(), "abc::abc::allHits__TabularDataSet_1_");
+        Iterator<Object[]> rows = result.rowsStream().iterator();
+        for (int i = 0; i < 10; i++)
+        {
+            Assert.assertNotNull(rows.next());
+        }
+        Assert.assertTrue(openSearchContexts() > 0);
+
+        result.close();
+        Assert.assertEquals(0, openSearchContexts());
+    }
+
+    private static PlanExecutor streaming()
+    {
+        ElasticsearchV7StoreExecutorConfiguration configuration = ElasticsearchV7StoreExecutorConfiguration.newInstance().withStreamingPageSize(PAGE_SIZE).build();
+        return PlanExecutor.newPlanExecutor(new ElasticsearchV7StoreExecutorBuilder().build(configuration));
+    }
+
+    private static TDSResult execute(PlanExecutor planExecutor, String function)
+    {
+        ConcreteFunctionDefinition<?> concreteFxn = PURE_MODEL.getConcreteFunctionDefinition_safe(function);
+        Assert.assertNotNull("Test function not found on model: " + function, concreteFxn);
+
+        RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions = PureCoreExtensionLoader.extensions().flatCollect(e -> e.extraPureCoreExtensions(PURE_MODEL.getExecutionSupport()));
+        SingleExecutionPlan plan = PlanGenerator.generateExecutionPlan(concreteFxn, null, null, null, PURE_MODEL, "vX_X_X", null, "id", routerExtensions, LegendPlanTransformers.transformers);
+        return (TDSResult) planExecutor.execute(plan);
+    }
+
+    private static long count(TDSResult result)
+    {
+        try (Stream<Object[]> rows = result.rowsStream())
+        {
+            return rows.count();
+        }
+    }
+
+    private static MutableList<Object[]> collect(Stream<Object[]> rows)
+    {
+        MutableList<Object[]> result = Lists.mutable.empty();
+        rows.forEach(result::add);
+        return result;
+    }
+
+    private static void indexDocuments()
+    {
+        StringBuilder bulk = new StringBuilder();
+        for (int i = 0; i < DOCUMENTS; i++)
+        {
+            bulk.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n");
+            bulk.append("{\"prop1\":\"").append(String.format("key%04d", i % KEYS)).append("\"}\n");
+        }
+        HttpPost request = new HttpPost("http://" + HOST_ADDRESS + "/paging/_bulk?refresh=true");
+        request.setEntity(new StringEntity(bulk.toString(), ContentType.create("application/x-ndjson")));
+        JsonNode response = execute(request);
+        Assert.assertFalse(response.toString(), response.get("errors").asBoolean());
+    }
+
+    /**
+     * Search contexts held open on the cluster, which includes those of open points in time
+     */
+    private static long openSearchContexts()
+    {
+        JsonNode nodes = execute(new HttpGet("http://" + HOST_ADDRESS + "/_nodes/stats/indices/search")).get("nodes");
+        long openContexts = 0;
+        for (JsonNode node : nodes)
+        {
+            openContexts += node.get("indices").get("search").get("open_contexts").asLong();
+        }
+        return openContexts;
+    }
+
+    private static JsonNode execute(HttpUriRequest request)
+    {
+        try (CloseableHttpClient client = HttpClients.createDefault())
+        {
+            return ElasticsearchCommands.OBJECT_MAPPER.readTree(client.execute(request, new BasicResponseHandler()));
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
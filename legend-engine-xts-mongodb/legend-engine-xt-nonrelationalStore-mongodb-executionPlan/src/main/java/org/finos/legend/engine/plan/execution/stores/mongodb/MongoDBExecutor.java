@@ -14,12 +14,12 @@
 
 package org.finos.legend.engine.plan.execution.stores.mongodb;
 
-import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCursor;
 import org.bson.Document;
 import org.eclipse.collections.api.tuple.Pair;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoDBStoreConnectionProvider;
+import org.finos.legend.engine.plan.execution.stores.mongodb.client.MongoDBClientPool;
 import org.finos.legend.engine.plan.execution.stores.mongodb.result.MongoDBResult;
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.pure.MongoDBConnection;
 import org.finos.legend.engine.shared.core.identity.Identity;
@@ -31,22 +31,27 @@ import java.util.function.Supplier;
 public class MongoDBExecutor
 {
     private final CredentialProviderProvider credentialProviderProvider;
+    private final MongoDBClientPool clientPool;
+    private final int cursorBatchSize;
 
-    public MongoDBExecutor(CredentialProviderProvider credentialProviderProvider)
+    public MongoDBExecutor(CredentialProviderProvider credentialProviderProvider, MongoDBClientPool clientPool, int cursorBatchSize)
     {
         this.credentialProviderProvider = credentialProviderProvider;
+        this.clientPool = clientPool;
+        this.cursorBatchSize = cursorBatchSize;
     }
 
     public MongoDBResult executeMongoDBQuery(String dbCommand, MongoDBConnection dbConnection, Identity serviceIdentity)
     {
         try
         {
-            MongoDBStoreConnectionProvider mongoDBConnectionProvider =  new MongoDBStoreConnectionProvider(this.credentialProviderProvider);
+            MongoDBStoreConnectionProvider mongoDBConnectionProvider =  new MongoDBStoreConnectionProvider(this.credentialProviderProvider, this.clientPool, this.cursorBatchSize);
             try
             {
                 Document bsonCmd = Document.parse(dbCommand);
-                Supplier<Pair<MongoClient, MongoCursor<Document>>> mongoResultSupplier = mongoDBConnectionProvider.executeQuery(dbConnection, serviceIdentity, bsonCmd);
-                return new MongoDBResult(mongoResultSupplier.get().getOne(), mongoResultSupplier.get().getTwo());
+                Supplier<Pair<MongoDBClientPool.Lease, MongoCursor<Document>>> mongoResultSupplier = mongoDBConnectionProvider.executeQuery(dbConnection, serviceIdentity, bsonCmd);
+                Pair<MongoDBClientPool.Lease, MongoCursor<Document>> leaseAndCursor = mongoResultSupplier.get();
+                return new MongoDBResult(leaseAndCursor.getOne(), leaseAndCursor.getTwo());
             }
             catch (Exception e)
             {
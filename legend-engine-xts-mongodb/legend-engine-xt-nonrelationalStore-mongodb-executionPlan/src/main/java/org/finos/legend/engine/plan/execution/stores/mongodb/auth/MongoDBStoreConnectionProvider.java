@@ -14,11 +14,9 @@
 
 package org.finos.legend.engine.plan.execution.stores.mongodb.auth;
 
-import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import org.bson.Document;
@@ -27,6 +25,7 @@ import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.connection.legacy.ConnectionProvider;
 import org.finos.legend.connection.legacy.ConnectionSpecification;
+import org.finos.legend.engine.plan.execution.stores.mongodb.client.MongoDBClientPool;
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.pure.MongoDBConnection;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.authentication.specification.AuthenticationSpecification;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.authentication.specification.KerberosAuthenticationSpecification;
@@ -46,16 +45,19 @@ import java.util.stream.Collectors;
 
 public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<MongoClient>>
 {
-    private static final int DEFAULT_BATCH_SIZE = 10;
     private static final String ADMIN_DB = "admin";
 
-    public MongoDBStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider)
+    private final MongoDBClientPool clientPool;
+    private final int cursorBatchSize;
+
+    public MongoDBStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider, MongoDBClientPool clientPool, int cursorBatchSize)
     {
         super(credentialProviderProvider);
+        this.clientPool = clientPool;
+        this.cursorBatchSize = cursorBatchSize;
     }
 
-
-    public Supplier<Pair<MongoClient, MongoCursor<Document>>> executeQuery(MongoDBConnection dbConnection, Identity identity, Document bsonCmd) throws Exception
+    public Supplier<Pair<MongoDBClientPool.Lease, MongoCursor<Document>>> executeQuery(MongoDBConnection dbConnection, Identity identity, Document bsonCmd) throws Exception
     {
         final MongoDBConnectionSpecification connectionSpec = new MongoDBConnectionSpecification(dbConnection.dataSourceSpecification);
         final AuthenticationSpecification authenticationSpec = dbConnection.authenticationSpecification;
@@ -68,9 +70,8 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
         MongoDBConnectionSpecification mongoDBConnectionSpec = (MongoDBConnectionSpecification) connectionSpec;
 
         List<ServerAddress> serverAddresses = mongoDBConnectionSpec.getServerAddresses();
-        MongoClientSettings.Builder clientSettingsBuilder = MongoClientSettings.builder().applyToClusterSettings(builder -> builder.hosts(serverAddresses)).applicationName("Legend Execution Server");
 
-        Supplier<Pair<MongoClient, MongoCursor<Document>>> mongoResultSupplier;
+        Supplier<Pair<MongoDBClientPool.Lease, MongoCursor<Document>>> mongoResultSupplier;
         if (authenticationSpec instanceof KerberosAuthenticationSpecification)
         {
             Optional<LegendKerberosCredential> kerberosHolder = identity.getCredential(LegendKerberosCredential.class);
@@ -89,9 +90,11 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
 
             KerberosPrincipal kerberosPrincipal = kerberosCredential.getSubject().getPrincipals(KerberosPrincipal.class).stream().findFirst().get();
 
-            MongoCredential mongoCredential = MongoCredential.createGSSAPICredential(kerberosPrincipal.getName());
-            MongoClientSettings clientSettings = clientSettingsBuilder.credential(mongoCredential).build();
-            mongoResultSupplier = () -> KerberosUtils.doAs(identity, (PrivilegedAction<Pair<MongoClient, MongoCursor<Document>>>) () -> this.executeMongoCommand(clientSettings,
+            // Pooled clients open connections outside of the query that leased them: the subject is given to the credential
+            // rather than taken from the calling context
+            MongoCredential mongoCredential = MongoCredential.createGSSAPICredential(kerberosPrincipal.getName())
+                    .withMechanismProperty(MongoCredential.JAVA_SUBJECT_KEY, kerberosCredential.getSubject());
+            mongoResultSupplier = () -> KerberosUtils.doAs(identity, (PrivilegedAction<Pair<MongoDBClientPool.Lease, MongoCursor<Document>>>) () -> this.executeMongoCommand(serverAddresses, mongoCredential,
                     dbConnection.dataSourceSpecification.databaseName, bsonCmd));
         }
         else
@@ -102,8 +105,7 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
             {
                 PlaintextUserPasswordCredential plaintextCredential = (PlaintextUserPasswordCredential) credential;
                 MongoCredential mongoCredential = MongoCredential.createCredential(plaintextCredential.getUser(), ADMIN_DB, plaintextCredential.getPassword().toCharArray());
-                MongoClientSettings clientSettings = clientSettingsBuilder.credential(mongoCredential).build();
-                mongoResultSupplier = () -> this.executeMongoCommand(clientSettings, dbConnection.dataSourceSpecification.databaseName, bsonCmd);
+                mongoResultSupplier = () -> this.executeMongoCommand(serverAddresses, mongoCredential, dbConnection.dataSourceSpecification.databaseName, bsonCmd);
             }
             else
             {
@@ -114,15 +116,23 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
         return mongoResultSupplier;
     }
 
-    private Pair<MongoClient, MongoCursor<Document>> executeMongoCommand(MongoClientSettings clientSettings, String databaseName, Document bsonCmd)
+    private Pair<MongoDBClientPool.Lease, MongoCursor<Document>> executeMongoCommand(List<ServerAddress> serverAddresses, MongoCredential credential, String databaseName, Document bsonCmd)
     {
-        MongoClient mongoClient = MongoClients.create(clientSettings);
-        MongoDatabase mongoDatabase = mongoClient.getDatabase(databaseName);
-        MongoCursor<Document> cursor = mongoDatabase.getCollection(bsonCmd.getString("aggregate"))
-                .aggregate(bsonCmd.getList("pipeline", Document.class))
-                .batchSize(DEFAULT_BATCH_SIZE).iterator();
-        return Tuples.pair(mongoClient, cursor);
-
+        MongoDBClientPool.Lease lease = this.clientPool.acquire(serverAddresses, credential);
+        try
+        {
+            MongoClient mongoClient = lease.getClient();
+            MongoDatabase mongoDatabase = mongoClient.getDatabase(databaseName);
+            MongoCursor<Document> cursor = mongoDatabase.getCollection(bsonCmd.getString("aggregate"))
+                    .aggregate(bsonCmd.getList("pipeline", Document.class))
+                    .batchSize(this.cursorBatchSize).iterator();
+            return Tuples.pair(lease, cursor);
+        }
+        catch (RuntimeException e)
+        {
+            lease.close();
+            throw e;
+        }
     }
 
     @Override
@@ -0,0 +1,313 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.mongodb.client;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCredential;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolListenerAdapter;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * MongoClients shared between queries, keyed by server addresses and principal. Creating a client per query pays for
+ * server discovery, connection handshakes and authentication on each execution: pooled clients keep their connections
+ * open across queries.
+ * <p>
+ * Clients are leased for the lifetime of a result, and closed once they have not been leased for the idle timeout.
+ * Idle clients are evicted when clients are acquired or released, there is no background thread.
+ */
+public class MongoDBClientPool implements AutoCloseable
+{
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    public static final int DEFAULT_MAX_CONNECTION_POOL_SIZE = 100;
+
+    private static final String APPLICATION_NAME = "Legend Execution Server";
+
+    private final long idleTimeoutMillis;
+    private final int maxConnectionPoolSize;
+    private final LongSupplier clock;
+    private final Map<Key, PooledClient> clients = new HashMap<>();
+    private boolean closed = false;
+
+    public MongoDBClientPool()
+    {
+        this(DEFAULT_IDLE_TIMEOUT_MILLIS, DEFAULT_MAX_CONNECTION_POOL_SIZE);
+    }
+
+    public MongoDBClientPool(long idleTimeoutMillis, int maxConnectionPoolSize)
+    {
+        this(idleTimeoutMillis, maxConnectionPoolSize, System::currentTimeMillis);
+    }
+
+    MongoDBClientPool(long idleTimeoutMillis, int maxConnectionPoolSize, LongSupplier clock)
+    {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.maxConnectionPoolSize = maxConnectionPoolSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Leases the client of the given servers and credential, creating it if needed. The lease must be closed once the
+     * client is no longer used, typically when the result reading from it is closed.
+     */
+    public synchronized Lease acquire(List<ServerAddress> serverAddresses, MongoCredential credential)
+    {
+        if (this.closed)
+        {
+            throw new IllegalStateException("MongoDB client pool is closed");
+        }
+        evictIdleClients();
+        Key key = new Key(serverAddresses, credential);
+        PooledClient pooledClient = this.clients.computeIfAbsent(key, this::newPooledClient);
+        pooledClient.leases++;
+        return new Lease(pooledClient);
+    }
+
+    public synchronized int getClientCount()
+    {
+        return this.clients.size();
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        this.closed = true;
+        Iterator<PooledClient> iterator = this.clients.values().iterator();
+        while (iterator.hasNext())
+        {
+            PooledClient pooledClient = iterator.next();
+            if (pooledClient.leases == 0)
+            {
+                iterator.remove();
+                pooledClient.close();
+            }
+        }
+    }
+
+    private synchronized void release(PooledClient pooledClient)
+    {
+        pooledClient.leases--;
+        pooledClient.lastReleased = this.clock.getAsLong();
+        if (this.closed && pooledClient.leases == 0)
+        {
+            this.clients.remove(pooledClient.key);
+            pooledClient.close();
+        }
+        evictIdleClients();
+    }
+
+    private void evictIdleClients()
+    {
+        long now = this.clock.getAsLong();
+        Iterator<PooledClient> iterator = this.clients.values().iterator();
+        while (iterator.hasNext())
+        {
+            PooledClient pooledClient = iterator.next();
+            if (pooledClient.leases == 0 && now - pooledClient.lastReleased >= this.idleTimeoutMillis)
+            {
+                iterator.remove();
+                pooledClient.close();
+            }
+        }
+    }
+
+    private PooledClient newPooledClient(Key key)
+    {
+        String poolName = "mongodb_" + key.serverAddresses + (key.userName == null ? "" : "_" + key.userName);
+        ConnectionMetrics connectionMetrics = new ConnectionMetrics(poolName);
+        MongoClientSettings.Builder settings = MongoClientSettings.builder()
+                .applyToClusterSettings(builder -> builder.hosts(key.serverAddresses))
+                .applyToConnectionPoolSettings(builder -> builder.maxSize(this.maxConnectionPoolSize).addConnectionPoolListener(connectionMetrics))
+                .applicationName(APPLICATION_NAME);
+        if (key.credential != null)
+        {
+            settings.credential(key.credential);
+        }
+        MongoClient client = MongoClients.create(settings.build());
+        MetricsHandler.incrementMongoDBClientCount();
+        return new PooledClient(key, client, connectionMetrics, this.clock.getAsLong());
+    }
+
+    public class Lease implements AutoCloseable
+    {
+        private final PooledClient pooledClient;
+        private boolean released = false;
+
+        private Lease(PooledClient pooledClient)
+        {
+            this.pooledClient = pooledClient;
+        }
+
+        public MongoClient getClient()
+        {
+            return this.pooledClient.client;
+        }
+
+        @Override
+        public void close()
+        {
+            if (!this.released)
+            {
+                this.released = true;
+                release(this.pooledClient);
+            }
+        }
+    }
+
+    private static class PooledClient
+    {
+        private final Key key;
+        private final MongoClient client;
+        private final ConnectionMetrics connectionMetrics;
+        private int leases = 0;
+        private long lastReleased;
+
+        private PooledClient(Key key, MongoClient client, ConnectionMetrics connectionMetrics, long created)
+        {
+            this.key = key;
+            this.client = client;
+            this.connectionMetrics = connectionMetrics;
+            this.lastReleased = created;
+        }
+
+        private void close()
+        {
+            this.client.close();
+            this.connectionMetrics.remove();
+            MetricsHandler.decrementMongoDBClientCount();
+        }
+    }
+
+    /**
+     * Identifies a client by the principal it authenticates, rather than by its credential: mechanism properties such as
+     * the GSSAPI subject are refreshed on every login, and would never match the credential of an existing client.
+     */
+    private static class Key
+    {
+        private final List<ServerAddress> serverAddresses;
+        private final MongoCredential credential;
+        private final String mechanism;
+        private final String source;
+        private final String userName;
+        private final char[] password;
+
+        private Key(List<ServerAddress> serverAddresses, MongoCredential credential)
+        {
+            this.serverAddresses = new ArrayList<>(serverAddresses);
+            this.credential = credential;
+            this.mechanism = (credential == null) ? null : credential.getMechanism();
+            this.source = (credential == null) ? null : credential.getSource();
+            this.userName = (credential == null) ? null : credential.getUserName();
+            this.password = (credential == null) ? null : credential.getPassword();
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof Key))
+            {
+                return false;
+            }
+            Key that = (Key) other;
+            return this.serverAddresses.equals(that.serverAddresses) &&
+                    Objects.equals(this.mechanism, that.mechanism) &&
+                    Objects.equals(this.source, that.source) &&
+                    Objects.equals(this.userName, that.userName) &&
+                    Arrays.equals(this.password, that.password);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(this.serverAddresses, this.mechanism, this.source, this.userName);
+        }
+    }
+
+    /**
+     * Publishes the connection counts of a client under the pool metrics shared with relational connection pools
+     */
+    private static class ConnectionMetrics extends ConnectionPoolListenerAdapter
+    {
+        private final String poolName;
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+
+        private ConnectionMetrics(String poolName)
+        {
+            this.poolName = poolName;
+        }
+
+        @Override
+        public void connectionCreated(ConnectionCreatedEvent event)
+        {
+            this.total.incrementAndGet();
+            publish();
+        }
+
+        @Override
+        public void connectionClosed(ConnectionClosedEvent event)
+        {
+            this.total.decrementAndGet();
+            publish();
+        }
+
+        @Override
+        public void connectionCheckedOut(ConnectionCheckedOutEvent event)
+        {
+            this.active.incrementAndGet();
+            publish();
+        }
+
+        @Override
+        public void connectionCheckedIn(ConnectionCheckedInEvent event)
+        {
+            this.active.decrementAndGet();
+            publish();
+        }
+
+        private void publish()
+        {
+            int totalCount = this.total.get();
+            int activeCount = this.active.get();
+            MetricsHandler.setConnectionMetrics(this.poolName, activeCount, totalCount, Math.max(0, totalCount - activeCount));
+        }
+
+        private void remove()
+        {
+            MetricsHandler.removeConnectionMetrics(this.poolName);
+        }
+    }
+}
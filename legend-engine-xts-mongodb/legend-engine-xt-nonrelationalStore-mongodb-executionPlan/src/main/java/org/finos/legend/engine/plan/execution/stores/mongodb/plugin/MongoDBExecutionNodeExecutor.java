@@ -34,6 +34,7 @@ import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResul
 import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.inMemory.plugin.StoreStreamReadingObjectsIterator;
 import org.finos.legend.engine.plan.execution.stores.mongodb.MongoDBExecutor;
+import org.finos.legend.engine.plan.execution.stores.mongodb.client.MongoDBClientPool;
 import org.finos.legend.engine.plan.execution.stores.mongodb.result.MongoDBResult;
 import org.finos.legend.engine.plan.execution.stores.mongodb.specifics.IMongoDocumentDeserializeExecutionNodeSpecifics;
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.aggregation.DatabaseCommand;
@@ -104,9 +105,12 @@ public class MongoDBExecutionNodeExecutor implements ExecutionNodeVisitor<Result
             String composedDbCommand = mongoDBQueryJsonComposer.parseDatabaseCommand(dbCommand);
             String placeholderReplacedDbCommand = FreeMarkerExecutor.process(composedDbCommand, this.executionState);
 
-            CredentialProviderProvider credentialProviderProvider = ((MongoDBStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.NonRelational_MongoDB)).getStoreExecutionConfiguration().getCredentialProviderProvider();
+            MongoDBStoreExecutionState storeExecutionState = (MongoDBStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.NonRelational_MongoDB);
+            MongoDBStoreExecutorConfiguration storeExecutionConfiguration = storeExecutionState.getStoreExecutionConfiguration();
+            CredentialProviderProvider credentialProviderProvider = storeExecutionConfiguration.getCredentialProviderProvider();
+            MongoDBClientPool clientPool = ((MongoDBStoreState) storeExecutionState.getStoreState()).getClientPool();
 
-            return new MongoDBExecutor(credentialProviderProvider).executeMongoDBQuery(placeholderReplacedDbCommand, mongoDBConnection, identity);
+            return new MongoDBExecutor(credentialProviderProvider, clientPool, storeExecutionConfiguration.getCursorBatchSize()).executeMongoDBQuery(placeholderReplacedDbCommand, mongoDBConnection, identity);
         }
         catch (IOException e)
         {
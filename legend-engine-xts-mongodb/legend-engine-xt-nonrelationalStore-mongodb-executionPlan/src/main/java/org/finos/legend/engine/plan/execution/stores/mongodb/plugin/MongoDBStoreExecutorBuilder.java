@@ -18,6 +18,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorBuilder;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.mongodb.client.MongoDBClientPool;
 
 public class MongoDBStoreExecutorBuilder implements StoreExecutorBuilder
 {
@@ -46,6 +47,8 @@ public class MongoDBStoreExecutorBuilder implements StoreExecutorBuilder
         {
             throw new IllegalStateException("Incorrect store execution configuration, expected MongoDBStoreExecutorConfiguration. Please reach out to dev team");
         }
-        return new MongoDBStoreExecutor(new MongoDBStoreState(), (MongoDBStoreExecutorConfiguration) storeExecutorConfiguration);
+        MongoDBStoreExecutorConfiguration mongoDBStoreExecutorConfiguration = (MongoDBStoreExecutorConfiguration) storeExecutorConfiguration;
+        MongoDBClientPool clientPool = new MongoDBClientPool(mongoDBStoreExecutorConfiguration.getClientIdleTimeoutMillis(), mongoDBStoreExecutorConfiguration.getMaxConnectionPoolSize());
+        return new MongoDBStoreExecutor(new MongoDBStoreState(clientPool), mongoDBStoreExecutorConfiguration);
     }
 }
@@ -17,10 +17,16 @@ package org.finos.legend.engine.plan.execution.stores.mongodb.plugin;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.mongodb.client.MongoDBClientPool;
 
 public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfiguration
 {
+    public static final int DEFAULT_CURSOR_BATCH_SIZE = 10;
+
     private CredentialProviderProvider credentialProviderProvider;
+    private int cursorBatchSize;
+    private long clientIdleTimeoutMillis;
+    private int maxConnectionPoolSize;
 
     @Override
     public StoreType getStoreType()
@@ -33,6 +39,21 @@ public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfigura
         return credentialProviderProvider;
     }
 
+    public int getCursorBatchSize()
+    {
+        return cursorBatchSize;
+    }
+
+    public long getClientIdleTimeoutMillis()
+    {
+        return clientIdleTimeoutMillis;
+    }
+
+    public int getMaxConnectionPoolSize()
+    {
+        return maxConnectionPoolSize;
+    }
+
     public static Builder newInstance()
     {
         return new Builder();
@@ -41,6 +62,9 @@ public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfigura
     public static class Builder
     {
         private CredentialProviderProvider credentialProviderProvider = CredentialProviderProvider.defaultProviderProvider();
+        private int cursorBatchSize = DEFAULT_CURSOR_BATCH_SIZE;
+        private long clientIdleTimeoutMillis = MongoDBClientPool.DEFAULT_IDLE_TIMEOUT_MILLIS;
+        private int maxConnectionPoolSize = MongoDBClientPool.DEFAULT_MAX_CONNECTION_POOL_SIZE;
 
         public Builder withCredentialProviderProvider(CredentialProviderProvider credentialProviderProvider)
         {
@@ -48,10 +72,40 @@ public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfigura
             return this;
         }
 
+        /**
+         * Number of documents fetched per round trip when reading query results
+         */
+        public Builder withCursorBatchSize(int cursorBatchSize)
+        {
+            this.cursorBatchSize = cursorBatchSize;
+            return this;
+        }
+
+        /**
+         * Time after which a MongoClient no query has used is closed
+         */
+        public Builder withClientIdleTimeoutMillis(long clientIdleTimeoutMillis)
+        {
+            this.clientIdleTimeoutMillis = clientIdleTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Maximum number of connections of each MongoClient
+         */
+        public Builder withMaxConnectionPoolSize(int maxConnectionPoolSize)
+        {
+            this.maxConnectionPoolSize = maxConnectionPoolSize;
+            return this;
+        }
+
         public MongoDBStoreExecutorConfiguration build()
         {
             MongoDBStoreExecutorConfiguration mongoDBStoreExecutionConfiguration = new MongoDBStoreExecutorConfiguration();
             mongoDBStoreExecutionConfiguration.credentialProviderProvider = this.credentialProviderProvider;
+            mongoDBStoreExecutionConfiguration.cursorBatchSize = this.cursorBatchSize;
+            mongoDBStoreExecutionConfiguration.clientIdleTimeoutMillis = this.clientIdleTimeoutMillis;
+            mongoDBStoreExecutionConfiguration.maxConnectionPoolSize = this.maxConnectionPoolSize;
             return mongoDBStoreExecutionConfiguration;
         }
     }
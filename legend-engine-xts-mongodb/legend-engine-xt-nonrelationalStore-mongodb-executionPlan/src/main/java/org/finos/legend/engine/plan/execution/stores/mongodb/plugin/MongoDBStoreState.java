@@ -16,9 +16,27 @@ package org.finos.legend.engine.plan.execution.stores.mongodb.plugin;
 
 import org.finos.legend.engine.plan.execution.stores.StoreState;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.mongodb.client.MongoDBClientPool;
 
 public class MongoDBStoreState implements StoreState
 {
+    private final MongoDBClientPool clientPool;
+
+    public MongoDBStoreState()
+    {
+        this(new MongoDBClientPool());
+    }
+
+    public MongoDBStoreState(MongoDBClientPool clientPool)
+    {
+        this.clientPool = clientPool;
+    }
+
+    public MongoDBClientPool getClientPool()
+    {
+        return this.clientPool;
+    }
+
     @Override
     public StoreType getStoreType()
     {
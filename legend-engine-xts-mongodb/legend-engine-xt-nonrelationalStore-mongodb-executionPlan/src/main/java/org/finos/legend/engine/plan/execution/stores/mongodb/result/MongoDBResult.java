@@ -22,6 +22,7 @@ import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultVisitor;
 import org.finos.legend.engine.plan.execution.result.builder.Builder;
 import org.finos.legend.engine.plan.execution.result.builder.stream.StreamBuilder;
+import org.finos.legend.engine.plan.execution.stores.mongodb.client.MongoDBClientPool;
 
 import java.util.Collections;
 import java.util.List;
@@ -30,7 +31,7 @@ public class MongoDBResult extends Result
 {
     private final MongoCursor<Document> mongoCursor;
 
-    private final MongoClient mongoClient;
+    private final Runnable closeMongoClient;
 
     public MongoDBResult(MongoClient mongoClient, MongoCursor<Document> mongoCursor)
     {
@@ -38,10 +39,23 @@ public class MongoDBResult extends Result
     }
 
     public MongoDBResult(MongoClient mongoClient, MongoCursor<Document> mongoCursor, List<ExecutionActivity> activities)
+    {
+        this(mongoClient::close, mongoCursor, activities);
+    }
+
+    /**
+     * Result reading from a pooled client: closing the result returns the client to the pool
+     */
+    public MongoDBResult(MongoDBClientPool.Lease mongoClientLease, MongoCursor<Document> mongoCursor)
+    {
+        this(mongoClientLease::close, mongoCursor, Collections.emptyList());
+    }
+
+    private MongoDBResult(Runnable closeMongoClient, MongoCursor<Document> mongoCursor, List<ExecutionActivity> activities)
     {
         super("success", activities);
         this.mongoCursor = mongoCursor;
-        this.mongoClient = mongoClient;
+        this.closeMongoClient = closeMongoClient;
     }
 
     public MongoCursor<Document> getMongoCursor()
@@ -57,8 +71,14 @@ public class MongoDBResult extends Result
     @Override
     public void close()
     {
-        this.mongoCursor.close();
-        this.mongoClient.close();
+        try
+        {
+            this.mongoCursor.close();
+        }
+        finally
+        {
+            this.closeMongoClient.run();
+        }
     }
 
     @Override
@@ -0,0 +1,131 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.mongodb.client;
+
+import com.mongodb.MongoCredential;
+import com.mongodb.ServerAddress;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.security.auth.Subject;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestMongoDBClientPool
+{
+    private static final List<ServerAddress> SERVERS = Collections.singletonList(new ServerAddress("localhost", 27017));
+    private static final long IDLE_TIMEOUT = 1000;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testClientIsSharedBySpecAndCredential()
+    {
+        try (MongoDBClientPool pool = new MongoDBClientPool(IDLE_TIMEOUT, 10, this.clock::get))
+        {
+            MongoDBClientPool.Lease first = pool.acquire(SERVERS, credential("user", "password"));
+            MongoDBClientPool.Lease second = pool.acquire(SERVERS, credential("user", "password"));
+            MongoDBClientPool.Lease otherUser = pool.acquire(SERVERS, credential("other", "password"));
+            MongoDBClientPool.Lease otherServer = pool.acquire(Collections.singletonList(new ServerAddress("localhost", 27018)), credential("user", "password"));
+
+            Assert.assertSame(first.getClient(), second.getClient());
+            Assert.assertNotSame(first.getClient(), otherUser.getClient());
+            Assert.assertNotSame(first.getClient(), otherServer.getClient());
+            Assert.assertEquals(3, pool.getClientCount());
+
+            first.close();
+            second.close();
+            otherUser.close();
+            otherServer.close();
+        }
+    }
+
+    @Test
+    public void testClientIsSharedByPrincipalWhateverItsSubject()
+    {
+        try (MongoDBClientPool pool = new MongoDBClientPool(IDLE_TIMEOUT, 10, this.clock::get))
+        {
+            MongoDBClientPool.Lease first = pool.acquire(SERVERS, kerberosCredential("user@EXAMPLE.COM", "first ticket"));
+            MongoDBClientPool.Lease second = pool.acquire(SERVERS, kerberosCredential("user@EXAMPLE.COM", "second ticket"));
+            MongoDBClientPool.Lease otherUser = pool.acquire(SERVERS, kerberosCredential("other@EXAMPLE.COM", "first ticket"));
+            MongoDBClientPool.Lease otherPassword = pool.acquire(SERVERS, credential("user", "other password"));
+            MongoDBClientPool.Lease password = pool.acquire(SERVERS, credential("user", "password"));
+
+            Assert.assertSame(first.getClient(), second.getClient());
+            Assert.assertNotSame(first.getClient(), otherUser.getClient());
+            Assert.assertNotSame(password.getClient(), otherPassword.getClient());
+            Assert.assertEquals(4, pool.getClientCount());
+
+            first.close();
+            second.close();
+            otherUser.close();
+            otherPassword.close();
+            password.close();
+        }
+    }
+
+    @Test
+    public void testIdleClientIsEvicted()
+    {
+        try (MongoDBClientPool pool = new MongoDBClientPool(IDLE_TIMEOUT, 10, this.clock::get))
+        {
+            MongoDBClientPool.Lease leased = pool.acquire(SERVERS, credential("leased", "password"));
+            pool.acquire(SERVERS, credential("idle", "password")).close();
+            Assert.assertEquals(2, pool.getClientCount());
+
+            this.clock.addAndGet(IDLE_TIMEOUT - 1);
+            pool.acquire(SERVERS, credential("idle", "password")).close();
+            Assert.assertEquals(2, pool.getClientCount());
+
+            // leased clients are kept whatever their age
+            this.clock.addAndGet(IDLE_TIMEOUT);
+            pool.acquire(SERVERS, credential("other", "password")).close();
+            Assert.assertEquals(2, pool.getClientCount());
+
+            leased.close();
+            this.clock.addAndGet(IDLE_TIMEOUT);
+            pool.acquire(SERVERS, credential("other", "password")).close();
+            Assert.assertEquals(1, pool.getClientCount());
+        }
+    }
+
+    @Test
+    public void testLeasedClientIsClosedOnReleaseOnceThePoolIsClosed()
+    {
+        MongoDBClientPool pool = new MongoDBClientPool(IDLE_TIMEOUT, 10, this.clock::get);
+        MongoDBClientPool.Lease leased = pool.acquire(SERVERS, credential("leased", "password"));
+        pool.acquire(SERVERS, credential("idle", "password")).close();
+
+        pool.close();
+        Assert.assertEquals(1, pool.getClientCount());
+        Assert.assertThrows(IllegalStateException.class, () -> pool.acquire(SERVERS, credential("leased", "password")));
+
+        leased.close();
+        leased.close();
+        Assert.assertEquals(0, pool.getClientCount());
+    }
+
+    private static MongoCredential credential(String user, String password)
+    {
+        return MongoCredential.createCredential(user, "admin", password.toCharArray());
+    }
+
+    private static MongoCredential kerberosCredential(String principal, String ticket)
+    {
+        Subject subject = new Subject(false, Collections.emptySet(), Collections.emptySet(), Collections.singleton(ticket));
+        return MongoCredential.createGSSAPICredential(principal).withMechanismProperty(MongoCredential.JAVA_SUBJECT_KEY, subject);
+    }
+}
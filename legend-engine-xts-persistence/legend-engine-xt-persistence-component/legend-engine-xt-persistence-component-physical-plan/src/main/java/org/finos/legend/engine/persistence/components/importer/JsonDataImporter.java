@@ -31,7 +31,9 @@ import org.finos.legend.engine.persistence.components.optimizer.CaseConversionOp
 import org.finos.legend.engine.persistence.components.physicalplan.PhysicalPlan;
 import org.finos.legend.engine.persistence.components.physicalplan.PhysicalPlanNode;
 import org.finos.legend.engine.persistence.components.transformer.Transformer;
+import org.finos.legend.engine.persistence.components.util.DigestAlgorithm;
 import org.finos.legend.engine.persistence.components.util.DigestContext;
+import org.finos.legend.engine.persistence.components.util.DigestEngine;
 import org.finos.legend.engine.persistence.components.util.DigestUtils;
 
 import java.util.ArrayList;
@@ -76,6 +78,15 @@ class JsonDataImporter<C extends PhysicalPlanNode, P extends PhysicalPlan<C>, R
             throw new RuntimeException(e);
         }
 
+        DigestEngine digestEngine = null;
+        if (populateDigest)
+        {
+            //TODO: confirm we *actually* want to capitalize (vs decapitalize if this is a lower case optimizer)
+            boolean convertFieldNamesToUpperCase = transformer.options().optimizers().stream().anyMatch(opt -> opt instanceof CaseConversionOptimizer);
+            DigestContext context = DigestUtils.getDigestContext(jsonExternalDatasetReference.schema(), digestInfo.metaFields());
+            digestEngine = DigestEngine.of(context, convertFieldNamesToUpperCase, DigestAlgorithm.MD5);
+        }
+
         for (Map<String, Object> row : rows)
         {
             List<Value> values = new ArrayList<>();
@@ -97,11 +108,7 @@ class JsonDataImporter<C extends PhysicalPlanNode, P extends PhysicalPlan<C>, R
             }
             if (populateDigest)
             {
-                //TODO: confirm we *actually* want to capitalize (vs decapitalize if this is a lower case optimizer)
-                boolean convertFieldNamesToUpperCase = transformer.options().optimizers().stream().anyMatch(opt -> opt instanceof CaseConversionOptimizer);
-                DigestContext context = DigestUtils.getDigestContext(jsonExternalDatasetReference.schema(), digestInfo.metaFields());
-                String digest = DigestUtils.getDigest(objArray, context, convertFieldNamesToUpperCase);
-                values.add(StringValue.of(digest));
+                values.add(StringValue.of(digestEngine.digest(objArray)));
             }
             valuesToInsert.add(values);
         }
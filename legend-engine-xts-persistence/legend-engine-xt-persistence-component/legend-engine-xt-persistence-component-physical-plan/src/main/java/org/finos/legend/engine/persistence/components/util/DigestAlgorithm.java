@@ -0,0 +1,28 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.persistence.components.util;
+
+public enum DigestAlgorithm
+{
+    /*
+    128-bit MD5, the digest historically computed by the persistence components
+    */
+    MD5,
+
+    /*
+    128-bit x64 variant of MurmurHash3, a non-cryptographic hash several times faster than MD5
+    */
+    MURMUR3_128
+}
@@ -20,6 +20,8 @@ import java.util.SortedSet;
 public class DigestContext implements Serializable
 {
     private final SortedSet<DigestUtils.FieldIndexContext> sortedFieldDefinitionsByName;
+    private transient volatile DigestEngine md5Engine;
+    private transient volatile DigestEngine md5UpperCaseEngine;
 
     public DigestContext(SortedSet<DigestUtils.FieldIndexContext> sortedFieldDefinitionsByName)
     {
@@ -30,4 +32,21 @@ public class DigestContext implements Serializable
     {
         return sortedFieldDefinitionsByName;
     }
+
+    DigestEngine getMd5Engine(boolean convertFieldNamesToUpperCase)
+    {
+        if (convertFieldNamesToUpperCase)
+        {
+            if (md5UpperCaseEngine == null)
+            {
+                md5UpperCaseEngine = DigestEngine.of(this, true, DigestAlgorithm.MD5);
+            }
+            return md5UpperCaseEngine;
+        }
+        if (md5Engine == null)
+        {
+            md5Engine = DigestEngine.of(this, false, DigestAlgorithm.MD5);
+        }
+        return md5Engine;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.persistence.components.util;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.MurmurHash3;
+
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/*
+Computes the digests of the rows of a DigestContext. The field name hashes and value indexes are resolved once when the engine
+is created, and rows are written into a buffer reused by each thread. The bytes written are the ones of DigestUtils.getDigest,
+so that MD5 digests are unchanged.
+*/
+public class DigestEngine implements Serializable
+{
+    // Rows are digested sequentially below this batch size, as splitting the work costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    // The white knight character is being used as we need unique byte
+    // representation for EMPTY_STRING values to ensure unique digest calculation.
+    private static final byte EMPTY_STRING = (byte) '\u2658';
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    private static final ThreadLocal<DigestBuffer> BUFFERS = ThreadLocal.withInitial(DigestBuffer::new);
+
+    private final DigestAlgorithm algorithm;
+    private final int[] valueIndexes;
+    private final int[] fieldNameHashes;
+
+    private DigestEngine(DigestContext digestContext, boolean convertFieldNamesToUpperCase, DigestAlgorithm algorithm)
+    {
+        this.algorithm = algorithm;
+        int fieldCount = digestContext.getSortedFieldDefinitionsByName().size();
+        this.valueIndexes = new int[fieldCount];
+        this.fieldNameHashes = new int[fieldCount];
+        int index = 0;
+        for (DigestUtils.FieldIndexContext fieldIndexContext : digestContext.getSortedFieldDefinitionsByName())
+        {
+            String fieldName = fieldIndexContext.getFieldName();
+            this.valueIndexes[index] = fieldIndexContext.getActualIndex();
+            this.fieldNameHashes[index] = (convertFieldNamesToUpperCase ? fieldName.toUpperCase() : fieldName).hashCode();
+            index++;
+        }
+    }
+
+    public static DigestEngine of(DigestContext digestContext, boolean convertFieldNamesToUpperCase, DigestAlgorithm algorithm)
+    {
+        return new DigestEngine(digestContext, convertFieldNamesToUpperCase, algorithm);
+    }
+
+    public DigestAlgorithm getAlgorithm()
+    {
+        return algorithm;
+    }
+
+    public String digest(Object[] row)
+    {
+        DigestBuffer buffer = BUFFERS.get();
+        buffer.reset();
+        for (int i = 0; i < valueIndexes.length; i++)
+        {
+            Object value = row[valueIndexes[i]];
+            if (value != null)
+            {
+                buffer.writeInt(fieldNameHashes[i]);
+                writeValue(value, buffer);
+            }
+        }
+        return hash(buffer);
+    }
+
+    /*
+    Digests a batch of rows, in parallel on the common fork join pool for large batches. Digests are returned in the order of the rows.
+    */
+    public String[] digest(List<Object[]> rows)
+    {
+        Object[][] rowArray = rows.toArray(new Object[0][]);
+        String[] digests = new String[rowArray.length];
+        IntStream indexes = IntStream.range(0, rowArray.length);
+        if (rowArray.length >= PARALLEL_THRESHOLD)
+        {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> digests[i] = digest(rowArray[i]));
+        return digests;
+    }
+
+    private String hash(DigestBuffer buffer)
+    {
+        switch (algorithm)
+        {
+            case MD5:
+                MessageDigest md5 = buffer.md5();
+                md5.update(buffer.bytes, 0, buffer.length);
+                return Hex.encodeHexString(md5.digest());
+            case MURMUR3_128:
+                long[] hash = MurmurHash3.hash128x64(buffer.bytes, 0, buffer.length, 0);
+                byte[] bytes = new byte[16];
+                for (int i = 0; i < 8; i++)
+                {
+                    bytes[i] = (byte) (hash[0] >>> (56 - 8 * i));
+                    bytes[8 + i] = (byte) (hash[1] >>> (56 - 8 * i));
+                }
+                return Hex.encodeHexString(bytes);
+            default:
+                throw new IllegalStateException("Unsupported digest algorithm: " + algorithm);
+        }
+    }
+
+    // Values are written as the low byte of each character of their string representation, as DataOutputStream.writeBytes does
+    private static void writeValue(Object value, DigestBuffer buffer)
+    {
+        if (value instanceof String)
+        {
+            buffer.writeString((String) value);
+        }
+        else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+        {
+            buffer.writeLong(((Number) value).longValue());
+        }
+        else if (value instanceof Boolean)
+        {
+            buffer.write((Boolean) value ? TRUE : FALSE);
+        }
+        else
+        {
+            buffer.writeString(value.toString());
+        }
+    }
+
+    private static class DigestBuffer
+    {
+        private byte[] bytes = new byte[256];
+        private int length;
+        private final byte[] digits = new byte[20];
+        private MessageDigest md5;
+
+        private void reset()
+        {
+            length = 0;
+        }
+
+        private MessageDigest md5()
+        {
+            if (md5 == null)
+            {
+                try
+                {
+                    md5 = MessageDigest.getInstance("MD5");
+                }
+                catch (NoSuchAlgorithmException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+            return md5;
+        }
+
+        private void ensureCapacity(int additionalLength)
+        {
+            if (length + additionalLength > bytes.length)
+            {
+                byte[] newBytes = new byte[Math.max(bytes.length * 2, length + additionalLength)];
+                System.arraycopy(bytes, 0, newBytes, 0, length);
+                bytes = newBytes;
+            }
+        }
+
+        private void writeInt(int value)
+        {
+            ensureCapacity(4);
+            bytes[length++] = (byte) (value >>> 24);
+            bytes[length++] = (byte) (value >>> 16);
+            bytes[length++] = (byte) (value >>> 8);
+            bytes[length++] = (byte) value;
+        }
+
+        private void write(byte[] value)
+        {
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, bytes, length, value.length);
+            length += value.length;
+        }
+
+        private void writeString(String value)
+        {
+            if (value == null || value.isEmpty())
+            {
+                ensureCapacity(1);
+                bytes[length++] = EMPTY_STRING;
+                return;
+            }
+            ensureCapacity(value.length());
+            for (int i = 0; i < value.length(); i++)
+            {
+                bytes[length++] = (byte) value.charAt(i);
+            }
+        }
+
+        // Writes the decimal representation of Long.toString without allocating it
+        private void writeLong(long value)
+        {
+            if (value == Long.MIN_VALUE)
+            {
+                writeString(Long.toString(value));
+                return;
+            }
+            ensureCapacity(digits.length);
+            if (value < 0)
+            {
+                bytes[length++] = '-';
+                value = -value;
+            }
+            int digitCount = 0;
+            do
+            {
+                digits[digitCount++] = (byte) ('0' + (value % 10));
+                value /= 10;
+            }
+            while (value != 0);
+            while (digitCount > 0)
+            {
+                bytes[length++] = digits[--digitCount];
+            }
+        }
+    }
+}
@@ -17,9 +17,6 @@ package org.finos.legend.engine.persistence.components.util;
 import org.finos.legend.engine.persistence.components.logicalplan.datasets.Field;
 import org.finos.legend.engine.persistence.components.logicalplan.datasets.SchemaDefinition;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
 import java.io.Serializable;
 import java.util.Comparator;
 import java.util.Set;
@@ -28,8 +25,6 @@ import java.util.TreeSet;
 
 public class DigestUtils
 {
-    private static final String EMPTY = "";
-
     public static class FieldIndexContext implements Serializable
     {
         private final String fieldName;
@@ -66,59 +61,22 @@ public class DigestUtils
         return new DigestContext(sortedFieldDefinitions);
     }
 
-    // The white knight character is being used as we need unique byte
-    // representation for EMPTY_STRING values to ensure unique digest calculation.
-    private static final char WHITE_KNIGHT_CHAR = '\u2658';
-    private static final byte[] EMPTY_STRING = {(byte) WHITE_KNIGHT_CHAR};
-
-    private DigestUtils()
+    public static DigestContext getDigestContext(String[] fieldNames)
     {
-    }
-
-    public static String getDigest(Object[] objects, DigestContext digestContext, boolean convertFieldNamesToUpperCase)
-    {
-        SortedSet<FieldIndexContext> sortedFieldDefinitionsByName = digestContext.getSortedFieldDefinitionsByName();
-        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(); DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream))
-        {
-            for (FieldIndexContext sortedFieldDefinition : sortedFieldDefinitionsByName)
-            {
-                Object value = objects[sortedFieldDefinition.getActualIndex()];
-                if (value != null)
-                {
-                    writeValueWithFieldName(sortedFieldDefinition.getFieldName(), value, dataOutputStream, convertFieldNamesToUpperCase);
-                }
-            }
-
-            dataOutputStream.flush();
-            return org.apache.commons.codec.digest.DigestUtils.md5Hex(byteArrayOutputStream.toByteArray());
-        }
-        catch (IOException e)
+        SortedSet<FieldIndexContext> sortedFieldDefinitions = new TreeSet<FieldIndexContext>(Comparator.comparing(FieldIndexContext::getFieldName));
+        for (int index = 0; index < fieldNames.length; index++)
         {
-            throw new RuntimeException(e);
+            sortedFieldDefinitions.add(new FieldIndexContext(fieldNames[index], index));
         }
+        return new DigestContext(sortedFieldDefinitions);
     }
 
-    private static void writeValueWithFieldName(String fieldName, Object value, DataOutputStream dataOutputStream, boolean convertFieldNamesToUpperCase)
-        throws IOException
+    private DigestUtils()
     {
-        if (convertFieldNamesToUpperCase)
-        {
-            fieldName = fieldName.toUpperCase();
-        }
-        dataOutputStream.writeInt(fieldName.hashCode());
-        String stringValue = value == null ? EMPTY : value.toString();
-        if (empty(stringValue))
-        {
-            dataOutputStream.write(EMPTY_STRING);
-        }
-        else
-        {
-            dataOutputStream.writeBytes(stringValue);
-        }
     }
 
-    private static boolean empty(CharSequence cs)
+    public static String getDigest(Object[] objects, DigestContext digestContext, boolean convertFieldNamesToUpperCase)
     {
-        return cs == null || cs.length() == 0;
+        return digestContext.getMd5Engine(convertFieldNamesToUpperCase).digest(objects);
     }
 }
@@ -90,4 +90,41 @@ class DigestUtilsTest extends DigestUtilsBase
         Assertions.assertNotEquals(expectedDigest, digest);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testDigestEngineBatch()
+    {
+        DigestContext context = DigestUtils.getDigestContext(getSchemaDef(), null);
+        DigestEngine md5Engine = DigestEngine.of(context, false, DigestAlgorithm.MD5);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (long i = 0; i < 5000; i++)
+        {
+            rows.add(new Object[]{"test data " + i, i % 2 == 0, (int) i, -i, i / 3d, i % 5 == 0 ? "" : null});
+        }
+        String[] digests = md5Engine.digest(rows);
+        Assertions.assertEquals(rows.size(), digests.length);
+        for (int i = 0; i < rows.size(); i++)
+        {
+            Assertions.assertEquals(DigestUtils.getDigest(rows.get(i), context, false), digests[i]);
+        }
+
+        Object[] values = new Object[]{"test data", true, 33, 1111L, 1.5d, null};
+        Assertions.assertEquals(expectedDigest, md5Engine.digest(values));
+    }
+
+    @Test
+    public void testDigestEngineWithMurmur3()
+    {
+        DigestContext context = DigestUtils.getDigestContext(getSchemaDef(), null);
+        DigestEngine murmur3Engine = DigestEngine.of(context, false, DigestAlgorithm.MURMUR3_128);
+
+        Object[] values = new Object[]{"test data", true, 33, 1111L, 1.5d, null};
+        String digest = murmur3Engine.digest(values);
+        Assertions.assertEquals(32, digest.length());
+        Assertions.assertNotEquals(expectedDigest, digest);
+        Assertions.assertEquals(digest, DigestEngine.of(DigestUtils.getDigestContext(getUnsortedSchemaDef(), null), false, DigestAlgorithm.MURMUR3_128).digest(new Object[]{true, "test data", 1111L, 33, null, 1.5d}));
+
+        values[0] = null;
+        Assertions.assertNotEquals(digest, murmur3Engine.digest(values));
+    }
+}
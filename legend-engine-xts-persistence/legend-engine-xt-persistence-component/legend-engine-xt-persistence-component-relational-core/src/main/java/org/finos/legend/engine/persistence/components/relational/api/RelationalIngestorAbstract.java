@@ -60,6 +60,10 @@ import java.sql.Date;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.finos.legend.engine.persistence.components.common.DedupAndVersionErrorSqlType.*;
 import static org.finos.legend.engine.persistence.components.logicalplan.LogicalPlanFactory.TABLE_IS_NON_EMPTY;
@@ -158,6 +162,14 @@ public abstract class RelationalIngestorAbstract
 
     public abstract Map<String, Object> additionalMetadata();
 
+    /*
+    Additional connections used to ingest the data splits of an AppendOnly ingestion concurrently, one transaction per connection.
+    The splits are loaded sequentially on the main connection when empty. The connections are owned by the caller.
+    The transactions of the connections are committed one after the other: a failure while committing them leaves the splits
+    committed before it in place, each one with its data and its metadata row.
+    */
+    public abstract List<RelationalConnection> dataSplitConnections();
+
     public abstract Optional<String> bulkLoadEventIdValue();
 
     @Default
@@ -305,7 +317,7 @@ public abstract class RelationalIngestorAbstract
         dedupAndVersion();
         List<DataSplitRange> dataSplitRanges = ApiUtils.getDataSplitRanges(executor, planner, transformer, ingestMode());
         SchemaEvolutionResult schemaEvolutionResult = SchemaEvolutionResult.builder().updatedDatasets(enrichedDatasets).build();
-        List<IngestorResult> result = ingest(dataSplitRanges, schemaEvolutionResult);
+        List<IngestorResult> result = ingest(dataSplitRanges, schemaEvolutionResult, false);
         LOGGER.info("Ingestion completed");
         return result;
     }
@@ -549,13 +561,18 @@ public abstract class RelationalIngestorAbstract
         }
     }
 
-    private List<IngestorResult> ingest(List<DataSplitRange> dataSplitRanges, SchemaEvolutionResult schemaEvolutionResult)
+    private List<IngestorResult> ingest(List<DataSplitRange> dataSplitRanges, SchemaEvolutionResult schemaEvolutionResult, boolean concurrentDataSplitsAllowed)
     {
         if (enrichedIngestMode instanceof BulkLoad)
         {
             LOGGER.info("Starting Bulk Load");
             return performBulkLoad(enrichedDatasets, transformer, planner, executor, generatorResult, enrichedIngestMode, schemaEvolutionResult);
         }
+        else if (concurrentDataSplitsAllowed && concurrentDataSplitsSupported(dataSplitRanges))
+        {
+            LOGGER.info(String.format("Starting Ingestion of %s data splits on %s concurrent connections", dataSplitRanges.size(), Math.min(dataSplitRanges.size(), dataSplitConnections().size())));
+            return performConcurrentIngestion(enrichedDatasets, transformer, planner, executor, generatorResult, dataSplitRanges, enrichedIngestMode, schemaEvolutionResult);
+        }
         else
         {
             LOGGER.info(String.format("Starting Ingestion with IngestMode: {%s}", enrichedIngestMode.getClass().getSimpleName()));
@@ -607,7 +624,7 @@ public abstract class RelationalIngestorAbstract
         try
         {
             executor.begin();
-            result = ingest(dataSplitRanges, schemaEvolutionResult);
+            result = ingest(dataSplitRanges, schemaEvolutionResult, true);
             executor.commit();
         }
         catch (Exception e)
@@ -742,6 +759,152 @@ public abstract class RelationalIngestorAbstract
          return results;
     }
 
+    /*
+    Data splits of AppendOnly ingestions only insert into the main dataset, so they do not depend on each other and can be loaded
+    concurrently, unless existing records are filtered out: a split must then see the rows inserted by the previous ones.
+    The splits of other ingest modes hold successive versions of the same records and must be applied in order.
+    */
+    private boolean concurrentDataSplitsSupported(List<DataSplitRange> dataSplitRanges)
+    {
+        return !dataSplitConnections().isEmpty()
+            && enrichedIngestMode instanceof AppendOnly
+            && !((AppendOnly) enrichedIngestMode).filterExistingRecords()
+            && planner.dataSplitExecutionSupported()
+            && dataSplitRanges != null && dataSplitRanges.size() > 1;
+    }
+
+    /*
+    Loads the data splits on the data split connections, each worker loading its share of the splits in its own transaction.
+    The placeholders are extracted upfront on the main connection: the batch ids are allocated in split order from the next batch id,
+    as workers cannot see the metadata rows written by each other before they commit. The worker transactions are all reverted
+    if any split fails to load. Once all the splits are loaded, the post actions are run and the worker transactions are committed
+    one after the other, before the main transaction: the commits are not atomic across connections, so a failing commit reverts
+    the transactions not yet committed and reports the data splits already committed.
+    */
+    private List<IngestorResult> performConcurrentIngestion(Datasets datasets, Transformer<SqlGen, SqlPlan> transformer, Planner planner, Executor<SqlGen,
+        TabularData, SqlPlan> executor, GeneratorResult generatorResult, List<DataSplitRange> dataSplitRanges, IngestMode ingestMode, SchemaEvolutionResult schemaEvolutionResult)
+    {
+        acquireLock();
+        List<Map<String, PlaceholderValue>> placeHolderKeyValuesBySplit = new ArrayList<>();
+        Optional<Long> firstBatchId = Optional.empty();
+        for (DataSplitRange dataSplitRange : dataSplitRanges)
+        {
+            Map<String, PlaceholderValue> placeHolderKeyValues = extractPlaceHolderKeyValues(datasets, executor, planner, transformer, ingestMode, Optional.of(dataSplitRange));
+            if (placeHolderKeyValues.containsKey(BATCH_ID_PATTERN))
+            {
+                if (!firstBatchId.isPresent())
+                {
+                    firstBatchId = Optional.of(Long.valueOf(placeHolderKeyValues.get(BATCH_ID_PATTERN).value()));
+                }
+                placeHolderKeyValues.put(BATCH_ID_PATTERN, PlaceholderValue.of(String.valueOf(firstBatchId.get() + placeHolderKeyValuesBySplit.size()), false));
+            }
+            placeHolderKeyValuesBySplit.add(placeHolderKeyValues);
+        }
+
+        int workerCount = Math.min(dataSplitRanges.size(), dataSplitConnections().size());
+        List<Executor<SqlGen, TabularData, SqlPlan>> workerExecutors = new ArrayList<>();
+        ExecutorService workerPool = Executors.newFixedThreadPool(workerCount);
+        List<Map<StatisticName, Object>> statisticsBySplit = new ArrayList<>(Collections.nCopies(dataSplitRanges.size(), null));
+        try
+        {
+            try
+            {
+                List<Future<?>> workers = new ArrayList<>();
+                for (int workerIndex = 0; workerIndex < workerCount; workerIndex++)
+                {
+                    Executor<SqlGen, TabularData, SqlPlan> workerExecutor = relationalSink().getRelationalExecutor(dataSplitConnections().get(workerIndex));
+                    workerExecutor.setSqlLogging(sqlLogging());
+                    workerExecutors.add(workerExecutor);
+                    int firstSplitIndex = workerIndex;
+                    workers.add(workerPool.submit(() ->
+                    {
+                        workerExecutor.begin();
+                        for (int splitIndex = firstSplitIndex; splitIndex < dataSplitRanges.size(); splitIndex += workerCount)
+                        {
+                            statisticsBySplit.set(splitIndex, loadData(workerExecutor, generatorResult, placeHolderKeyValuesBySplit.get(splitIndex)));
+                        }
+                    }));
+                }
+                for (Future<?> worker : workers)
+                {
+                    worker.get();
+                }
+                // Clean up
+                executor.executePhysicalPlan(generatorResult.postActionsSqlPlan());
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                workerExecutors.forEach(Executor::revert);
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                workerExecutors.forEach(Executor::revert);
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+            }
+            catch (RuntimeException e)
+            {
+                workerExecutors.forEach(Executor::revert);
+                throw e;
+            }
+            commitDataSplits(workerExecutors, dataSplitRanges);
+        }
+        finally
+        {
+            workerPool.shutdownNow();
+            workerExecutors.forEach(Executor::close);
+        }
+
+        List<IngestorResult> results = new ArrayList<>();
+        for (int splitIndex = 0; splitIndex < dataSplitRanges.size(); splitIndex++)
+        {
+            Map<String, PlaceholderValue> placeHolderKeyValues = placeHolderKeyValuesBySplit.get(splitIndex);
+            results.add(IngestorResult.builder()
+                .putAllStatisticByName(statisticsBySplit.get(splitIndex))
+                .updatedDatasets(datasets)
+                .batchId(Optional.ofNullable(placeHolderKeyValues.containsKey(BATCH_ID_PATTERN) ? Integer.valueOf(placeHolderKeyValues.get(BATCH_ID_PATTERN).value()) : null))
+                .dataSplitRange(dataSplitRanges.get(splitIndex))
+                .schemaEvolutionSql(schemaEvolutionResult.schemaEvolutionSql())
+                .status(IngestStatus.SUCCEEDED)
+                .ingestionTimestampUTC(placeHolderKeyValues.get(BATCH_START_TS_PATTERN).value())
+                .build());
+        }
+        return results;
+    }
+
+    private void commitDataSplits(List<Executor<SqlGen, TabularData, SqlPlan>> workerExecutors, List<DataSplitRange> dataSplitRanges)
+    {
+        List<String> committedDataSplits = new ArrayList<>();
+        int workerIndex = 0;
+        try
+        {
+            for (; workerIndex < workerExecutors.size(); workerIndex++)
+            {
+                workerExecutors.get(workerIndex).commit();
+                for (int splitIndex = workerIndex; splitIndex < dataSplitRanges.size(); splitIndex += workerExecutors.size())
+                {
+                    DataSplitRange dataSplitRange = dataSplitRanges.get(splitIndex);
+                    committedDataSplits.add("[" + dataSplitRange.lowerBound() + ", " + dataSplitRange.upperBound() + "]");
+                }
+            }
+        }
+        catch (RuntimeException e)
+        {
+            for (int i = workerIndex; i < workerExecutors.size(); i++)
+            {
+                workerExecutors.get(i).revert();
+            }
+            if (committedDataSplits.isEmpty())
+            {
+                throw e;
+            }
+            String errorMessage = String.format("Failed to commit all the data splits, data splits already committed: %s", committedDataSplits);
+            LOGGER.error(errorMessage);
+            throw new IllegalStateException(errorMessage, e);
+        }
+    }
+
     private Map<StatisticName, Object> loadData(Executor<SqlGen, TabularData, SqlPlan> executor, GeneratorResult generatorResult, Map<String, PlaceholderValue> placeHolderKeyValues)
     {
         // Extract preIngest Statistics
@@ -14,81 +14,55 @@
 
 package org.finos.legend.engine.persistence.components.relational.h2;
 
-import org.apache.commons.codec.digest.DigestUtils;
 import org.finos.legend.engine.persistence.components.relational.jdbc.JdbcHelper;
+import org.finos.legend.engine.persistence.components.util.DigestAlgorithm;
+import org.finos.legend.engine.persistence.components.util.DigestEngine;
+import org.finos.legend.engine.persistence.components.util.DigestUtils;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public class H2DigestUtil
 {
-    private static final byte[] EMPTY_STRING = new byte[] { 88 };
+    // Engines by column name list: the UDF is called with the same column names for every row of a statement
+    private static final Map<DigestAlgorithm, Map<List<String>, DigestEngine>> DIGEST_ENGINES = new EnumMap<>(DigestAlgorithm.class);
+
+    static
+    {
+        for (DigestAlgorithm algorithm : DigestAlgorithm.values())
+        {
+            DIGEST_ENGINES.put(algorithm, new ConcurrentHashMap<>());
+        }
+    }
 
     public static void registerMD5Udf(JdbcHelper sink, String UdfName)
     {
         sink.executeStatement("CREATE ALIAS " + UdfName + " FOR \"org.finos.legend.engine.persistence.components.relational.h2.H2DigestUtil.MD5\";");
     }
 
-    public static String MD5(String[] columnNameList, String[] columnValueList)
+    public static void registerMurmur3Udf(JdbcHelper sink, String UdfName)
     {
-        return calculateMD5Digest(generateRowMap(columnNameList, columnValueList));
+        sink.executeStatement("CREATE ALIAS " + UdfName + " FOR \"org.finos.legend.engine.persistence.components.relational.h2.H2DigestUtil.MURMUR3_128\";");
     }
 
-    private static Map<String, Object> generateRowMap(String[] columnNameList, String[] columnValueList)
+    public static String MD5(String[] columnNameList, String[] columnValueList)
     {
-        Map<String, Object> map = new HashMap<>();
-        for (int i = 0; i < columnNameList.length; i++)
-        {
-            map.put(columnNameList[i], columnValueList[i]);
-        }
-        return map;
+        return calculateDigest(columnNameList, columnValueList, DigestAlgorithm.MD5);
     }
 
-    private static String calculateMD5Digest(Map<String, Object> row)
+    public static String MURMUR3_128(String[] columnNameList, String[] columnValueList)
     {
-        List<String> fieldNames = row.keySet().stream().sorted().collect(Collectors.toList());
-        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-             DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream))
-        {
-            fieldNames.stream().forEachOrdered(field ->
-            {
-                Optional<Object> value = Optional.ofNullable(row.get(field));
-                value.ifPresent(v -> writeValueWithFieldName(field, v, dataOutputStream));
-            });
-            dataOutputStream.flush();
-            return DigestUtils.md5Hex(byteArrayOutputStream.toByteArray());
-        }
-        catch (IOException e)
-        {
-            throw new RuntimeException("Unable to create digest", e);
-        }
+        return calculateDigest(columnNameList, columnValueList, DigestAlgorithm.MURMUR3_128);
     }
 
-    private static void writeValueWithFieldName(String fieldName, Object value, DataOutputStream dataOutputStream)
+    private static String calculateDigest(String[] columnNameList, String[] columnValueList, DigestAlgorithm algorithm)
     {
-        try
-        {
-            dataOutputStream.writeInt(fieldName.hashCode());
-            String stringValue = value.toString();
-            if (stringValue == null || stringValue.length() == 0)
-            {
-                dataOutputStream.write(EMPTY_STRING);
-            }
-            else
-            {
-                dataOutputStream.writeBytes(stringValue);
-            }
-        }
-        catch (IOException e)
-        {
-            throw new RuntimeException(String.format("Unable to create digest for field [%s]", fieldName), e);
-        }
+        DigestEngine digestEngine = DIGEST_ENGINES.get(algorithm).computeIfAbsent(Arrays.asList(columnNameList.clone()),
+            columnNames -> DigestEngine.of(DigestUtils.getDigestContext(columnNameList), false, algorithm));
+        return digestEngine.digest(columnValueList);
     }
 }
@@ -18,6 +18,7 @@ import org.finos.legend.engine.persistence.components.BaseTest;
 import org.finos.legend.engine.persistence.components.IncrementalClock;
 import org.finos.legend.engine.persistence.components.TestUtils;
 import org.finos.legend.engine.persistence.components.common.Datasets;
+import org.finos.legend.engine.persistence.components.common.StatisticName;
 import org.finos.legend.engine.persistence.components.ingestmode.AppendOnly;
 import org.finos.legend.engine.persistence.components.ingestmode.audit.DateTimeAuditing;
 import org.finos.legend.engine.persistence.components.ingestmode.audit.NoAuditing;
@@ -36,6 +37,7 @@ import org.finos.legend.engine.persistence.components.logicalplan.datasets.Filte
 import org.finos.legend.engine.persistence.components.planner.PlannerOptions;
 import org.finos.legend.engine.persistence.components.relational.CaseConversion;
 import org.finos.legend.engine.persistence.components.relational.api.GeneratorResult;
+import org.finos.legend.engine.persistence.components.relational.api.IngestorResult;
 import org.finos.legend.engine.persistence.components.relational.api.RelationalGenerator;
 import org.finos.legend.engine.persistence.components.relational.api.RelationalIngestor;
 import org.finos.legend.engine.persistence.components.relational.h2.H2DigestUtil;
@@ -44,12 +46,14 @@ import org.finos.legend.engine.persistence.components.relational.jdbc.JdbcConnec
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.finos.legend.engine.persistence.components.TestUtils.batchIdName;
 import static org.finos.legend.engine.persistence.components.TestUtils.batchUpdateTimeName;
@@ -435,6 +439,133 @@ class AppendOnlyTest extends BaseTest
         executePlansAndVerifyResultsWithDerivedDataSplits(ingestMode, options, datasets, schema, expectedDataPass2, expectedStatsList, incrementalClock);
     }
 
+    /*
+    Scenario: Test Append Only with All Version, data splits loaded concurrently on additional connections
+    */
+    @Test
+    void testAppendOnlyWithAuditingAllVersionConcurrentDataSplits() throws Exception
+    {
+        DatasetDefinition mainTable = TestUtils.getDefaultMainTable();
+        DatasetDefinition stagingTable = TestUtils.getStagingTableWithNonPkVersion();
+
+        // Create staging table
+        createStagingTableWithoutPks(stagingTable);
+
+        // Generate the milestoning object
+        AppendOnly ingestMode = AppendOnly.builder()
+            .digestGenStrategy(UserProvidedDigestGenStrategy.builder().digestField(digestName).build())
+            .deduplicationStrategy(FilterDuplicates.builder().build())
+            .versioningStrategy(AllVersionsStrategy.builder()
+                .versioningField(versionName)
+                .dataSplitFieldName(dataSplitName)
+                .mergeDataVersionResolver(DigestBasedResolver.INSTANCE)
+                .performStageVersioning(true)
+                .build())
+            .auditing(DateTimeAuditing.builder().dateTimeField(batchUpdateTimeName).build())
+            .filterExistingRecords(false)
+            .build();
+
+        Datasets datasets = Datasets.of(mainTable, stagingTable);
+        String[] schema = new String[]{idName, nameName, incomeName, startTimeName, expiryDateName, digestName, versionName, batchUpdateTimeName, batchIdName};
+
+        String dataPass1 = basePath + "input/auditing_all_version_filter_dup_no_filter_existing/data_pass1.csv";
+        String expectedDataPass1 = basePath + "expected/auditing_all_version_concurrent_data_splits/expected_pass1.csv";
+        loadStagingDataWithVersion(dataPass1);
+
+        Connection firstSplitConnection = H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL);
+        Connection secondSplitConnection = H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL);
+        try
+        {
+            RelationalIngestor ingestor = RelationalIngestor.builder()
+                .ingestMode(ingestMode)
+                .relationalSink(H2Sink.get())
+                .executionTimestampClock(fixedClock_2000_01_01)
+                .collectStatistics(true)
+                .addDataSplitConnections(JdbcConnection.of(firstSplitConnection), JdbcConnection.of(secondSplitConnection))
+                .build();
+
+            List<IngestorResult> results = ingestor.performFullIngestion(JdbcConnection.of(h2Sink.connection()), datasets);
+
+            List<Map<String, Object>> tableData = h2Sink.executeQuery("select * from \"TEST\".\"main\"");
+            TestUtils.assertFileAndTableDataEquals(schema, expectedDataPass1, tableData);
+
+            Assertions.assertEquals(2, results.size());
+            Assertions.assertEquals(Optional.of(1), results.get(0).batchId());
+            Assertions.assertEquals(Optional.of(2), results.get(1).batchId());
+            Assertions.assertEquals("3", results.get(0).statisticByName().get(StatisticName.ROWS_INSERTED).toString());
+            Assertions.assertEquals("1", results.get(1).statisticByName().get(StatisticName.ROWS_INSERTED).toString());
+
+            List<Map<String, Object>> metadata = h2Sink.executeQuery("select table_batch_id from batch_metadata where table_name = 'main' order by table_batch_id");
+            Assertions.assertEquals(2, metadata.size());
+            Assertions.assertEquals("1", metadata.get(0).get("table_batch_id").toString());
+            Assertions.assertEquals("2", metadata.get(1).get("table_batch_id").toString());
+        }
+        finally
+        {
+            firstSplitConnection.close();
+            secondSplitConnection.close();
+        }
+    }
+
+    /*
+    Scenario: Test Append Only with All Version and filter existing records, data splits are loaded sequentially despite the data split connections
+    */
+    @Test
+    void testAppendOnlyWithFilterExistingRecordsIgnoresDataSplitConnections() throws Exception
+    {
+        DatasetDefinition mainTable = TestUtils.getDefaultMainTable();
+        DatasetDefinition stagingTable = TestUtils.getStagingTableWithNonPkVersion();
+        IncrementalClock incrementalClock = new IncrementalClock(fixedExecutionZonedDateTime1.toInstant(), ZoneOffset.UTC, 1000);
+
+        // Create staging table
+        createStagingTableWithoutPks(stagingTable);
+
+        // Generate the milestoning object
+        AppendOnly ingestMode = AppendOnly.builder()
+            .digestGenStrategy(UserProvidedDigestGenStrategy.builder().digestField(digestName).build())
+            .deduplicationStrategy(FilterDuplicates.builder().build())
+            .versioningStrategy(AllVersionsStrategy.builder()
+                .versioningField(versionName)
+                .dataSplitFieldName(dataSplitName)
+                .mergeDataVersionResolver(DigestBasedResolver.INSTANCE)
+                .performStageVersioning(true)
+                .build())
+            .auditing(DateTimeAuditing.builder().dateTimeField(batchUpdateTimeName).build())
+            .filterExistingRecords(true)
+            .build();
+
+        Datasets datasets = Datasets.of(mainTable, stagingTable);
+        String[] schema = new String[]{idName, nameName, incomeName, startTimeName, expiryDateName, digestName, versionName, batchUpdateTimeName, batchIdName};
+
+        String dataPass1 = basePath + "input/auditing_all_version_filter_dup_filter_existing/data_pass1.csv";
+        String expectedDataPass1 = basePath + "expected/auditing_all_version_filter_dup_filter_existing/expected_pass1.csv";
+        loadStagingDataWithVersion(dataPass1);
+
+        Connection splitConnection = H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL);
+        try
+        {
+            RelationalIngestor ingestor = RelationalIngestor.builder()
+                .ingestMode(ingestMode)
+                .relationalSink(H2Sink.get())
+                .executionTimestampClock(incrementalClock)
+                .collectStatistics(true)
+                .addDataSplitConnections(JdbcConnection.of(splitConnection))
+                .build();
+
+            List<IngestorResult> results = ingestor.performFullIngestion(JdbcConnection.of(h2Sink.connection()), datasets);
+
+            List<Map<String, Object>> tableData = h2Sink.executeQuery("select * from \"TEST\".\"main\"");
+            TestUtils.assertFileAndTableDataEquals(schema, expectedDataPass1, tableData);
+            Assertions.assertEquals(2, results.size());
+            Assertions.assertEquals(Optional.of(1), results.get(0).batchId());
+            Assertions.assertEquals(Optional.of(2), results.get(1).batchId());
+        }
+        finally
+        {
+            splitConnection.close();
+        }
+    }
+
     /*
     Scenario: Scenario: Test Append Only vanilla case + staging table is cleaned up in the end with upper case with UDF based digest generation
     */
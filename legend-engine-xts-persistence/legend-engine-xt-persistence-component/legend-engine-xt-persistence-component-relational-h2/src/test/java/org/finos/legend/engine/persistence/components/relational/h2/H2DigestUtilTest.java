@@ -0,0 +1,59 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.persistence.components.relational.h2;
+
+import org.finos.legend.engine.persistence.components.BaseTest;
+import org.finos.legend.engine.persistence.components.util.DigestAlgorithm;
+import org.finos.legend.engine.persistence.components.util.DigestContext;
+import org.finos.legend.engine.persistence.components.util.DigestEngine;
+import org.finos.legend.engine.persistence.components.util.DigestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class H2DigestUtilTest extends BaseTest
+{
+    private static final String[] COLUMN_NAMES = new String[]{"col_string", "col_int", "col_empty", "col_null"};
+    private static final String[] COLUMN_VALUES = new String[]{"test data", "33", "", null};
+
+    @Test
+    void testMD5Udf()
+    {
+        H2DigestUtil.registerMD5Udf(h2Sink, "TEST_MD5");
+        List<Map<String, Object>> result = h2Sink.executeQuery("SELECT TEST_MD5(ARRAY['col_string','col_int','col_empty','col_null'],ARRAY['test data','33','',NULL]) as \"digest\"");
+
+        DigestContext context = DigestUtils.getDigestContext(COLUMN_NAMES);
+        Assertions.assertEquals(DigestUtils.getDigest(COLUMN_VALUES, context, false), result.get(0).get("digest"));
+    }
+
+    @Test
+    void testMurmur3Udf()
+    {
+        H2DigestUtil.registerMurmur3Udf(h2Sink, "TEST_MURMUR3");
+        H2DigestUtil.registerMD5Udf(h2Sink, "TEST_MD5");
+        List<Map<String, Object>> result = h2Sink.executeQuery("SELECT " +
+            "TEST_MURMUR3(ARRAY['col_string','col_int','col_empty','col_null'],ARRAY['test data','33','',NULL]) as \"digest\"," +
+            "TEST_MURMUR3(ARRAY['col_int','col_string','col_null','col_empty'],ARRAY['33','test data',NULL,'']) as \"unsorted_digest\"," +
+            "TEST_MD5(ARRAY['col_string','col_int','col_empty','col_null'],ARRAY['test data','33','',NULL]) as \"md5_digest\"");
+
+        DigestEngine murmur3Engine = DigestEngine.of(DigestUtils.getDigestContext(COLUMN_NAMES), false, DigestAlgorithm.MURMUR3_128);
+        String expectedDigest = murmur3Engine.digest(COLUMN_VALUES);
+        Assertions.assertEquals(expectedDigest, result.get(0).get("digest"));
+        Assertions.assertEquals(expectedDigest, result.get(0).get("unsorted_digest"));
+        Assertions.assertNotEquals(expectedDigest, result.get(0).get("md5_digest"));
+    }
+}
@@ -0,0 +1,125 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.duckdb;
+
+import org.apache.arrow.c.ArrowArrayStream;
+import org.apache.arrow.c.Data;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.duckdb.DuckDBConnection;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Creates DuckDB tables from Arrow record batches. The batches are exported through the Arrow C data interface and
+ * scanned by DuckDB as they are read, without being written to an intermediate file.
+ */
+public class DuckDBArrowLoader
+{
+    private DuckDBArrowLoader()
+    {
+    }
+
+    public static boolean canLoad(Connection connection) throws SQLException
+    {
+        return connection.isWrapperFor(DuckDBConnection.class);
+    }
+
+    /**
+     * Creates the table tableName with the rows of the reader, naming its columns after columnNames (in the order of the
+     * reader fields) or after the reader fields when null.
+     * <p>
+     * Takes ownership of the reader: it is exported as an Arrow stream whose release closes it, either by DuckDB once the
+     * stream is scanned or by this method otherwise. Callers must not close it themselves.
+     */
+    public static void load(Connection connection, String tableName, List<String> columnNames, ArrowReader reader, BufferAllocator allocator) throws SQLException
+    {
+        String streamName = "legend_arrow_stream_" + tableName;
+        try (ArrowArrayStream stream = ArrowArrayStream.allocateNew(allocator))
+        {
+            String selectList;
+            try
+            {
+                selectList = selectList(tableName, columnNames, reader);
+                Data.exportArrayStream(allocator, reader, stream);
+            }
+            catch (Exception e)
+            {
+                closeOnFailure(reader, e);
+                throw e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+            }
+
+            try
+            {
+                connection.unwrap(DuckDBConnection.class).registerArrowStream(streamName, stream);
+                try (Statement statement = connection.createStatement())
+                {
+                    try
+                    {
+                        statement.execute("CREATE TABLE " + tableName + " AS SELECT " + selectList + " FROM " + streamName);
+                    }
+                    finally
+                    {
+                        // the view scanning the stream must not outlive it
+                        statement.execute("DROP VIEW IF EXISTS " + streamName);
+                    }
+                }
+            }
+            finally
+            {
+                // no-op when DuckDB already released the stream it scanned
+                stream.release();
+            }
+        }
+    }
+
+    private static String selectList(String tableName, List<String> columnNames, ArrowReader reader) throws IOException
+    {
+        List<String> fieldNames = reader.getVectorSchemaRoot().getSchema().getFields().stream().map(Field::getName).collect(Collectors.toList());
+        if (columnNames == null)
+        {
+            return "*";
+        }
+        if (columnNames.size() != fieldNames.size())
+        {
+            throw new RuntimeException("Error loading table '" + tableName + "': expected " + columnNames.size() + " columns, got " + fieldNames.size());
+        }
+        return IntStream.range(0, fieldNames.size()).mapToObj(i -> quote(fieldNames.get(i)) + " AS " + quote(columnNames.get(i))).collect(Collectors.joining(", "));
+    }
+
+    private static void closeOnFailure(ArrowReader reader, Exception failure)
+    {
+        try
+        {
+            reader.close();
+        }
+        catch (Exception e)
+        {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static String quote(String name)
+    {
+        return "\"" + name.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,221 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.duckdb;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+public class TestDuckDBArrowLoader
+{
+    private static final MutableList<String> EXPECTED_ROWS = Lists.mutable.with(
+            "1|O'Brien \"0\"|0.0|2020-01-01",
+            "2|O'Brien \"1\"|1.5|2020-01-02",
+            "3|O'Brien \"2\"|3.0|2020-01-03",
+            "4|O'Brien \"3\"|4.5|2020-01-04",
+            "5|null|null|null");
+
+    @Test
+    public void testBatchesRoundTripWithRenamedColumns() throws Exception
+    {
+        try (BufferAllocator allocator = new RootAllocator();
+             Connection connection = DriverManager.getConnection("jdbc:duckdb:"))
+        {
+            Assert.assertTrue(DuckDBArrowLoader.canLoad(connection));
+
+            CountingReader reader = new CountingReader(arrowStream(allocator), allocator);
+            DuckDBArrowLoader.load(connection, "test1", Arrays.asList("ID", "Full \"Name\"", "PRICE", "SETTLED"), reader, allocator);
+
+            Assert.assertEquals(1, reader.closed);
+            Assert.assertEquals(Lists.mutable.with("ID", "Full \"Name\"", "PRICE", "SETTLED"), columns(connection, "test1"));
+            Assert.assertEquals(EXPECTED_ROWS, rows(connection, "test1"));
+            Assert.assertEquals(0, streamViews(connection));
+        }
+    }
+
+    @Test
+    public void testReaderFieldNamesAreKeptWithoutColumnNames() throws Exception
+    {
+        try (BufferAllocator allocator = new RootAllocator();
+             Connection connection = DriverManager.getConnection("jdbc:duckdb:"))
+        {
+            DuckDBArrowLoader.load(connection, "test1", null, new CountingReader(arrowStream(allocator), allocator), allocator);
+            DuckDBArrowLoader.load(connection, "test2", null, new CountingReader(arrowStream(allocator), allocator), allocator);
+
+            Assert.assertEquals(Lists.mutable.with("id", "name", "price", "settled"), columns(connection, "test2"));
+            Assert.assertEquals(EXPECTED_ROWS, rows(connection, "test1"));
+            Assert.assertEquals(EXPECTED_ROWS, rows(connection, "test2"));
+            Assert.assertEquals(0, streamViews(connection));
+        }
+    }
+
+    @Test
+    public void testReaderIsClosedWhenTheTableCannotBeCreated() throws Exception
+    {
+        try (BufferAllocator allocator = new RootAllocator();
+             Connection connection = DriverManager.getConnection("jdbc:duckdb:"))
+        {
+            CountingReader mismatchedColumns = new CountingReader(arrowStream(allocator), allocator);
+            RuntimeException e = Assert.assertThrows(RuntimeException.class, () -> DuckDBArrowLoader.load(connection, "test1", Arrays.asList("ID", "NAME"), mismatchedColumns, allocator));
+            Assert.assertEquals("Error loading table 'test1': expected 2 columns, got 4", e.getMessage());
+            Assert.assertEquals(1, mismatchedColumns.closed);
+
+            try (Statement statement = connection.createStatement())
+            {
+                statement.execute("CREATE TABLE test2 (ID INTEGER)");
+            }
+            CountingReader existingTable = new CountingReader(arrowStream(allocator), allocator);
+            Assert.assertThrows(Exception.class, () -> DuckDBArrowLoader.load(connection, "test2", null, existingTable, allocator));
+            Assert.assertEquals(1, existingTable.closed);
+            Assert.assertEquals(0, streamViews(connection));
+        }
+    }
+
+    private static byte[] arrowStream(BufferAllocator allocator) throws IOException
+    {
+        Schema schema = new Schema(Arrays.asList(
+                Field.nullable("id", new ArrowType.Int(64, true)),
+                Field.nullable("name", ArrowType.Utf8.INSTANCE),
+                Field.nullable("price", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+                Field.nullable("settled", new ArrowType.Date(DateUnit.DAY))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+             ArrowStreamWriter writer = new ArrowStreamWriter(root, null, out))
+        {
+            writer.start();
+            // two batches, so that the stream is scanned batch by batch
+            fill(root, 0, 3);
+            writer.writeBatch();
+            fill(root, 3, 2);
+            writer.writeBatch();
+            writer.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static void fill(VectorSchemaRoot root, int from, int count)
+    {
+        root.allocateNew();
+        BigIntVector id = (BigIntVector) root.getVector("id");
+        VarCharVector name = (VarCharVector) root.getVector("name");
+        Float8Vector price = (Float8Vector) root.getVector("price");
+        DateDayVector settled = (DateDayVector) root.getVector("settled");
+        for (int row = 0; row < count; row++)
+        {
+            int i = from + row;
+            id.setSafe(row, i + 1);
+            if (i == 4)
+            {
+                name.setNull(row);
+                price.setNull(row);
+                settled.setNull(row);
+            }
+            else
+            {
+                name.setSafe(row, ("O'Brien \"" + i + "\"").getBytes(StandardCharsets.UTF_8));
+                price.setSafe(row, i * 1.5);
+                settled.setSafe(row, (int) LocalDate.of(2020, 1, 1).plusDays(i).toEpochDay());
+            }
+        }
+        root.setRowCount(count);
+    }
+
+    private static MutableList<String> columns(Connection connection, String tableName) throws Exception
+    {
+        MutableList<String> columns = Lists.mutable.empty();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select * from " + tableName + " limit 0"))
+        {
+            for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++)
+            {
+                columns.add(resultSet.getMetaData().getColumnName(i));
+            }
+        }
+        return columns;
+    }
+
+    private static MutableList<String> rows(Connection connection, String tableName) throws Exception
+    {
+        MutableList<String> rows = Lists.mutable.empty();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select * from " + tableName + " order by 1"))
+        {
+            int columnCount = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next())
+            {
+                StringBuilder row = new StringBuilder();
+                for (int i = 1; i <= columnCount; i++)
+                {
+                    row.append(i == 1 ? "" : "|").append(resultSet.getString(i));
+                }
+                rows.add(row.toString());
+            }
+        }
+        return rows;
+    }
+
+    private static int streamViews(Connection connection) throws Exception
+    {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select count(*) from information_schema.tables where table_name like 'legend_arrow_stream_%'"))
+        {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static class CountingReader extends ArrowStreamReader
+    {
+        private int closed = 0;
+
+        private CountingReader(byte[] bytes, BufferAllocator allocator)
+        {
+            super(new ByteArrayInputStream(bytes), allocator);
+        }
+
+        @Override
+        protected void closeReadSource() throws IOException
+        {
+            this.closed++;
+            super.closeReadSource();
+        }
+    }
+}
@@ -88,7 +88,11 @@ public class SnowflakeConnectionExtension implements RelationalConnectionExtensi
             {
                 visitor.ingestionMethod = snowflakeCommands.getDefaultIngestionMethod();
             }
-            if (visitor.ingestionMethod == IngestionMethod.CLIENT_FILE)
+            if (visitor.ingestionMethod == IngestionMethod.PREPARED_BATCH_INSERT && PreparedStatementTempTableLoader.supports(visitor.result))
+            {
+                new PreparedStatementTempTableLoader(snowflakeCommands, visitor.connection, visitor.tableName, visitor.databaseTimeZone).load(visitor.result);
+            }
+            else if (visitor.ingestionMethod == IngestionMethod.CLIENT_FILE || visitor.ingestionMethod == IngestionMethod.PREPARED_BATCH_INSERT)
             {
                 try (TemporaryFile tempFile = new TemporaryFile(visitor.config.tempPath, RequestIdGenerator.generateId()))
                 {
@@ -22,6 +22,7 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.drive
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommandsVisitor;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -63,12 +64,24 @@ public class SnowflakeCommands extends RelationalDatabaseCommands
         return strings;
     }
 
+    @Override
+    public List<String> createTempTable(String tableName, List<Column> columns)
+    {
+        return Collections.singletonList("CREATE TEMPORARY TABLE " + tableName + " " + columns.stream().map(c -> c.name + " " + columnTypeToSqlTextMap.getIfAbsentValue(c.type, c.type)).collect(Collectors.joining(",", "(", ")")));
+    }
+
     @Override
     public IngestionMethod getDefaultIngestionMethod()
     {
         return IngestionMethod.CLIENT_FILE;
     }
 
+    @Override
+    public boolean supportsIngestionMethod(IngestionMethod ingestionMethod)
+    {
+        return ingestionMethod == IngestionMethod.CLIENT_FILE || ingestionMethod == IngestionMethod.PREPARED_BATCH_INSERT;
+    }
+
     @Override
     public <T> T accept(RelationalDatabaseCommandsVisitor<T> visitor)
     {
@@ -17,6 +17,7 @@ package org.finos.legend.engine.plan.execution.stores.relational.connection.ds;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.impl.factory.Lists;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.snowflake.SnowflakeCommands;
 import org.junit.Test;
 
@@ -48,4 +49,28 @@ public class TestSnowflakeCommands
         );
         assertEquals(expectedSQLStatements, sqlStatements);
     }
+
+    @Test
+    public void testPreparedBatchInsertTempTableCommands()
+    {
+        SnowflakeCommands snowflakeCommands = new SnowflakeCommands();
+
+        ImmutableList<Column> columns = Lists.immutable.of(
+                new Column("a", "VARCHAR(100)"),
+                new Column("c", "BIT")
+        );
+
+        assertEquals(Lists.immutable.of("CREATE TEMPORARY TABLE temp_1 (a VARCHAR(100),c BOOLEAN)"), snowflakeCommands.createTempTable("temp_1", columns.castToList()));
+        assertEquals("INSERT INTO temp_1 VALUES (?, ?)", snowflakeCommands.insertIntoTempTable("temp_1", columns.castToList()));
+    }
+
+    @Test
+    public void testUnsupportedIngestionMethodFallsBackToDefault()
+    {
+        SnowflakeCommands snowflakeCommands = new SnowflakeCommands();
+
+        assertEquals(IngestionMethod.PREPARED_BATCH_INSERT, snowflakeCommands.resolveIngestionMethod(IngestionMethod.PREPARED_BATCH_INSERT));
+        assertEquals(IngestionMethod.CLIENT_FILE, snowflakeCommands.resolveIngestionMethod(IngestionMethod.BATCH_INSERT));
+        assertEquals(IngestionMethod.CLIENT_FILE, snowflakeCommands.resolveIngestionMethod(null));
+    }
 }
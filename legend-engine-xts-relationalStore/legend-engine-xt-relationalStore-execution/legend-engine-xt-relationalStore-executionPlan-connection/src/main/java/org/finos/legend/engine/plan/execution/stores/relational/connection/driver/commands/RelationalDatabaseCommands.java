@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands;
 
+import java.util.Collections;
 import java.util.List;
 
 public abstract class RelationalDatabaseCommands
@@ -27,6 +28,22 @@ public abstract class RelationalDatabaseCommands
 
     public abstract List<String> createAndLoadTempTable(String tableName, List<Column> columns, String optionalCSVFileLocation);
 
+    /**
+     * Statements creating an empty temp table, to be populated through {@link #insertIntoTempTable(String, List)}
+     */
+    public List<String> createTempTable(String tableName, List<Column> columns)
+    {
+        throw new RuntimeException("Create temp table not implemented for " + this.getClass().getSimpleName());
+    }
+
+    /**
+     * Parameterized insert of a single row, bound and batched through a PreparedStatement
+     */
+    public String insertIntoTempTable(String tableName, List<Column> columns)
+    {
+        return "INSERT INTO " + tableName + " VALUES (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    }
+
     public abstract <T> T accept(RelationalDatabaseCommandsVisitor<T> visitor);
 
     public String load(String tableName, String location)
@@ -36,6 +53,22 @@ public abstract class RelationalDatabaseCommands
 
     public abstract IngestionMethod getDefaultIngestionMethod();
 
+    /**
+     * Whether temp tables can be loaded with the given ingestion method, by default only with the default one
+     */
+    public boolean supportsIngestionMethod(IngestionMethod ingestionMethod)
+    {
+        return ingestionMethod == this.getDefaultIngestionMethod();
+    }
+
+    /**
+     * The requested ingestion method when supported, the default one otherwise
+     */
+    public IngestionMethod resolveIngestionMethod(IngestionMethod requestedIngestionMethod)
+    {
+        return (requestedIngestionMethod != null && this.supportsIngestionMethod(requestedIngestionMethod)) ? requestedIngestionMethod : this.getDefaultIngestionMethod();
+    }
+
 //    public void buildTempTableFromResult(RelationalExecutionConfiguration config, Connection connection, StreamingResult result, String tableName)
 //    {
 //        buildTempTableFromResult(config, connection, result, tableName, this.getDefaultIngestionMethod());
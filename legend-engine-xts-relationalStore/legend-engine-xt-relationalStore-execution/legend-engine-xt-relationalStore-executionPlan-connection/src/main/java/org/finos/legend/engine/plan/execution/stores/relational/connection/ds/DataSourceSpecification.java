@@ -177,8 +177,7 @@ public abstract class DataSourceSpecification
                 // Logs and traces and stats -----
                 String poolName = dataSourceWithStatistics.getPoolName();
                 scope.span().setTag("Pool", poolName);
-                int requests = dataSourceWithStatistics.requestConnection();
-                LOGGER.info("Principal [{}] has requested [{}] connections for pool [{}]", principal, requests, poolName);
+                LOGGER.info("Principal [{}] has requested [{}] connections for pool [{}]", principal, dataSourceWithStatistics.getStatistics().getRequestedConnections(), poolName);
                 return authenticationStrategy.getConnection(dataSourceWithStatistics, identityState.getIdentity());
             }
             catch (ConnectionException ce)
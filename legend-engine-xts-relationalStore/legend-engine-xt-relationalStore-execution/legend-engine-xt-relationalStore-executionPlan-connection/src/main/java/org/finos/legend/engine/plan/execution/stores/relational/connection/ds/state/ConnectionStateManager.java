@@ -37,6 +37,7 @@ import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
@@ -74,6 +75,9 @@ import static org.finos.legend.engine.plan.execution.stores.relational.connectio
 
     3/ Connection State manager HouseKeeper thread - A scheduled task evicts pool state objects.
     The thread evicts pool state objects that have not been used in the last N minutes. It iterates over the map and removes objects based on lastConnectionRequest timestamp.
+    When a maximum number of pools or of connections across pools is configured, the least recently used pools without active connections are also evicted until the manager is back under these caps.
+    This shrinking runs in the housekeeper and in connection serving threads right after they created a pool.
+    Pools requested within the last EVICTION_GRACE_PERIOD are never shrunk: a serving thread records its request under the pool lock before it is handed the pool, but only gets a connection from it afterwards.
 
     4/ "DevOps" thread - These are other threads that read the state map for debugging/logging purposes.
     The state manager exposes "get/getAll/dump" methods that iterate over the map.
@@ -115,10 +119,13 @@ public class ConnectionStateManager implements Closeable
 
     public static final long DEFAULT_EVICTION_DURATION_IN_SECONDS = Duration.ofMinutes(10).getSeconds();
     public static String EVICTION_DURATION_SYSTEM_PROPERTY = "org.finos.legend.engine.execution.connectionStateEvictionDurationInSeconds";
+    public static String MAX_POOLS_SYSTEM_PROPERTY = "org.finos.legend.engine.execution.connectionStateMaxPools";
+    public static String MAX_TOTAL_CONNECTIONS_SYSTEM_PROPERTY = "org.finos.legend.engine.execution.connectionStateMaxTotalConnections";
 
     public static String POOL_NAME_KEY = "POOL_NAME_KEY";
     private static final String SEPARATOR = "_";
     private static final String DBPOOL = "DBPool_";
+    static final Duration EVICTION_GRACE_PERIOD = Duration.ofSeconds(10);
     private static ConnectionStateManager INSTANCE;
 
     static
@@ -149,6 +156,17 @@ public class ConnectionStateManager implements Closeable
         }
     }
 
+    static int resolveCap(String systemProperty)
+    {
+        int cap = Integer.getInteger(systemProperty, 0);
+        if (cap > 0)
+        {
+            LOGGER.info("Using {}={}", systemProperty, cap);
+            return cap;
+        }
+        return Integer.MAX_VALUE;
+    }
+
     public static final synchronized ConnectionStateManager getInstance()
     {
         return getInstanceImpl(Clock.systemUTC());
@@ -177,6 +195,8 @@ public class ConnectionStateManager implements Closeable
     private final ConcurrentMutableMap<String, DataSourceWithStatistics> connectionPools = ConcurrentHashMap.newMap();
 
     private Clock clock;
+    private final int maxPools;
+    private final int maxTotalConnections;
 
     public Clock getClock()
     {
@@ -184,9 +204,16 @@ public class ConnectionStateManager implements Closeable
     }
 
     ConnectionStateManager(Clock clock)
+    {
+        this(clock, resolveCap(MAX_POOLS_SYSTEM_PROPERTY), resolveCap(MAX_TOTAL_CONNECTIONS_SYSTEM_PROPERTY));
+    }
+
+    ConnectionStateManager(Clock clock, int maxPools, int maxTotalConnections)
     {
         // singleton
         this.clock = clock;
+        this.maxPools = maxPools;
+        this.maxTotalConnections = maxTotalConnections;
     }
 
     // Synchronizes using concurrent map's locks
@@ -214,7 +241,7 @@ public class ConnectionStateManager implements Closeable
         synchronized (poolLockManager.getLock(poolName))
         {
             DataSourceWithStatistics currentState = this.connectionPools.get(poolName);
-            if (currentState.getStatistics().equals(expectedState))
+            if (currentState != null && currentState.getStatistics().equals(expectedState))
             {
                 currentState.close();
                 this.connectionPools.remove(poolName);
@@ -244,6 +271,52 @@ public class ConnectionStateManager implements Closeable
         });
     }
 
+    private boolean exceedsCaps()
+    {
+        return this.connectionPools.size() > this.maxPools || (this.maxTotalConnections != Integer.MAX_VALUE && this.getTotalConnections() > this.maxTotalConnections);
+    }
+
+    private double getTotalConnections()
+    {
+        return this.connectionPools.sumOfDouble(DataSourceWithStatistics::getTotalConnections);
+    }
+
+    /**
+     * Evicts the least recently used pools without active connections until the number of pools and of connections
+     * across pools are within their caps, if any. Pools with active connections, or requested within the eviction grace
+     * period, are never evicted, so caps can be exceeded while they are all in use.
+     *
+     * @param retainedPoolName pool that should not be evicted, typically the one a connection is being requested from
+     */
+    public void evictLeastRecentlyUsedPoolsOverCaps(String retainedPoolName)
+    {
+        if (!this.exceedsCaps())
+        {
+            return;
+        }
+        synchronized (this)
+        {
+            // step 1 - gather candidates, least recently used first, leaving out pools that are in use or have just been handed out
+            List<Pair<String, DataSourceStatistics>> candidates = this.connectionPools.valuesView()
+                    .reject(ds -> ds.getPoolName().equals(retainedPoolName) || ds.hasActiveConnections() || ds.getStatistics().getLastConnectionRequestAge() < EVICTION_GRACE_PERIOD.toMillis())
+                    .toSortedList(Comparator.comparingLong((DataSourceWithStatistics ds) -> ds.getStatistics().getLastConnectionRequest()))
+                    .collect(ds -> Tuples.pair(ds.getPoolName(), DataSourceStatistics.clone(ds.getStatistics())));
+            // step 2 - remove atomically, as for age based eviction, until back under the caps
+            int evicted = 0;
+            for (Pair<String, DataSourceStatistics> pool : candidates)
+            {
+                if (!this.exceedsCaps())
+                {
+                    break;
+                }
+                this.atomicallyRemovePool(pool.getOne(), pool.getTwo());
+                MetricsHandler.removeConnectionMetrics(pool.getOne());
+                evicted++;
+            }
+            LOGGER.info("ConnectionStateManager : evicted {} least recently used pools, pools={}, connections={}", evicted, this.size(), this.getTotalConnections());
+        }
+    }
+
     public int size()
     {
         return this.connectionPools.size();
@@ -264,6 +337,7 @@ public class ConnectionStateManager implements Closeable
         int sizeBeforePurge = this.size();
         LOGGER.info("ConnectionStateManager.HouseKeeper : Starting  with cache size={}", sizeBeforePurge);
         this.evictUnusedPoolsOlderThan(Duration.ofSeconds(durationInSeconds));
+        this.evictLeastRecentlyUsedPoolsOverCaps(null);
         int sizeAfterPurge = this.size();
         LOGGER.info("ConnectionStateManager.HouseKeeper: Evicted={}", sizeBeforePurge - sizeAfterPurge);
     }
@@ -337,6 +411,8 @@ public class ConnectionStateManager implements Closeable
             throw new RuntimeException(String.format("Invalid Identity found, cannot build connection pool for %s for %s",principal,connectionKey.shortId()));
         }
 
+        boolean created = false;
+
         //why do we need getIfAbsentPut?  the first ever pool creation request will create a new Hikari Data Source
         //because we have configured hikari to fail fast a new connection will be created.
         //This will invoke the DriverWrapper connect method, for this method to create that test connection we need to pass minimal state
@@ -360,6 +436,7 @@ public class ConnectionStateManager implements Closeable
                     {
                         DataSourceWithStatistics dataSourceWithStatistics = new DataSourceWithStatistics(poolName, dataSourceBuilder.get(), identityState, dataSourceSpecification);
                         this.connectionPools.put(poolName, dataSourceWithStatistics);
+                        created = true;
                         LOGGER.info("Pool created for [{}] for datasource [{}], name {}", principal, connectionKey.shortId(), poolName);
                     }
                     catch (Exception e)
@@ -371,6 +448,11 @@ public class ConnectionStateManager implements Closeable
             }
         }
 
+        // shrinking takes the locks of evicted pools, hence is done once the lock of the new pool has been released
+        if (created)
+        {
+            this.evictLeastRecentlyUsedPoolsOverCaps(poolName);
+        }
 
         //we need to recreate pools with an invalid identity state
         //Example: for kerberos based identities, creating a hikari pool is done as a PrivilegedAction which sets the subject for that security context
@@ -398,8 +480,20 @@ public class ConnectionStateManager implements Closeable
         }
 
 
-        LOGGER.info("Pool found for [{}] in datasource [{}] : pool Name [{}]", principal, connectionKey.shortId(), poolName);
-        return this.connectionPools.get(poolName);
+        // the request is recorded under the pool lock, so that the pool is not evicted before a connection is obtained from it:
+        // evictions which read the statistics before the request no longer match them, later ones skip recently requested pools
+        synchronized (poolLockManager.getLock(poolName))
+        {
+            DataSourceWithStatistics dataSourceWithStatistics = this.connectionPools.get(poolName);
+            if (dataSourceWithStatistics != null && dataSourceWithStatistics.getDataSource() != null)
+            {
+                int requests = dataSourceWithStatistics.requestConnection();
+                LOGGER.info("Pool found for [{}] in datasource [{}] : pool Name [{}], requested connections [{}]", principal, connectionKey.shortId(), poolName, requests);
+                return dataSourceWithStatistics;
+            }
+        }
+        LOGGER.info("Pool for [{}] in datasource [{}] was evicted before being handed out, looking it up again", principal, connectionKey.shortId());
+        return this.getDataSourceForIdentityIfAbsentBuild(identityState, dataSourceSpecification, dataSourceBuilder);
     }
 
     public Object getPoolStatisticsAsJSON(DataSourceWithStatistics poolState)
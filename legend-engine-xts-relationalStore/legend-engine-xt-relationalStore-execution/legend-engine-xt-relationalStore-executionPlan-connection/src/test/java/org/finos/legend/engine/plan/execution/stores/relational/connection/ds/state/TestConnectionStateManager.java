@@ -422,6 +422,121 @@ public class TestConnectionStateManager extends TestConnectionManagement
 
     }
 
+    @Test
+    public void testLeastRecentlyUsedPoolsEvictedOverMaxPools() throws SQLException
+    {
+        this.connectionStateManager = new ConnectionStateManager(clock, 2, Integer.MAX_VALUE);
+        ConnectionStateManager.setInstanceForTesting(this.connectionStateManager);
+
+        Identity user1 = new Identity("user1");
+        Identity user2 = new Identity("user2");
+        Identity user3 = new Identity("user3");
+        Identity user4 = new Identity("user4");
+        DataSourceSpecification ds1 = buildLocalDataSourceSpecification(Collections.emptyList());
+        String pool1 = connectionStateManager.poolNameFor(user1, ds1.getConnectionKey());
+        String pool2 = connectionStateManager.poolNameFor(user2, ds1.getConnectionKey());
+        String pool3 = connectionStateManager.poolNameFor(user3, ds1.getConnectionKey());
+        String pool4 = connectionStateManager.poolNameFor(user4, ds1.getConnectionKey());
+
+        requestConnection(user1, ds1).close();
+        clock.advance(Duration.ofMinutes(1));
+        requestConnection(user2, ds1).close();
+        clock.advance(Duration.ofMinutes(1));
+        requestConnection(user1, ds1).close();
+        clock.advance(Duration.ofMinutes(1));
+
+        // user2 pool is the least recently used one
+        requestConnection(user3, ds1).close();
+        Assert.assertEquals(2, connectionStateManager.size());
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool1));
+        Assert.assertNull(connectionStateManager.getDataSourceByPoolName(pool2));
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool3));
+
+        // pools with active connections are kept whatever their age
+        Connection connection1 = requestConnection(user1, ds1);
+        clock.advance(Duration.ofMinutes(1));
+        requestConnection(user4, ds1).close();
+        Assert.assertEquals(2, connectionStateManager.size());
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool1));
+        Assert.assertNull(connectionStateManager.getDataSourceByPoolName(pool3));
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool4));
+        connection1.close();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPoolsEvictedOverMaxTotalConnections() throws SQLException
+    {
+        this.connectionStateManager = new ConnectionStateManager(clock, Integer.MAX_VALUE, 2);
+        ConnectionStateManager.setInstanceForTesting(this.connectionStateManager);
+
+        Identity user1 = new Identity("user1");
+        Identity user2 = new Identity("user2");
+        Identity user3 = new Identity("user3");
+        DataSourceSpecification ds1 = buildLocalDataSourceSpecification(Collections.emptyList());
+        String pool1 = connectionStateManager.poolNameFor(user1, ds1.getConnectionKey());
+        String pool2 = connectionStateManager.poolNameFor(user2, ds1.getConnectionKey());
+        String pool3 = connectionStateManager.poolNameFor(user3, ds1.getConnectionKey());
+
+        requestConnection(user1, ds1).close();
+        clock.advance(Duration.ofMinutes(1));
+        requestConnection(user2, ds1).close();
+        clock.advance(Duration.ofMinutes(1));
+        Assert.assertEquals(2, connectionStateManager.size());
+
+        requestConnection(user3, ds1).close();
+        Assert.assertEquals(2, connectionStateManager.size());
+        Assert.assertNull(connectionStateManager.getDataSourceByPoolName(pool1));
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool2));
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool3));
+    }
+
+    @Test
+    public void testRecentlyRequestedPoolsNotEvictedOverCaps() throws SQLException
+    {
+        this.connectionStateManager = new ConnectionStateManager(clock, 1, Integer.MAX_VALUE);
+        ConnectionStateManager.setInstanceForTesting(this.connectionStateManager);
+
+        Identity user1 = new Identity("user1");
+        Identity user2 = new Identity("user2");
+        Identity user3 = new Identity("user3");
+        DataSourceSpecification ds1 = buildLocalDataSourceSpecification(Collections.emptyList());
+        String pool1 = connectionStateManager.poolNameFor(user1, ds1.getConnectionKey());
+        String pool2 = connectionStateManager.poolNameFor(user2, ds1.getConnectionKey());
+        String pool3 = connectionStateManager.poolNameFor(user3, ds1.getConnectionKey());
+
+        // user1 pool has no active connection but has just been handed out, hence may be about to be used
+        requestConnection(user1, ds1).close();
+        clock.advance(ConnectionStateManager.EVICTION_GRACE_PERIOD.dividedBy(2));
+        requestConnection(user2, ds1).close();
+        Assert.assertEquals(2, connectionStateManager.size());
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool1));
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool2));
+
+        // once out of the grace period, both are shrunk
+        clock.advance(Duration.ofMinutes(1));
+        requestConnection(user3, ds1).close();
+        Assert.assertEquals(1, connectionStateManager.size());
+        Assert.assertNull(connectionStateManager.getDataSourceByPoolName(pool1));
+        Assert.assertNull(connectionStateManager.getDataSourceByPoolName(pool2));
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool3));
+    }
+
+    @Test
+    public void testDefaultCaps()
+    {
+        System.clearProperty(ConnectionStateManager.MAX_POOLS_SYSTEM_PROPERTY);
+        assertEquals(Integer.MAX_VALUE, ConnectionStateManager.resolveCap(ConnectionStateManager.MAX_POOLS_SYSTEM_PROPERTY));
+        System.setProperty(ConnectionStateManager.MAX_POOLS_SYSTEM_PROPERTY, "50");
+        try
+        {
+            assertEquals(50, ConnectionStateManager.resolveCap(ConnectionStateManager.MAX_POOLS_SYSTEM_PROPERTY));
+        }
+        finally
+        {
+            System.clearProperty(ConnectionStateManager.MAX_POOLS_SYSTEM_PROPERTY);
+        }
+    }
+
     @Rule
     public ExpectedException exceptionRule = ExpectedException.none();
 
@@ -0,0 +1,241 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import io.opentracing.Scope;
+import io.opentracing.util.GlobalTracer;
+import org.finos.legend.engine.plan.execution.result.StreamingResult;
+import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RealizedRelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
+import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.slf4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+/**
+ * Populates a temp table by binding rows onto a single parameterized INSERT through {@link PreparedStatement#addBatch()},
+ * streaming straight from the source result without writing a CSV file or building literal SQL.
+ * <p>
+ * Nulls are bound with the SQL type of the temp table column, and timestamps are read in the time zone of the source
+ * database and written in the time zone of the database of the temp table.
+ */
+public class PreparedStatementTempTableLoader
+{
+    private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(PreparedStatementTempTableLoader.class);
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final RelationalDatabaseCommands databaseCommands;
+    private final Connection connection;
+    private final String tableName;
+    private final String databaseTimeZone;
+    private final int batchSize;
+
+    public PreparedStatementTempTableLoader(RelationalDatabaseCommands databaseCommands, Connection connection, String tableName, String databaseTimeZone)
+    {
+        this(databaseCommands, connection, tableName, databaseTimeZone, DEFAULT_BATCH_SIZE);
+    }
+
+    public PreparedStatementTempTableLoader(RelationalDatabaseCommands databaseCommands, Connection connection, String tableName, String databaseTimeZone, int batchSize)
+    {
+        this.databaseCommands = databaseCommands;
+        this.connection = connection;
+        this.tableName = tableName;
+        this.databaseTimeZone = databaseTimeZone;
+        this.batchSize = batchSize;
+    }
+
+    public static boolean supports(StreamingResult result)
+    {
+        return result instanceof RelationalResult || result instanceof RealizedRelationalResult;
+    }
+
+    public void load(StreamingResult result)
+    {
+        if (result instanceof RelationalResult)
+        {
+            RelationalResult relationalResult = (RelationalResult) result;
+            try
+            {
+                List<Column> columns = relationalResult.getResultBuilder() instanceof TDSBuilder ?
+                        relationalResult.getTdsColumns().stream().map(c -> new Column(c.name, c.relationalType)).collect(Collectors.toList()) :
+                        relationalResult.getSQLResultColumns().stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList());
+                this.createTable(columns);
+                this.insertRows(columns, relationalResult.resultSet, calendar(relationalResult.getRelationalDatabaseTimeZone()));
+            }
+            finally
+            {
+                relationalResult.close();
+            }
+        }
+        else if (result instanceof RealizedRelationalResult)
+        {
+            RealizedRelationalResult realizedRelationalResult = (RealizedRelationalResult) result;
+            List<Column> columns = realizedRelationalResult.columns.stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList());
+            this.createTable(columns);
+            this.insertRows(columns, realizedRelationalResult.resultSetRows);
+        }
+        else
+        {
+            throw new RuntimeException("Result not supported yet: " + result.getClass().getName());
+        }
+    }
+
+    private void createTable(List<Column> columns)
+    {
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.execute(this.databaseCommands.dropTempTable(this.tableName));
+            this.databaseCommands.createTempTable(this.tableName, columns).forEach(x -> StreamResultToTempTableVisitor.checkedExecute(statement, x));
+        }
+        catch (SQLException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void insertRows(List<Column> columns, ResultSet source, Calendar sourceCalendar)
+    {
+        String insertSql = this.databaseCommands.insertIntoTempTable(this.tableName, columns);
+        try (Scope scope = GlobalTracer.get().buildSpan("temp table prepared batch insert").withTag("sql", insertSql).startActive(true);
+             PreparedStatement statement = this.connection.prepareStatement(insertSql))
+        {
+            int columnCount = columns.size();
+            int[] sqlTypes = this.getColumnTypes(columnCount);
+            boolean[] sourceTimestamps = new boolean[columnCount];
+            for (int i = 0; i < columnCount; i++)
+            {
+                sourceTimestamps[i] = source.getMetaData().getColumnType(i + 1) == Types.TIMESTAMP;
+            }
+            Calendar targetCalendar = calendar(this.databaseTimeZone);
+            long rowCount = 0;
+            int pending = 0;
+            while (source.next())
+            {
+                for (int i = 1; i <= columnCount; i++)
+                {
+                    Object value = sourceTimestamps[i - 1] ? source.getTimestamp(i, sourceCalendar) : source.getObject(i);
+                    bind(statement, i, value, sqlTypes[i - 1], targetCalendar);
+                }
+                statement.addBatch();
+                rowCount++;
+                if (++pending == this.batchSize)
+                {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0)
+            {
+                statement.executeBatch();
+            }
+            scope.span().setTag("rowCount", rowCount);
+            LOGGER.info(new LogInfo(Identity.getAnonymousIdentity().getName(), LoggingEventType.EXECUTION_RELATIONAL_COMMIT, insertSql + " (" + rowCount + " rows)", 0.0d).toString());
+        }
+        catch (SQLException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void insertRows(List<Column> columns, List<List<Object>> rows)
+    {
+        String insertSql = this.databaseCommands.insertIntoTempTable(this.tableName, columns);
+        try (Scope scope = GlobalTracer.get().buildSpan("temp table prepared batch insert").withTag("sql", insertSql).startActive(true);
+             PreparedStatement statement = this.connection.prepareStatement(insertSql))
+        {
+            int[] sqlTypes = this.getColumnTypes(columns.size());
+            Calendar targetCalendar = calendar(this.databaseTimeZone);
+            int pending = 0;
+            for (List<Object> row : rows)
+            {
+                for (int i = 1; i <= row.size(); i++)
+                {
+                    // realized timestamps were read in the time zone of the source database
+                    bind(statement, i, row.get(i - 1), sqlTypes[i - 1], targetCalendar);
+                }
+                statement.addBatch();
+                if (++pending == this.batchSize)
+                {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0)
+            {
+                statement.executeBatch();
+            }
+            scope.span().setTag("rowCount", rows.size());
+            LOGGER.info(new LogInfo(Identity.getAnonymousIdentity().getName(), LoggingEventType.EXECUTION_RELATIONAL_COMMIT, insertSql + " (" + rows.size() + " rows)", 0.0d).toString());
+        }
+        catch (SQLException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private int[] getColumnTypes(int columnCount) throws SQLException
+    {
+        try (Statement statement = this.connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select * from " + this.tableName + " where 1 = 0"))
+        {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int[] sqlTypes = new int[columnCount];
+            for (int i = 0; i < columnCount; i++)
+            {
+                sqlTypes[i] = metaData.getColumnType(i + 1);
+            }
+            return sqlTypes;
+        }
+    }
+
+    private static void bind(PreparedStatement statement, int index, Object value, int sqlType, Calendar calendar) throws SQLException
+    {
+        if (value == null)
+        {
+            statement.setNull(index, sqlType);
+        }
+        else if (value instanceof Timestamp)
+        {
+            statement.setTimestamp(index, (Timestamp) value, calendar);
+        }
+        else
+        {
+            statement.setObject(index, value);
+        }
+    }
+
+    private static Calendar calendar(String timeZone)
+    {
+        // as RelationalResult, the time zone defaults to GMT when the database does not specify it
+        return new GregorianCalendar(TimeZone.getTimeZone(timeZone == null ? "GMT" : timeZone));
+    }
+}
@@ -34,6 +34,7 @@ import org.finos.legend.engine.plan.execution.nodes.helpers.ExecutionNodeTDSResu
 import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.ExecutionProfileActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
@@ -129,14 +130,18 @@ public class RelationalExecutor
         String databaseTypeName = node.getDatabaseTypeName();
         List<String> tempTableList = new FastList<>();
 
+        long connectionStart = System.nanoTime();
         connectionManagerConnection = getConnection(node, identity, ((RelationalStoreExecutionState) executionState.getStoreExecutionState(StoreType.Relational)));
+        profileConnectionAcquisition(executionState, connectionStart);
         Span span = GlobalTracer.get().activeSpan();
         if (span != null)
         {
             span.log("Connection acquired");
         }
 
-        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseTypeName, tempTableList, identity, executionState, true);
+        // only results read through RelationalResult know how to run a prepared statement
+        boolean bindParameters = this.relationalExecutionConfiguration.isBindSQLParameters() && !node.isResultVoid();
+        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseTypeName, tempTableList, identity, executionState, true, bindParameters);
 
         if (executionState.inAllocation)
         {
@@ -232,13 +237,15 @@ public class RelationalExecutor
 
         Span span = GlobalTracer.get().activeSpan();
 
+        long connectionStart = System.nanoTime();
         connectionManagerConnection = getConnection(node, identity, (RelationalStoreExecutionState) executionState.getStoreExecutionState(StoreType.Relational));
+        profileConnectionAcquisition(executionState, connectionStart);
         if (span != null)
         {
             span.log("Connection acquired");
         }
 
-        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, identity, executionState, true);
+        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, identity, executionState, true, false);
         
         if (node.isResultVoid())
         {
@@ -256,18 +263,20 @@ public class RelationalExecutor
         List<String> tempTableList = FastList.newList();
 
         Span span = GlobalTracer.get().activeSpan();
+        long connectionStart = System.nanoTime();
         connectionManagerConnection = this.getConnection(node.connection, node.onConnectionCloseRollbackQuery, node.onConnectionCloseCommitQuery, identity, (RelationalStoreExecutionState) executionState.getStoreExecutionState(StoreType.Relational));
+        profileConnectionAcquisition(executionState, connectionStart);
         if (span != null)
         {
             span.log("Connection acquired");
         }
 
-        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, identity, executionState, false);
+        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, identity, executionState, false, false);
 
         return new SQLUpdateResult(executionState.activities, databaseType, connectionManagerConnection, identity, tempTableList, executionState.getRequestContext());
     }
 
-    private void prepareForSQLExecution(String sqlQuery, String sqlComment, Connection connection, String databaseTimeZone, String databaseTypeName, List<String> tempTableList, Identity identity, ExecutionState executionState, boolean shouldLogSQL)
+    private void prepareForSQLExecution(String sqlQuery, String sqlComment, Connection connection, String databaseTimeZone, String databaseTypeName, List<String> tempTableList, Identity identity, ExecutionState executionState, boolean shouldLogSQL, boolean bindParameters)
     {
         DatabaseManager databaseManager = DatabaseManager.fromString(databaseTypeName);
         RelationalDatabaseCommands relationalDatabaseCommands = databaseManager.relationalDatabaseSupport();
@@ -276,7 +285,13 @@ public class RelationalExecutor
             if (var.getValue() instanceof StreamingResult && sqlQuery.contains("(${" + var.getKey() + "})"))
             {
                 String tableName = relationalDatabaseCommands.processTempTableName(var.getKey());
+                long tempTableStart = System.nanoTime();
                 this.prepareTempTable(connection, (StreamingResult) var.getValue(), tableName, databaseTypeName, databaseTimeZone, tempTableList);
+                ExecutionProfileActivity.NodeProfile nodeProfile = ExecutionProfileActivity.currentNode(executionState);
+                if (nodeProfile != null)
+                {
+                    nodeProfile.addTempTableLoadTime(System.nanoTime() - tempTableStart);
+                }
                 tempTableList.add(tableName);
                 sqlQuery = sqlQuery.replace("(${" + var.getKey() + "})", tableName);
             }
@@ -309,10 +324,29 @@ public class RelationalExecutor
             throw new RuntimeException("Relational execution not supported on external server");
         }
 
+        List<Object> parameters = null;
         try
         {
             sqlComment = sqlComment != null ? FreeMarkerExecutor.process(sqlComment, executionState, databaseTypeName, databaseTimeZone) : null;
-            sqlQuery = FreeMarkerExecutor.process(sqlQuery, executionState, databaseTypeName, databaseTimeZone);
+            RelationalParameterBinder.BoundSQL boundSQL = null;
+            if (bindParameters && (sqlComment == null || sqlComment.indexOf('?') == -1))
+            {
+                RelationalParameterBinder binder = RelationalParameterBinder.extract(sqlQuery, executionState);
+                if (binder.hasParameters())
+                {
+                    // null when the rendered SQL cannot take positional parameters, the values are then inlined as usual
+                    boundSQL = binder.bind(FreeMarkerExecutor.process(binder.getTemplate(), executionState, databaseTypeName, databaseTimeZone));
+                }
+            }
+            if (boundSQL != null)
+            {
+                sqlQuery = boundSQL.getSql();
+                parameters = boundSQL.getParameters();
+            }
+            else
+            {
+                sqlQuery = FreeMarkerExecutor.process(sqlQuery, executionState, databaseTypeName, databaseTimeZone);
+            }
             Span span = GlobalTracer.get().activeSpan();
             if (span != null && shouldLogSQL && executionState.logSQLWithParamValues())
             {
@@ -326,10 +360,10 @@ public class RelationalExecutor
 
         if (executionState.logSQLWithParamValues())
         {
-            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_REPROCESS_SQL, "Reprocessing sql with vars " + executionState.getResults().keySet() + ": " + sqlQuery).toString());
+            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_REPROCESS_SQL, "Reprocessing sql with vars " + executionState.getResults().keySet() + ": " + sqlQuery + (parameters == null ? "" : " with parameters " + parameters)).toString());
         }
 
-        executionState.activities.add(new RelationalExecutionActivity(sqlQuery, sqlComment));
+        executionState.activities.add(new RelationalExecutionActivity(sqlQuery, sqlComment, parameters));
     }
 
     private void prepareTempTable(Connection connectionManagerConnection, StreamingResult res, String tempTableName, String databaseTypeName, String databaseTimeZone, List<String> tempTableList)
@@ -369,6 +403,15 @@ public class RelationalExecutor
         }
     }
 
+    private static void profileConnectionAcquisition(ExecutionState executionState, long start)
+    {
+        ExecutionProfileActivity.NodeProfile nodeProfile = ExecutionProfileActivity.currentNode(executionState);
+        if (nodeProfile != null)
+        {
+            nodeProfile.addConnectionAcquireTime(System.nanoTime() - start);
+        }
+    }
+
     private Connection getConnection(RelationalExecutionNode node, Identity identity, RelationalStoreExecutionState executionState)
     {
         return this.getConnection(node.connection, node.onConnectionCloseRollbackQuery, node.onConnectionCloseCommitQuery, identity, executionState);
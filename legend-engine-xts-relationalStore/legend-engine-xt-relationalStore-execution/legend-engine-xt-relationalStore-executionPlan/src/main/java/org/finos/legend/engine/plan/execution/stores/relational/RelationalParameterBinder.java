@@ -0,0 +1,240 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the parameter placeholders of a relational plan SQL template into JDBC bind parameters, so that the database
+ * sees the same SQL text whatever the parameter values and can reuse its compiled plan.
+ * <p>
+ * Only string and number parameters compared to a column through the placeholders emitted by plan generation are
+ * bound; anything else (collections, dates, enums, property paths, casts) is still inlined by FreeMarker. Placeholders
+ * are first replaced by markers so that template conditionals and functions keep working; the markers left in the
+ * rendered SQL then give the position of each bind parameter.
+ */
+public class RelationalParameterBinder
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(RelationalParameterBinder.class);
+
+    private static final char MARKER = '\u0001';
+    private static final Pattern MARKER_PATTERN = Pattern.compile(MARKER + "(\\d+)" + MARKER);
+
+    // '${name?replace("\'", "\'\'")}'
+    private static final Pattern STRING_PLACEHOLDER = Pattern.compile("'\\$\\{(\\w+)\\?replace\\(\"\\\\?'\", \"\\\\?'\\\\?'\"\\)\\}'");
+    // ${name}
+    private static final Pattern NUMBER_PLACEHOLDER = Pattern.compile("\\$\\{(\\w+)\\}");
+    // ${varPlaceHolderToString(name![] "\'" "\'" {"\'" : "\'\'"} "null")} for strings, ${varPlaceHolderToString(name![] "" "" {} "null")} for numbers
+    private static final Pattern OPTIONAL_PLACEHOLDER = Pattern.compile("\\$\\{varPlaceHolderToString\\((\\w+)!\\[\\] (?:(\"\\\\'\" \"\\\\'\" \\{\"\\\\'\" : \"\\\\'\\\\'\"\\})|\"\" \"\" \\{\\}) \"null\"\\)\\}");
+
+    private final String template;
+    private final List<Object> values;
+
+    private RelationalParameterBinder(String template, List<Object> values)
+    {
+        this.template = template;
+        this.values = values;
+    }
+
+    /**
+     * Replaces the placeholders of parameters that can be bound with markers, leaving every other part of the template untouched.
+     */
+    public static RelationalParameterBinder extract(String sqlTemplate, ExecutionState executionState)
+    {
+        MutableList<Object> values = Lists.mutable.empty();
+        String template = replace(sqlTemplate, STRING_PLACEHOLDER, executionState, values, m -> true);
+        template = replace(template, NUMBER_PLACEHOLDER, executionState, values, m -> false);
+        template = replace(template, OPTIONAL_PLACEHOLDER, executionState, values, m -> m.group(2) != null);
+        return new RelationalParameterBinder(template, values);
+    }
+
+    public String getTemplate()
+    {
+        return this.template;
+    }
+
+    public boolean hasParameters()
+    {
+        return !this.values.isEmpty();
+    }
+
+    /**
+     * Replaces the markers of the rendered SQL with positional parameters. Returns null when the rendered SQL already
+     * contains a question mark, which could be taken for a parameter by the driver: the template must then be rendered
+     * with the values inlined.
+     */
+    public BoundSQL bind(String renderedSQL)
+    {
+        if (renderedSQL.indexOf('?') != -1)
+        {
+            LOGGER.debug("Not binding {} parameter(s): the rendered SQL contains a question mark, values are inlined instead", this.values.size());
+            return null;
+        }
+        MutableList<Object> parameters = Lists.mutable.empty();
+        StringBuffer sql = new StringBuffer(renderedSQL.length());
+        Matcher matcher = MARKER_PATTERN.matcher(renderedSQL);
+        while (matcher.find())
+        {
+            // a marker can be rendered any number of times by template functions, each occurrence is a parameter
+            parameters.add(this.values.get(Integer.parseInt(matcher.group(1))));
+            matcher.appendReplacement(sql, "?");
+        }
+        matcher.appendTail(sql);
+        return new BoundSQL(sql.toString(), parameters);
+    }
+
+    public static void setParameters(PreparedStatement statement, List<Object> parameters) throws SQLException
+    {
+        for (int i = 0; i < parameters.size(); i++)
+        {
+            statement.setObject(i + 1, parameters.get(i));
+        }
+    }
+
+    private static String replace(String template, Pattern pattern, ExecutionState executionState, MutableList<Object> values, Predicate<Matcher> isString)
+    {
+        Matcher matcher = pattern.matcher(template);
+        StringBuffer result = null;
+        while (matcher.find())
+        {
+            if (result == null)
+            {
+                result = new StringBuffer(template.length());
+            }
+            Object value = isComparisonOperand(template, matcher.start(), matcher.end()) ? getBindableValue(executionState.getResult(matcher.group(1)), isString.test(matcher)) : null;
+            String replacement = matcher.group();
+            if (value != null)
+            {
+                replacement = MARKER + String.valueOf(values.size()) + MARKER;
+                values.add(value);
+            }
+            else
+            {
+                LOGGER.debug("Inlining parameter {}: not a bindable comparison operand", matcher.group(1));
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        if (result == null)
+        {
+            return template;
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static Object getBindableValue(Result result, boolean isString)
+    {
+        if (!(result instanceof ConstantResult))
+        {
+            return null;
+        }
+        Object value = ((ConstantResult) result).getValue();
+        if (isString)
+        {
+            // values holding placeholders are rendered recursively by FreeMarker
+            return value instanceof String && !((String) value).contains("${") ? value : null;
+        }
+        if (value instanceof Double || value instanceof Float)
+        {
+            return Double.isFinite(((Number) value).doubleValue()) ? value : null;
+        }
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof BigDecimal || value instanceof BigInteger ? value : null;
+    }
+
+    private static boolean isComparisonOperand(String template, int start, int end)
+    {
+        if (isInStringLiteral(template, start))
+        {
+            return false;
+        }
+        // binding is limited to comparison operands, where every database accepts a parameter and can infer its type
+        int before = start > 0 && template.charAt(start - 1) == ' ' ? start - 2 : start - 1;
+        int after = end < template.length() && template.charAt(end) == ' ' ? end + 1 : end;
+        return (before >= 0 && "=<>".indexOf(template.charAt(before)) != -1) || (after < template.length() && "=<>!".indexOf(template.charAt(after)) != -1);
+    }
+
+    /**
+     * Whether the given position of the template is within a SQL string literal. Quotes within FreeMarker interpolations
+     * are template code rather than SQL, and are skipped.
+     */
+    private static boolean isInStringLiteral(String template, int position)
+    {
+        boolean inLiteral = false;
+        int i = 0;
+        while (i < position)
+        {
+            if (template.startsWith("${", i))
+            {
+                // skip the interpolation, up to its closing brace
+                int depth = 0;
+                i++;
+                do
+                {
+                    char c = template.charAt(i);
+                    depth += (c == '{') ? 1 : (c == '}') ? -1 : 0;
+                    i++;
+                }
+                while (depth > 0 && i < position);
+            }
+            else
+            {
+                if (template.charAt(i) == '\'')
+                {
+                    inLiteral = !inLiteral;
+                }
+                i++;
+            }
+        }
+        return inLiteral;
+    }
+
+    public static class BoundSQL
+    {
+        private final String sql;
+        private final List<Object> parameters;
+
+        private BoundSQL(String sql, List<Object> parameters)
+        {
+            this.sql = sql;
+            this.parameters = Collections.unmodifiableList(parameters);
+        }
+
+        public String getSql()
+        {
+            return this.sql;
+        }
+
+        public List<Object> getParameters()
+        {
+            return this.parameters;
+        }
+    }
+}
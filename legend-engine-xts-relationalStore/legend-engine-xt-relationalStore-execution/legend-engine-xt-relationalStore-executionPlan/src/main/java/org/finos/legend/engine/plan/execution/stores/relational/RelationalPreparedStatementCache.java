@@ -0,0 +1,156 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.slf4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the prepared statements of bound relational queries open per connection, so that a connection running the same
+ * query again, as block connections do across the results of a plan, skips the prepare round trip.
+ * <p>
+ * Statements are prepared on the connection handed out by the pool, which keeps tracking them, and are only kept for
+ * the lifetime of that connection: {@link #invalidate(Connection)} closes them once the connection is closed. A statement
+ * is removed from the cache while in use, so that two results opened on the same connection for the same query never
+ * share it.
+ */
+public class RelationalPreparedStatementCache
+{
+    /**
+     * Number of statements kept open per connection, 0 disables the cache
+     */
+    public static final String CACHE_SIZE_PROPERTY = "legend.engine.relational.preparedStatementCacheSize";
+    private static final int DEFAULT_CACHE_SIZE = 64;
+
+    public static final RelationalPreparedStatementCache INSTANCE = new RelationalPreparedStatementCache(Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE));
+
+    private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(RelationalPreparedStatementCache.class);
+
+    private final int size;
+    private final Map<Connection, Map<String, PreparedStatement>> statements = new IdentityHashMap<>();
+
+    public RelationalPreparedStatementCache(int size)
+    {
+        if (size < 0)
+        {
+            throw new IllegalArgumentException("Prepared statement cache size must not be negative, got: " + size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Returns an open statement for the query, to be given back with {@link #release(Connection, String, PreparedStatement)} rather than closed.
+     */
+    public PreparedStatement prepare(Connection connection, String sql) throws SQLException
+    {
+        if (this.size == 0)
+        {
+            return connection.prepareStatement(sql);
+        }
+        PreparedStatement statement;
+        synchronized (this.statements)
+        {
+            Map<String, PreparedStatement> connectionStatements = this.statements.get(connection);
+            statement = connectionStatements == null ? null : connectionStatements.remove(sql);
+        }
+        return statement != null && !statement.isClosed() ? statement : connection.prepareStatement(sql);
+    }
+
+    public void release(Connection connection, String sql, PreparedStatement statement)
+    {
+        try
+        {
+            if (this.size == 0 || statement.isClosed() || connection.isClosed())
+            {
+                statement.close();
+                return;
+            }
+            statement.clearParameters();
+            PreparedStatement replaced;
+            synchronized (this.statements)
+            {
+                replaced = this.statements.computeIfAbsent(connection, c -> newConnectionStatements()).put(sql, statement);
+            }
+            if (replaced != null && replaced != statement)
+            {
+                replaced.close();
+            }
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Error releasing prepared statement, closing it", e);
+            closeQuietly(statement);
+        }
+    }
+
+    /**
+     * Closes the statements kept for the connection, to be called once it is closed
+     */
+    public void invalidate(Connection connection)
+    {
+        Map<String, PreparedStatement> connectionStatements;
+        synchronized (this.statements)
+        {
+            connectionStatements = this.statements.remove(connection);
+        }
+        if (connectionStatements != null)
+        {
+            connectionStatements.values().forEach(RelationalPreparedStatementCache::closeQuietly);
+        }
+    }
+
+    public int size(Connection connection)
+    {
+        synchronized (this.statements)
+        {
+            Map<String, PreparedStatement> connectionStatements = this.statements.get(connection);
+            return connectionStatements == null ? 0 : connectionStatements.size();
+        }
+    }
+
+    private Map<String, PreparedStatement> newConnectionStatements()
+    {
+        return new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest)
+            {
+                if (size() > RelationalPreparedStatementCache.this.size)
+                {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private static void closeQuietly(PreparedStatement statement)
+    {
+        try
+        {
+            statement.close();
+        }
+        catch (Exception ignored)
+        {
+        }
+    }
+}
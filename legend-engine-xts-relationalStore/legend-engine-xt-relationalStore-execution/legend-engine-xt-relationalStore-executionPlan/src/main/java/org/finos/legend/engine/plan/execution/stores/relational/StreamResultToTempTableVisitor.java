@@ -71,12 +71,14 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
         this.result = result;
         this.tableName = tableName;
         this.databaseTimeZone = databaseTimeZone;
-        this.ingestionMethod = null;
+        this.ingestionMethod = config == null ? null : config.getTempTableIngestionMethod();
     }
 
     @Override
     public Boolean visit(RelationalDatabaseCommands databaseCommands)
     {
+        // the configured ingestion method is only a preference, databases that do not support it use their default
+        this.ingestionMethod = databaseCommands.resolveIngestionMethod(this.ingestionMethod);
         if (databaseCommands instanceof H2Commands)
         {
             return visitH2((H2Commands) databaseCommands);
@@ -170,6 +172,15 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
         {
             streamResultToNewTarget(((RelationalResult) result).resultSet, connection, tableName, 100);
         }
+        else if (ingestionMethod == IngestionMethod.PREPARED_BATCH_INSERT)
+        {
+            if (!PreparedStatementTempTableLoader.supports(result))
+            {
+                ingestionMethod = IngestionMethod.CLIENT_FILE;
+                return visitH2(h2Commands);
+            }
+            new PreparedStatementTempTableLoader(h2Commands, connection, tableName, databaseTimeZone).load(result);
+        }
         return true;
     }
 
@@ -14,16 +14,30 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.activity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 
+import java.util.List;
+
 public class RelationalExecutionActivity extends ExecutionActivity
 {
     public String comment;
     public String sql;
+    /**
+     * Values of the positional parameters of {@link #sql}, null when the values are inlined in the SQL
+     */
+    @JsonIgnore
+    public List<Object> parameters;
 
     public RelationalExecutionActivity(String sqlQuery, String sqlComment)
+    {
+        this(sqlQuery, sqlComment, null);
+    }
+
+    public RelationalExecutionActivity(String sqlQuery, String sqlComment, List<Object> parameters)
     {
         this.comment = sqlComment;
         this.sql = sqlQuery;
+        this.parameters = parameters;
     }
 }
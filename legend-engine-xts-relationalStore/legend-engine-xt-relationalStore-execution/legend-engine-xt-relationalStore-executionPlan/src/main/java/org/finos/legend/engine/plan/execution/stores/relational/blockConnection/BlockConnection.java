@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.blockConnection;
 
+import org.finos.legend.engine.plan.execution.stores.relational.RelationalPreparedStatementCache;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.factory.*;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
@@ -435,6 +436,7 @@ public class BlockConnection implements Connection
                     e.printStackTrace();
                 }
             }
+            RelationalPreparedStatementCache.INSTANCE.invalidate(this);
             if (this.getWrappedConnection() != null)
             {
                 try
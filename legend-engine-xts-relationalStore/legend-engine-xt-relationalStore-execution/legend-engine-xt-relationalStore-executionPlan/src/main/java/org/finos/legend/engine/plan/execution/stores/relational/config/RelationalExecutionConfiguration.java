@@ -22,6 +22,7 @@ import org.finos.legend.engine.authentication.provider.DatabaseAuthenticationFlo
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.OAuthProfile;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
 
 import java.util.List;
 
@@ -35,6 +36,10 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
     private CredentialProviderProvider credentialProviderProvider;
     @JsonProperty
     private RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
+    @JsonProperty
+    private IngestionMethod tempTableIngestionMethod;
+    @JsonProperty
+    private boolean bindSQLParameters;
 
     @Override
     public StoreType getStoreType()
@@ -96,6 +101,22 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         return this.relationalGraphFetchExecutionConfig;
     }
 
+    /**
+     * Ingestion method used to populate temp tables, overriding the database default when set and supported by the database
+     */
+    public IngestionMethod getTempTableIngestionMethod()
+    {
+        return this.tempTableIngestionMethod;
+    }
+
+    /**
+     * Whether parameters compared to columns are sent as JDBC bind parameters instead of being inlined as SQL literals
+     */
+    public boolean isBindSQLParameters()
+    {
+        return this.bindSQLParameters;
+    }
+
     public static class Builder
     {
         public String tempPath;
@@ -105,6 +126,8 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         private TemporaryTestDbConfiguration temporaryTestDbConfiguration;
         private CredentialProviderProvider credentialProviderProvider;
         private RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
+        private IngestionMethod tempTableIngestionMethod;
+        private boolean bindSQLParameters;
 
         public Builder withTempPath(String tempPath)
         {
@@ -151,6 +174,18 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             return this;
         }
 
+        public Builder withTempTableIngestionMethod(IngestionMethod tempTableIngestionMethod)
+        {
+            this.tempTableIngestionMethod = tempTableIngestionMethod;
+            return this;
+        }
+
+        public Builder withBindSQLParameters(boolean bindSQLParameters)
+        {
+            this.bindSQLParameters = bindSQLParameters;
+            return this;
+        }
+
         public RelationalExecutionConfiguration build()
         {
             RelationalExecutionConfiguration relationalExecutionConfiguration = new RelationalExecutionConfiguration();
@@ -161,6 +196,8 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             relationalExecutionConfiguration.temporarytestdb = this.temporaryTestDbConfiguration;
             relationalExecutionConfiguration.credentialProviderProvider = credentialProviderProvider;
             relationalExecutionConfiguration.relationalGraphFetchExecutionConfig = relationalGraphFetchExecutionConfig;
+            relationalExecutionConfiguration.tempTableIngestionMethod = tempTableIngestionMethod;
+            relationalExecutionConfiguration.bindSQLParameters = bindSQLParameters;
             return relationalExecutionConfiguration;
         }
     }
@@ -56,6 +56,7 @@ import org.finos.legend.engine.plan.execution.nodes.helpers.platform.JavaHelper;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.nodes.state.GraphExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.ExecutionProfileActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
 import org.finos.legend.engine.plan.execution.result.builder._class.ClassBuilder;
@@ -277,7 +278,13 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             {
                 TempTableStreamingResult tempTableStreamingResult = new TempTableStreamingResult(inputStream, createAndPopulateTempTableExecutionNode);
                 String databaseTimeZone = createAndPopulateTempTableExecutionNode.connection.timeZone == null ? RelationalExecutor.DEFAULT_DB_TIME_ZONE : createAndPopulateTempTableExecutionNode.connection.timeZone;
+                long tempTableStart = System.nanoTime();
                 databaseCommands.accept(RelationalDatabaseCommandsVisitorBuilder.getStreamResultToTempTableVisitor(((RelationalStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.Relational)).getRelationalExecutor().getRelationalExecutionConfiguration(), connectionManagerConnection, tempTableStreamingResult, createAndPopulateTempTableExecutionNode.tempTableName, databaseTimeZone));
+                ExecutionProfileActivity.NodeProfile nodeProfile = ExecutionProfileActivity.currentNode(this.executionState);
+                if (nodeProfile != null)
+                {
+                    nodeProfile.addTempTableLoadTime(System.nanoTime() - tempTableStart);
+                }
             }
             catch (SQLException e)
             {
@@ -326,7 +333,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         else if (executionNode instanceof RelationalSaveNode)
         {
             RelationalSaveNode relationalSaveNode = (RelationalSaveNode) executionNode;
-            Result sources = Iterate.getOnly(relationalSaveNode.childNodes()).accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            Result sources = ExecutionNodeExecutor.executeNode(Iterate.getOnly(relationalSaveNode.childNodes()), this.identity, this.executionState);
             if (!(sources instanceof StreamingObjectResult))
             {
                 throw new RuntimeException("Only StreamingObjectResults can be save sources!");
@@ -351,7 +358,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                 MapAdapter.adapt(relationalSaveNode.getColumnValueGenerators())
                         .forEachKeyValue((columnName, node) ->
                         {
-                            Result columnValue = node.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                            Result columnValue = ExecutionNodeExecutor.executeNode(node, this.identity, this.executionState);
                             Result realizedColumnValue = columnValue.realizeInMemory();
                             this.executionState.addResult(columnName, realizedColumnValue);
                         });
@@ -713,7 +720,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                         graphExecutionState.addResult(parentTempTableName, parentRealizedRelationalResult);
 
                         /* Execute relational node corresponding to the cross root */
-                        childResult = (SQLExecutionResult) node.relationalNode.accept(new ExecutionNodeExecutor(this.identity, graphExecutionState));
+                        childResult = (SQLExecutionResult) ExecutionNodeExecutor.executeNode(node.relationalNode, this.identity, graphExecutionState);
                         ResultSet childResultSet = childResult.getResultSet();
 
                         boolean childrenExist = node.children != null && !node.children.isEmpty();
@@ -874,12 +881,12 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             relationalStoreExecutionState = (RelationalStoreExecutionState) threadExecutionState.getStoreExecutionState(StoreType.Relational);
             relationalStoreExecutionState.setRetainConnection(true);
 
-            node.tempTableStrategy.createTempTableNode.accept(new ExecutionNodeExecutor(identity, threadExecutionState));
+            ExecutionNodeExecutor.executeNode(node.tempTableStrategy.createTempTableNode, identity, threadExecutionState);
             tempTableCreated = true;
 
             if (node.tempTableStrategy instanceof LoadFromSubQueryTempTableStrategy)
             {
-                node.tempTableStrategy.loadTempTableNode.accept(new ExecutionNodeExecutor(identity, threadExecutionState));
+                ExecutionNodeExecutor.executeNode(node.tempTableStrategy.loadTempTableNode, identity, threadExecutionState);
             }
             else if (node.tempTableStrategy instanceof LoadFromResultSetAsValueTuplesTempTableStrategy)
             {
@@ -894,7 +901,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     CsvSerializer csvSerializer = new RealizedRelationalResultCSVSerializer(realizedRelationalResult, databaseTimeZone, true, false);
                     tempFile.writeFile(csvSerializer);
                     prepareExecutionStateForTempTableExecution("csv_file_location", threadExecutionState, tempFile.getTemporaryPathForFile());
-                    node.tempTableStrategy.loadTempTableNode.accept(new ExecutionNodeExecutor(identity, threadExecutionState));
+                    ExecutionNodeExecutor.executeNode(node.tempTableStrategy.loadTempTableNode, identity, threadExecutionState);
                 }
                 catch (Exception e)
                 {
@@ -956,7 +963,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     .map(row -> row.stream().map(normalizer).collect(Collectors.joining(",", "(", ")")))
                     .collect(Collectors.joining(",", "", ""));
             prepareExecutionStateForTempTableExecution("temp_table_rows_from_result_set", threadExecutionState, valuesTuples);
-            node.accept(new ExecutionNodeExecutor(identity, threadExecutionState));
+            ExecutionNodeExecutor.executeNode(node, identity, threadExecutionState);
         }
     }
 
@@ -1098,7 +1105,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         {
             ExecutionState state = new ExecutionState(this.executionState);
             state.activities.add(new AggregationAwareActivity(aggregationAwareExecutionNode.aggregationAwareActivity));
-            last = n.accept(new ExecutionNodeExecutor(this.identity, state));
+            last = ExecutionNodeExecutor.executeNode(n, this.identity, state);
         }
         return last;
     }
@@ -1239,7 +1246,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                 IRelationalChildGraphNodeExecutor executor = (IRelationalChildGraphNodeExecutor) executeClass.getConstructor().newInstance();
 
                 /* Execute relational node corresponding to the child */
-                childResult = (SQLExecutionResult) node.relationalNode.accept(new ExecutionNodeExecutor(identity, executionState));
+                childResult = (SQLExecutionResult) ExecutionNodeExecutor.executeNode(node.relationalNode, identity, executionState);
 
                 boolean nonPrimitiveNode = node.resultType instanceof ClassResultType;
                 boolean childrenExist = node.children != null && !node.children.isEmpty();
@@ -1363,7 +1370,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         GlobalTracer.get().activateSpan(graphFetchSpan);
         try
         {
-            rootResult = node.executionNodes.get(0).accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            rootResult = ExecutionNodeExecutor.executeNode(node.executionNodes.get(0), this.identity, this.executionState);
             SQLExecutionResult sqlExecutionResult = (SQLExecutionResult) rootResult;
             DatabaseConnection databaseConnection = sqlExecutionResult.getSQLExecutionNode().connection;
             ResultSet rootResultSet = ((SQLExecutionResult) rootResult).getResultSet();
@@ -1540,7 +1547,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         String property = ((PropertyGraphFetchTree) node.graphFetchTree).property;
         try (Scope ignored = GlobalTracer.get().buildSpan("local property graph fetch (" + property + ")").withTag("storeType", "relational").withTag("property", property).startActive(true))
         {
-            childResult = node.executionNodes.get(0).accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            childResult = ExecutionNodeExecutor.executeNode(node.executionNodes.get(0), this.identity, this.executionState);
 
             RelationalGraphObjectsBatch relationalGraphObjectsBatch = (RelationalGraphObjectsBatch) this.executionState.graphObjectsBatch;
 
@@ -1630,7 +1637,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             boolean isLeaf = node.children == null || node.children.isEmpty();
             List<Pair<IGraphInstance<? extends IReferencedObject>, ExecutionCache<GraphFetchCacheKey, Object>>> childInstancesToDeepFetchAndCache = new ArrayList<>();
 
-            childResult = node.executionNodes.get(0).accept(new ExecutionNodeExecutor(this.identity, this.executionState)); // relational execution node to fetch properties for the level
+            childResult = ExecutionNodeExecutor.executeNode(node.executionNodes.get(0), this.identity, this.executionState); // relational execution node to fetch properties for the level
 
             SQLExecutionResult childSqlResult = (SQLExecutionResult) childResult;
             databaseConnection = childSqlResult.getSQLExecutionNode().connection;
@@ -1789,7 +1796,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                         createTempTableForChild(node, realizedRelationalResult, databaseConnection, databaseType, databaseTimeZone, this.executionState, this.identity);
                         tempTableCreatedInParentConnection = true;
                     }
-                    DelayedGraphFetchResult res = (DelayedGraphFetchResult) child.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                    DelayedGraphFetchResult res = (DelayedGraphFetchResult) ExecutionNodeExecutor.executeNode(child, this.identity, this.executionState);
                     submittedTasks.add(new DelayedGraphFetchResultWithExecInfo(CompletableFuture.completedFuture(res), false, dbConnectionKeyWithIdentity));
                 }
             }
@@ -1897,24 +1904,24 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                             {
                                 try
                                 {
-                                    node.parentTempTableStrategy.dropTempTableNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                                    ExecutionNodeExecutor.executeNode(node.parentTempTableStrategy.dropTempTableNode, this.identity, this.executionState);
                                 }
                                 catch (Exception ignored2)
                                 {
                                 }
-                                node.parentTempTableStrategy.createTempTableNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                                ExecutionNodeExecutor.executeNode(node.parentTempTableStrategy.createTempTableNode, this.identity, this.executionState);
                                 loadValuesIntoTempTablesFromRelationalResult(node.parentTempTableStrategy.loadTempTableNode, parentRealizedRelationalResult, ((LoadFromResultSetAsValueTuplesTempTableStrategy) node.parentTempTableStrategy).tupleBatchSize, ((LoadFromResultSetAsValueTuplesTempTableStrategy) node.parentTempTableStrategy).quoteCharacterReplacement, databaseTimeZone, this.executionState, this.identity);
                             }
                             else if (node.parentTempTableStrategy instanceof LoadFromTempFileTempTableStrategy)
                             {
                                 try
                                 {
-                                    node.parentTempTableStrategy.dropTempTableNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                                    ExecutionNodeExecutor.executeNode(node.parentTempTableStrategy.dropTempTableNode, this.identity, this.executionState);
                                 }
                                 catch (Exception ignored2)
                                 {
                                 }
-                                node.parentTempTableStrategy.createTempTableNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                                ExecutionNodeExecutor.executeNode(node.parentTempTableStrategy.createTempTableNode, this.identity, this.executionState);
 
                                 String requestId = new RequestIdGenerator().generateId();
                                 String fileName = node.parentTempTableName + requestId;
@@ -1923,7 +1930,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                                     CsvSerializer csvSerializer = new RealizedRelationalResultCSVSerializer(parentRealizedRelationalResult, databaseTimeZone, true, false);
                                     tempFile.writeFile(csvSerializer);
                                     prepareExecutionStateForTempTableExecution("csv_file_location", this.executionState, tempFile.getTemporaryPathForFile());
-                                    node.parentTempTableStrategy.loadTempTableNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                                    ExecutionNodeExecutor.executeNode(node.parentTempTableStrategy.loadTempTableNode, this.identity, this.executionState);
                                 }
                                 catch (Exception e)
                                 {
@@ -1942,7 +1949,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                         this.executionState.addResult(node.parentTempTableName, parentRealizedRelationalResult);
                     }
 
-                    childResult = node.executionNodes.get(0).accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                    childResult = ExecutionNodeExecutor.executeNode(node.executionNodes.get(0), this.identity, this.executionState);
                     SQLExecutionResult childSqlResult = (SQLExecutionResult) childResult;
                     DatabaseConnection databaseConnection = childSqlResult.getSQLExecutionNode().connection;
                     ResultSet childResultSet = childSqlResult.getResultSet();
@@ -2009,7 +2016,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                     if (node.parentTempTableStrategy != null)
                     {
-                        node.parentTempTableStrategy.dropTempTableNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+                        ExecutionNodeExecutor.executeNode(node.parentTempTableStrategy.dropTempTableNode, this.identity, this.executionState);
                     }
 
                     /* Execute store local children */
@@ -2120,7 +2127,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
             createTempTableForChild(node, realizedRelationalResult, databaseConnection, databaseType, databaseTimeZone, executionStateForThread, this.identity);
 
-            return (DelayedGraphFetchResult) child.accept(new ExecutionNodeExecutor(this.identity, executionStateForThread));
+            return (DelayedGraphFetchResult) ExecutionNodeExecutor.executeNode(child, this.identity, executionStateForThread);
         }
         catch (Exception e)
         {
@@ -0,0 +1,342 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Reads a single column of a {@link ResultSet}, specialized once from the result metadata so that the row loop
+ * does not need to inspect column types for every cell.
+ * <p>
+ * Values produced by {@link #read(ResultSet, Calendar)} (and by the batch lanes) have the same Java types as the
+ * driver's {@link ResultSet#getObject(int)}, except for DATE and TIMESTAMP columns which are read as
+ * {@link java.sql.Date} and {@link java.sql.Timestamp} (the latter in the database time zone).
+ */
+public abstract class RelationalColumnReader
+{
+    public enum Kind
+    {
+        INTEGER, LONG, DOUBLE, BOOLEAN, DATE, TIMESTAMP, OBJECT
+    }
+
+    protected final int columnIndex;
+
+    private RelationalColumnReader(int columnIndex)
+    {
+        this.columnIndex = columnIndex;
+    }
+
+    public int getColumnIndex()
+    {
+        return this.columnIndex;
+    }
+
+    public abstract Kind getKind();
+
+    public abstract Object read(ResultSet resultSet, Calendar calendar) throws SQLException;
+
+    abstract void readInto(ResultSet resultSet, Calendar calendar, RelationalResultRowBatch batch, int row) throws SQLException;
+
+    static RelationalColumnReader[] buildReaders(ResultSetMetaData resultSetMetaData, SQLResultDBColumnsMetaData resultDBColumnsMetaData, int columnCount)
+    {
+        RelationalColumnReader[] readers = new RelationalColumnReader[columnCount];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++)
+        {
+            readers[columnIndex - 1] = forColumn(columnIndex, resultSetMetaData, resultDBColumnsMetaData);
+        }
+        return readers;
+    }
+
+    /**
+     * Same readers, except DATE and TIMESTAMP columns which are read with {@link ResultSet#getObject(int)} so that every
+     * value is exactly what the driver returns.
+     */
+    static RelationalColumnReader[] withDriverTemporalValues(RelationalColumnReader[] readers)
+    {
+        RelationalColumnReader[] result = new RelationalColumnReader[readers.length];
+        for (int i = 0; i < readers.length; i++)
+        {
+            Kind kind = readers[i].getKind();
+            result[i] = (kind == Kind.DATE || kind == Kind.TIMESTAMP) ? new ObjectReader(readers[i].getColumnIndex()) : readers[i];
+        }
+        return result;
+    }
+
+    private static RelationalColumnReader forColumn(int columnIndex, ResultSetMetaData resultSetMetaData, SQLResultDBColumnsMetaData resultDBColumnsMetaData)
+    {
+        boolean described = columnIndex <= resultDBColumnsMetaData.getColumnCount();
+        if (described && resultDBColumnsMetaData.isTimestampColumn(columnIndex))
+        {
+            return new TimestampReader(columnIndex);
+        }
+        if (described && resultDBColumnsMetaData.isDateColumn(columnIndex))
+        {
+            return new DateReader(columnIndex);
+        }
+        String className = columnClassName(resultSetMetaData, columnIndex);
+        if (Integer.class.getName().equals(className))
+        {
+            return new IntegerReader(columnIndex);
+        }
+        if (Long.class.getName().equals(className))
+        {
+            return new LongReader(columnIndex);
+        }
+        if (Double.class.getName().equals(className))
+        {
+            return new DoubleReader(columnIndex);
+        }
+        if (Boolean.class.getName().equals(className))
+        {
+            return new BooleanReader(columnIndex);
+        }
+        return new ObjectReader(columnIndex);
+    }
+
+    private static String columnClassName(ResultSetMetaData resultSetMetaData, int columnIndex)
+    {
+        try
+        {
+            return resultSetMetaData.getColumnClassName(columnIndex);
+        }
+        catch (SQLException | RuntimeException e)
+        {
+            // not all drivers report column classes, fall back to the generic reader
+            return null;
+        }
+    }
+
+    private static final class IntegerReader extends RelationalColumnReader
+    {
+        private IntegerReader(int columnIndex)
+        {
+            super(columnIndex);
+        }
+
+        @Override
+        public Kind getKind()
+        {
+            return Kind.INTEGER;
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, Calendar calendar) throws SQLException
+        {
+            int value = resultSet.getInt(this.columnIndex);
+            return resultSet.wasNull() ? null : value;
+        }
+
+        @Override
+        void readInto(ResultSet resultSet, Calendar calendar, RelationalResultRowBatch batch, int row) throws SQLException
+        {
+            int value = resultSet.getInt(this.columnIndex);
+            if (resultSet.wasNull())
+            {
+                batch.setNull(this.columnIndex - 1, row);
+            }
+            else
+            {
+                batch.setLong(this.columnIndex - 1, row, value);
+            }
+        }
+    }
+
+    private static final class LongReader extends RelationalColumnReader
+    {
+        private LongReader(int columnIndex)
+        {
+            super(columnIndex);
+        }
+
+        @Override
+        public Kind getKind()
+        {
+            return Kind.LONG;
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, Calendar calendar) throws SQLException
+        {
+            long value = resultSet.getLong(this.columnIndex);
+            return resultSet.wasNull() ? null : value;
+        }
+
+        @Override
+        void readInto(ResultSet resultSet, Calendar calendar, RelationalResultRowBatch batch, int row) throws SQLException
+        {
+            long value = resultSet.getLong(this.columnIndex);
+            if (resultSet.wasNull())
+            {
+                batch.setNull(this.columnIndex - 1, row);
+            }
+            else
+            {
+                batch.setLong(this.columnIndex - 1, row, value);
+            }
+        }
+    }
+
+    private static final class DoubleReader extends RelationalColumnReader
+    {
+        private DoubleReader(int columnIndex)
+        {
+            super(columnIndex);
+        }
+
+        @Override
+        public Kind getKind()
+        {
+            return Kind.DOUBLE;
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, Calendar calendar) throws SQLException
+        {
+            double value = resultSet.getDouble(this.columnIndex);
+            return resultSet.wasNull() ? null : value;
+        }
+
+        @Override
+        void readInto(ResultSet resultSet, Calendar calendar, RelationalResultRowBatch batch, int row) throws SQLException
+        {
+            double value = resultSet.getDouble(this.columnIndex);
+            if (resultSet.wasNull())
+            {
+                batch.setNull(this.columnIndex - 1, row);
+            }
+            else
+            {
+                batch.setDouble(this.columnIndex - 1, row, value);
+            }
+        }
+    }
+
+    private static final class BooleanReader extends RelationalColumnReader
+    {
+        private BooleanReader(int columnIndex)
+        {
+            super(columnIndex);
+        }
+
+        @Override
+        public Kind getKind()
+        {
+            return Kind.BOOLEAN;
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, Calendar calendar) throws SQLException
+        {
+            boolean value = resultSet.getBoolean(this.columnIndex);
+            return resultSet.wasNull() ? null : value;
+        }
+
+        @Override
+        void readInto(ResultSet resultSet, Calendar calendar, RelationalResultRowBatch batch, int row) throws SQLException
+        {
+            boolean value = resultSet.getBoolean(this.columnIndex);
+            if (resultSet.wasNull())
+            {
+                batch.setNull(this.columnIndex - 1, row);
+            }
+            else
+            {
+                batch.setBoolean(this.columnIndex - 1, row, value);
+            }
+        }
+    }
+
+    private static final class DateReader extends RelationalColumnReader
+    {
+        private DateReader(int columnIndex)
+        {
+            super(columnIndex);
+        }
+
+        @Override
+        public Kind getKind()
+        {
+            return Kind.DATE;
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, Calendar calendar) throws SQLException
+        {
+            return resultSet.getDate(this.columnIndex);
+        }
+
+        @Override
+        void readInto(ResultSet resultSet, Calendar calendar, RelationalResultRowBatch batch, int row) throws SQLException
+        {
+            batch.setObject(this.columnIndex - 1, row, resultSet.getDate(this.columnIndex));
+        }
+    }
+
+    private static final class TimestampReader extends RelationalColumnReader
+    {
+        private TimestampReader(int columnIndex)
+        {
+            super(columnIndex);
+        }
+
+        @Override
+        public Kind getKind()
+        {
+            return Kind.TIMESTAMP;
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, Calendar calendar) throws SQLException
+        {
+            return resultSet.getTimestamp(this.columnIndex, calendar);
+        }
+
+        @Override
+        void readInto(ResultSet resultSet, Calendar calendar, RelationalResultRowBatch batch, int row) throws SQLException
+        {
+            calendar.clear();
+            batch.setObject(this.columnIndex - 1, row, resultSet.getTimestamp(this.columnIndex, calendar));
+        }
+    }
+
+    private static final class ObjectReader extends RelationalColumnReader
+    {
+        private ObjectReader(int columnIndex)
+        {
+            super(columnIndex);
+        }
+
+        @Override
+        public Kind getKind()
+        {
+            return Kind.OBJECT;
+        }
+
+        @Override
+        public Object read(ResultSet resultSet, Calendar calendar) throws SQLException
+        {
+            return resultSet.getObject(this.columnIndex);
+        }
+
+        @Override
+        void readInto(ResultSet resultSet, Calendar calendar, RelationalResultRowBatch batch, int row) throws SQLException
+        {
+            batch.setObject(this.columnIndex - 1, row, resultSet.getObject(this.columnIndex));
+        }
+    }
+}
@@ -19,11 +19,11 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.opentracing.Span;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
@@ -66,11 +66,14 @@ import org.finos.legend.engine.plan.execution.result.transformer.SetImplTransfor
 import org.finos.legend.engine.plan.execution.result.transformer.TransformerInput;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutable;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutableManager;
+import org.finos.legend.engine.plan.execution.stores.relational.RelationalParameterBinder;
+import org.finos.legend.engine.plan.execution.stores.relational.RelationalPreparedStatementCache;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.result.builder.relation.RelationBuilder;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializerWithTransformersApplied;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultBufferedSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToPureTDSSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToPureTDSToObjectSerializer;
@@ -86,6 +89,7 @@ import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.factory.*;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.slf4j.Logger;
 
 public class RelationalResult extends StreamingResult implements IRelationalResult, StoreExecutable
@@ -103,6 +107,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     public ResultSet resultSet;
     public ResultSetMetaData resultSetMetaData;
     public String executedSQl;
+    private boolean statementReleased;
     public int columnCount;
 
     private final String databaseType;
@@ -111,11 +116,14 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     public Span topSpan;
 
     private final SQLResultDBColumnsMetaData resultDBColumnsMetaData;
+    private final RelationalColumnReader[] columnReaders;
+    private final int[] columnTypes;
     private final RequestContext requestContext;
     public MutableList<SetImplTransformers> setTransformers = Lists.mutable.empty();
 
     public Builder builder;
     private Calendar calendar;
+    private TimeZone calendarTimeZone;
 
     public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan)
     {
@@ -138,7 +146,10 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         try
         {
             this.connection = connection;
-            this.statement = connection.createStatement();
+            RelationalExecutionActivity activity = ((RelationalExecutionActivity) activities.getLast());
+            String sql = activity.comment != null ? activity.comment.concat("\n").concat(activity.sql) : activity.sql;
+            this.executedSQl = sql;
+            this.statement = activity.parameters == null ? connection.createStatement() : RelationalPreparedStatementCache.INSTANCE.prepare(connection, sql);
             if (DatabaseType.MemSQL.name().equals(databaseType))
             {
                 this.statement.setFetchSize(100);
@@ -150,12 +161,19 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             }
 
             long start = System.currentTimeMillis();
-            RelationalExecutionActivity activity = ((RelationalExecutionActivity) activities.getLast());
-            String sql = activity.comment != null ? activity.comment.concat("\n").concat(activity.sql) : activity.sql;
-            String logMessage = logSQLWithParamValues ? sql : node.sqlQuery();
+            String logMessage = logSQLWithParamValues ? (activity.parameters == null ? sql : sql + "\nwith parameters " + activity.parameters) : node.sqlQuery();
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_START, logMessage).toString());
-            this.resultSet = this.statement.executeQuery(sql);
-            this.executedSQl = sql;
+            long startNanos = System.nanoTime();
+            if (this.statement instanceof PreparedStatement)
+            {
+                RelationalParameterBinder.setParameters((PreparedStatement) this.statement, activity.parameters);
+                this.resultSet = ((PreparedStatement) this.statement).executeQuery();
+            }
+            else
+            {
+                this.resultSet = this.statement.executeQuery(sql);
+            }
+            MetricsHandler.observeExecutionNodeDuration(node.getClass().getSimpleName(), MetricsHandler.ExecutionNodePhase.SQL_EXECUTION, System.nanoTime() - startNanos);
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
             this.resultSetMetaData = resultSet.getMetaData();
             this.columnCount = this.resultSetMetaData.getColumnCount();
@@ -167,6 +185,8 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             {
                 this.sqlColumns.add(this.resultSetMetaData.getColumnLabel(i));
             }
+            this.columnReaders = RelationalColumnReader.buildReaders(this.resultSetMetaData, this.resultDBColumnsMetaData, this.columnCount);
+            this.columnTypes = columnTypes(this.resultSetMetaData, this.columnCount);
             this.columnListForSerializer = this.sqlColumns;
             this.buildTransformersAndBuilder(node, node.connection);
         }
@@ -207,6 +227,8 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             this.columnListForSerializer = this.sqlColumns;
             this.resultColumns = sqlExecutionResult.getSqlResultColumns();
             this.resultDBColumnsMetaData = new SQLResultDBColumnsMetaData(this.resultColumns, this.resultSetMetaData);
+            this.columnReaders = RelationalColumnReader.buildReaders(this.resultSetMetaData, this.resultDBColumnsMetaData, this.columnCount);
+            this.columnTypes = columnTypes(this.resultSetMetaData, this.columnCount);
             this.buildTransformersAndBuilder(node, sqlExecutionResult.getSQLExecutionNode().connection);
             if (this.requestContext != null)
             {
@@ -229,6 +251,16 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         }
     }
 
+    private static int[] columnTypes(ResultSetMetaData resultSetMetaData, int columnCount) throws SQLException
+    {
+        int[] columnTypes = new int[columnCount];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++)
+        {
+            columnTypes[columnIndex - 1] = resultSetMetaData.getColumnType(columnIndex);
+        }
+        return columnTypes;
+    }
+
     private void buildTransformersAndBuilder(ExecutionNode node, DatabaseConnection databaseConnection) throws SQLException
     {
         boolean isDatabaseIdentifiersCaseSensitive = databaseConnection.accept(new DatabaseIdentifiersCaseSensitiveVisitor());
@@ -356,22 +388,47 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         return this.databaseTimeZone;
     }
 
+    private Statement createStatementQuietly()
+    {
+        try
+        {
+            return this.connection.createStatement();
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("error creating statement to drop temporary tables", e);
+            return null;
+        }
+    }
+
     @Override
     public void close()
     {
         if (temporaryTables != null && statement != null)
         {
+            // a prepared statement cannot run other SQL
+            Statement dropStatement = statement instanceof PreparedStatement ? createStatementQuietly() : statement;
             temporaryTables.forEach((Consumer<? super String>) table ->
             {
                 try
                 {
                     DatabaseManager databaseManager = DatabaseManager.fromString(this.databaseType);
-                    statement.execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
+                    dropStatement.execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
                 }
                 catch (Exception ignored)
                 {
                 }
             });
+            if (dropStatement != statement && dropStatement != null)
+            {
+                try
+                {
+                    dropStatement.close();
+                }
+                catch (Exception ignored)
+                {
+                }
+            }
         }
 
         if (requestContext != null)
@@ -390,7 +447,16 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
                 LOGGER.error("error closing result set", e);
             }
         }
-        if (statement != null)
+        if (statement instanceof PreparedStatement)
+        {
+            // released once only, as the statement can be handed to another result right after
+            if (!this.statementReleased)
+            {
+                this.statementReleased = true;
+                RelationalPreparedStatementCache.INSTANCE.release(connection, this.executedSQl, (PreparedStatement) statement);
+            }
+        }
+        else if (statement != null)
         {
             try
             {
@@ -406,6 +472,11 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             try
             {
                 connection.close();
+                // block connections stay open across results, they drop their statements when they are eventually closed
+                if (connection.isClosed())
+                {
+                    RelationalPreparedStatementCache.INSTANCE.invalidate(connection);
+                }
             }
             catch (Exception e)
             {
@@ -443,28 +514,13 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
 
     public Object getValue(int columnIndex) throws SQLException
     {
-        Object result;
-        if (resultDBColumnsMetaData.isTimestampColumn(columnIndex))
-        {
-            Timestamp ts;
-            ts = resultSet.getTimestamp(columnIndex, getCalendar());
-            result = ts;
-        }
-        else if (resultDBColumnsMetaData.isDateColumn(columnIndex))
-        {
-            result = resultSet.getDate(columnIndex);
-        }
-        else
-        {
-            result = resultSet.getObject(columnIndex);
-        }
-        return result;
+        return this.columnReaders[columnIndex - 1].read(this.resultSet, getCalendar());
     }
 
     public Object getTransformedValue(int columnIndex) throws SQLException
     {
         Object result = null;
-        switch (resultSetMetaData.getColumnType(columnIndex))
+        switch (this.columnTypes[columnIndex - 1])
         {
             case Types.DATE:
             {
@@ -477,12 +533,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             }
             case Types.TIMESTAMP:
             {
-                java.sql.Timestamp timestamp = this.resultSet.getTimestamp(
-                        columnIndex,
-                        getRelationalDatabaseTimeZone() == null ?
-                                new GregorianCalendar(TimeZone.getTimeZone("GMT")) :
-                                new GregorianCalendar(TimeZone.getTimeZone(getRelationalDatabaseTimeZone()))
-                );
+                java.sql.Timestamp timestamp = this.resultSet.getTimestamp(columnIndex, getCalendar());
                 if (timestamp != null)
                 {
                     result = PureDate.fromSQLTimestamp(timestamp);
@@ -537,7 +588,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
                 {
                     result = Boolean.valueOf(bool);
                 }
-                break;  // TODO: check this
+                break;
             }
             case Types.BINARY:
             case Types.VARBINARY:
@@ -563,6 +614,60 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         return result;
     }
 
+    /**
+     * Column readers specialized from the result set metadata, indexed by zero based column position
+     */
+    public RelationalColumnReader[] getColumnReaders()
+    {
+        return this.columnReaders;
+    }
+
+    public RelationalResultRowBatch newRowBatch(int capacity)
+    {
+        return new RelationalResultRowBatch(this.columnReaders, capacity);
+    }
+
+    /**
+     * Row batch whose cells are typed as {@link ResultSet#getObject(int)} returns them, for serializations which print
+     * the values as the driver provides them.
+     */
+    public RelationalResultRowBatch newDriverObjectRowBatch(int capacity)
+    {
+        return new RelationalResultRowBatch(RelationalColumnReader.withDriverTemporalValues(this.columnReaders), capacity);
+    }
+
+    /**
+     * Advances the result set and fills the batch with up to its capacity of rows, reusing its buffers.
+     *
+     * @return the number of rows read, 0 once the result set is exhausted
+     */
+    public int fillRowBatch(RelationalResultRowBatch batch) throws SQLException
+    {
+        batch.clear();
+        int row = 0;
+        boolean multipleSetImplementations = this.setTransformers.size() > 1;
+        Calendar rowCalendar = getCalendar();
+        while (row < batch.getCapacity() && !this.resultSet.isClosed() && this.resultSet.next())
+        {
+            for (RelationalColumnReader reader : batch.getReaders())
+            {
+                reader.readInto(this.resultSet, rowCalendar, batch, row);
+            }
+            batch.setTransformerSetIndex(row, multipleSetImplementations ? this.resultSet.getInt("u_type") : 0);
+            row++;
+        }
+        batch.setSize(row);
+        return row;
+    }
+
+    /**
+     * Transformers applying to the given row of a batch filled by {@link #fillRowBatch(RelationalResultRowBatch)}
+     */
+    public MutableList<Function<Object, Object>> getTransformers(RelationalResultRowBatch batch, int row)
+    {
+        return this.setTransformers.get(batch.getTransformerSetIndex(row)).transformers;
+    }
+
     @Override
     public ResultSet getResultSet()
     {
@@ -603,7 +708,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             case CSV_TRANSFORMED:
                 return new RelationalResultToCSVSerializerWithTransformersApplied(this, true);
             case DEFAULT:
-                return new RelationalResultToJsonDefaultSerializer(this);
+                return RelationalResultToJsonDefaultBufferedSerializer.isEnabled() ? new RelationalResultToJsonDefaultBufferedSerializer(this) : new RelationalResultToJsonDefaultSerializer(this);
             default:
                 this.close();
                 throw new RuntimeException(format.toString() + " format not currently supported with RelationalResult");
@@ -648,18 +753,18 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
 
     private Calendar getCalendar()
     {
-        String timeZoneId = getRelationalDatabaseTimeZone();
-        TimeZone timeZone = (timeZoneId != null) ? TimeZone.getTimeZone(timeZoneId) : TimeZone.getTimeZone("GMT");
         if (calendar == null)
         {
+            String timeZoneId = getRelationalDatabaseTimeZone();
             //TODO, throw exception, TZ should always be specified
             //Till then, default to PURE default which is "GMT"
-            calendar = new GregorianCalendar(timeZone);
+            calendarTimeZone = (timeZoneId != null) ? TimeZone.getTimeZone(timeZoneId) : TimeZone.getTimeZone("GMT");
+            calendar = new GregorianCalendar(calendarTimeZone);
         }
         else
         {
             calendar.clear();
-            calendar.setTimeZone(timeZone);
+            calendar.setTimeZone(calendarTimeZone);
         }
         return calendar;
     }
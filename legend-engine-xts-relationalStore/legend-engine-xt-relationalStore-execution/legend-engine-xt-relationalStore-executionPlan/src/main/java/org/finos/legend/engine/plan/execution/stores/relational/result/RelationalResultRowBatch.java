@@ -0,0 +1,210 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import java.util.Arrays;
+
+/**
+ * Reusable columnar buffer filled by {@link RelationalResult#fillRowBatch(RelationalResultRowBatch)}.
+ * <p>
+ * Integral, floating point and boolean columns are held in primitive lanes so serializers can consume them
+ * without boxing; every other column is held in an object lane. Column and row indexes are zero based.
+ */
+public class RelationalResultRowBatch
+{
+    private final RelationalColumnReader[] readers;
+    private final RelationalColumnReader.Kind[] kinds;
+    private final int capacity;
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final boolean[][] booleans;
+    private final Object[][] objects;
+    private final boolean[][] nulls;
+    private final int[] transformerSetIndexes;
+    private int size;
+
+    public RelationalResultRowBatch(RelationalColumnReader[] readers, int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("Row batch capacity must be positive, got: " + capacity);
+        }
+        int columnCount = readers.length;
+        this.readers = readers;
+        this.kinds = new RelationalColumnReader.Kind[columnCount];
+        this.capacity = capacity;
+        this.longs = new long[columnCount][];
+        this.doubles = new double[columnCount][];
+        this.booleans = new boolean[columnCount][];
+        this.objects = new Object[columnCount][];
+        this.nulls = new boolean[columnCount][capacity];
+        this.transformerSetIndexes = new int[capacity];
+        for (int i = 0; i < columnCount; i++)
+        {
+            this.kinds[i] = readers[i].getKind();
+            switch (this.kinds[i])
+            {
+                case INTEGER:
+                case LONG:
+                {
+                    this.longs[i] = new long[capacity];
+                    break;
+                }
+                case DOUBLE:
+                {
+                    this.doubles[i] = new double[capacity];
+                    break;
+                }
+                case BOOLEAN:
+                {
+                    this.booleans[i] = new boolean[capacity];
+                    break;
+                }
+                default:
+                {
+                    this.objects[i] = new Object[capacity];
+                }
+            }
+        }
+    }
+
+    RelationalColumnReader[] getReaders()
+    {
+        return this.readers;
+    }
+
+    public int getCapacity()
+    {
+        return this.capacity;
+    }
+
+    public int getSize()
+    {
+        return this.size;
+    }
+
+    public int getColumnCount()
+    {
+        return this.kinds.length;
+    }
+
+    public RelationalColumnReader.Kind getKind(int column)
+    {
+        return this.kinds[column];
+    }
+
+    public boolean isNull(int column, int row)
+    {
+        return this.nulls[column][row];
+    }
+
+    public long getLong(int column, int row)
+    {
+        return this.longs[column][row];
+    }
+
+    public double getDouble(int column, int row)
+    {
+        return this.doubles[column][row];
+    }
+
+    public boolean getBoolean(int column, int row)
+    {
+        return this.booleans[column][row];
+    }
+
+    /**
+     * Index of the {@link org.finos.legend.engine.plan.execution.result.transformer.SetImplTransformers} that applies to the row
+     */
+    public int getTransformerSetIndex(int row)
+    {
+        return this.transformerSetIndexes[row];
+    }
+
+    /**
+     * Returns the cell with the same Java type {@link RelationalResult#getValue(int)} would have produced, boxing primitive lanes.
+     */
+    public Object getValue(int column, int row)
+    {
+        if (this.nulls[column][row])
+        {
+            return null;
+        }
+        switch (this.kinds[column])
+        {
+            case INTEGER:
+                return (int) this.longs[column][row];
+            case LONG:
+                return this.longs[column][row];
+            case DOUBLE:
+                return this.doubles[column][row];
+            case BOOLEAN:
+                return this.booleans[column][row];
+            default:
+                return this.objects[column][row];
+        }
+    }
+
+    void clear()
+    {
+        for (Object[] lane : this.objects)
+        {
+            if (lane != null)
+            {
+                Arrays.fill(lane, 0, this.size, null);
+            }
+        }
+        this.size = 0;
+    }
+
+    void setSize(int size)
+    {
+        this.size = size;
+    }
+
+    void setTransformerSetIndex(int row, int index)
+    {
+        this.transformerSetIndexes[row] = index;
+    }
+
+    void setNull(int column, int row)
+    {
+        this.nulls[column][row] = true;
+    }
+
+    void setLong(int column, int row, long value)
+    {
+        this.nulls[column][row] = false;
+        this.longs[column][row] = value;
+    }
+
+    void setDouble(int column, int row, double value)
+    {
+        this.nulls[column][row] = false;
+        this.doubles[column][row] = value;
+    }
+
+    void setBoolean(int column, int row, boolean value)
+    {
+        this.nulls[column][row] = false;
+        this.booleans[column][row] = value;
+    }
+
+    void setObject(int column, int row, Object value)
+    {
+        this.nulls[column][row] = value == null;
+        this.objects[column][row] = value;
+    }
+}
@@ -27,6 +27,7 @@ import org.finos.legend.engine.shared.core.api.request.RequestContext;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.slf4j.Logger;
 
 import java.sql.Connection;
@@ -83,7 +84,9 @@ public class SQLExecutionResult extends SQLResult
             {
                 StoreExecutableManager.INSTANCE.addExecutable(this.getRequestContext(), this);
             }
+            long startNanos = System.nanoTime();
             this.resultSet = this.getStatement().executeQuery(sql);
+            MetricsHandler.observeExecutionNodeDuration(SQLExecutionNode.getClass().getSimpleName(), MetricsHandler.ExecutionNodePhase.SQL_EXECUTION, System.nanoTime() - startNanos);
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
             this.executedSql = sql;
 
@@ -56,6 +56,11 @@ public class SQLResultDBColumnsMetaData
         }
     }
 
+    int getColumnCount()
+    {
+        return this.sqlResultColumns.size();
+    }
+
     boolean isTimestampColumn(int index)
     {
         return timeStampColumns[index - 1];
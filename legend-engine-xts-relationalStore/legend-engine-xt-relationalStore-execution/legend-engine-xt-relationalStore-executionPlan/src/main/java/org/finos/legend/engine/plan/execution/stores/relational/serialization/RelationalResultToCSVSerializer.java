@@ -20,17 +20,22 @@ import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.engine.plan.execution.result.serialization.CsvSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResultRowBatch;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 
 import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class RelationalResultToCSVSerializer extends CsvSerializer
 {
+    private static final int ROW_BATCH_SIZE = 1024;
+
     private final RelationalResult relationalResult;
     private final CSVFormat csvFormat;
 
@@ -66,7 +71,7 @@ public class RelationalResultToCSVSerializer extends CsvSerializer
         {
             Writer out = new BufferedWriter(new OutputStreamWriter(targetStream));
             csvPrinter = new CSVPrinter(out, this.csvFormat);
-            csvPrinter.printRecords(relationalResult.resultSet);
+            this.printRecords(csvPrinter);
             csvPrinter.close();
         }
         catch (Exception e)
@@ -90,6 +95,24 @@ public class RelationalResultToCSVSerializer extends CsvSerializer
         }
     }
 
+    private void printRecords(CSVPrinter csvPrinter) throws SQLException, IOException
+    {
+        // values as the driver returns them, like CSVPrinter.printRecords(ResultSet), so that temp table loads read them back unchanged
+        RelationalResultRowBatch batch = relationalResult.newDriverObjectRowBatch(ROW_BATCH_SIZE);
+        int size;
+        while ((size = relationalResult.fillRowBatch(batch)) > 0)
+        {
+            for (int row = 0; row < size; row++)
+            {
+                for (int column = 0; column < batch.getColumnCount(); column++)
+                {
+                    csvPrinter.print(batch.getValue(column, row));
+                }
+                csvPrinter.println();
+            }
+        }
+    }
+
     @Override
     public List<Pair<String, String>> getHeaderColumnsAndTypes()
     {
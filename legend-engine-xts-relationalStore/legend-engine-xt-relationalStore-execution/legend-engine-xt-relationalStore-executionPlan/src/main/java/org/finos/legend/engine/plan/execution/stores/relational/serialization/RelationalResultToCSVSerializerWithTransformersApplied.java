@@ -22,6 +22,7 @@ import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.engine.plan.execution.result.serialization.CsvSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResultRowBatch;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 
 import java.io.BufferedWriter;
@@ -29,13 +30,14 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class RelationalResultToCSVSerializerWithTransformersApplied extends CsvSerializer
 {
+    private static final int ROW_BATCH_SIZE = 1024;
+
     private final RelationalResult relationalResult;
     private final CSVFormat csvFormat;
     private final ValueTransformer valueTransformer = new ValueTransformer();
@@ -64,7 +66,7 @@ public class RelationalResultToCSVSerializerWithTransformersApplied extends CsvS
         {
             Writer out = new BufferedWriter(new OutputStreamWriter(targetStream));
             csvPrinter = new CSVPrinter(out, this.csvFormat);
-            this.printRecords(relationalResult.resultSet, csvPrinter);
+            this.printRecords(csvPrinter);
             csvPrinter.close();
         }
         catch (Exception e)
@@ -88,19 +90,21 @@ public class RelationalResultToCSVSerializerWithTransformersApplied extends CsvS
         }
     }
 
-    private void printRecords(ResultSet resultSet, CSVPrinter csvPrinter) throws SQLException, IOException
+    private void printRecords(CSVPrinter csvPrinter) throws SQLException, IOException
     {
-        MutableList<Function<Object, Object>> transformers = relationalResult.getTransformers();
-
-        int columnCount = resultSet.getMetaData().getColumnCount();
-
-        while (resultSet.next())
+        RelationalResultRowBatch batch = relationalResult.newRowBatch(ROW_BATCH_SIZE);
+        int size;
+        while ((size = relationalResult.fillRowBatch(batch)) > 0)
         {
-            for (int i = 1; i <= columnCount; ++i)
+            for (int row = 0; row < size; row++)
             {
-                csvPrinter.print(valueTransformer.transformRelationalValue(relationalResult.getValue(i), transformers.get(i - 1)));
+                MutableList<Function<Object, Object>> transformers = relationalResult.getTransformers(batch, row);
+                for (int column = 0; column < batch.getColumnCount(); column++)
+                {
+                    csvPrinter.print(valueTransformer.transformRelationalValue(batch.getValue(column, row), transformers.get(column)));
+                }
+                csvPrinter.println();
             }
-            csvPrinter.println();
         }
     }
 
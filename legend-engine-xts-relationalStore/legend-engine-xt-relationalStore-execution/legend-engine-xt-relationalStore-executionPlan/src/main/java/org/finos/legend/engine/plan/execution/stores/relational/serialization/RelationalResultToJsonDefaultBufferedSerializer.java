@@ -0,0 +1,228 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import io.opentracing.Scope;
+import io.opentracing.util.GlobalTracer;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
+import org.finos.legend.engine.plan.execution.result.transformer.SetImplTransformers;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalColumnReader;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResultRowBatch;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Variant of {@link RelationalResultToJsonDefaultSerializer} producing the same output, which pulls rows in batches through
+ * {@link RelationalResult#fillRowBatch(RelationalResultRowBatch)} and writes cells straight into a pooled UTF-8 buffer
+ * with writers chosen once per column, rather than building a String per cell.
+ * <p>
+ * Enabled for the DEFAULT format by setting the system property {@value #ENABLED_PROPERTY} to true.
+ */
+public class RelationalResultToJsonDefaultBufferedSerializer extends RelationalResultToJsonDefaultSerializer
+{
+    public static final String ENABLED_PROPERTY = "legend.engine.relational.serialization.bufferedJson";
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final int ROW_BATCH_SIZE = 1024;
+
+    private static final byte[] b_comma = ",".getBytes();
+    private static final byte[] b_values = "{\"values\": [".getBytes();
+    private static final byte[] b_end = "]}".getBytes();
+
+    private final RelationalResult relationalResult;
+    private final Function<Object, String> purePrimitiveToJsonConverter = ExecutionResultObjectMapperFactory.getPurePrimitiveToJsonConverter();
+    private final ValueTransformer transformer = new ValueTransformer();
+
+    public RelationalResultToJsonDefaultBufferedSerializer(RelationalResult relationalResult)
+    {
+        super(relationalResult);
+        this.relationalResult = relationalResult;
+    }
+
+    public static boolean isEnabled()
+    {
+        return ENABLED;
+    }
+
+    @Override
+    protected void streamRows(OutputStream outputStream) throws Exception
+    {
+        Utf8JsonBuffer out = new Utf8JsonBuffer(outputStream);
+        RelationalResultRowBatch batch = this.relationalResult.newRowBatch(ROW_BATCH_SIZE);
+        CellWriter[][] writersBySetImplementation = this.buildCellWriters();
+        int rowCount = 0;
+        try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: buffered rows").startActive(true))
+        {
+            int size;
+            while ((size = this.relationalResult.fillRowBatch(batch)) > 0)
+            {
+                for (int row = 0; row < size; row++)
+                {
+                    if (rowCount > 0)
+                    {
+                        out.writeRaw(b_comma);
+                    }
+                    this.writeRow(out, writersBySetImplementation[batch.getTransformerSetIndex(row)], batch, row);
+                    rowCount++;
+                }
+            }
+            out.flush();
+            scope.span().setTag("rowCount", rowCount);
+            if (this.relationalResult.topSpan != null)
+            {
+                this.relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
+            }
+        }
+    }
+
+    private void writeRow(Utf8JsonBuffer out, CellWriter[] writers, RelationalResultRowBatch batch, int row) throws IOException
+    {
+        out.writeRaw(b_values);
+        for (int column = 0; column < writers.length; column++)
+        {
+            if (column > 0)
+            {
+                out.writeRaw(b_comma);
+            }
+            writers[column].write(out, batch, column, row);
+        }
+        out.writeRaw(b_end);
+    }
+
+    private CellWriter[][] buildCellWriters()
+    {
+        RelationalColumnReader[] readers = this.relationalResult.getColumnReaders();
+        List<SetImplTransformers> setTransformers = this.relationalResult.setTransformers;
+        CellWriter[][] writers = new CellWriter[setTransformers.size()][readers.length];
+        for (int set = 0; set < setTransformers.size(); set++)
+        {
+            List<Function<Object, Object>> transformers = setTransformers.get(set).transformers;
+            for (int column = 0; column < readers.length; column++)
+            {
+                writers[set][column] = this.buildCellWriter(readers[column].getKind(), transformers.get(column));
+            }
+        }
+        return writers;
+    }
+
+    private CellWriter buildCellWriter(RelationalColumnReader.Kind kind, Function<Object, Object> columnTransformer)
+    {
+        Function<Object, String> toJson = columnTransformer.andThen(this.purePrimitiveToJsonConverter);
+        CellWriter generic = (out, batch, column, row) -> out.writeRaw(this.transformer.transformWrappedRelationalValueForJSON(batch.getValue(column, row), toJson).getBytes());
+        boolean passThrough = columnTransformer == Functions.identity() || columnTransformer == SetImplTransformers.TEMPORARY_DATATYPE_TRANSFORMER;
+        switch (kind)
+        {
+            case TIMESTAMP:
+            {
+                return (out, batch, column, row) ->
+                {
+                    Object value = batch.getValue(column, row);
+                    if (value instanceof Timestamp)
+                    {
+                        out.writeTimestamp((Timestamp) value);
+                    }
+                    else
+                    {
+                        generic.write(out, batch, column, row);
+                    }
+                };
+            }
+            case DATE:
+            {
+                return (out, batch, column, row) ->
+                {
+                    Object value = batch.getValue(column, row);
+                    if (value instanceof java.sql.Date)
+                    {
+                        out.writeDate(((java.sql.Date) value).toLocalDate());
+                    }
+                    else
+                    {
+                        generic.write(out, batch, column, row);
+                    }
+                };
+            }
+            case INTEGER:
+            case LONG:
+            {
+                return !passThrough ? generic : (out, batch, column, row) ->
+                {
+                    if (batch.isNull(column, row))
+                    {
+                        out.writeNull();
+                    }
+                    else
+                    {
+                        out.writeLong(batch.getLong(column, row));
+                    }
+                };
+            }
+            case DOUBLE:
+            {
+                return !passThrough ? generic : (out, batch, column, row) ->
+                {
+                    if (batch.isNull(column, row))
+                    {
+                        out.writeNull();
+                    }
+                    else
+                    {
+                        out.writeDouble(batch.getDouble(column, row));
+                    }
+                };
+            }
+            case BOOLEAN:
+            {
+                return !passThrough ? generic : (out, batch, column, row) ->
+                {
+                    if (batch.isNull(column, row))
+                    {
+                        out.writeNull();
+                    }
+                    else
+                    {
+                        out.writeBoolean(batch.getBoolean(column, row));
+                    }
+                };
+            }
+            default:
+            {
+                return !passThrough ? generic : (out, batch, column, row) ->
+                {
+                    Object value = batch.getValue(column, row);
+                    if (value instanceof String)
+                    {
+                        out.writeString((String) value);
+                    }
+                    else
+                    {
+                        generic.write(out, batch, column, row);
+                    }
+                };
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface CellWriter
+    {
+        void write(Utf8JsonBuffer out, RelationalResultRowBatch batch, int column, int row) throws IOException;
+    }
+}
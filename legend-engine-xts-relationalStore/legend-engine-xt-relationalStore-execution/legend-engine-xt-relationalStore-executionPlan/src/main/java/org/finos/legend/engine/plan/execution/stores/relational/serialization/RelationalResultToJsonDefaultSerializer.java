@@ -95,7 +95,7 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
         }
     }
 
-    private void streamRows(OutputStream outputStream) throws Exception
+    protected void streamRows(OutputStream outputStream) throws Exception
     {
         int rowCount = 0;
         try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: Fetch first row").startActive(true))
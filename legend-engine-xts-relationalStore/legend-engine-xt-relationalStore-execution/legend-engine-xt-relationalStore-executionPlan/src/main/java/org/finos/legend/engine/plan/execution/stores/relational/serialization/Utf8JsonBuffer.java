@@ -0,0 +1,303 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Byte buffer writing JSON tokens as UTF-8 directly, flushing to the underlying stream when full.
+ * <p>
+ * String escaping and date formats match {@link org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory#getPurePrimitiveToJsonConverter()}
+ * and {@link ValueTransformer} so output is byte for byte identical to {@link RelationalResultToJsonDefaultSerializer}.
+ * The backing array is pooled per thread, so an instance must not outlive the serialization that created it.
+ */
+class Utf8JsonBuffer
+{
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes();
+    private static final byte[] NULL = "null".getBytes();
+    private static final byte[] TRUE = "true".getBytes();
+    private static final byte[] FALSE = "false".getBytes();
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes();
+    private static final byte[] UTC_SUFFIX = "+0000".getBytes();
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.nnnnnnnnnZ");
+
+    private final OutputStream outputStream;
+    private final byte[] buffer;
+    private int position;
+
+    Utf8JsonBuffer(OutputStream outputStream)
+    {
+        this.outputStream = outputStream;
+        this.buffer = BUFFERS.get();
+    }
+
+    void writeRaw(byte[] bytes) throws IOException
+    {
+        if (bytes.length > this.buffer.length - this.position)
+        {
+            flushBuffer();
+            if (bytes.length > this.buffer.length)
+            {
+                this.outputStream.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+        this.position += bytes.length;
+    }
+
+    void writeRaw(String ascii) throws IOException
+    {
+        ensureCapacity(ascii.length());
+        for (int i = 0; i < ascii.length(); i++)
+        {
+            this.buffer[this.position++] = (byte) ascii.charAt(i);
+        }
+    }
+
+    void writeByte(byte b) throws IOException
+    {
+        ensureCapacity(1);
+        this.buffer[this.position++] = b;
+    }
+
+    void writeNull() throws IOException
+    {
+        writeRaw(NULL);
+    }
+
+    void writeBoolean(boolean value) throws IOException
+    {
+        writeRaw(value ? TRUE : FALSE);
+    }
+
+    void writeLong(long value) throws IOException
+    {
+        if (value == Long.MIN_VALUE)
+        {
+            writeRaw(MIN_LONG);
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0)
+        {
+            this.buffer[this.position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10)
+        {
+            digits++;
+        }
+        int end = this.position + digits;
+        for (int i = end - 1; i >= this.position; i--)
+        {
+            this.buffer[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        this.position = end;
+    }
+
+    void writeDouble(double value) throws IOException
+    {
+        if (Double.isNaN(value) || Double.isInfinite(value))
+        {
+            writeNull();
+        }
+        else
+        {
+            writeRaw(Double.toString(value));
+        }
+    }
+
+    void writeTimestamp(Timestamp timestamp) throws IOException
+    {
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(timestamp.getTime(), 1000L), timestamp.getNanos(), ZoneOffset.UTC);
+        if (!isFourDigitYear(dateTime.getYear()))
+        {
+            writeRaw(("\"" + TIMESTAMP_FORMAT.format(dateTime.atOffset(ZoneOffset.UTC)) + "\"").getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        ensureCapacity(37);
+        this.buffer[this.position++] = '"';
+        writeDateFields(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+        this.buffer[this.position++] = 'T';
+        writePadded(dateTime.getHour(), 2);
+        this.buffer[this.position++] = ':';
+        writePadded(dateTime.getMinute(), 2);
+        this.buffer[this.position++] = ':';
+        writePadded(dateTime.getSecond(), 2);
+        this.buffer[this.position++] = '.';
+        writePadded(dateTime.getNano(), 9);
+        System.arraycopy(UTC_SUFFIX, 0, this.buffer, this.position, UTC_SUFFIX.length);
+        this.position += UTC_SUFFIX.length;
+        this.buffer[this.position++] = '"';
+    }
+
+    void writeDate(LocalDate date) throws IOException
+    {
+        if (!isFourDigitYear(date.getYear()))
+        {
+            writeRaw(("\"" + DATE_FORMAT.format(date) + "\"").getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        ensureCapacity(12);
+        this.buffer[this.position++] = '"';
+        writeDateFields(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        this.buffer[this.position++] = '"';
+    }
+
+    private static boolean isFourDigitYear(int year)
+    {
+        return year >= 1 && year <= 9999;
+    }
+
+    void writeString(String s) throws IOException
+    {
+        ensureCapacity(2);
+        this.buffer[this.position++] = '"';
+        for (int i = 0; i < s.length(); i++)
+        {
+            char ch = s.charAt(i);
+            // worst case is a six byte unicode escape
+            ensureCapacity(6);
+            switch (ch)
+            {
+                case '"':
+                    writeEscape('"');
+                    break;
+                case '\\':
+                    writeEscape('\\');
+                    break;
+                case '\n':
+                    writeEscape('n');
+                    break;
+                case '\r':
+                    writeEscape('r');
+                    break;
+                case '\t':
+                    writeEscape('t');
+                    break;
+                case '/':
+                    writeEscape('/');
+                    break;
+                case '\b':
+                    writeEscape('b');
+                    break;
+                case '\f':
+                    writeEscape('f');
+                    break;
+                default:
+                    if (ch <= '\u001F' || (ch >= '\u007F' && ch <= '\u009F') || (ch >= '\u2000' && ch <= '\u20FF'))
+                    {
+                        this.buffer[this.position++] = '\\';
+                        this.buffer[this.position++] = 'u';
+                        this.buffer[this.position++] = HEX[(ch >> 12) & 0xF];
+                        this.buffer[this.position++] = HEX[(ch >> 8) & 0xF];
+                        this.buffer[this.position++] = HEX[(ch >> 4) & 0xF];
+                        this.buffer[this.position++] = HEX[ch & 0xF];
+                    }
+                    else if (ch < 0x80)
+                    {
+                        this.buffer[this.position++] = (byte) ch;
+                    }
+                    else if (ch < 0x800)
+                    {
+                        this.buffer[this.position++] = (byte) (0xC0 | (ch >> 6));
+                        this.buffer[this.position++] = (byte) (0x80 | (ch & 0x3F));
+                    }
+                    else if (Character.isHighSurrogate(ch) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1)))
+                    {
+                        int codePoint = Character.toCodePoint(ch, s.charAt(++i));
+                        this.buffer[this.position++] = (byte) (0xF0 | (codePoint >> 18));
+                        this.buffer[this.position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        this.buffer[this.position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        this.buffer[this.position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    }
+                    else if (Character.isSurrogate(ch))
+                    {
+                        // unpaired surrogate, encoded as String.getBytes() would
+                        this.buffer[this.position++] = '?';
+                    }
+                    else
+                    {
+                        this.buffer[this.position++] = (byte) (0xE0 | (ch >> 12));
+                        this.buffer[this.position++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                        this.buffer[this.position++] = (byte) (0x80 | (ch & 0x3F));
+                    }
+            }
+        }
+        ensureCapacity(1);
+        this.buffer[this.position++] = '"';
+    }
+
+    void flush() throws IOException
+    {
+        flushBuffer();
+        this.outputStream.flush();
+    }
+
+    private void writeEscape(char escaped)
+    {
+        this.buffer[this.position++] = '\\';
+        this.buffer[this.position++] = (byte) escaped;
+    }
+
+    private void writeDateFields(int year, int month, int day)
+    {
+        writePadded(year, 4);
+        this.buffer[this.position++] = '-';
+        writePadded(month, 2);
+        this.buffer[this.position++] = '-';
+        writePadded(day, 2);
+    }
+
+    private void writePadded(int value, int width)
+    {
+        for (int i = this.position + width - 1; i >= this.position; i--)
+        {
+            this.buffer[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        this.position += width;
+    }
+
+    private void ensureCapacity(int length) throws IOException
+    {
+        if (length > this.buffer.length - this.position)
+        {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException
+    {
+        if (this.position > 0)
+        {
+            this.outputStream.write(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Commands;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RealizedRelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.TimeZone;
+
+public class TestPreparedStatementTempTableLoader
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testPreparedBatchInsertMatchesClientFileIngestion() throws Exception
+    {
+        // CLIENT_FILE writes timestamps in the JVM time zone, hence the database is given the same one for the comparison
+        String databaseTimeZone = TimeZone.getDefault().getID();
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:"))
+        {
+            load(connection, IngestionMethod.CLIENT_FILE, "CLIENT_FILE_TABLE", databaseTimeZone);
+            load(connection, IngestionMethod.PREPARED_BATCH_INSERT, "PREPARED_TABLE", databaseTimeZone);
+
+            MutableList<String> expected = rows(connection, "CLIENT_FILE_TABLE");
+            Assert.assertEquals(4, expected.size());
+            Assert.assertEquals(expected, rows(connection, "PREPARED_TABLE"));
+            Assert.assertEquals("O'Brien|null|null|null|null", rows(connection, "PREPARED_TABLE").get(0));
+        }
+    }
+
+    @Test
+    public void testTimestampsAreWrittenInTheDatabaseTimeZone() throws Exception
+    {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:"))
+        {
+            RealizedRelationalResult result = RealizedRelationalResult.emptyRealizedRelationalResult(Lists.mutable.with(new SQLResultColumn("TS", "TIMESTAMP")));
+            // 2020-12-12 20:00:00 in New York, as read from a source database in that time zone
+            Timestamp timestamp = Timestamp.from(Instant.parse("2020-12-13T01:00:00Z"));
+            result.addRow(Lists.mutable.with(timestamp), Lists.mutable.with(timestamp));
+
+            new PreparedStatementTempTableLoader(new H2Commands(), connection, "TS_TABLE", "America/New_York").load(result);
+            Assert.assertEquals(Lists.mutable.with("2020-12-12 20:00:00.0"), rows(connection, "TS_TABLE"));
+        }
+    }
+
+    private void load(Connection connection, IngestionMethod ingestionMethod, String tableName, String databaseTimeZone) throws Exception
+    {
+        RelationalExecutionConfiguration config = RelationalExecutionConfiguration.newInstance()
+                .withTempPath(temporaryFolder.newFolder().getAbsolutePath())
+                .withTempTableIngestionMethod(ingestionMethod)
+                .build();
+        new StreamResultToTempTableVisitor(config, connection, realizedResult(), tableName, databaseTimeZone).visit(new H2Commands());
+    }
+
+    private static RealizedRelationalResult realizedResult()
+    {
+        RealizedRelationalResult result = RealizedRelationalResult.emptyRealizedRelationalResult(Lists.mutable.with(
+                new SQLResultColumn("NAME", "VARCHAR(100)"),
+                new SQLResultColumn("AMOUNT", "INTEGER"),
+                new SQLResultColumn("PRICE", "DOUBLE"),
+                new SQLResultColumn("SETTLED", "DATE"),
+                new SQLResultColumn("BOOKED", "TIMESTAMP")));
+        addRow(result, "P1", 1, 1.5, Date.valueOf("2020-12-12"), Timestamp.valueOf("2020-12-12 20:00:00"));
+        addRow(result, "P2", 2, 2.25, Date.valueOf("2020-12-13"), Timestamp.valueOf("2020-12-13 08:30:15.123"));
+        addRow(result, "O'Brien", null, null, null, null);
+        addRow(result, "Z, \"quoted\"", -3, 0.0, Date.valueOf("2021-01-01"), Timestamp.valueOf("2021-01-01 00:00:00"));
+        return result;
+    }
+
+    private static void addRow(RealizedRelationalResult result, Object... values)
+    {
+        result.addRow(Arrays.asList(values), Arrays.asList(values));
+    }
+
+    private static MutableList<String> rows(Connection connection, String tableName) throws Exception
+    {
+        MutableList<String> rows = Lists.mutable.empty();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select * from " + tableName + " order by 1"))
+        {
+            int columnCount = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next())
+            {
+                StringBuilder row = new StringBuilder();
+                for (int i = 1; i <= columnCount; i++)
+                {
+                    row.append(i == 1 ? "" : "|").append(resultSet.getString(i));
+                }
+                rows.add(row.toString());
+            }
+        }
+        return rows;
+    }
+}
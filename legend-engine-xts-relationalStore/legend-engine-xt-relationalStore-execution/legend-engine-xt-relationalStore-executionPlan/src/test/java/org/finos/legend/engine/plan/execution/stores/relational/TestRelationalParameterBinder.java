@@ -0,0 +1,137 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Map;
+
+public class TestRelationalParameterBinder
+{
+    private static final String VAR_PLACE_HOLDER_TO_STRING = "<#function varPlaceHolderToString optionalParameter prefix suffix replacementMap defaultValue><#if optionalParameter?is_enumerable && !optionalParameter?has_content><#return defaultValue><#else><#assign newParam = optionalParameter><#list replacementMap as oldValue, newValue>   <#assign newParam = newParam?replace(oldValue, newValue)></#list><#return prefix + newParam + suffix></#if></#function>";
+
+    @Test
+    public void testBindStringAndNumberParameters()
+    {
+        ExecutionState state = executionState(Maps.mutable.<String, Result>with("name", new ConstantResult("O'Brien"), "age", new ConstantResult(30L), "limit", new ConstantResult(10L)));
+        String template = "select \"root\".NAME from personTable as \"root\" where \"root\".NAME = '${name?replace(\"\\'\", \"\\'\\'\")}' and \"root\".AGE > ${age} limit ${limit}";
+
+        RelationalParameterBinder.BoundSQL bound = bind(template, state);
+        Assert.assertEquals("select \"root\".NAME from personTable as \"root\" where \"root\".NAME = ? and \"root\".AGE > ? limit 10", bound.getSql().trim());
+        Assert.assertEquals(Lists.mutable.with("O'Brien", 30L), bound.getParameters());
+    }
+
+    @Test
+    public void testBindOptionalParameters()
+    {
+        ExecutionState state = executionState(Maps.mutable.<String, Result>with("optionalName", new ConstantResult("John"), "optionalAge", new ConstantResult(Lists.mutable.empty())));
+        String template = "select \"root\".ID from personTable as \"root\" where ${varPlaceHolderToString(optionalName![] \"\\'\" \"\\'\" {\"\\'\" : \"\\'\\'\"} \"null\")} = \"root\".NAME and \"root\".AGE = ${varPlaceHolderToString(optionalAge![] \"\" \"\" {} \"null\")}";
+
+        RelationalParameterBinder.BoundSQL bound = bind(template, state);
+        Assert.assertEquals("select \"root\".ID from personTable as \"root\" where ? = \"root\".NAME and \"root\".AGE = null", bound.getSql().trim());
+        Assert.assertEquals(Lists.mutable.with("John"), bound.getParameters());
+    }
+
+    @Test
+    public void testPlaceholdersInStringLiteralsAreInlined()
+    {
+        ExecutionState state = executionState(Maps.mutable.<String, Result>with("age", new ConstantResult(30L), "limit", new ConstantResult(10L)));
+        String template = "select \"root\".ID from personTable as \"root\" where \"root\".AGE = ${age} and \"root\".COMMENT = 'age ${age} = ${limit}'";
+
+        RelationalParameterBinder.BoundSQL bound = bind(template, state);
+        Assert.assertEquals("select \"root\".ID from personTable as \"root\" where \"root\".AGE = ? and \"root\".COMMENT = 'age 30 = 10'", bound.getSql().trim());
+        Assert.assertEquals(Lists.mutable.with(30L), bound.getParameters());
+    }
+
+    @Test
+    public void testInListPlaceholdersAreInlined()
+    {
+        ExecutionState state = executionState(Maps.mutable.<String, Result>with("age", new ConstantResult(30L), "id", new ConstantResult(5L), "name", new ConstantResult("O'Brien")));
+        String template = "select \"root\".ID from personTable as \"root\" where \"root\".AGE = ${age} and \"root\".ID in (${id}, 3) and \"root\".NAME in ('${name?replace(\"\\'\", \"\\'\\'\")}', 'Smith')";
+
+        RelationalParameterBinder.BoundSQL bound = bind(template, state);
+        Assert.assertEquals("select \"root\".ID from personTable as \"root\" where \"root\".AGE = ? and \"root\".ID in (5, 3) and \"root\".NAME in ('O''Brien', 'Smith')", bound.getSql().trim());
+        Assert.assertEquals(Lists.mutable.with(30L), bound.getParameters());
+    }
+
+    @Test
+    public void testInlinedQuestionMarkPreventsBinding()
+    {
+        ExecutionState state = executionState(Maps.mutable.<String, Result>with("age", new ConstantResult(30L), "comment", new ConstantResult("why?")));
+        String template = "select \"root\".ID from personTable as \"root\" where \"root\".AGE = ${age} and \"root\".COMMENT like '${comment}'";
+
+        RelationalParameterBinder binder = RelationalParameterBinder.extract(template, state);
+        Assert.assertTrue(binder.hasParameters());
+        Assert.assertNull(binder.bind(FreeMarkerExecutor.process(binder.getTemplate(), state)));
+    }
+
+    @Test
+    public void testPreparedStatementsAreReusedPerConnection() throws Exception
+    {
+        RelationalPreparedStatementCache cache = new RelationalPreparedStatementCache(2);
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:"))
+        {
+            String sql = "select ? + 1";
+            PreparedStatement statement = cache.prepare(connection, sql);
+            // a statement in use is not handed out twice
+            PreparedStatement other = cache.prepare(connection, sql);
+            Assert.assertNotSame(statement, other);
+
+            RelationalParameterBinder.setParameters(statement, Lists.mutable.with(41));
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals(42, resultSet.getInt(1));
+            }
+            cache.release(connection, sql, statement);
+            cache.release(connection, sql, other);
+            Assert.assertEquals(1, cache.size(connection));
+            Assert.assertTrue(statement.isClosed());
+
+            Assert.assertSame(other, cache.prepare(connection, sql));
+            Assert.assertEquals(0, cache.size(connection));
+
+            // statements are dropped with their connection
+            cache.release(connection, sql, other);
+            cache.invalidate(connection);
+            Assert.assertEquals(0, cache.size(connection));
+            Assert.assertTrue(other.isClosed());
+        }
+    }
+
+    private static RelationalParameterBinder.BoundSQL bind(String template, ExecutionState state)
+    {
+        RelationalParameterBinder binder = RelationalParameterBinder.extract(template, state);
+        RelationalParameterBinder.BoundSQL bound = binder.bind(FreeMarkerExecutor.process(binder.getTemplate(), state));
+        Assert.assertNotNull(bound);
+        return bound;
+    }
+
+    private static ExecutionState executionState(Map<String, Result> results)
+    {
+        return new ExecutionState(results, Lists.mutable.with(VAR_PLACE_HOLDER_TO_STRING), Lists.mutable.empty());
+    }
+}
@@ -0,0 +1,148 @@
+//  Copyright 2024 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state.ConnectionStateManager;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state.ConnectionStateManagerPOJO;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.Relational;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultSerializer;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+public class TestRelationalExecutorBoundParameters extends AlloyTestServer
+{
+    private static final String TEST_FUNCTION = "###Pure\n" +
+            "function test::fetch(name: String[1]): Any[1]\n" +
+            "{\n" +
+            "  {name: String[1] | test::Person.all()->filter(p | $p.fullName == $name)\n" +
+            "                        ->project([x | $x.fullName], ['fullName'])}\n" +
+            "}";
+
+    private static final String LOGICAL_MODEL = "###Pure\n" +
+            "Class test::Person\n" +
+            "{\n" +
+            "  fullName: String[1];\n" +
+            "  birthTime: DateTime[0..1];\n" +
+            "}\n\n\n";
+
+    private static final String STORE_MODEL = "###Relational\n" +
+            "Database test::DB\n" +
+            "(\n" +
+            "  Table PERSON (\n" +
+            "    fullName VARCHAR(100) PRIMARY KEY,\n" +
+            "    firmName VARCHAR(100),\n" +
+            "    addressName VARCHAR(100),\n" +
+            "    birthTime TIMESTAMP\n" +
+            "  )\n" +
+            ")\n\n\n";
+
+    private static final String MAPPING = "###Mapping\n" +
+            "Mapping test::Map\n" +
+            "(\n" +
+            "  test::Person: Relational\n" +
+            "  {\n" +
+            "    ~primaryKey\n" +
+            "    (\n" +
+            "      [test::DB]PERSON.fullName\n" +
+            "    )\n" +
+            "    ~mainTable [test::DB]PERSON\n" +
+            "    fullName:  [test::DB]PERSON.fullName,\n" +
+            "    birthTime: [test::DB]PERSON.birthTime\n" +
+            "  }\n" +
+            ")\n\n\n";
+
+    private static final String RUNTIME = "###Runtime\n" +
+            "Runtime test::Runtime\n" +
+            "{\n" +
+            "  mappings:\n" +
+            "  [\n" +
+            "    test::Map\n" +
+            "  ];\n" +
+            "  connections:\n" +
+            "  [\n" +
+            "    test::DB:\n" +
+            "    [\n" +
+            "      c1: #{\n" +
+            "        RelationalDatabaseConnection\n" +
+            "        {\n" +
+            "          type: H2;\n" +
+            "          specification: LocalH2 {};\n" +
+            "          auth: DefaultH2;\n" +
+            "        }\n" +
+            "      }#\n" +
+            "    ]\n" +
+            "  ];\n" +
+            "}\n";
+
+    @Override
+    protected PlanExecutor buildRelationalPlanExecutor()
+    {
+        RelationalExecutionConfiguration relationalExecutionConfiguration = RelationalExecutionConfiguration.newInstance()
+                .withTemporaryTestDbConfiguration(new TemporaryTestDbConfiguration(serverPort))
+                .withBindSQLParameters(true)
+                .build();
+        return PlanExecutor.newPlanExecutor(Relational.build(relationalExecutionConfiguration));
+    }
+
+    @Override
+    protected void insertTestData(Statement statement) throws SQLException
+    {
+        statement.execute("Drop table if exists PERSON;");
+        statement.execute("Create Table PERSON(fullName VARCHAR(100) NOT NULL,firmName VARCHAR(100) NULL,addressName VARCHAR(100) NULL,birthTime TIMESTAMP NULL, PRIMARY KEY(fullName));");
+        statement.execute("insert into PERSON (fullName,firmName,addressName,birthTime) values ('P1','F1','A1','2020-12-12 20:00:00');");
+        statement.execute("insert into PERSON (fullName,firmName,addressName,birthTime) values ('P2','F2','A2','2020-12-13 20:00:00');");
+        statement.execute("insert into PERSON (fullName,firmName,addressName,birthTime) values ('O''Brien',null,null,'2020-12-14 20:00:00');");
+    }
+
+    @Test
+    public void testBoundParametersThroughPooledConnections() throws SQLException
+    {
+        SingleExecutionPlan plan = buildPlan(LOGICAL_MODEL + STORE_MODEL + MAPPING + RUNTIME + TEST_FUNCTION);
+
+        String firstSQL = null;
+        for (String name : new String[]{"P1", "P2", "O'Brien", "P1"})
+        {
+            RelationalResult result = (RelationalResult) planExecutor.execute(plan, Maps.mutable.with("name", name), null);
+            PreparedStatement statement = (PreparedStatement) result.resultSet.getStatement();
+            String json = result.flush(new RelationalResultToJsonDefaultSerializer(result));
+            Assert.assertTrue(json, json.contains("\"rows\":[{\"values\":[\"" + name + "\"]}]"));
+
+            // the value is bound, hence the SQL is the same whatever the name
+            Assert.assertTrue(result.executedSQl, result.executedSQl.contains("?"));
+            Assert.assertFalse(result.executedSQl, result.executedSQl.contains(name));
+            firstSQL = firstSQL == null ? result.executedSQl : firstSQL;
+            Assert.assertEquals(firstSQL, result.executedSQl);
+
+            // the statement does not outlive the pooled connection it was prepared on
+            Assert.assertTrue(statement.isClosed());
+        }
+
+        Optional<ConnectionStateManagerPOJO.ConnectionPool> pool = ConnectionStateManager.getInstance().findByPoolName(TestRelationalExecutionStatistics.getPoolName());
+        Assert.assertTrue(pool.isPresent());
+        Assert.assertEquals(0, pool.get().dynamic.activeConnections);
+        Assert.assertEquals(4, pool.get().statistics.getRequestedConnections());
+    }
+}
@@ -0,0 +1,142 @@
+//  Copyright 2024 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+
+public class TestRelationalColumnReader
+{
+    @Test
+    public void testReadersFillPrimitiveLanesWithDriverTypes() throws Exception
+    {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:testRelationalColumnReader");
+             Statement statement = connection.createStatement())
+        {
+            statement.execute("CREATE TABLE t (i INT, l BIGINT, d DOUBLE, b BOOLEAN, s VARCHAR(10), ts TIMESTAMP)");
+            statement.execute("INSERT INTO t VALUES (1, 10000000000, 1.5, true, 'a', '2024-01-02 03:04:05')");
+            statement.execute("INSERT INTO t VALUES (NULL, NULL, NULL, NULL, NULL, NULL)");
+            statement.execute("INSERT INTO t VALUES (3, 30, 3.5, false, 'c', '2024-03-04 05:06:07')");
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT i, l, d, b, s, ts FROM t"))
+            {
+                List<SQLResultColumn> resultColumns = Lists.mutable.with(
+                        new SQLResultColumn("i", "INTEGER"),
+                        new SQLResultColumn("l", "BIGINT"),
+                        new SQLResultColumn("d", "DOUBLE"),
+                        new SQLResultColumn("b", "BIT"),
+                        new SQLResultColumn("s", "VARCHAR(10)"),
+                        new SQLResultColumn("ts", "TIMESTAMP"));
+                SQLResultDBColumnsMetaData metaData = new SQLResultDBColumnsMetaData(resultColumns, resultSet.getMetaData());
+                RelationalColumnReader[] readers = RelationalColumnReader.buildReaders(resultSet.getMetaData(), metaData, 6);
+
+                Assert.assertEquals(RelationalColumnReader.Kind.INTEGER, readers[0].getKind());
+                Assert.assertEquals(RelationalColumnReader.Kind.LONG, readers[1].getKind());
+                Assert.assertEquals(RelationalColumnReader.Kind.DOUBLE, readers[2].getKind());
+                Assert.assertEquals(RelationalColumnReader.Kind.BOOLEAN, readers[3].getKind());
+                Assert.assertEquals(RelationalColumnReader.Kind.OBJECT, readers[4].getKind());
+                Assert.assertEquals(RelationalColumnReader.Kind.TIMESTAMP, readers[5].getKind());
+
+                Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+                RelationalResultRowBatch batch = new RelationalResultRowBatch(readers, 2);
+                int row = 0;
+                while (row < batch.getCapacity() && resultSet.next())
+                {
+                    for (RelationalColumnReader reader : readers)
+                    {
+                        reader.readInto(resultSet, calendar, batch, row);
+                    }
+                    row++;
+                }
+                batch.setSize(row);
+
+                Assert.assertEquals(2, batch.getSize());
+                Assert.assertEquals(1L, batch.getLong(0, 0));
+                Assert.assertEquals(Integer.valueOf(1), batch.getValue(0, 0));
+                Assert.assertEquals(10000000000L, batch.getLong(1, 0));
+                Assert.assertEquals(1.5, batch.getDouble(2, 0), 0.0);
+                Assert.assertTrue(batch.getBoolean(3, 0));
+                Assert.assertEquals("a", batch.getValue(4, 0));
+                Assert.assertNotNull(batch.getValue(5, 0));
+                for (int column = 0; column < batch.getColumnCount(); column++)
+                {
+                    Assert.assertTrue(batch.isNull(column, 1));
+                    Assert.assertNull(batch.getValue(column, 1));
+                }
+
+                batch.clear();
+                Assert.assertEquals(0, batch.getSize());
+                Assert.assertTrue(resultSet.next());
+                for (RelationalColumnReader reader : readers)
+                {
+                    reader.readInto(resultSet, calendar, batch, 0);
+                }
+                Assert.assertEquals(Integer.valueOf(3), batch.getValue(0, 0));
+                Assert.assertFalse(batch.isNull(4, 0));
+                Assert.assertEquals("c", readers[4].read(resultSet, calendar));
+            }
+        }
+    }
+
+    @Test
+    public void testDriverTemporalValuesAreReadAsTheDriverReturnsThem() throws Exception
+    {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:testRelationalColumnReaderDriverValues");
+             Statement statement = connection.createStatement())
+        {
+            statement.execute("CREATE TABLE t (i INT, dt DATE, ts TIMESTAMP)");
+            statement.execute("INSERT INTO t VALUES (1, '2024-01-02', '2024-01-02 03:04:05')");
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT i, dt, ts FROM t"))
+            {
+                List<SQLResultColumn> resultColumns = Lists.mutable.with(
+                        new SQLResultColumn("i", "INTEGER"),
+                        new SQLResultColumn("dt", "DATE"),
+                        new SQLResultColumn("ts", "TIMESTAMP"));
+                SQLResultDBColumnsMetaData metaData = new SQLResultDBColumnsMetaData(resultColumns, resultSet.getMetaData());
+                RelationalColumnReader[] readers = RelationalColumnReader.buildReaders(resultSet.getMetaData(), metaData, 3);
+                RelationalColumnReader[] driverReaders = RelationalColumnReader.withDriverTemporalValues(readers);
+
+                Assert.assertSame(readers[0], driverReaders[0]);
+                Assert.assertEquals(RelationalColumnReader.Kind.OBJECT, driverReaders[1].getKind());
+                Assert.assertEquals(RelationalColumnReader.Kind.OBJECT, driverReaders[2].getKind());
+
+                // a time zone far from the JVM one, which the driver values must not be shifted by
+                Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("Pacific/Kiritimati"));
+                RelationalResultRowBatch batch = new RelationalResultRowBatch(driverReaders, 1);
+                Assert.assertTrue(resultSet.next());
+                for (RelationalColumnReader reader : batch.getReaders())
+                {
+                    reader.readInto(resultSet, calendar, batch, 0);
+                }
+                for (int column = 0; column < batch.getColumnCount(); column++)
+                {
+                    Assert.assertEquals(resultSet.getObject(column + 1), batch.getValue(column, 0));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+public class TestUtf8JsonBuffer
+{
+    private final Function<Object, String> converter = ExecutionResultObjectMapperFactory.getPurePrimitiveToJsonConverter();
+    private final ValueTransformer valueTransformer = new ValueTransformer();
+
+    @Test
+    public void testMatchesDefaultSerializerEncoding() throws IOException
+    {
+        for (String value : new String[]{"", "plain", "quote\" slash/ back\\ tab\t nl\n", "ctl\u0001 del\u007F c1\u0085", "punct\u2014", "\u00E9 \u00FC \u4E2D\u6587", "emoji \uD83D\uDE00"})
+        {
+            Assert.assertEquals(this.converter.valueOf(value), this.write(out -> out.writeString(value)));
+        }
+        for (long value : new long[]{0, 7, -7, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE})
+        {
+            Assert.assertEquals(this.converter.valueOf(value), this.write(out -> out.writeLong(value)));
+        }
+        for (double value : new double[]{0.0, -1.5, 1e-10, 1.0E20, Double.NaN, Double.POSITIVE_INFINITY})
+        {
+            Assert.assertEquals(this.converter.valueOf(value), this.write(out -> out.writeDouble(value)));
+        }
+        Assert.assertEquals("true", this.write(out -> out.writeBoolean(true)));
+        Assert.assertEquals("null", this.write(Utf8JsonBuffer::writeNull));
+    }
+
+    @Test
+    public void testMatchesDefaultSerializerDates() throws IOException
+    {
+        for (long millis : new long[]{1696532242123L, 0L, -1L, -62135596800000L, 253402300799999L})
+        {
+            Timestamp timestamp = new Timestamp(millis);
+            Assert.assertEquals(this.valueTransformer.transformWrappedRelationalValueForJSON(timestamp, v -> "unused"), this.write(out -> out.writeTimestamp(timestamp)));
+            Date date = new Date(millis);
+            Assert.assertEquals(this.valueTransformer.transformWrappedRelationalValueForJSON(date, v -> "unused"), this.write(out -> out.writeDate(date.toLocalDate())));
+        }
+        Timestamp nanos = Timestamp.valueOf("2024-02-29 23:59:59.123456789");
+        Assert.assertEquals(this.valueTransformer.transformWrappedRelationalValueForJSON(nanos, v -> "unused"), this.write(out -> out.writeTimestamp(nanos)));
+    }
+
+    @Test
+    public void testFlushesWhenBufferIsFull() throws IOException
+    {
+        StringBuilder expected = new StringBuilder();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        Utf8JsonBuffer out = new Utf8JsonBuffer(stream);
+        for (int i = 0; i < 20_000; i++)
+        {
+            String value = "row-" + i + "-\u00E9";
+            expected.append(this.converter.valueOf(value)).append(',');
+            out.writeString(value);
+            out.writeByte((byte) ',');
+        }
+        out.flush();
+        Assert.assertEquals(expected.toString(), new String(stream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private String write(BufferWrite write) throws IOException
+    {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        Utf8JsonBuffer out = new Utf8JsonBuffer(stream);
+        write.apply(out);
+        out.flush();
+        return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private interface BufferWrite
+    {
+        void apply(Utf8JsonBuffer out) throws IOException;
+    }
+}
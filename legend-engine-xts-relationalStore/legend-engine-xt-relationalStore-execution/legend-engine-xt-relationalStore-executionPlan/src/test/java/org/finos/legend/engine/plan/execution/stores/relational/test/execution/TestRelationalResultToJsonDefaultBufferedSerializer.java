@@ -0,0 +1,118 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.test.execution;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.AlloyTestServer;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutionState;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreState;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultBufferedSerializer;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultSerializer;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Function;
+
+public class TestRelationalResultToJsonDefaultBufferedSerializer extends AlloyTestServer
+{
+    @Override
+    protected void insertTestData(Statement statement) throws SQLException
+    {
+        statement.execute("drop table if exists BufferedJsonTable");
+        statement.execute("create table BufferedJsonTable (id INTEGER, name VARCHAR(200), amount BIGINT, price DOUBLE, settled DATE, booked TIMESTAMP(9), active BOOLEAN, notional DECIMAL(20, 4))");
+        statement.execute("insert into BufferedJsonTable values(1, 'plain', 10000000000, 1.5, '2015-06-26', '2014-12-04 15:22:23.123456789', true, 12.3400)");
+        statement.execute("insert into BufferedJsonTable values(2, 'quote\" back\\ slash/ tab' || CHAR(9) || ' nl' || CHAR(10) || ' ctl' || CHAR(1) || ' it''s', -7, -0.25, '1969-12-31', '1969-12-31 23:59:59.999', false, -0.0001)");
+        statement.execute("insert into BufferedJsonTable values(3, 'é ü 中文 — 😀', 0, 1.0E20, '0001-01-01', '2024-02-29 23:59:59', true, 0)");
+        statement.execute("insert into BufferedJsonTable values(4, NULL, NULL, NULL, NULL, NULL, NULL, NULL)");
+        // enough rows to span several row batches
+        statement.execute("insert into BufferedJsonTable select X + 10, 'row ' || X, X * 3, X / 4.0, DATEADD('DAY', X, DATE '2020-01-01'), DATEADD('SECOND', X, TIMESTAMP '2020-01-01 00:00:00'), MOD(X, 2) = 0, X / 8.0 from SYSTEM_RANGE(1, 2500)");
+    }
+
+    @Test
+    public void testBufferedSerializerIsByteIdenticalInGMT() throws IOException
+    {
+        String expected = this.assertBufferedSerializerIsByteIdentical("GMT");
+        Assert.assertTrue(expected, expected.contains("{\"values\": [1,\"plain\",10000000000,1.5,\"2015-06-26\",\"2014-12-04T15:22:23.123456789+0000\",true,"));
+        Assert.assertTrue(expected, expected.contains("{\"values\": [4,null,null,null,null,null,null,null]}"));
+        Assert.assertTrue(expected, expected.contains("\"quote\\\" back\\\\ slash/ tab\\t nl\\n ctl\\u0001 it's\""));
+        Assert.assertTrue(expected, expected.contains("\"é ü 中文 — 😀\""));
+        Assert.assertTrue(expected, expected.contains("{\"values\": [2510,\"row 2500\",7500,"));
+    }
+
+    @Test
+    public void testBufferedSerializerIsByteIdenticalInNonGMTTimeZone() throws IOException
+    {
+        String expected = this.assertBufferedSerializerIsByteIdentical("US/Arizona");
+        Assert.assertTrue(expected, expected.contains("\"2014-12-04T22:22:23.123456789+0000\""));
+    }
+
+    private String assertBufferedSerializerIsByteIdentical(String timeZone) throws IOException
+    {
+        SingleExecutionPlan plan = objectMapper.readValue(this.getPlan(timeZone), SingleExecutionPlan.class);
+        byte[] expected = this.serialize(plan, RelationalResultToJsonDefaultSerializer::new);
+        byte[] actual = this.serialize(plan, RelationalResultToJsonDefaultBufferedSerializer::new);
+        Assert.assertEquals(new String(expected, StandardCharsets.UTF_8), new String(actual, StandardCharsets.UTF_8));
+        Assert.assertArrayEquals(expected, actual);
+        return new String(expected, StandardCharsets.UTF_8);
+    }
+
+    private byte[] serialize(SingleExecutionPlan plan, Function<RelationalResult, Serializer> serializer)
+    {
+        RelationalResult result = (RelationalResult) plan.rootExecutionNode.accept(new ExecutionNodeExecutor(Identity.getAnonymousIdentity(), new ExecutionState(Maps.mutable.empty(), Lists.mutable.withAll(plan.templateFunctions), Lists.mutable.with(new RelationalStoreExecutionState(new RelationalStoreState(serverPort))))));
+        return serializer.apply(result).flush().toByteArray();
+    }
+
+    private String getPlan(String timeZone)
+    {
+        String[][] columns = {
+                {"id", "Integer", "INTEGER"},
+                {"name", "String", "VARCHAR(200)"},
+                {"amount", "Integer", "BIGINT"},
+                {"price", "Float", "DOUBLE"},
+                {"settled", "StrictDate", "DATE"},
+                {"booked", "DateTime", "TIMESTAMP"},
+                {"active", "Boolean", "BIT"},
+                {"notional", "Decimal", "DECIMAL(20,4)"}
+        };
+        StringBuilder tdsColumns = new StringBuilder();
+        StringBuilder resultColumns = new StringBuilder();
+        StringBuilder select = new StringBuilder();
+        for (String[] column : columns)
+        {
+            String separator = tdsColumns.length() == 0 ? "" : ",";
+            tdsColumns.append(separator).append("{\"name\":\"").append(column[0]).append("\",\"type\":\"").append(column[1]).append("\",\"doc\":null,\"relationalType\":\"").append(column[2]).append("\",\"enumMapping\":{}}");
+            resultColumns.append(separator).append("{\"label\":\"\\\"").append(column[0]).append("\\\"\",\"dataType\":\"").append(column[2]).append("\"}");
+            select.append(separator.isEmpty() ? "" : ", ").append("\\\"root\\\".").append(column[0]).append(" as \\\"").append(column[0]).append("\\\"");
+        }
+        return "{\"_type\":\"simple\",\"authDependent\":false,\"kerberos\":null,\"serializer\":{\"name\":\"pure\",\"version\":\"vX_X_X\"}," +
+                "\"templateFunctions\":[\"<#function renderCollection collection separator><#return collection?join(separator)></#function>\",\"<#function collectionSize collection> <#return collection?size> </#function>\"]," +
+                "\"rootExecutionNode\":{\"_type\":\"relationalTdsInstantiation\",\"resultType\":{\"_type\":\"tds\",\"tdsColumns\":[" + tdsColumns + "]}," +
+                "\"executionNodes\":[{\"_type\":\"sql\",\"resultType\":{\"_type\":\"dataType\",\"dataType\":\"meta::pure::metamodel::type::Any\"},\"executionNodes\":[],\"resultSizeRange\":null,\"implementation\":null," +
+                "\"sqlQuery\":\"select " + select + " from BufferedJsonTable as \\\"root\\\" order by \\\"root\\\".id\",\"onConnectionCloseCommitQuery\":null,\"onConnectionCloseRollbackQuery\":null," +
+                "\"connection\":{\"_type\": \"RelationalDatabaseConnection\",\"type\": \"H2\",\"authenticationStrategy\" : {\"_type\" : \"test\"},\"datasourceSpecification\" : {\"_type\" : \"static\",\"databaseName\" : \"testDB\",\"host\":\"127.0.0.1\",\"port\" : \"" + serverPort + "\"},\"timeZone\":\"" + timeZone + "\"}," +
+                "\"resultColumns\":[" + resultColumns + "]}],\"resultSizeRange\":null,\"implementation\":null},\"globalImplementationSupport\":null}";
+    }
+}
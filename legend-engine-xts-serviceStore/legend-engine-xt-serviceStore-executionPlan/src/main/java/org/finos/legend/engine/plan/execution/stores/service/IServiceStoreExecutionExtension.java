@@ -42,6 +42,16 @@ public interface IServiceStoreExecutionExtension extends ExecutionExtension
         return Collections.emptyList();
     }
 
+    /**
+     * Security schemes whose processors only customize the request, and leave the HTTP client builder untouched.
+     * Only calls secured by one of these (or by no scheme) reuse pooled connections: a shared connection manager
+     * ignores any SSL context or socket factory that a processor sets on the client builder.
+     */
+    default List<Class<? extends SecurityScheme>> getExtraSecuritySchemesSupportingConnectionPooling()
+    {
+        return Collections.emptyList();
+    }
+
     default List<Function<Credential,String>> getExtraCredentialConsumers()
     {
         return Collections.emptyList();
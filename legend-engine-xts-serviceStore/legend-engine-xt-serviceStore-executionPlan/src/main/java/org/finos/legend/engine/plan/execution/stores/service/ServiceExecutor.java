@@ -40,6 +40,7 @@ import org.finos.legend.engine.plan.execution.stores.service.auth.HttpConnection
 import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreAuthenticationSpecification;
 import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreConnectionProvider;
 import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreConnectionSpecification;
+import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreHttpClientManager;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.AuthenticationSchemeRequirement;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RequestBodyDescription;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.service.model.HttpMethod;
@@ -48,6 +49,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.s
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.service.model.ServiceParameter;
 import org.finos.legend.engine.shared.core.identity.Identity;
 
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -60,10 +62,17 @@ import java.util.Map;
 public class ServiceExecutor
 {
     private final CredentialProviderProvider credentialProviderProvider;
+    private final ServiceStoreHttpClientManager httpClientManager;
 
     public ServiceExecutor(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, null);
+    }
+
+    public ServiceExecutor(CredentialProviderProvider credentialProviderProvider, ServiceStoreHttpClientManager httpClientManager)
     {
         this.credentialProviderProvider = credentialProviderProvider;
+        this.httpClientManager = httpClientManager;
     }
 
     public InputStreamResult executeHttpService(String url, List<Header> headers, StringEntity requestBodyEntity, HttpMethod httpMethod, String mimeType, List<SecurityScheme> securitySchemes, List<AuthenticationSchemeRequirement> authenticationSchemeRequirements, Identity identity)
@@ -89,7 +98,7 @@ public class ServiceExecutor
 
         try
         {
-            ServiceStoreConnectionProvider serviceStoreConnectionProvider = new ServiceStoreConnectionProvider(this.credentialProviderProvider);
+            ServiceStoreConnectionProvider serviceStoreConnectionProvider = new ServiceStoreConnectionProvider(this.credentialProviderProvider, this.httpClientManager);
             ServiceStoreConnectionSpecification connectionSpecification = new ServiceStoreConnectionSpecification(uri, httpMethod.toString(), headers, requestBodyDescription, mimeType);
             ServiceStoreAuthenticationSpecification authenticationSpecification = new ServiceStoreAuthenticationSpecification(authenticationSchemeRequirements,securitySchemes);
 
@@ -117,7 +126,9 @@ public class ServiceExecutor
                 throw new RuntimeException("HTTP request [" + httpMethod.toString() + " " + uri.toString() + "] failed with error - " + explanation);
             }
 
-            return new InputStreamResult(httpResponse.getEntity().getContent(), Lists.mutable.with(new ServiceStoreExecutionActivity(url)), Collections.singletonList(httpResponse));
+            // closing the content before the response drains what is left of it, letting a pooled connection be reused rather than discarded
+            InputStream content = httpResponse.getEntity().getContent();
+            return new InputStreamResult(content, Lists.mutable.with(new ServiceStoreExecutionActivity(url)), Lists.mutable.with(content, httpResponse));
         }
         catch (RuntimeException e)
         {
@@ -85,6 +85,12 @@ public class ServiceStoreExecutionExtension implements IServiceStoreExecutionExt
         });
     }
 
+    @Override
+    public List<Class<? extends SecurityScheme>> getExtraSecuritySchemesSupportingConnectionPooling()
+    {
+        return Lists.mutable.with(HttpSecurityScheme.class, ApiKeySecurityScheme.class);
+    }
+
     public List<Function<Credential, String>> getExtraCredentialConsumers()
     {
         return Lists.mutable.with(credential ->
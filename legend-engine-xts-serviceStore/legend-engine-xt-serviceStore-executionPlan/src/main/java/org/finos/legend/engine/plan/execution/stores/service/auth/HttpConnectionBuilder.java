@@ -17,6 +17,7 @@ package org.finos.legend.engine.plan.execution.stores.service.auth;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 
@@ -24,15 +25,27 @@ public class HttpConnectionBuilder
 {
     public HttpClientBuilder httpClientBuilder;
     public RequestBuilder requestBuilder;
+    private final HttpClientConnectionManager connectionManager;
 
     public HttpConnectionBuilder(HttpClientBuilder httpClientBuilder, RequestBuilder requestBuilder)
+    {
+        this(httpClientBuilder, requestBuilder, null);
+    }
+
+    public HttpConnectionBuilder(HttpClientBuilder httpClientBuilder, RequestBuilder requestBuilder, HttpClientConnectionManager connectionManager)
     {
         this.httpClientBuilder = httpClientBuilder;
         this.requestBuilder = requestBuilder;
+        this.connectionManager = connectionManager;
     }
 
     public CloseableHttpResponse execute() throws Exception
     {
+        if (this.connectionManager != null)
+        {
+            // the pool outlives the client built for this request, closing the client must not shut it down
+            httpClientBuilder.setConnectionManager(this.connectionManager).setConnectionManagerShared(true);
+        }
         CloseableHttpClient httpClient = httpClientBuilder.build();
         HttpUriRequest request = requestBuilder.build();
         return httpClient.execute(request);
@@ -17,6 +17,7 @@ package org.finos.legend.engine.plan.execution.stores.service.auth;
 import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.eclipse.collections.api.block.function.Function;
@@ -38,9 +39,17 @@ import java.util.Objects;
 
 public class ServiceStoreConnectionProvider extends ConnectionProvider<HttpConnectionBuilder>
 {
+    private final ServiceStoreHttpClientManager httpClientManager;
+
     public ServiceStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, null);
+    }
+
+    public ServiceStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider, ServiceStoreHttpClientManager httpClientManager)
     {
         super(credentialProviderProvider);
+        this.httpClientManager = httpClientManager;
     }
 
     public HttpConnectionBuilder makeConnection(ConnectionSpecification connectionSpecification, AuthenticationSpecification authenticationSpecification, Identity identity) throws Exception
@@ -63,7 +72,7 @@ public class ServiceStoreConnectionProvider extends ConnectionProvider<HttpConne
 
                 HttpClientBuilder clientBuilder = HttpClients.custom();
                 RequestBuilder requestBuilder = makeRequestUtil(serviceStoreConnectionSpecification);
-                HttpConnectionBuilder httpConnectionBuilder = new HttpConnectionBuilder(clientBuilder, requestBuilder);
+                HttpConnectionBuilder httpConnectionBuilder = new HttpConnectionBuilder(clientBuilder, requestBuilder, getConnectionManager(serviceStoreConnectionSpecification, securityScheme));
                 Credential credential = null;
                 if (authSpecification != null)
                 {
@@ -82,8 +91,22 @@ public class ServiceStoreConnectionProvider extends ConnectionProvider<HttpConne
             }
         }
 
-        return new HttpConnectionBuilder(HttpClients.custom(), makeRequestUtil(serviceStoreConnectionSpecification));
+        return new HttpConnectionBuilder(HttpClients.custom(), makeRequestUtil(serviceStoreConnectionSpecification), getConnectionManager(serviceStoreConnectionSpecification, null));
+
+    }
+
+    private HttpClientConnectionManager getConnectionManager(ServiceStoreConnectionSpecification serviceStoreConnectionSpecification, SecurityScheme securityScheme)
+    {
+        if (this.httpClientManager == null || !supportsConnectionPooling(securityScheme))
+        {
+            return null;
+        }
+        return this.httpClientManager.getConnectionManager(serviceStoreConnectionSpecification.uri, securityScheme);
+    }
 
+    private static boolean supportsConnectionPooling(SecurityScheme securityScheme)
+    {
+        return securityScheme == null || ListIterate.anySatisfy(IServiceStoreExecutionExtension.getExtensions(), ext -> ListIterate.anySatisfy(ext.getExtraSecuritySchemesSupportingConnectionPooling(), schemeClass -> schemeClass.isInstance(securityScheme)));
     }
 
     public static RequestBuilder makeRequestUtil(ServiceStoreConnectionSpecification serviceStoreConnectionSpecification) throws Exception
@@ -0,0 +1,167 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.service.auth;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.service.model.SecurityScheme;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps one pool of keep-alive HTTP connections per service host and security scheme, so that consecutive service store
+ * calls reuse connections instead of opening a new one (and a new TLS session) per request.
+ * <p>
+ * Only connections are shared: the HTTP client itself is still built per request from the {@link HttpConnectionBuilder}
+ * so that security scheme processors can keep customizing the request per identity. Schemes whose processors customize
+ * the client builder itself (e.g. its SSL context) are not pooled, see
+ * {@link org.finos.legend.engine.plan.execution.stores.service.IServiceStoreExecutionExtension#getExtraSecuritySchemesSupportingConnectionPooling()}.
+ * <p>
+ * Idle connections are evicted, and pool metrics published, by a shared daemon housekeeper rather than on the request path.
+ */
+public class ServiceStoreHttpClientManager implements AutoCloseable
+{
+    public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 200;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+    public static final long DEFAULT_IDLE_CONNECTION_TIMEOUT_MS = 60_000L;
+
+    private static final String POOL_NAME_PREFIX = "serviceStore_";
+    private static final long MIN_HOUSEKEEPING_PERIOD_MS = 1_000L;
+
+    private static final ScheduledExecutorService HOUSEKEEPER = Executors.newSingleThreadScheduledExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "ServiceStoreHttpClientManager.Housekeeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int maxConnectionsTotal;
+    private final int maxConnectionsPerRoute;
+    private final long idleConnectionTimeoutMs;
+    private final Map<String, PoolingHttpClientConnectionManager> connectionManagers = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> housekeeping;
+
+    public ServiceStoreHttpClientManager()
+    {
+        this(DEFAULT_MAX_CONNECTIONS_TOTAL, DEFAULT_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_IDLE_CONNECTION_TIMEOUT_MS);
+    }
+
+    public ServiceStoreHttpClientManager(int maxConnectionsTotal, int maxConnectionsPerRoute, long idleConnectionTimeoutMs)
+    {
+        if (maxConnectionsTotal <= 0 || maxConnectionsPerRoute <= 0)
+        {
+            throw new IllegalArgumentException("Service store connection pool limits must be positive, got maxConnectionsTotal: " + maxConnectionsTotal + ", maxConnectionsPerRoute: " + maxConnectionsPerRoute);
+        }
+        this.maxConnectionsTotal = maxConnectionsTotal;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.idleConnectionTimeoutMs = idleConnectionTimeoutMs;
+    }
+
+    public PoolingHttpClientConnectionManager getConnectionManager(URI uri, SecurityScheme securityScheme)
+    {
+        return this.connectionManagers.computeIfAbsent(getPoolKey(uri, securityScheme), key ->
+        {
+            scheduleHousekeeping();
+            return newConnectionManager();
+        });
+    }
+
+    /**
+     * Run periodically by the housekeeper: evicts expired and idle connections, then publishes the leased / total / available counts of every pool through {@link MetricsHandler}.
+     */
+    public void releaseIdleConnectionsAndReportMetrics()
+    {
+        this.connectionManagers.forEach((key, connectionManager) ->
+        {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(this.idleConnectionTimeoutMs, TimeUnit.MILLISECONDS);
+            PoolStats stats = connectionManager.getTotalStats();
+            MetricsHandler.setConnectionMetrics(POOL_NAME_PREFIX + key, stats.getLeased(), stats.getLeased() + stats.getAvailable(), stats.getAvailable());
+        });
+    }
+
+    public Map<String, PoolStats> getPoolStats()
+    {
+        Map<String, PoolStats> stats = new ConcurrentHashMap<>();
+        this.connectionManagers.forEach((key, connectionManager) -> stats.put(key, connectionManager.getTotalStats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    public int getMaxConnectionsTotal()
+    {
+        return this.maxConnectionsTotal;
+    }
+
+    public int getMaxConnectionsPerRoute()
+    {
+        return this.maxConnectionsPerRoute;
+    }
+
+    @Override
+    public void close()
+    {
+        synchronized (this)
+        {
+            if (this.housekeeping != null)
+            {
+                this.housekeeping.cancel(false);
+                this.housekeeping = null;
+            }
+        }
+        this.connectionManagers.forEach((key, connectionManager) ->
+        {
+            connectionManager.close();
+            MetricsHandler.removeConnectionMetrics(POOL_NAME_PREFIX + key);
+        });
+        this.connectionManagers.clear();
+    }
+
+    synchronized boolean isHousekeepingScheduled()
+    {
+        return this.housekeeping != null;
+    }
+
+    private synchronized void scheduleHousekeeping()
+    {
+        if (this.housekeeping == null)
+        {
+            long period = Math.max(MIN_HOUSEKEEPING_PERIOD_MS, this.idleConnectionTimeoutMs / 2);
+            this.housekeeping = HOUSEKEEPER.scheduleWithFixedDelay(this::releaseIdleConnectionsAndReportMetrics, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private PoolingHttpClientConnectionManager newConnectionManager()
+    {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(this.maxConnectionsTotal);
+        connectionManager.setDefaultMaxPerRoute(this.maxConnectionsPerRoute);
+        return connectionManager;
+    }
+
+    static String getPoolKey(URI uri, SecurityScheme securityScheme)
+    {
+        int port = uri.getPort() != -1 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        String scheme = securityScheme == null ? "none" : securityScheme.getClass().getSimpleName();
+        return uri.getScheme() + "://" + uri.getHost() + ":" + port + "_" + scheme;
+    }
+}
@@ -21,7 +21,6 @@ import org.apache.http.entity.StringEntity;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.impl.utility.ListIterate;
-import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.engine.plan.dependencies.store.serviceStore.IServiceParametersResolutionExecutionNodeSpecifics;
 import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.ExecutionNodeJavaPlatformHelper;
@@ -94,8 +93,8 @@ public class ServiceExecutionNodeExecutor implements ExecutionNodeVisitor<Result
                 String processedUrl = ServiceExecutor.getProcessedUrl(node.url, node.params, mappedParameters, this.executionState);
                 List<Header> headers = ServiceExecutor.getProcessedHeaders(node.params, mappedParameters, this.executionState);
                 StringEntity requestBodyEntity = ServiceExecutor.getRequestBodyEntity(node.requestBodyDescription, this.executionState);
-                CredentialProviderProvider credentialProviderProvider = ((ServiceStoreExecutionState) executionState.getStoreExecutionState(StoreType.Service)).getCredentialProviderProvider();
-                return new ServiceExecutor(credentialProviderProvider).executeHttpService(processedUrl, headers, requestBodyEntity, node.method, node.mimeType, node.securitySchemes,node.authenticationSchemes, this.identity);
+                ServiceStoreExecutionState serviceStoreExecutionState = (ServiceStoreExecutionState) executionState.getStoreExecutionState(StoreType.Service);
+                return new ServiceExecutor(serviceStoreExecutionState.getCredentialProviderProvider(), serviceStoreExecutionState.getHttpClientManager()).executeHttpService(processedUrl, headers, requestBodyEntity, node.method, node.mimeType, node.securitySchemes,node.authenticationSchemes, this.identity);
             }
         }
         else if (executionNode instanceof ServiceParametersResolutionExecutionNode)
@@ -124,7 +123,7 @@ public class ServiceExecutionNodeExecutor implements ExecutionNodeVisitor<Result
         {
             LimitExecutionNode limitExecutionNode = (LimitExecutionNode) executionNode;
 
-            Result childResult = limitExecutionNode.executionNodes.get(0).accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+            Result childResult = ExecutionNodeExecutor.executeNode(limitExecutionNode.executionNodes.get(0), this.identity, this.executionState);
 
             Result result;
             if (childResult instanceof StreamingObjectResult)
@@ -17,10 +17,15 @@ package org.finos.legend.engine.plan.execution.stores.service.plugin;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreHttpClientManager;
 
 public class ServiceStoreExecutionConfiguration implements StoreExecutorConfiguration
 {
     private CredentialProviderProvider credentialProviderProvider;
+    private int maxConnectionsTotal;
+    private int maxConnectionsPerRoute;
+    private long idleConnectionTimeoutMs;
+    private boolean parallelCrossStoreFetch;
 
     @Override
     public StoreType getStoreType()
@@ -33,6 +38,26 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
         return credentialProviderProvider;
     }
 
+    public int getMaxConnectionsTotal()
+    {
+        return maxConnectionsTotal;
+    }
+
+    public int getMaxConnectionsPerRoute()
+    {
+        return maxConnectionsPerRoute;
+    }
+
+    public long getIdleConnectionTimeoutMs()
+    {
+        return idleConnectionTimeoutMs;
+    }
+
+    public boolean isParallelCrossStoreFetch()
+    {
+        return parallelCrossStoreFetch;
+    }
+
     public static Builder builder()
     {
         return new Builder();
@@ -41,6 +66,10 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
     public static class Builder
     {
         private CredentialProviderProvider credentialProviderProvider = CredentialProviderProvider.builder().build();
+        private int maxConnectionsTotal = ServiceStoreHttpClientManager.DEFAULT_MAX_CONNECTIONS_TOTAL;
+        private int maxConnectionsPerRoute = ServiceStoreHttpClientManager.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+        private long idleConnectionTimeoutMs = ServiceStoreHttpClientManager.DEFAULT_IDLE_CONNECTION_TIMEOUT_MS;
+        private boolean parallelCrossStoreFetch = false;
 
         public Builder withCredentialProviderProvider(CredentialProviderProvider credentialProviderProvider)
         {
@@ -48,10 +77,42 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
             return this;
         }
 
+        public Builder withMaxConnectionsTotal(int maxConnectionsTotal)
+        {
+            this.maxConnectionsTotal = maxConnectionsTotal;
+            return this;
+        }
+
+        public Builder withMaxConnectionsPerRoute(int maxConnectionsPerRoute)
+        {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        public Builder withIdleConnectionTimeoutMs(long idleConnectionTimeoutMs)
+        {
+            this.idleConnectionTimeoutMs = idleConnectionTimeoutMs;
+            return this;
+        }
+
+        /**
+         * Lets a cross store graph fetch call this store for several parents at once, on the parallel graph fetch pool,
+         * when graph fetch runs in parallel. Off by default: calls are then made one parent after the other.
+         */
+        public Builder withParallelCrossStoreFetch(boolean parallelCrossStoreFetch)
+        {
+            this.parallelCrossStoreFetch = parallelCrossStoreFetch;
+            return this;
+        }
+
         public ServiceStoreExecutionConfiguration build()
         {
             ServiceStoreExecutionConfiguration serviceStoreExecutionConfiguration = new ServiceStoreExecutionConfiguration();
             serviceStoreExecutionConfiguration.credentialProviderProvider = credentialProviderProvider;
+            serviceStoreExecutionConfiguration.maxConnectionsTotal = maxConnectionsTotal;
+            serviceStoreExecutionConfiguration.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            serviceStoreExecutionConfiguration.idleConnectionTimeoutMs = idleConnectionTimeoutMs;
+            serviceStoreExecutionConfiguration.parallelCrossStoreFetch = parallelCrossStoreFetch;
             return serviceStoreExecutionConfiguration;
         }
     }
@@ -19,6 +19,7 @@ import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.StoreState;
+import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreHttpClientManager;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNodeVisitor;
 import org.finos.legend.engine.shared.core.identity.Identity;
 
@@ -79,4 +80,9 @@ public class ServiceStoreExecutionState implements StoreExecutionState
     {
         return credentialProviderProvider;
     }
+
+    public ServiceStoreHttpClientManager getHttpClientManager()
+    {
+        return this.state.getHttpClientManager();
+    }
 }
@@ -17,7 +17,7 @@ package org.finos.legend.engine.plan.execution.stores.service.plugin;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutor;
 
-public class ServiceStoreExecutor implements StoreExecutor
+public class ServiceStoreExecutor implements StoreExecutor, AutoCloseable
 {
     private final ServiceStoreState state;
     private final ServiceStoreExecutionConfiguration serviceStoreExecutionConfiguration;
@@ -39,4 +39,10 @@ public class ServiceStoreExecutor implements StoreExecutor
     {
         return this.state;
     }
+
+    @Override
+    public void close()
+    {
+        this.state.close();
+    }
 }
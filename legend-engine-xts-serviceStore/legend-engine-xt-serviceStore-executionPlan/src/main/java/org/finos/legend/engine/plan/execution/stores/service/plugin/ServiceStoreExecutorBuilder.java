@@ -19,6 +19,7 @@ import org.finos.legend.engine.plan.execution.stores.StoreExecutor;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorBuilder;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreHttpClientManager;
 
 public class ServiceStoreExecutorBuilder implements StoreExecutorBuilder
 {
@@ -48,7 +49,7 @@ public class ServiceStoreExecutorBuilder implements StoreExecutorBuilder
             throw new IllegalStateException("Incorrect store execution configuration. Please reach out to dev team");
         }
         ServiceStoreExecutionConfiguration serviceStoreExecutionConfiguration = (ServiceStoreExecutionConfiguration) storeExecutorConfiguration;
-        ServiceStoreState state = new ServiceStoreState();
+        ServiceStoreState state = new ServiceStoreState(new ServiceStoreHttpClientManager(serviceStoreExecutionConfiguration.getMaxConnectionsTotal(), serviceStoreExecutionConfiguration.getMaxConnectionsPerRoute(), serviceStoreExecutionConfiguration.getIdleConnectionTimeoutMs()), serviceStoreExecutionConfiguration.isParallelCrossStoreFetch());
         return new ServiceStoreExecutor(state,serviceStoreExecutionConfiguration);
     }
 }
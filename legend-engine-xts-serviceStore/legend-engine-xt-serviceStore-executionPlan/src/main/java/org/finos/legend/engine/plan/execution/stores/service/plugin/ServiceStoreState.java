@@ -16,9 +16,31 @@ package org.finos.legend.engine.plan.execution.stores.service.plugin;
 
 import org.finos.legend.engine.plan.execution.stores.StoreState;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreHttpClientManager;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RestServiceExecutionNode;
 
-public class ServiceStoreState implements StoreState
+public class ServiceStoreState implements StoreState, AutoCloseable
 {
+    private final ServiceStoreHttpClientManager httpClientManager;
+    private final boolean parallelCrossStoreFetch;
+
+    public ServiceStoreState()
+    {
+        this(new ServiceStoreHttpClientManager());
+    }
+
+    public ServiceStoreState(ServiceStoreHttpClientManager httpClientManager)
+    {
+        this(httpClientManager, false);
+    }
+
+    public ServiceStoreState(ServiceStoreHttpClientManager httpClientManager, boolean parallelCrossStoreFetch)
+    {
+        this.httpClientManager = httpClientManager;
+        this.parallelCrossStoreFetch = parallelCrossStoreFetch;
+    }
+
     @Override
     public StoreType getStoreType()
     {
@@ -30,4 +52,29 @@ public class ServiceStoreState implements StoreState
     {
         return null;
     }
+
+    @Override
+    public boolean canFetchCrossStoreChildrenInParallel(ExecutionNode crossStoreFetchNode)
+    {
+        return this.parallelCrossStoreFetch && callsService(crossStoreFetchNode);
+    }
+
+    public ServiceStoreHttpClientManager getHttpClientManager()
+    {
+        return this.httpClientManager;
+    }
+
+    @Override
+    public void close()
+    {
+        if (this.httpClientManager != null)
+        {
+            this.httpClientManager.close();
+        }
+    }
+
+    private static boolean callsService(ExecutionNode node)
+    {
+        return (node instanceof RestServiceExecutionNode) || node.childNodes().stream().anyMatch(child -> (child != null) && callsService(child));
+    }
 }
@@ -0,0 +1,47 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.service.auth;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URI;
+
+public class TestServiceStoreHttpClientManager
+{
+    @Test
+    public void testHousekeepingIsScheduledWithTheFirstPoolAndCancelledOnClose()
+    {
+        ServiceStoreHttpClientManager httpClientManager = new ServiceStoreHttpClientManager();
+        Assert.assertFalse(httpClientManager.isHousekeepingScheduled());
+
+        httpClientManager.getConnectionManager(URI.create("http://localhost:8080/trades"), null);
+        httpClientManager.getConnectionManager(URI.create("https://localhost/trades"), null);
+        Assert.assertTrue(httpClientManager.isHousekeepingScheduled());
+        Assert.assertEquals(2, httpClientManager.getPoolStats().size());
+
+        httpClientManager.close();
+        Assert.assertFalse(httpClientManager.isHousekeepingScheduled());
+        Assert.assertTrue(httpClientManager.getPoolStats().isEmpty());
+    }
+
+    @Test
+    public void testPoolKey()
+    {
+        Assert.assertEquals("http://localhost:80_none", ServiceStoreHttpClientManager.getPoolKey(URI.create("http://localhost/trades"), null));
+        Assert.assertEquals("https://localhost:443_none", ServiceStoreHttpClientManager.getPoolKey(URI.create("https://localhost/trades?id=1"), null));
+        Assert.assertEquals("http://localhost:8080_none", ServiceStoreHttpClientManager.getPoolKey(URI.create("http://localhost:8080/products"), null));
+    }
+}
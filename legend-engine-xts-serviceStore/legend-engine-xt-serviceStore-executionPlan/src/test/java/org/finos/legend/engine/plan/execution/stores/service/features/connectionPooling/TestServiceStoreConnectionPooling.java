@@ -0,0 +1,187 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.service.features.connectionPooling;
+
+import org.apache.http.pool.PoolStats;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
+import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.graphFetch.ParallelGraphFetchExecutionConfig;
+import org.finos.legend.engine.plan.execution.stores.inMemory.plugin.InMemory;
+import org.finos.legend.engine.plan.execution.stores.service.plugin.ServiceStoreExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.service.plugin.ServiceStoreExecutor;
+import org.finos.legend.engine.plan.execution.stores.service.plugin.ServiceStoreExecutorBuilder;
+import org.finos.legend.engine.plan.execution.stores.service.utils.ServiceStoreTestSuite;
+import org.finos.legend.engine.plan.execution.stores.service.utils.ServiceStoreTestUtils;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.graphFetch.store.inMemory.InMemoryCrossStoreGraphFetchExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.graphFetch.store.inMemory.InMemoryGraphFetchExecutionNode;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.finos.legend.engine.plan.execution.stores.service.utils.ServiceStoreTestUtils.buildPlanForQuery;
+import static org.finos.legend.engine.plan.execution.stores.service.utils.ServiceStoreTestUtils.executePlan;
+
+public class TestServiceStoreConnectionPooling extends ServiceStoreTestSuite
+{
+    private static final String QUERY = "###Pure\n" +
+            "function showcase::query(): Any[1]\n" +
+            "{\n" +
+            "   {|meta::external::store::service::showcase::domain::S_Trade.all()\n" +
+            "       ->graphFetch(#{\n" +
+            "           meta::external::store::service::showcase::domain::S_Trade {\n" +
+            "               s_tradeId,\n" +
+            "               s_traderDetails,\n" +
+            "               s_tradeDetails,\n" +
+            "               s_product {\n" +
+            "                   s_productId,\n" +
+            "                   s_productName,\n" +
+            "                   s_description\n" +
+            "               }\n" +
+            "           }\n" +
+            "         }#)\n" +
+            "       ->serialize(#{\n" +
+            "           meta::external::store::service::showcase::domain::S_Trade {\n" +
+            "               s_tradeId,\n" +
+            "               s_traderDetails,\n" +
+            "               s_tradeDetails,\n" +
+            "               s_product {\n" +
+            "                   s_productId,\n" +
+            "                   s_productName,\n" +
+            "                   s_description\n" +
+            "               }\n" +
+            "           }\n" +
+            "        }#)};\n" +
+            "}";
+
+    private static final String EXPECTED_RESULT = "{\"builder\":{\"_type\":\"json\"},\"values\":[{\"s_tradeId\":\"1\",\"s_traderDetails\":\"abc:F_Name_1:L_Name_1\",\"s_tradeDetails\":\"30:100\",\"s_product\":{\"s_productId\":\"30\",\"s_productName\":\"Product 30\",\"s_description\":\"Product 30 description\"}},{\"s_tradeId\":\"2\",\"s_traderDetails\":\"abc:F_Name_1:L_Name_1\",\"s_tradeDetails\":\"31:200\",\"s_product\":{\"s_productId\":\"31\",\"s_productName\":\"Product 31\",\"s_description\":\"Product 31 description\"}},{\"s_tradeId\":\"3\",\"s_traderDetails\":\"abc:F_Name_2:L_Name_2\",\"s_tradeDetails\":\"30:300\",\"s_product\":{\"s_productId\":\"30\",\"s_productName\":\"Product 30\",\"s_description\":\"Product 30 description\"}},{\"s_tradeId\":\"4\",\"s_traderDetails\":\"abc:F_Name_2:L_Name_2\",\"s_tradeDetails\":\"31:400\",\"s_product\":{\"s_productId\":\"31\",\"s_productName\":\"Product 31\",\"s_description\":\"Product 31 description\"}}]}";
+
+    private static SingleExecutionPlan plan;
+
+    @BeforeClass
+    public static void setup()
+    {
+        setupServer("showcase/json");
+
+        String serviceStoreConnection =
+                "###Connection\n" +
+                        "ServiceStoreConnection meta::external::store::service::showcase::connection::serviceStoreConnection\n" +
+                        "{\n" +
+                        "    store   : meta::external::store::service::showcase::store::ShowcaseServiceStore;\n" +
+                        "    baseUrl : 'http://127.0.0.1:" + getPort() + "';\n" +
+                        "}";
+        String pureGrammar = ServiceStoreTestUtils.readGrammarFromPureFile("/showcase/json/testGrammar.pure") + "\n\n" + serviceStoreConnection;
+        plan = buildPlanForQuery(pureGrammar + "\n\n" + QUERY);
+    }
+
+    @Test
+    public void testConnectionsAreReusedAcrossExecutions()
+    {
+        try (ServiceStoreExecutor serviceStoreExecutor = new ServiceStoreExecutorBuilder().build())
+        {
+            PlanExecutor planExecutor = PlanExecutor.newPlanExecutor(serviceStoreExecutor, InMemory.build());
+
+            Assert.assertEquals(EXPECTED_RESULT, executePlan(planExecutor, plan, Maps.mutable.empty()));
+            PoolStats afterFirstExecution = singlePoolStats(serviceStoreExecutor);
+            Assert.assertEquals(0, afterFirstExecution.getLeased());
+            Assert.assertTrue(afterFirstExecution.toString(), afterFirstExecution.getAvailable() > 0);
+
+            for (int i = 0; i < 3; i++)
+            {
+                Assert.assertEquals(EXPECTED_RESULT, executePlan(planExecutor, plan, Maps.mutable.empty()));
+            }
+            PoolStats afterLastExecution = singlePoolStats(serviceStoreExecutor);
+            Assert.assertEquals(0, afterLastExecution.getLeased());
+            Assert.assertEquals(afterFirstExecution.getAvailable(), afterLastExecution.getAvailable());
+        }
+    }
+
+    @Test
+    public void testCrossStoreChildrenFetchedInParallelOnlyWhenEnabled()
+    {
+        List<InMemoryCrossStoreGraphFetchExecutionNode> crossStoreNodes = crossStoreGraphFetchNodes(plan.rootExecutionNode, Lists.mutable.empty());
+        Assert.assertFalse(crossStoreNodes.isEmpty());
+        try (ServiceStoreExecutor sequential = new ServiceStoreExecutorBuilder().build();
+             ServiceStoreExecutor parallel = buildServiceStoreExecutor(true))
+        {
+            crossStoreNodes.forEach(node ->
+            {
+                Assert.assertFalse(sequential.getStoreState().canFetchCrossStoreChildrenInParallel(node));
+                Assert.assertTrue(parallel.getStoreState().canFetchCrossStoreChildrenInParallel(node));
+            });
+        }
+    }
+
+    @Test
+    public void testCrossStoreChildrenFetchedInParallelMatchSequentialFetch() throws Exception
+    {
+        GraphFetchExecutionConfiguration graphFetchExecutionConfiguration = new GraphFetchExecutionConfiguration(new ParallelGraphFetchExecutionConfig());
+        try (ServiceStoreExecutor sequentialServiceStoreExecutor = buildServiceStoreExecutor(false);
+             ServiceStoreExecutor parallelServiceStoreExecutor = buildServiceStoreExecutor(true);
+             ParallelGraphFetchExecutionExecutorPool pool = new ParallelGraphFetchExecutionExecutorPool(graphFetchExecutionConfiguration.getParallelGraphFetchExecutionConfig(), "test pool for service store parallel graph fetch"))
+        {
+            PlanExecutor sequentialPlanExecutor = PlanExecutor.newPlanExecutor(graphFetchExecutionConfiguration, sequentialServiceStoreExecutor, InMemory.build());
+            sequentialPlanExecutor.injectGraphFetchExecutionNodeExecutorPool(pool);
+            PlanExecutor parallelPlanExecutor = PlanExecutor.newPlanExecutor(graphFetchExecutionConfiguration, parallelServiceStoreExecutor, InMemory.build());
+            parallelPlanExecutor.injectGraphFetchExecutionNodeExecutorPool(pool);
+
+            String sequentialResult = executePlan(sequentialPlanExecutor, plan, Maps.mutable.empty());
+            Assert.assertEquals(EXPECTED_RESULT, sequentialResult);
+            for (int i = 0; i < 5; i++)
+            {
+                // same objects, in the same order, whatever the order the parallel calls complete in
+                Assert.assertEquals(sequentialResult, executePlan(parallelPlanExecutor, plan, Maps.mutable.empty()));
+            }
+            Assert.assertEquals(0, singlePoolStats(parallelServiceStoreExecutor).getLeased());
+        }
+    }
+
+    private static ServiceStoreExecutor buildServiceStoreExecutor(boolean parallelCrossStoreFetch)
+    {
+        return (ServiceStoreExecutor) new ServiceStoreExecutorBuilder().build(ServiceStoreExecutionConfiguration.builder().withParallelCrossStoreFetch(parallelCrossStoreFetch).build());
+    }
+
+    private static List<InMemoryCrossStoreGraphFetchExecutionNode> crossStoreGraphFetchNodes(ExecutionNode node, List<InMemoryCrossStoreGraphFetchExecutionNode> found)
+    {
+        if (node == null)
+        {
+            return found;
+        }
+        if (node instanceof InMemoryCrossStoreGraphFetchExecutionNode)
+        {
+            found.add((InMemoryCrossStoreGraphFetchExecutionNode) node);
+        }
+        if (node instanceof InMemoryGraphFetchExecutionNode && ((InMemoryGraphFetchExecutionNode) node).children != null)
+        {
+            ((InMemoryGraphFetchExecutionNode) node).children.forEach(child -> crossStoreGraphFetchNodes(child, found));
+        }
+        node.childNodes().forEach(child -> crossStoreGraphFetchNodes(child, found));
+        return found;
+    }
+
+    private static PoolStats singlePoolStats(ServiceStoreExecutor serviceStoreExecutor)
+    {
+        Map<String, PoolStats> poolStats = serviceStoreExecutor.getStoreState().getHttpClientManager().getPoolStats();
+        Assert.assertEquals(poolStats.toString(), 1, poolStats.size());
+        return poolStats.values().iterator().next();
+    }
+}
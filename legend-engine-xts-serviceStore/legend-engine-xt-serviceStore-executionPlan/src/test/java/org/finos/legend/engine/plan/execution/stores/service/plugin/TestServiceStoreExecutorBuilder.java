@@ -14,12 +14,15 @@
 
 package org.finos.legend.engine.plan.execution.stores.service.plugin;
 
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorBuilder;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreHttpClientManager;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ServiceLoader;
@@ -34,6 +37,25 @@ public class TestServiceStoreExecutorBuilder
         Assert.assertNull(state.getStoreExecutionInfo());
     }
 
+    @Test
+    public void testConnectionPoolConfiguration()
+    {
+        ServiceStoreExecutionConfiguration configuration = ServiceStoreExecutionConfiguration.builder().withMaxConnectionsTotal(50).withMaxConnectionsPerRoute(5).build();
+        ServiceStoreExecutor executor = (ServiceStoreExecutor) new ServiceStoreExecutorBuilder().build(configuration);
+        ServiceStoreHttpClientManager httpClientManager = executor.getStoreState().getHttpClientManager();
+        Assert.assertEquals(50, httpClientManager.getMaxConnectionsTotal());
+        Assert.assertEquals(5, httpClientManager.getMaxConnectionsPerRoute());
+
+        PoolingHttpClientConnectionManager connectionManager = httpClientManager.getConnectionManager(URI.create("http://localhost:8080/trades"), null);
+        Assert.assertEquals(50, connectionManager.getMaxTotal());
+        Assert.assertEquals(5, connectionManager.getDefaultMaxPerRoute());
+        Assert.assertSame(connectionManager, httpClientManager.getConnectionManager(URI.create("http://localhost:8080/products?id=1"), null));
+        Assert.assertNotSame(connectionManager, httpClientManager.getConnectionManager(URI.create("http://localhost:8081/trades"), null));
+        Assert.assertEquals(2, httpClientManager.getPoolStats().size());
+        executor.close();
+        Assert.assertTrue(httpClientManager.getPoolStats().isEmpty());
+    }
+
     @Test
     public void testGetStoreType()
     {
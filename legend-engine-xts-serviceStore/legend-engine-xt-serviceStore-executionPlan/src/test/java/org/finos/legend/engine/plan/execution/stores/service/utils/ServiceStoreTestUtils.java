@@ -122,6 +122,11 @@ public class ServiceStoreTestUtils
     }
 
     public static String executePlan(SingleExecutionPlan plan, Map<String, ?> params)
+    {
+        return executePlan(planExecutor, plan, params);
+    }
+
+    public static String executePlan(PlanExecutor planExecutor, SingleExecutionPlan plan, Map<String, ?> params)
     {
         SingleExecutionPlan singleExecutionPlan = plan.getSingleExecutionPlan(params);
 
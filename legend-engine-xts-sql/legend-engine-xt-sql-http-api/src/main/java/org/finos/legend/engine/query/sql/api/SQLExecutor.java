@@ -35,6 +35,7 @@ import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.modelManager.ModelLoader;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
@@ -92,6 +93,8 @@ import org.slf4j.Logger;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -110,12 +113,15 @@ public class SQLExecutor
         Tuples.pair(LongLiteral.class, "Integer"),
         Tuples.pair(DoubleLiteral.class, "Float")
     );
+    private static final Function3<RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<? extends Root_meta_pure_extension_Extension>, PureModel, Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext> DEFAULT_TRANSFORM_CONTEXT =
+            (sources, extensions, pureModel) -> core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Extension_MANY__SqlTransformContext_1_(sources, extensions, pureModel.getExecutionSupport());
 
     private final ModelManager modelManager;
     private final PlanExecutor planExecutor;
     private final Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions;
     private final Iterable<? extends PlanTransformer> transformers;
     private final MutableMap<String, SQLSourceProvider> providers;
+    private final SQLPlanCache planCache;
 
     public SQLExecutor(ModelManager modelManager,
                        PlanExecutor planExecutor,
@@ -123,6 +129,17 @@ public class SQLExecutor
                        List<SQLSourceProvider> providers,
                        Iterable<? extends PlanTransformer> transformers)
     {
+        this(modelManager, planExecutor, routerExtensions, providers, transformers, null);
+    }
+
+    public SQLExecutor(ModelManager modelManager,
+                       PlanExecutor planExecutor,
+                       Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions,
+                       List<SQLSourceProvider> providers,
+                       Iterable<? extends PlanTransformer> transformers,
+                       SQLPlanCache planCache)
+    {
+        this.planCache = planCache;
         this.modelManager = modelManager;
         this.planExecutor = planExecutor;
         this.routerExtensions = routerExtensions;
@@ -137,29 +154,181 @@ public class SQLExecutor
 
     public Result execute(Query query, List<Object> positionalArguments, String user, SQLContext context, Identity identity)
     {
-        return process(query, positionalArguments, (transformedContext, pureModel, sources, positionals, span) ->
+        if (this.planCache != null)
+        {
+            return executeWithPlanCache(query, positionalArguments, user, context, identity);
+        }
+        return process(query, positionalArguments, (transformedContext, pureModel, sources, positionals, span) -> executePlan(transformedContext, pureModel, sources, positionals, positionalArguments, null, user, identity), "execute", context, identity);
+    }
+
+    private Result executeWithPlanCache(Query query, List<Object> positionalArguments, String user, SQLContext context, Identity identity)
+    {
+        return TraceUtils.trace("execute", span ->
         {
-            long start = System.currentTimeMillis();
-            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double) System.currentTimeMillis() - start).toString());
+            span.setTag("queryHash", hash(query));
+
+            Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, identity);
+            String cacheKey = planCacheKey(query, positionalArguments, sqlSourcesAndPureModel, identity);
+            SQLPlanCache.Entry entry = cacheKey == null ? null : this.planCache.getCache().getIfPresent(cacheKey);
+            if (entry != null)
+            {
+                span.setTag("planCache", "hit");
+                MetricsHandler.incrementSqlPlanCacheHitCount();
+                long start = System.currentTimeMillis();
+                Result result = planExecutor.execute(entry.getPlan(), getCachedPlanArguments(entry, positionalArguments), user, identity);
+                MetricsHandler.observe("execute", start, System.currentTimeMillis());
+                return result;
+            }
+            span.setTag("planCache", "miss");
+            MetricsHandler.incrementSqlPlanCacheMissCount();
+            return process(query, positionalArguments, sqlSourcesAndPureModel, (transformedContext, pureModel, sources, positionals, s) -> executePlan(transformedContext, pureModel, sources, positionals, positionalArguments, cacheKey, user, identity), DEFAULT_TRANSFORM_CONTEXT, span, identity);
+        });
+    }
+
+    private Result executePlan(Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformedContext,
+                               PureModel pureModel,
+                               RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> sources,
+                               RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals,
+                               List<Object> positionalArguments,
+                               String cacheKey,
+                               String user,
+                               Identity identity)
+    {
+        long start = System.currentTimeMillis();
+        LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double) System.currentTimeMillis() - start).toString());
+
+        Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult plans = planResult(transformedContext, pureModel, sources);
 
-            Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult plans = planResult(transformedContext, pureModel, sources);
+        Map<String, Result> arguments = getPlanArguments(plans._arguments(), pureModel, user, identity);
 
-            Map<String, Result> arguments = getPlanArguments(plans._arguments(), pureModel, user, identity);
+        RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> positionalPlans = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_getPlanParameters_SQLPlaceholderParameter_MANY__Extension_MANY__PlanParameter_MANY_(positionals, routerExtensions.apply(pureModel), pureModel.getExecutionSupport());
+        Map<String, Result> positionalArgumentPlans = getPlanArguments(positionalPlans, pureModel, user, identity);
 
-            RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> positionalPlans = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_getPlanParameters_SQLPlaceholderParameter_MANY__Extension_MANY__PlanParameter_MANY_(positionals, routerExtensions.apply(pureModel), pureModel.getExecutionSupport());
-            Map<String, Result> positionalArgumentPlans = getPlanArguments(positionalPlans, pureModel, user, identity);
+        Root_meta_pure_executionPlan_ExecutionPlan plan = plans._plan();
+        plan = PlanPlatform.JAVA.bindPlan(plan, null, pureModel, routerExtensions.apply(pureModel));
+        SingleExecutionPlan transformedPlan = transformExecutionPlan(plan, pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
 
-            Root_meta_pure_executionPlan_ExecutionPlan plan = plans._plan();
-            plan = PlanPlatform.JAVA.bindPlan(plan, null, pureModel, routerExtensions.apply(pureModel));
-            SingleExecutionPlan transformedPlan = transformExecutionPlan(plan, pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
+        if (cacheKey != null && isCacheable(plans._arguments(), positionalPlans, positionalArguments))
+        {
+            Map<String, Object> constantArguments = Maps.mutable.empty();
+            plans._arguments().forEach(p -> constantArguments.put(p._name(), getPlanArgumentValue(p)));
+            this.planCache.getCache().put(cacheKey, new SQLPlanCache.Entry(transformedPlan, constantArguments));
+        }
+
+        arguments.putAll(positionalArgumentPlans);
+        Result result = planExecutor.execute(transformedPlan, arguments, user, identity);
 
-            arguments.putAll(positionalArgumentPlans);
-            Result result = planExecutor.execute(transformedPlan, arguments, user, identity);
+        MetricsHandler.observe("execute", start, System.currentTimeMillis());
 
-            MetricsHandler.observe("execute", start, System.currentTimeMillis());
+        return result;
+    }
+
+    /**
+     * A plan can be reused with other positional arguments only if no argument needs a plan of its own to be evaluated and
+     * the positional arguments are passed to the plan unchanged (see {@link #getCachedPlanArguments})
+     */
+    private static boolean isCacheable(RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> arguments, RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> positionalPlans, List<Object> positionalArguments)
+    {
+        if (arguments.anySatisfy(p -> p._plan() != null) || positionalPlans.anySatisfy(p -> p._plan() != null))
+        {
+            return false;
+        }
+        Map<String, Object> positionalValues = Maps.mutable.empty();
+        positionalPlans.forEach(p -> positionalValues.put(p._name(), getPlanArgumentValue(p)));
+        for (int i = 0; i < positionalArguments.size(); i++)
+        {
+            if (!Objects.equals(positionalValues.get(positionalName(i)), normalizePositionalArgument(positionalArguments.get(i))))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
 
-            return result;
-        }, "execute", context, identity);
+    private static Map<String, Result> getCachedPlanArguments(SQLPlanCache.Entry entry, List<Object> positionalArguments)
+    {
+        Map<String, Result> arguments = Maps.mutable.empty();
+        entry.getConstantArguments().forEach((name, value) ->
+        {
+            if (value != null)
+            {
+                arguments.put(name, new ConstantResult(value));
+            }
+        });
+        for (int i = 0; i < positionalArguments.size(); i++)
+        {
+            Object value = normalizePositionalArgument(positionalArguments.get(i));
+            if (value != null)
+            {
+                arguments.put(positionalName(i), new ConstantResult(value));
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * The key is computed on the query as written: literals are not lifted into parameters as their target type (enum,
+     * date...) is only known once the query is processed. Plans are not cached for models which can change under the
+     * same pointer (latest revision, SNAPSHOT, workspace), nor shared between callers.
+     */
+    private String planCacheKey(Query query, List<Object> positionalArguments, Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel, Identity identity)
+    {
+        try
+        {
+            PureModelContext modelKey = planCacheModelKey(sqlSourcesAndPureModel.getTwo(), identity);
+            if (modelKey == null)
+            {
+                return null;
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(OBJECT_MAPPER.writeValueAsBytes(identity.getName()));
+            digest.update(OBJECT_MAPPER.writeValueAsBytes(query));
+            digest.update(OBJECT_MAPPER.writeValueAsBytes(ListIterate.collect(positionalArguments, a -> a == null ? null : a.getClass().getName())));
+            digest.update(OBJECT_MAPPER.writeValueAsBytes(sqlSourcesAndPureModel.getOne().toList()));
+            digest.update(OBJECT_MAPPER.writeValueAsBytes(modelKey));
+            return Base64.getEncoder().encodeToString(digest.digest());
+        }
+        catch (Exception e)
+        {
+            LOGGER.debug("Unable to compute the plan cache key, the plan will not be cached", e);
+            return null;
+        }
+    }
+
+    private PureModelContext planCacheModelKey(PureModelContext pureModelContext, Identity identity)
+    {
+        if (!(pureModelContext instanceof PureModelContextPointer))
+        {
+            return pureModelContext;
+        }
+        // pointers are resolved the way the model cache resolves them, e.g. to the current version of the Pure server
+        ModelLoader loader = this.modelManager.modelLoaderForContext(pureModelContext);
+        return loader.shouldCache(pureModelContext) ? loader.cacheKey(pureModelContext, identity) : null;
+    }
+
+    private static String positionalName(int index)
+    {
+        return "_" + (index + 1);
+    }
+
+    private static Object normalizePositionalArgument(Object argument)
+    {
+        if (argument instanceof Integer)
+        {
+            return ((Integer) argument).longValue();
+        }
+        if (argument instanceof Float)
+        {
+            return ((Float) argument).doubleValue();
+        }
+        return argument;
+    }
+
+    private static Object getPlanArgumentValue(Root_meta_external_query_sql_transformation_queryToPure_PlanParameter p)
+    {
+        return p._value() instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List
+                ? ((org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List) p._value())._values()
+                : p._value();
     }
 
     private Map<String, Result> getPlanArguments(RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> arguments, PureModel pureModel, String user, Identity identity)
@@ -170,10 +339,7 @@ public class SQLExecutor
 
             if (p._value() != null)
             {
-                Object value = p._value() instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List
-                        ? ((org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List) p._value())._values()
-                        : p._value();
-                result = new ConstantResult(value);
+                result = new ConstantResult(getPlanArgumentValue(p));
             }
             else
             {
@@ -235,7 +401,7 @@ public class SQLExecutor
 
     private <T> T process(Query query, List<Object> positionalArguments, Function5<Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext, PureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter>, Span, T> func, String name, SQLContext context, Identity identity)
     {
-        return process(query, positionalArguments, func, (sources, extensions, pureModel) -> core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Extension_MANY__SqlTransformContext_1_(sources, extensions, pureModel.getExecutionSupport()), name, context, identity);
+        return process(query, positionalArguments, func, DEFAULT_TRANSFORM_CONTEXT, name, context, identity);
     }
 
     private <T> T process(Query query,
@@ -251,40 +417,51 @@ public class SQLExecutor
             span.setTag("queryHash", hash(query));
 
             Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, identity);
-            RichIterable<SQLSource> sources = sqlSourcesAndPureModel.getOne();
-            PureModelContext pureModelContext = sqlSourcesAndPureModel.getTwo();
+            return process(query, positionalArguments, sqlSourcesAndPureModel, func, transformContextFunc, span, identity);
+        });
+    }
 
-            PureModel pureModel = modelManager.loadModel(pureModelContext, PureClientVersions.production, identity, "");
+    private <T> T process(Query query,
+                          List<Object> positionalArguments,
+                          Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel,
+                          Function5<Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext, PureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter>, Span, T> func,
+                          Function3<RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<? extends Root_meta_pure_extension_Extension>, PureModel, Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext> transformContextFunc,
+                          Span span,
+                          Identity identity)
+    {
+        RichIterable<SQLSource> sources = sqlSourcesAndPureModel.getOne();
+        PureModelContext pureModelContext = sqlSourcesAndPureModel.getTwo();
 
-            List<SQLQueryParameter> parameters = ListIterate.collectWithIndex(positionalArguments, (argument, index) ->
-            {
-                Expression expression = createParameterValueExpression(argument);
-                Variable variable = new Variable();
-                variable.name = "_" + (index + 1);
-                variable.multiplicity = Multiplicity.PURE_ONE;
-                variable._class = LITERAL_TO_PURE_TYPES.get(expression.getClass());
+        PureModel pureModel = modelManager.loadModel(pureModelContext, PureClientVersions.production, identity, "");
 
-                return new SQLQueryParameter(variable, expression);
-            });
+        List<SQLQueryParameter> parameters = ListIterate.collectWithIndex(positionalArguments, (argument, index) ->
+        {
+            Expression expression = createParameterValueExpression(argument);
+            Variable variable = new Variable();
+            variable.name = positionalName(index);
+            variable.multiplicity = Multiplicity.PURE_ONE;
+            variable._class = LITERAL_TO_PURE_TYPES.get(expression.getClass());
 
-            Query finalQuery = QueryRealiaser.realias(query);
-            span.setTag("realiasedQueryHash", hash(finalQuery));
+            return new SQLQueryParameter(variable, expression);
+        });
 
-            Root_meta_external_query_sql_metamodel_Query compiledQuery = new ProtocolToMetamodelTranslator().translate(finalQuery, pureModel);
+        Query finalQuery = QueryRealiaser.realias(query);
+        span.setTag("realiasedQueryHash", hash(finalQuery));
 
-            RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> compiledSources = new SQLSourceTranslator().translate(sources, pureModel);
-            LOGGER.info("{}", new LogInfo(identity.getName(), LoggingEventType.GENERATE_PLAN_START));
+        Root_meta_external_query_sql_metamodel_Query compiledQuery = new ProtocolToMetamodelTranslator().translate(finalQuery, pureModel);
 
-            Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformContext = transformContextFunc.value(compiledSources, routerExtensions.apply(pureModel), pureModel);
-            RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals = new SQLSourceTranslator().translate(parameters, pureModel);
+        RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> compiledSources = new SQLSourceTranslator().translate(sources, pureModel);
+        LOGGER.info("{}", new LogInfo(identity.getName(), LoggingEventType.GENERATE_PLAN_START));
 
-            transformContext._positionals(IterableIterate.collect(positionals, Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter::_variable));
+        Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformContext = transformContextFunc.value(compiledSources, routerExtensions.apply(pureModel), pureModel);
+        RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals = new SQLSourceTranslator().translate(parameters, pureModel);
 
-            Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformedContext = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_processRootQuery_Query_1__SqlTransformContext_1__SqlTransformContext_1_(
-                    compiledQuery, transformContext, pureModel.getExecutionSupport());
+        transformContext._positionals(IterableIterate.collect(positionals, Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter::_variable));
 
-            return func.value(transformedContext, pureModel, compiledSources, positionals, span);
-        });
+        Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformedContext = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_processRootQuery_Query_1__SqlTransformContext_1__SqlTransformContext_1_(
+                compiledQuery, transformContext, pureModel.getExecutionSupport());
+
+        return func.value(transformedContext, pureModel, compiledSources, positionals, span);
     }
 
 
@@ -0,0 +1,81 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api;
+
+import com.google.common.cache.CacheBuilder;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCacheBuilder;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of execution plans generated by {@link SQLExecutor}, keyed on the caller, the query, the types of its positional
+ * arguments and the resolved sources and model.
+ */
+public class SQLPlanCache
+{
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final ExecutionCache<String, Entry> cache;
+
+    public SQLPlanCache(ExecutionCache<String, Entry> cache)
+    {
+        this.cache = cache;
+    }
+
+    public static SQLPlanCache buildWithDefaultCache()
+    {
+        return buildWithDefaultCache(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public static SQLPlanCache buildWithDefaultCache(int maximumSize)
+    {
+        return new SQLPlanCache(ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(CacheBuilder.newBuilder().recordStats().maximumSize(maximumSize).expireAfterAccess(30, TimeUnit.MINUTES).build()));
+    }
+
+    public ExecutionCache<String, Entry> getCache()
+    {
+        return this.cache;
+    }
+
+    public static class Entry
+    {
+        private final SingleExecutionPlan plan;
+        private final Map<String, Object> constantArguments;
+
+        public Entry(SingleExecutionPlan plan, Map<String, Object> constantArguments)
+        {
+            this.plan = plan;
+            this.constantArguments = Collections.unmodifiableMap(constantArguments);
+        }
+
+        public SingleExecutionPlan getPlan()
+        {
+            return this.plan;
+        }
+
+        /**
+         * Plan arguments which do not depend on the positional arguments, e.g. parameters of the sources
+         */
+        public Map<String, Object> getConstantArguments()
+        {
+            return this.constantArguments;
+        }
+    }
+}
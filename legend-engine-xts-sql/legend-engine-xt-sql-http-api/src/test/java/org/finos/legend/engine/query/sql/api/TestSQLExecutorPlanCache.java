@@ -0,0 +1,118 @@
+// Copyright 2024 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializer;
+import org.finos.legend.engine.plan.generation.extension.PlanGeneratorExtension;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.finos.legend.engine.pure.code.core.PureCoreExtensionLoader;
+import org.finos.legend.engine.query.sql.providers.core.SQLContext;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+public class TestSQLExecutorPlanCache
+{
+    private static final SQLGrammarParser PARSER = SQLGrammarParser.newInstance();
+    private static final Identity ALICE = new Identity("alice");
+    private static final Identity BOB = new Identity("bob");
+
+    private SQLPlanCache planCache;
+    private SQLExecutor executor;
+
+    @Before
+    public void setUp()
+    {
+        MutableList<PlanGeneratorExtension> generatorExtensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class));
+        this.planCache = SQLPlanCache.buildWithDefaultCache();
+        this.executor = new SQLExecutor(
+                new ModelManager(DeploymentMode.TEST),
+                PlanExecutor.newPlanExecutorWithAvailableStoreExecutors(),
+                (pm) -> PureCoreExtensionLoader.extensions().flatCollect(g -> g.extraPureCoreExtensions(pm.getExecutionSupport())),
+                FastList.newListWith(new TestSQLSourceProvider()),
+                generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers),
+                this.planCache);
+    }
+
+    @Test
+    public void testEnumComparison()
+    {
+        Assert.assertEquals("Alice\r\nDanielle\r\n", execute("SELECT Name FROM service('/testService') WHERE \"Employee Type\" = 'Type1' ORDER BY Name", ALICE));
+        Assert.assertEquals("Bob\r\nCurtis\r\n", execute("SELECT Name FROM service('/testService') WHERE \"Employee Type\" = 'Type2' ORDER BY Name", ALICE));
+        Assert.assertEquals("Bob\r\nCurtis\r\n", execute("SELECT Name FROM service('/testService') WHERE \"Employee Type\" > 'Type1' ORDER BY Name", ALICE));
+        Assert.assertEquals(3, this.planCache.getCache().estimatedSize());
+    }
+
+    @Test
+    public void testDateComparison()
+    {
+        Assert.assertEquals("Alice\r\n", execute("SELECT Name FROM service('/personServiceWithStartDate') WHERE \"Start Date\" = '2023-08-24' ORDER BY Name", ALICE));
+        Assert.assertEquals("Alice\r\nBob\r\n", execute("SELECT Name FROM service('/personServiceWithStartDate') WHERE \"Start Date\" > '2022-08-01' ORDER BY Name", ALICE));
+        Assert.assertEquals("Bob\r\n", execute("SELECT Name FROM service('/personServiceForStartDate/{date}', date => '2022-08-24')", ALICE));
+        Assert.assertEquals("Alice\r\n", execute("SELECT Name FROM service('/personServiceForStartDate/{date}', date => '2023-08-24')", ALICE));
+    }
+
+    @Test
+    public void testCacheHit()
+    {
+        String sql = "SELECT Name FROM service('/personServiceForNames') WHERE Name = ? ORDER BY Name";
+
+        Assert.assertEquals("Alice\r\n", execute(sql, FastList.newListWith("Alice"), ALICE));
+        Assert.assertEquals(0, this.planCache.getCache().stats().hitCount());
+        Assert.assertEquals(1, this.planCache.getCache().estimatedSize());
+
+        Assert.assertEquals("Bob\r\n", execute(sql, FastList.newListWith("Bob"), ALICE));
+        Assert.assertEquals(1, this.planCache.getCache().stats().hitCount());
+        Assert.assertEquals(1, this.planCache.getCache().estimatedSize());
+
+        // plans are not shared between callers
+        Assert.assertEquals("Alice\r\n", execute(sql, FastList.newListWith("Alice"), BOB));
+        Assert.assertEquals(1, this.planCache.getCache().stats().hitCount());
+        Assert.assertEquals(2, this.planCache.getCache().estimatedSize());
+    }
+
+    private String execute(String sql, Identity identity)
+    {
+        return execute(sql, FastList.newList(), identity);
+    }
+
+    private String execute(String sql, List<Object> positionalArguments, Identity identity)
+    {
+        Query query = (Query) PARSER.parseStatement(sql);
+        Result result = this.executor.execute(query, positionalArguments, identity.getName(), new SQLContext(query, positionalArguments), identity);
+        try
+        {
+            return new RelationalResultToCSVSerializer((RelationalResult) result).flush().toString();
+        }
+        finally
+        {
+            result.close();
+        }
+    }
+}
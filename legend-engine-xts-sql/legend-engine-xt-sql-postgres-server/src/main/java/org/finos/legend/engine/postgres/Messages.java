@@ -352,60 +352,79 @@ public class Messages
      * <p>
      * ByteN The value of the column, in the format indicated by the associated format code. n is the
      * above length.
+     * <p>
+     * The row is written without flushing: callers are expected to flush periodically and once all rows are sent.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    void sendDataRow(Channel channel, PostgresResultSet rs, List<PGType<?>> columnTypes,
+    ChannelFuture sendDataRow(Channel channel, PostgresResultSet rs, List<PGType<?>> columnTypes,
                      FormatCodes.FormatCode[] formatCodes) throws Exception
+    {
+        ByteBuf buffer = channel.alloc().buffer();
+        try
+        {
+            writeDataRow(buffer, rs, columnTypes, formatCodes);
+        }
+        catch (Exception e)
+        {
+            buffer.release();
+            throw e;
+        }
+        return channel.write(buffer);
+    }
+
+    /**
+     * Appends a data row message (see {@link #sendDataRow}) to the buffer, so that many rows can be sent in a single
+     * write. If the row cannot be written the buffer is left as it was before the call.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void writeDataRow(ByteBuf buffer, PostgresResultSet rs, List<PGType<?>> columnTypes,
+                      FormatCodes.FormatCode[] formatCodes) throws Exception
     {
         int length = 4 + 2;
         assert columnTypes.size() == rs.getMetaData().getColumnCount()
                 : "Number of columns in the row must match number of columnTypes. Row: " + rs + " types: "
                 + columnTypes;
 
-        ByteBuf buffer = channel.alloc().buffer();
+        int start = buffer.writerIndex();
         buffer.writeByte('D');
         buffer.writeInt(0); // will be set at the end
         buffer.writeShort(columnTypes.size());
 
-        for (int i = 0; i < columnTypes.size(); i++)
+        try
         {
-            PGType pgType = columnTypes.get(i);
-            Object value;
-            try
-            {
-                value = rs.getObject(i + 1);
-            }
-            catch (Exception e)
+            for (int i = 0; i < columnTypes.size(); i++)
             {
-                buffer.release();
-                throw e;
-            }
-            if (value == null)
-            {
-                buffer.writeInt(-1);
-                length += 4;
-            }
-            else
-            {
-                FormatCodes.FormatCode formatCode = FormatCodes.getFormatCode(formatCodes, i);
-                switch (formatCode)
+                PGType pgType = columnTypes.get(i);
+                Object value = rs.getObject(i + 1);
+                if (value == null)
+                {
+                    buffer.writeInt(-1);
+                    length += 4;
+                }
+                else
                 {
-                    case TEXT:
-                        length += pgType.writeAsText(buffer, value);
-                        break;
-                    case BINARY:
-                        length += pgType.writeAsBinary(buffer, value);
-                        break;
-
-                    default:
-                        buffer.release();
-                        throw new PostgresServerException("Unrecognized formatCode: " + formatCode);
+                    FormatCodes.FormatCode formatCode = FormatCodes.getFormatCode(formatCodes, i);
+                    switch (formatCode)
+                    {
+                        case TEXT:
+                            length += pgType.writeAsText(buffer, value);
+                            break;
+                        case BINARY:
+                            length += pgType.writeAsBinary(buffer, value);
+                            break;
+
+                        default:
+                            throw new PostgresServerException("Unrecognized formatCode: " + formatCode);
+                    }
                 }
             }
         }
+        catch (Exception e)
+        {
+            buffer.writerIndex(start);
+            throw e;
+        }
 
-        buffer.setInt(1, length);
-        channel.writeAndFlush(buffer);
+        buffer.setInt(start + 1, length);
     }
 
     void writeCString(ByteBuf buffer, byte[] valBytes)
@@ -927,7 +927,7 @@ public class PostgresWireProtocol
 
 
             DelayableWriteChannel.DelayedWrites delayedWrites = channel.delayWrites();
-            ResultSetReceiver resultReceiver = new ResultSetReceiver(query, channel, delayedWrites, false, null,messages);
+            ResultSetReceiver resultReceiver = new ResultSetReceiver(query, channel, delayedWrites, false, session.getResultFormatCodes(portalName), messages);
             session.execute(portalName, maxRows, resultReceiver);
         }
         catch (Exception e)
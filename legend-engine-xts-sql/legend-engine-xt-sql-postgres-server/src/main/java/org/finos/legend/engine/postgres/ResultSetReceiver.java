@@ -21,6 +21,7 @@
 
 package org.finos.legend.engine.postgres;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.opentelemetry.api.common.AttributeKey;
@@ -43,6 +44,11 @@ class ResultSetReceiver
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(ResultSetReceiver.class);
 
+    /**
+     * Data rows are encoded into a shared buffer which is written and flushed once it reaches this size
+     */
+    private static final int DATA_ROWS_BUFFER_SIZE = 64 * 1024;
+
 
     private final String query;
     private final DelayableWriteChannel channel;
@@ -96,14 +102,42 @@ class ResultSetReceiver
                 }
                 //TODO add column types to the span
                 span.addEvent("startSendingData");
-                while (rs.next())
+                ByteBuf dataRows = null;
+                try
+                {
+                    while (rs.next())
+                    {
+                        if (dataRows == null)
+                        {
+                            dataRows = directChannel.alloc().buffer(DATA_ROWS_BUFFER_SIZE);
+                        }
+                        messages.writeDataRow(dataRows, rs, columnTypes, formatCodes);
+                        rowCount++;
+                        if (dataRows.readableBytes() >= DATA_ROWS_BUFFER_SIZE)
+                        {
+                            ChannelFuture sendDataRows = directChannel.writeAndFlush(dataRows);
+                            dataRows = null;
+                            if (!directChannel.isWritable())
+                            {
+                                awaitWritable(sendDataRows);
+                            }
+                        }
+                        if (rowCount % 10000 == 0)
+                        {
+                            span.addEvent("sentRows", Attributes.of(AttributeKey.longKey("numberOfRows"), rowCount));
+                        }
+                    }
+                    if (dataRows != null)
+                    {
+                        directChannel.write(dataRows);
+                        dataRows = null;
+                    }
+                }
+                finally
                 {
-                    rowCount++;
-                    messages.sendDataRow(directChannel, rs, columnTypes, null);
-                    if (rowCount % 10000 == 0)
-                    {   //TODO REMOVE FLASH FROM essages.sendDataRow
-                        directChannel.flush();
-                        span.addEvent("sentRows", Attributes.of(AttributeKey.longKey("numberOfRows"), rowCount));
+                    if (dataRows != null)
+                    {
+                        dataRows.release();
                     }
                 }
                 span.addEvent("finishedSendingData", Attributes.of(AttributeKey.longKey("numberOfRows"), rowCount));
@@ -116,6 +150,33 @@ class ResultSetReceiver
         LOGGER.info("Query complete with row count {}", rowCount);
     }
 
+    /**
+     * Stops pulling rows while the client is not reading fast enough: once the outbound buffer is above its high water
+     * mark, flush it and wait for the last rows to reach the socket before producing more rows.
+     */
+    private void awaitWritable(ChannelFuture lastWrite)
+    {
+        directChannel.flush();
+        if (directChannel.eventLoop().inEventLoop())
+        {
+            // blocking the event loop would prevent the pending writes from ever completing
+            return;
+        }
+        try
+        {
+            lastWrite.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ClientInterrupted();
+        }
+        if (!lastWrite.isSuccess() && !directChannel.isActive())
+        {
+            throw new ClientInterrupted();
+        }
+    }
+
     public void allFinished()
     {
         Tracer tracer = OpenTelemetryUtil.getTracer();
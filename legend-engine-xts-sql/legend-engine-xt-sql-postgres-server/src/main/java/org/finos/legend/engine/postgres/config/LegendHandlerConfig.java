@@ -14,11 +14,14 @@
 
 package org.finos.legend.engine.postgres.config;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import org.finos.legend.engine.postgres.SessionsFactory;
+import org.finos.legend.engine.postgres.handler.legend.LegendEmbeddedExecutionService;
 import org.finos.legend.engine.postgres.handler.legend.LegendExecutionService;
 import org.finos.legend.engine.postgres.handler.legend.LegendHttpClient;
 import org.finos.legend.engine.postgres.handler.legend.LegendSessionFactory;
+import org.finos.legend.engine.query.sql.api.SQLExecutor;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class LegendHandlerConfig implements HandlerConfig
@@ -27,6 +30,8 @@ public class LegendHandlerConfig implements HandlerConfig
     private String protocol;
     private String host;
     private String port;
+    @JsonIgnore
+    private SQLExecutor executor;
 
     public LegendHandlerConfig()
     {
@@ -40,6 +45,14 @@ public class LegendHandlerConfig implements HandlerConfig
         this.port = port;
     }
 
+    /**
+     * Queries are executed in process by the given executor, to be used when the server runs in the same JVM as the engine
+     */
+    public LegendHandlerConfig(SQLExecutor executor)
+    {
+        this.executor = executor;
+    }
+
     public String getProtocol()
     {
         return protocol;
@@ -59,6 +72,10 @@ public class LegendHandlerConfig implements HandlerConfig
     @Override
     public SessionsFactory buildSessionsFactory()
     {
+        if (this.executor != null)
+        {
+            return new LegendSessionFactory(new LegendEmbeddedExecutionService(this.executor));
+        }
         LegendExecutionService client = new LegendExecutionService(new LegendHttpClient(getProtocol(), getHost(), getPort()));
         return new LegendSessionFactory(client);
     }
@@ -70,6 +87,7 @@ public class LegendHandlerConfig implements HandlerConfig
                 "protocol='" + protocol + '\'' +
                 ", host='" + host + '\'' +
                 ", port='" + port + '\'' +
+                ", embedded=" + (executor != null) +
                 '}';
     }
 }
@@ -0,0 +1,172 @@
+// Copyright 2024 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres.handler.legend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
+import org.finos.legend.engine.plan.execution.result.ErrorResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.postgres.utils.OpenTelemetryUtil;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.finos.legend.engine.query.sql.api.SQLExecutor;
+import org.finos.legend.engine.query.sql.providers.core.SQLContext;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.identity.Identity;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Executes queries with a {@link SQLExecutor} running in the same JVM, instead of calling the engine SQL API over HTTP
+ * like {@link LegendExecutionService}. Rows are read straight from the {@link RelationalResult} as the client consumes
+ * them, skipping the JSON serialization of the result and its parsing by {@link LegendTdsResultParser}.
+ */
+public class LegendEmbeddedExecutionService
+{
+    private static final ObjectMapper mapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+
+    private final SQLExecutor executor;
+
+    public LegendEmbeddedExecutionService(SQLExecutor executor)
+    {
+        this.executor = executor;
+    }
+
+    public List<LegendColumn> getSchema(String query, Identity identity)
+    {
+        Tracer tracer = OpenTelemetryUtil.getTracer();
+        Span span = tracer.spanBuilder("Legend Embedded ExecutionService Get Schema").startSpan();
+        try (Scope scope = span.makeCurrent())
+        {
+            span.setAttribute("query", query);
+            List<LegendColumn> legendColumns = LegendExecutionService.getLegendColumns(mapper.valueToTree(executor.schema(parseQuery(query), identity)));
+            span.setAttribute(AttributeKey.stringArrayKey(LegendExecutionService.TDS_COLUMNS), legendColumns.stream().map(LegendColumn::toString).collect(Collectors.toList()));
+            return legendColumns;
+        }
+        finally
+        {
+            span.end();
+        }
+    }
+
+    public LegendExecutionResult executeQuery(String query, Identity identity)
+    {
+        Tracer tracer = OpenTelemetryUtil.getTracer();
+        Span span = tracer.spanBuilder("Legend Embedded ExecutionService ExecuteQuery").startSpan();
+        try (Scope scope = span.makeCurrent())
+        {
+            span.setAttribute("query", query);
+            Query parsedQuery = parseQuery(query);
+            Result result = executor.execute(parsedQuery, Collections.emptyList(), identity.getName(), new SQLContext(parsedQuery, Collections.emptyList()), identity);
+            if (result instanceof ErrorResult)
+            {
+                throw new LegendTdsClientException(((ErrorResult) result).getMessage());
+            }
+            if (!(result instanceof RelationalResult))
+            {
+                result.close();
+                throw new LegendTdsClientException("Unsupported result type: " + result.getClass().getSimpleName() + ", only relational TDS results can be sent to postgres clients");
+            }
+            span.addEvent("receivedResult");
+            return new RelationalExecutionResult((RelationalResult) result);
+        }
+        finally
+        {
+            span.end();
+        }
+    }
+
+    private static Query parseQuery(String query)
+    {
+        return (Query) SQLGrammarParser.newInstance().parseStatement(query);
+    }
+
+    private static class RelationalExecutionResult implements LegendExecutionResult
+    {
+        private final RelationalResult result;
+        private final List<LegendColumn> legendColumns;
+        private Boolean hasNext;
+
+        private RelationalExecutionResult(RelationalResult result)
+        {
+            this.result = result;
+            this.legendColumns = Collections.unmodifiableList(ListIterate.collect(result.getTdsColumns(), c -> new LegendColumn(c.name, c.type)));
+        }
+
+        @Override
+        public List<LegendColumn> getLegendColumns()
+        {
+            return this.legendColumns;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (this.hasNext == null)
+            {
+                try
+                {
+                    this.hasNext = this.result.resultSet.next();
+                }
+                catch (SQLException e)
+                {
+                    throw new LegendTdsClientException("Error while retrieving a row", e);
+                }
+            }
+            return this.hasNext;
+        }
+
+        @Override
+        public List<Object> next()
+        {
+            if (!hasNext())
+            {
+                throw new IllegalStateException("No more rows");
+            }
+            this.hasNext = null;
+            try
+            {
+                MutableList<Function<Object, Object>> transformers = this.result.getTransformers();
+                List<Object> row = new ArrayList<>(this.legendColumns.size());
+                for (int i = 1; i <= this.legendColumns.size(); i++)
+                {
+                    row.add(transformers.get(i - 1).valueOf(this.result.getValue(i)));
+                }
+                return row;
+            }
+            catch (SQLException e)
+            {
+                throw new LegendTdsClientException("Error while retrieving a row", e);
+            }
+        }
+
+        @Override
+        public void close()
+        {
+            this.result.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+// Copyright 2024 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres.handler.legend;
+
+import java.sql.ParameterMetaData;
+import org.finos.legend.engine.postgres.handler.PostgresPreparedStatement;
+import org.finos.legend.engine.postgres.handler.PostgresResultSet;
+import org.finos.legend.engine.postgres.handler.PostgresResultSetMetaData;
+import org.finos.legend.engine.shared.core.identity.Identity;
+
+public class LegendEmbeddedPreparedStatement implements PostgresPreparedStatement
+{
+    private final String query;
+    private final LegendEmbeddedExecutionService client;
+    private final Identity identity;
+
+    private LegendResultSet legendResultSet;
+
+    public LegendEmbeddedPreparedStatement(String query, LegendEmbeddedExecutionService client, Identity identity)
+    {
+        this.query = query;
+        this.client = client;
+        this.identity = identity;
+    }
+
+    @Override
+    public void setObject(int i, Object o)
+    {
+        throw new UnsupportedOperationException("not implemented");
+    }
+
+    @Override
+    public PostgresResultSetMetaData getMetaData()
+    {
+        return new LegendResultSetMetaData(client.getSchema(query, identity));
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData()
+    {
+        return PostgresPreparedStatement.emptyParameterMetaData();
+    }
+
+    @Override
+    public void close()
+    {
+        if (legendResultSet != null)
+        {
+            legendResultSet.close();
+        }
+    }
+
+    @Override
+    public void setMaxRows(int maxRows)
+    {
+
+    }
+
+    @Override
+    public boolean execute()
+    {
+        legendResultSet = new LegendResultSet(client.executeQuery(query, identity));
+        return true;
+    }
+
+    @Override
+    public PostgresResultSet getResultSet()
+    {
+        return legendResultSet;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LegendEmbeddedPreparedStatement{" +
+                "query='" + query + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,54 @@
+// Copyright 2024 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres.handler.legend;
+
+import org.finos.legend.engine.postgres.handler.PostgresResultSet;
+import org.finos.legend.engine.postgres.handler.PostgresStatement;
+import org.finos.legend.engine.shared.core.identity.Identity;
+
+public class LegendEmbeddedStatement implements PostgresStatement
+{
+    private final LegendEmbeddedExecutionService client;
+    private final Identity identity;
+    private LegendResultSet legendResultSet;
+
+    public LegendEmbeddedStatement(LegendEmbeddedExecutionService client, Identity identity)
+    {
+        this.client = client;
+        this.identity = identity;
+    }
+
+    @Override
+    public boolean execute(String query)
+    {
+        legendResultSet = new LegendResultSet(client.executeQuery(query, identity));
+        return true;
+    }
+
+    @Override
+    public PostgresResultSet getResultSet()
+    {
+        return legendResultSet;
+    }
+
+    @Override
+    public void close()
+    {
+        if (legendResultSet != null)
+        {
+            legendResultSet.close();
+        }
+    }
+}
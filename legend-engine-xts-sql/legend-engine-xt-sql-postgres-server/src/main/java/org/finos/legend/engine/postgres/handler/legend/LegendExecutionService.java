@@ -51,14 +51,9 @@ public class LegendExecutionService
         {
             span.setAttribute("query", query);
             JsonNode jsonNode = mapper.readTree(inputStream);
-            if (jsonNode.get(TDS_COLUMNS) != null)
-            {
-                ArrayNode columns = (ArrayNode) jsonNode.get(TDS_COLUMNS);
-                List<LegendColumn> legendColumns = Collections.unmodifiableList(IterableIterate.collect(columns, c -> new LegendColumn(c.get("name").textValue(), c.get("type").textValue())));
-                span.setAttribute(AttributeKey.stringArrayKey(TDS_COLUMNS), legendColumns.stream().map(LegendColumn::toString).collect(Collectors.toList()));
-                return legendColumns;
-            }
-            return Collections.emptyList();
+            List<LegendColumn> legendColumns = getLegendColumns(jsonNode);
+            span.setAttribute(AttributeKey.stringArrayKey(TDS_COLUMNS), legendColumns.stream().map(LegendColumn::toString).collect(Collectors.toList()));
+            return legendColumns;
         }
         catch (IOException e)
         {
@@ -71,6 +66,16 @@ public class LegendExecutionService
 
     }
 
+    static List<LegendColumn> getLegendColumns(JsonNode schema)
+    {
+        if (schema.get(TDS_COLUMNS) != null)
+        {
+            ArrayNode columns = (ArrayNode) schema.get(TDS_COLUMNS);
+            return Collections.unmodifiableList(IterableIterate.collect(columns, c -> new LegendColumn(c.get("name").textValue(), c.get("type").textValue())));
+        }
+        return Collections.emptyList();
+    }
+
     public LegendExecutionResult executeQuery(String query)
     {
         Tracer tracer = OpenTelemetryUtil.getTracer();
@@ -24,6 +24,7 @@ import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.TemporalAccessor;
+import java.util.Date;
 import java.util.List;
 import org.finos.legend.engine.postgres.PostgresServerException;
 import org.finos.legend.engine.postgres.handler.PostgresResultSet;
@@ -70,6 +71,10 @@ public class LegendResultSet implements PostgresResultSet
 
             //2020-06-07T04:15:27.000000000+0000
             case STRICT_DATE:
+                if (value instanceof Date)
+                {
+                    return toEpochMilli((Date) value);
+                }
                 return extractValue(value, legendColumn, String.class, "Date (YYYY-MM-DD)",
                         f ->
                         {
@@ -79,6 +84,10 @@ public class LegendResultSet implements PostgresResultSet
                         });
             case DATE:
             case DATE_TIME:
+                if (value instanceof Date)
+                {
+                    return toEpochMilli((Date) value);
+                }
                 return extractValue(value, legendColumn, String.class, "Date (YYYY-MM-DD) or Timestamp (YYYY-MM-DDThh:mm:ss.000000000+0000)",
                         f ->
                         {
@@ -117,6 +126,18 @@ public class LegendResultSet implements PostgresResultSet
         }
     }
 
+    /**
+     * Dates are received as {@link java.sql.Date} or {@link java.sql.Timestamp} when executing in process
+     */
+    private static long toEpochMilli(Date value)
+    {
+        if (value instanceof java.sql.Date)
+        {
+            return ((java.sql.Date) value).toLocalDate().atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+        return value.getTime();
+    }
+
     private Object extractValue(Object value, LegendColumn column, Class expectedClassType, String expectedFormat, Function<Object, Object> function)
     {
         if (value == null)
@@ -29,17 +29,31 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.sql.SQLException;
+import java.util.function.Function;
 
 public class LegendSessionFactory implements SessionsFactory
 {
 
-    private final LegendExecutionService legendExecutionClient;
+    private final Function<Identity, SessionHandler> dataSessionHandlerFactory;
     private final JDBCSessionFactory.JDBCSessionHandler metadataSessionHandler;
     private  ExecutorService executorService = Executors.newCachedThreadPool();
 
     public LegendSessionFactory(LegendExecutionService legendExecutionClient)
     {
-        this.legendExecutionClient = legendExecutionClient;
+        this(identity -> new LegendSessionHandler(legendExecutionClient, identity));
+    }
+
+    /**
+     * Sessions executing queries in process, to be used when the server runs in the same JVM as the engine
+     */
+    public LegendSessionFactory(LegendEmbeddedExecutionService legendExecutionClient)
+    {
+        this(identity -> new LegendEmbeddedSessionHandler(legendExecutionClient, identity));
+    }
+
+    private LegendSessionFactory(Function<Identity, SessionHandler> dataSessionHandlerFactory)
+    {
+        this.dataSessionHandlerFactory = dataSessionHandlerFactory;
         try
         {
             File h2ServerTempDir = Files.createTempDirectory("legendSqlH2Server").toFile();
@@ -60,7 +74,7 @@ public class LegendSessionFactory implements SessionsFactory
     @Override
     public Session createSession(String defaultSchema, Identity identity)
     {
-        return new Session(new LegendSessionHandler(legendExecutionClient, identity), metadataSessionHandler, executorService, identity);
+        return new Session(dataSessionHandlerFactory.apply(identity), metadataSessionHandler, executorService, identity);
     }
 
     private static class LegendSessionHandler implements SessionHandler
@@ -86,4 +100,28 @@ public class LegendSessionFactory implements SessionsFactory
             return new LegendStatement(legendExecutionClient, identity);
         }
     }
+
+    private static class LegendEmbeddedSessionHandler implements SessionHandler
+    {
+        private final LegendEmbeddedExecutionService legendExecutionClient;
+        private final Identity identity;
+
+        public LegendEmbeddedSessionHandler(LegendEmbeddedExecutionService legendExecutionClient, Identity identity)
+        {
+            this.legendExecutionClient = legendExecutionClient;
+            this.identity = identity;
+        }
+
+        @Override
+        public PostgresPreparedStatement prepareStatement(String query)
+        {
+            return new LegendEmbeddedPreparedStatement(query, legendExecutionClient, identity);
+        }
+
+        @Override
+        public PostgresStatement createStatement()
+        {
+            return new LegendEmbeddedStatement(legendExecutionClient, identity);
+        }
+    }
 }
@@ -21,6 +21,7 @@
 
 package org.finos.legend.engine.postgres.types;
 
+import io.netty.buffer.ByteBuf;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -41,8 +42,12 @@ final class DateType extends BaseTimestampType
     public static final PGType INSTANCE = new DateType();
 
     private static final int OID = 1082;
+    private static final int DATE_TYPE_LEN = 4;
     private static final String NAME = "date";
 
+    // amount of days between 1970-01-01 and 2000-01-01
+    private static final long EPOCH_DIFF_IN_DAYS = 10_957L;
+
     private static final DateTimeFormatter ISO_FORMATTER = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .append(ISO_LOCAL_DATE)
@@ -55,7 +60,7 @@ final class DateType extends BaseTimestampType
 
     private DateType()
     {
-        super(OID, TYPE_LEN, TYPE_MOD, NAME);
+        super(OID, DATE_TYPE_LEN, TYPE_MOD, NAME);
     }
 
     @Override
@@ -64,6 +69,27 @@ final class DateType extends BaseTimestampType
         return PGArray.DATE_ARRAY.oid();
     }
 
+    /**
+     * Binary dates are sent as the number of days since 2000-01-01 (int32), unlike timestamps
+     */
+    @Override
+    public int writeAsBinary(ByteBuf buffer, Object value)
+    {
+        long epochDay = Math.floorDiv((long) value, 86_400_000L);
+        buffer.writeInt(DATE_TYPE_LEN);
+        buffer.writeInt((int) (epochDay - EPOCH_DIFF_IN_DAYS));
+        return INT32_BYTE_SIZE + DATE_TYPE_LEN;
+    }
+
+    @Override
+    public Object readBinaryValue(ByteBuf buffer, int valueLength)
+    {
+        assert valueLength == DATE_TYPE_LEN : "valueLength must be " + DATE_TYPE_LEN +
+                " because date is a 32 bit int. Actual length: " + valueLength;
+        long epochDay = buffer.readInt() + EPOCH_DIFF_IN_DAYS;
+        return epochDay * 86_400_000L;
+    }
+
     @Override
     byte[] encodeAsUTF8Text(Object value)
     {
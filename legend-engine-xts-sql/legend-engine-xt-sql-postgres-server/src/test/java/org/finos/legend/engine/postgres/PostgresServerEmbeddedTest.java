@@ -0,0 +1,163 @@
+// Copyright 2024 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ServiceLoader;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.generation.extension.PlanGeneratorExtension;
+import org.finos.legend.engine.postgres.auth.AnonymousIdentityProvider;
+import org.finos.legend.engine.postgres.auth.NoPasswordAuthenticationMethod;
+import org.finos.legend.engine.postgres.config.LegendHandlerConfig;
+import org.finos.legend.engine.postgres.config.ServerConfig;
+import org.finos.legend.engine.pure.code.core.PureCoreExtensionLoader;
+import org.finos.legend.engine.query.sql.api.SQLExecutor;
+import org.finos.legend.engine.query.sql.api.SQLPlanCache;
+import org.finos.legend.engine.query.sql.api.TestSQLSourceProvider;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PostgresServerEmbeddedTest
+{
+    private static TestPostgresServer testPostgresServer;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        MutableList<PlanGeneratorExtension> generatorExtensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class));
+        SQLExecutor executor = new SQLExecutor(new ModelManager(DeploymentMode.TEST), PlanExecutor.newPlanExecutorWithAvailableStoreExecutors(),
+                (pm) -> PureCoreExtensionLoader.extensions().flatCollect(g -> g.extraPureCoreExtensions(pm.getExecutionSupport())),
+                FastList.newListWith(new TestSQLSourceProvider()), generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers), SQLPlanCache.buildWithDefaultCache());
+        SessionsFactory legendSessionFactory = new LegendHandlerConfig(executor).buildSessionsFactory();
+
+        ServerConfig serverConfig = new ServerConfig();
+        serverConfig.setPort(0);
+
+        testPostgresServer = new TestPostgresServer(serverConfig, legendSessionFactory,
+                (user, connectionProperties) -> new NoPasswordAuthenticationMethod(new AnonymousIdentityProvider()),
+                new Messages((exception) -> exception.getMessage()));
+        testPostgresServer.startUp();
+    }
+
+    @Test
+    public void testMetadata() throws SQLException
+    {
+        try (
+                Connection connection = getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT * FROM service.\"/personService\"")
+        )
+        {
+            ResultSetMetaData resultSetMetaData = statement.getMetaData();
+            Assert.assertEquals(5, resultSetMetaData.getColumnCount());
+            Assert.assertEquals("Id", resultSetMetaData.getColumnName(1));
+            Assert.assertEquals("Name", resultSetMetaData.getColumnName(2));
+            Assert.assertEquals("int8", resultSetMetaData.getColumnTypeName(1));
+            Assert.assertEquals("varchar", resultSetMetaData.getColumnTypeName(2));
+        }
+    }
+
+    @Test
+    public void testPreparedStatementRows() throws SQLException
+    {
+        try (
+                Connection connection = getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT * FROM service.\"/personService\"");
+                ResultSet resultSet = statement.executeQuery()
+        )
+        {
+            Assert.assertEquals(4, countRows(resultSet));
+        }
+    }
+
+    @Test
+    public void testSimpleQueryRows() throws SQLException
+    {
+        try (
+                Connection connection = getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT * FROM service('/personService')")
+        )
+        {
+            Assert.assertEquals(4, countRows(resultSet));
+        }
+    }
+
+    @Test
+    public void testEnumComparison() throws SQLException
+    {
+        Assert.assertEquals(Lists.mutable.with("Alice", "Danielle"), names("SELECT Name FROM service('/testService') WHERE \"Employee Type\" = 'Type1' ORDER BY Name"));
+        Assert.assertEquals(Lists.mutable.with("Bob", "Curtis"), names("SELECT Name FROM service('/testService') WHERE \"Employee Type\" = 'Type2' ORDER BY Name"));
+    }
+
+    @Test
+    public void testDateComparison() throws SQLException
+    {
+        Assert.assertEquals(Lists.mutable.with("Alice"), names("SELECT Name FROM service('/personServiceWithStartDate') WHERE \"Start Date\" = '2023-08-24' ORDER BY Name"));
+        Assert.assertEquals(Lists.mutable.with("Alice", "Bob"), names("SELECT Name FROM service('/personServiceWithStartDate') WHERE \"Start Date\" > '2022-08-01' ORDER BY Name"));
+    }
+
+    private static MutableList<String> names(String query) throws SQLException
+    {
+        try (
+                Connection connection = getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(query)
+        )
+        {
+            MutableList<String> names = Lists.mutable.empty();
+            while (resultSet.next())
+            {
+                names.add(resultSet.getString(1));
+            }
+            return names;
+        }
+    }
+
+    private static Connection getConnection() throws SQLException
+    {
+        return DriverManager.getConnection("jdbc:postgresql://127.0.0.1:" + testPostgresServer.getLocalAddress().getPort() + "/postgres", "dummy", "dummy");
+    }
+
+    private static int countRows(ResultSet resultSet) throws SQLException
+    {
+        int rows = 0;
+        while (resultSet.next())
+        {
+            rows++;
+        }
+        return rows;
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        testPostgresServer.stopListening();
+        testPostgresServer.shutDown();
+    }
+}
@@ -0,0 +1,61 @@
+// Copyright 2024 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres.types;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import junit.framework.TestCase;
+import org.junit.Test;
+
+public class DateTypeTest extends TestCase
+{
+    @Test
+    public void testWriteAsBinary()
+    {
+        ByteBuf buffer = Unpooled.buffer();
+        try
+        {
+            // 2023-02-20
+            assertEquals(8, DateType.INSTANCE.writeAsBinary(buffer, 1676851200000L));
+            assertEquals(4, buffer.readInt());
+            assertEquals(8451, buffer.readInt());
+
+            // 1999-12-31
+            DateType.INSTANCE.writeAsBinary(buffer, 946598400000L);
+            assertEquals(4, buffer.readInt());
+            assertEquals(-1, buffer.readInt());
+        }
+        finally
+        {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void testReadBinaryValue()
+    {
+        ByteBuf buffer = Unpooled.buffer();
+        try
+        {
+            DateType.INSTANCE.writeAsBinary(buffer, 1676851200000L);
+            assertEquals(4, buffer.readInt());
+            assertEquals(1676851200000L, DateType.INSTANCE.readBinaryValue(buffer, 4));
+        }
+        finally
+        {
+            buffer.release();
+        }
+    }
+}